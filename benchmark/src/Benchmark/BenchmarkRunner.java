@@ -0,0 +1,30 @@
+package Benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the integer benchmarks with the allocation profiler attached, reporting throughput
+ * alongside {@code gc.alloc.rate.norm} (bytes allocated per operation). The results are also
+ * written as JSON, so that a run can be compared against an earlier one to catch regressions.
+ * <p>
+ * Arguments, both optional: a regular expression selecting the benchmarks to run (e.g.
+ * {@code "UnsignedInt.*multiply"}), and the path of the JSON result file.
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_INCLUDE = "Benchmark\\..*Benchmark",
+            DEFAULT_RESULT = "benchmark/results.json";
+
+    public static void main(String[] args) throws RunnerException {
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : DEFAULT_INCLUDE)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(args.length > 1 ? args[1] : DEFAULT_RESULT);
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package Benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link BigInteger}, the reference against which the project's own representations are
+ * measured. Euclid's algorithm and modular exponentiation are superlinear enough that they are
+ * measured only up to {@code 2^17} bits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BigIntegerBenchmark {
+    /**
+     * The operands of the benchmarks that scale to a million bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"64", "1024", "16384", "131072", "1048576"})
+        public int bits;
+        BigInteger a, b, divisor;
+        String decimal;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            this.a = operands.a;
+            this.b = operands.b;
+            this.divisor = operands.divisor;
+            this.decimal = operands.a.toString();
+        }
+    }
+
+    /**
+     * The operands of the benchmarks limited to {@code 2^17} bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Medium {
+        @Param({"64", "1024", "16384", "131072"})
+        public int bits;
+        BigInteger a, b, modulus, exponent;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            this.a = operands.a;
+            this.b = operands.b;
+            this.modulus = operands.modulus;
+            this.exponent = BigInteger.valueOf(Operands.EXPONENT);
+        }
+    }
+
+    @Benchmark
+    public BigInteger add(Large state) {
+        return state.a.add(state.b);
+    }
+
+    @Benchmark
+    public BigInteger multiply(Large state) {
+        return state.a.multiply(state.b);
+    }
+
+    @Benchmark
+    public BigInteger[] divide(Large state) {
+        return state.a.divideAndRemainder(state.divisor);
+    }
+
+    @Benchmark
+    public BigInteger sqrt(Large state) {
+        return state.a.sqrt();
+    }
+
+    @Benchmark
+    public String convertToBase(Large state) {
+        return state.a.toString(Operands.TARGET_BASE);
+    }
+
+    @Benchmark
+    public BigInteger parseDecimal(Large state) {
+        return new BigInteger(state.decimal);
+    }
+
+    @Benchmark
+    public BigInteger gcd(Medium state) {
+        return state.a.gcd(state.b);
+    }
+
+    @Benchmark
+    public BigInteger modPow(Medium state) {
+        return state.a.modPow(state.exponent, state.modulus);
+    }
+}
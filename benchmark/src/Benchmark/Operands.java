@@ -0,0 +1,60 @@
+package Benchmark;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * The operands shared by every benchmark of a given size. All operands are generated from a fixed
+ * seed so that every representation, and every run, works on the same values; the benchmark states
+ * convert them into the representation under test.
+ */
+final class Operands {
+    /**
+     * The exponent used by every {@code modPow} benchmark, as the {@code int} exponent accepted by
+     * {@code UnsignedInt} and {@code Radix}.
+     */
+    static final int EXPONENT = 65537;
+    /**
+     * The base that the base conversion benchmarks convert into.
+     */
+    static final int TARGET_BASE = 16;
+    private static final long SEED = 0x5DEECE66DL;
+
+    final int bits;
+    final BigInteger a, b, divisor, modulus;
+
+    /**
+     * Generates the operands for a given size.
+     * @param bits the size of the operands; the divisor has half as many bits, so that the
+     *             quotient is as large as the divisor.
+     */
+    Operands(int bits) {
+        final Random random = new Random(SEED ^ bits);
+        this.bits = bits;
+        this.a = random(bits, random);
+        this.b = random(bits, random);
+        this.divisor = random(Math.max(bits >>> 1, 2), random);
+        this.modulus = random(bits, random).setBit(0);
+    }
+
+    /**
+     * Generates a random integer of an exact bit length.
+     * @param bits the bit length.
+     * @param random the source of randomness.
+     * @return an integer with its highest bit at index {@code bits - 1}.
+     */
+    private static BigInteger random(int bits, Random random) {
+        return new BigInteger(bits, random).setBit(bits - 1);
+    }
+
+    /**
+     * Converts an integer to a binary {@code String} of a fixed width, as read by {@code UnsignedInt}.
+     * @param value the non-negative integer.
+     * @param width the number of digits, at least the bit length of {@code value}.
+     * @return the binary digits of {@code value}, zero-padded to {@code width} digits.
+     */
+    static String binary(BigInteger value, int width) {
+        final String digits = value.toString(2);
+        return "0".repeat(width - digits.length()) + digits;
+    }
+}
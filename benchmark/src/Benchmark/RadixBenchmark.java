@@ -0,0 +1,114 @@
+package Benchmark;
+
+import Enumerator.Radix;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Radix} in base {@code 10}. Only addition and parsing are linear in the digit
+ * count; multiplication, division and base conversion are quadratic and limited to {@code 2^14}
+ * bits, while Euclid's algorithm, the square root and modular exponentiation repeat those
+ * divisions and are limited to {@code 2^10} bits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadixBenchmark {
+    /**
+     * The operands of the benchmarks that scale to a million bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"64", "1024", "16384", "131072", "1048576"})
+        public int bits;
+        Radix a, b;
+        String decimal;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            this.decimal = operands.a.toString();
+            this.a = new Radix(this.decimal);
+            this.b = new Radix(operands.b.toString());
+        }
+    }
+
+    /**
+     * The operands of the benchmarks limited to {@code 2^14} bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Medium {
+        @Param({"64", "1024", "16384"})
+        public int bits;
+        Radix a, b, divisor;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            this.a = new Radix(operands.a.toString());
+            this.b = new Radix(operands.b.toString());
+            this.divisor = new Radix(operands.divisor.toString());
+        }
+    }
+
+    /**
+     * The operands of the benchmarks limited to {@code 2^10} bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"64", "256", "1024"})
+        public int bits;
+        Radix a, b, modulus;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            this.a = new Radix(operands.a.toString());
+            this.b = new Radix(operands.b.toString());
+            this.modulus = new Radix(operands.modulus.toString());
+        }
+    }
+
+    @Benchmark
+    public Radix add(Large state) {
+        return state.a.add(state.b);
+    }
+
+    @Benchmark
+    public Radix parseDecimal(Large state) {
+        return new Radix(state.decimal);
+    }
+
+    @Benchmark
+    public Radix multiply(Medium state) {
+        return state.a.multiply(state.b);
+    }
+
+    @Benchmark
+    public Radix[] divide(Medium state) {
+        return state.a.divideAndRemainder(state.divisor);
+    }
+
+    @Benchmark
+    public Radix convertToBase(Medium state) {
+        return state.a.convertToBase(Operands.TARGET_BASE);
+    }
+
+    @Benchmark
+    public Radix gcd(Small state) {
+        return state.a.gcd(state.b);
+    }
+
+    @Benchmark
+    public Radix sqrt(Small state) {
+        return state.a.sqrt();
+    }
+
+    @Benchmark
+    public Radix modPow(Small state) {
+        return state.a.modPow(Operands.EXPONENT, state.modulus);
+    }
+}
@@ -0,0 +1,70 @@
+package Benchmark;
+
+import Enumerator.RadixTest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link RadixTest} in base {@code 10}. {@code RadixTest} has no division, and its
+ * addition and Horner conversion are still unwritten, so only parsing, multiplication, squaring
+ * and base conversion are measured; the quadratic operations are limited to {@code 2^14} bits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RadixTestBenchmark {
+    /**
+     * The operands of the benchmarks that scale to a million bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"64", "1024", "16384", "131072", "1048576"})
+        public int bits;
+        String decimal;
+
+        @Setup
+        public void setup() {
+            this.decimal = new Operands(this.bits).a.toString();
+        }
+    }
+
+    /**
+     * The operands of the benchmarks limited to {@code 2^14} bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Medium {
+        @Param({"64", "1024", "16384"})
+        public int bits;
+        RadixTest a, b;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            this.a = new RadixTest(operands.a.toString());
+            this.b = new RadixTest(operands.b.toString());
+        }
+    }
+
+    @Benchmark
+    public RadixTest parseDecimal(Large state) {
+        return new RadixTest(state.decimal);
+    }
+
+    @Benchmark
+    public RadixTest multiply(Medium state) {
+        return state.a.multiply(state.b);
+    }
+
+    @Benchmark
+    public RadixTest convertToBase(Medium state) {
+        return state.a.convertToBase(Operands.TARGET_BASE);
+    }
+
+    @Benchmark
+    public RadixTest square(Medium state) {
+        return state.a.square();
+    }
+}
@@ -0,0 +1,116 @@
+package Benchmark;
+
+import Enumerator.UnsignedInt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link UnsignedInt}. Every operand is given twice its bit count in capacity, so that
+ * products are not truncated and the work matches the other representations. {@code UnsignedInt}
+ * reads and writes only binary, so base conversion is measured as binary formatting and parsing.
+ * Euclid's algorithm runs on the bit arrays, dividing at every step, and is limited to {@code 2^14} bits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnsignedIntBenchmark {
+    /**
+     * The operands of the benchmarks that scale to a million bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({"64", "1024", "16384", "131072", "1048576"})
+        public int bits;
+        UnsignedInt a, b, divisor;
+        String binary;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            final int width = this.bits << 1;
+            this.binary = Operands.binary(operands.a, width);
+            this.a = new UnsignedInt(this.binary);
+            this.b = new UnsignedInt(Operands.binary(operands.b, width));
+            this.divisor = new UnsignedInt(Operands.binary(operands.divisor, width));
+        }
+    }
+
+    /**
+     * The operands of the benchmarks limited to {@code 2^17} bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Medium {
+        @Param({"64", "1024", "16384", "131072"})
+        public int bits;
+        UnsignedInt a, modulus;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            final int width = this.bits << 1;
+            this.a = new UnsignedInt(Operands.binary(operands.a, width));
+            this.modulus = new UnsignedInt(Operands.binary(operands.modulus, width));
+        }
+    }
+
+    /**
+     * The operands of the benchmarks limited to {@code 2^14} bits.
+     */
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({"64", "1024", "16384"})
+        public int bits;
+        UnsignedInt a, b;
+
+        @Setup
+        public void setup() {
+            final Operands operands = new Operands(this.bits);
+            final int width = this.bits << 1;
+            this.a = new UnsignedInt(Operands.binary(operands.a, width));
+            this.b = new UnsignedInt(Operands.binary(operands.b, width));
+        }
+    }
+
+    @Benchmark
+    public UnsignedInt add(Large state) {
+        return state.a.add(state.b);
+    }
+
+    @Benchmark
+    public UnsignedInt multiply(Large state) {
+        return state.a.multiply(state.b);
+    }
+
+    @Benchmark
+    public UnsignedInt[] divide(Large state) {
+        return state.a.divideAndRemainder(state.divisor);
+    }
+
+    @Benchmark
+    public UnsignedInt sqrt(Large state) {
+        return state.a.sqrt();
+    }
+
+    @Benchmark
+    public String convertToBase(Large state) {
+        return state.a.toString();
+    }
+
+    @Benchmark
+    public UnsignedInt parseBinary(Large state) {
+        return new UnsignedInt(state.binary);
+    }
+
+    @Benchmark
+    public UnsignedInt modPow(Medium state) {
+        return state.a.modPow(state.modulus, Operands.EXPONENT);
+    }
+
+    @Benchmark
+    public UnsignedInt gcd(Small state) {
+        return state.a.gcd(state.b);
+    }
+}
@@ -0,0 +1,101 @@
+package Algebra;
+
+/**
+ * A class used to supply arithmetic on non-negative integers of some representation to
+ * generic number-theoretic algorithms (see {@code Theory.Factorization}). An
+ * {@code IntegerArithmetic} is a strategy object rather than a trait of the number type,
+ * so a type with restricted arithmetic (such as a fixed-width integer that truncates its
+ * products) can be factored through a wider internal representation.
+ * @param <N> the integer representation.
+ */
+public interface IntegerArithmetic<N> {
+    /**
+     * Creates an integer from a non-negative {@code int}.
+     * @param value the value.
+     * @return the integer equal to {@code value}.
+     */
+    N valueOf(int value);
+
+    /**
+     * Finds the sum of two integers.
+     * @param a the first addend.
+     * @param b the second addend.
+     * @return {@code a + b}
+     */
+    N add(N a, N b);
+
+    /**
+     * Finds the difference of two integers.
+     * @param a the minuend.
+     * @param b the subtrahend, which is at most {@code a}.
+     * @return {@code a - b}
+     */
+    N subtract(N a, N b);
+
+    /**
+     * Finds the product of two integers, without truncation.
+     * @param a the first multiplicand.
+     * @param b the second multiplicand.
+     * @return {@code a * b}
+     */
+    N multiply(N a, N b);
+
+    /**
+     * Finds the quotient and remainder of two integers.
+     * @param a the dividend.
+     * @param b the nonzero divisor.
+     * @return an array holding {@code a / b} at index {@code 0} and {@code a % b} at index {@code 1}.
+     */
+    N[] divideAndRemainder(N a, N b);
+
+    /**
+     * Finds the remainder of an integer modulo a small divisor without allocating.
+     * @param a the dividend.
+     * @param divisor the positive divisor.
+     * @return {@code a % divisor}
+     */
+    int remainder(N a, int divisor);
+
+    /**
+     * Divides an integer by a small divisor.
+     * @param a the dividend.
+     * @param divisor the positive divisor.
+     * @return {@code a / divisor}, rounded down.
+     */
+    N divide(N a, int divisor);
+
+    /**
+     * Compares two integers.
+     * @param a the first integer.
+     * @param b the second integer.
+     * @return a negative number, zero, or a positive number as {@code a} is less than,
+     * equal to, or greater than {@code b}.
+     */
+    int compare(N a, N b);
+
+    /**
+     * Finds the remainder of two integers.
+     * @param a the dividend.
+     * @param b the nonzero divisor.
+     * @return {@code a % b}
+     */
+    default N mod(N a, N b) {
+        return divideAndRemainder(a, b)[1];
+    }
+
+    /**
+     * Finds the greatest common divisor of two integers with Euclid's algorithm.
+     * @param a the first integer.
+     * @param b the second integer.
+     * @return {@code gcd(a, b)}
+     */
+    default N gcd(N a, N b) {
+        final N zero = valueOf(0);
+        while(compare(b, zero) != 0) {
+            final N remainder = mod(a, b);
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+}
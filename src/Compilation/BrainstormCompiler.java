@@ -0,0 +1,314 @@
+package Compilation;
+
+import Exception.ExceptionMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static Compilation.BytecodeWriter.*;
+
+/**
+ * Compiles {@link Instruction Instructions} straight to JVM bytecode, defined as a hidden class that
+ * implements {@link BrainstormProgram}, so the program is compiled further by the JIT like any other
+ * method. The tape array, pointer and fuel live in local variables. When {@link TapeBounds} are exact
+ * the tape is checked once on entry, and otherwise after every pointer move. Every pass of a loop
+ * spends as much fuel as the loop has instructions, and every step of a {@code SCAN} spends one, so
+ * code returns early with no fuel left rather than running forever. Hidden classes are unloaded once
+ * their {@code BrainstormProgram} is unreachable.
+ */
+public final class BrainstormCompiler {
+    private static final String TAPE = "Compilation/BrainstormTape", INPUT = "java/io/InputStream",
+            OUTPUT = "java/io/OutputStream", DESCRIPTOR = "(L" + TAPE + ";L" + INPUT + ";L" + OUTPUT + ";)V";
+    private static final int CELLS = 4, POINTER = 5, FUEL = 6, MAX_STACK = 8, MAX_LOCALS = 8;
+
+    /**
+     * Prevents instantiation.
+     */
+    private BrainstormCompiler() {}
+
+    /**
+     * Parses and compiles a Brainstorm program.
+     * @param program the program.
+     * @return the {@code BrainstormProgram}.
+     * @throws IllegalArgumentException if the brackets of the program are unbalanced.
+     * @throws IllegalStateException if the program is too large for one method.
+     */
+    public static BrainstormProgram compile(String program) throws IllegalArgumentException, IllegalStateException {
+        return compile(BrainstormParser.parse(program));
+    }
+
+    /**
+     * Compiles a program.
+     * @param code the {@code Instructions}.
+     * @return the {@code BrainstormProgram}.
+     * @throws IllegalStateException if the program is too large for one method.
+     */
+    public static BrainstormProgram compile(Instruction[] code) throws IllegalStateException {
+        return compile(code, 0, code.length);
+    }
+
+    /**
+     * Compiles a range of a program, such as a loop, to run from the pointer of a tape. Brackets are
+     * resolved within the range, so their targets are ignored.
+     * @param code the {@code Instructions}.
+     * @param from the index of the first instruction.
+     * @param to the index after the last instruction.
+     * @return the {@code BrainstormProgram}.
+     * @throws IllegalArgumentException if the range splits a loop.
+     * @throws IllegalStateException if the range is too large for one method.
+     */
+    public static BrainstormProgram compile(Instruction[] code, int from, int to)
+            throws IllegalArgumentException, IllegalStateException {
+        int depth = 0;
+        for(int i = from; i < to && depth >= 0; i++) {
+            if(code[i].opcode() == Instruction.Opcode.OPEN) {
+                depth++;
+            } else if(code[i].opcode() == Instruction.Opcode.CLOSE) {
+                depth--;
+            }
+        }
+        if(depth != 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return define(emit(code, from, to));
+    }
+
+    /**
+     * Creates a tape for a whole program, sized exactly when its {@code TapeBounds} are exact.
+     * @param code the {@code Instructions}.
+     * @return the {@code BrainstormTape}.
+     */
+    public static BrainstormTape tapeFor(Instruction[] code) {
+        final TapeBounds bounds = TapeBounds.of(code);
+        return bounds.exact() ? new BrainstormTape(bounds) : new BrainstormTape();
+    }
+
+    /**
+     * Parses, compiles and runs a Brainstorm program on a new tape.
+     * @param program the program.
+     * @param in the input.
+     * @param out the output.
+     * @return the tape after the run.
+     * @throws IOException if the input or output fails.
+     * @throws IllegalArgumentException if the brackets of the program are unbalanced.
+     * @throws IllegalStateException if the program is too large for one method.
+     */
+    public static BrainstormTape run(String program, InputStream in, OutputStream out)
+            throws IOException, IllegalArgumentException, IllegalStateException {
+        final Instruction[] code = BrainstormParser.parse(program);
+        final BrainstormTape tape = tapeFor(code);
+        compile(code).run(tape, in, out);
+        return tape;
+    }
+
+    /**
+     * Emits the class file for a range of a program.
+     * @param code the {@code Instructions}.
+     * @param from the index of the first instruction.
+     * @param to the index after the last instruction.
+     * @return the class file.
+     * @throws IllegalStateException if the range is too large for one method.
+     */
+    private static byte[] emit(Instruction[] code, int from, int to) throws IllegalStateException {
+        final TapeBounds bounds = TapeBounds.of(code, from, to), window = TapeBounds.window(code, from, to);
+        final BytecodeWriter writer = new BytecodeWriter("Compilation/BrainstormGenerated", "java/lang/Object",
+                "Compilation/BrainstormProgram");
+        writer.op(ALOAD_1);
+        writer.invoke(INVOKEVIRTUAL, TAPE, "cells", "()[B");
+        writer.local(ASTORE, CELLS);
+        writer.op(ALOAD_1);
+        writer.invoke(INVOKEVIRTUAL, TAPE, "pointer", "()I");
+        writer.local(ISTORE, POINTER);
+        writer.op(ALOAD_1);
+        writer.invoke(INVOKEVIRTUAL, TAPE, "fuel", "()J");
+        writer.local(LSTORE, FUEL);
+        check(writer, bounds.exact() ? bounds : window);
+        final int exhausted = writer.label();
+        final Deque<int[]> loops = new ArrayDeque<>();
+        for(int i = from; i < to; i++) {
+            final Instruction instruction = code[i];
+            switch(instruction.opcode()) {
+                case ADD -> {
+                    address(writer, instruction.offset());
+                    writer.op(DUP2);
+                    writer.op(BALOAD);
+                    writer.push(instruction.value());
+                    writer.op(IADD);
+                    writer.op(I2B);
+                    writer.op(BASTORE);
+                }
+                case SET -> {
+                    address(writer, instruction.offset());
+                    writer.push(instruction.value());
+                    writer.op(BASTORE);
+                }
+                case MULTIPLY -> {
+                    address(writer, instruction.offset());
+                    writer.op(DUP2);
+                    writer.op(BALOAD);
+                    address(writer, instruction.target());
+                    writer.op(BALOAD);
+                    writer.push(instruction.value());
+                    writer.op(IMUL);
+                    writer.op(IADD);
+                    writer.op(I2B);
+                    writer.op(BASTORE);
+                }
+                case MOVE -> {
+                    writer.increment(POINTER, instruction.value());
+                    if(! bounds.exact()) {
+                        check(writer, window);
+                    }
+                }
+                case SCAN -> {
+                    final int top = writer.label(), end = writer.label();
+                    writer.place(top);
+                    address(writer, instruction.offset());
+                    writer.op(BALOAD);
+                    writer.jump(IFEQ, end);
+                    writer.increment(POINTER, instruction.value());
+                    check(writer, window);
+                    spend(writer, 1);
+                    writer.jump(IFGT, top);
+                    writer.jump(GOTO, exhausted);
+                    writer.place(end);
+                }
+                case INPUT -> {
+                    address(writer, instruction.offset());
+                    writer.op(ALOAD_2);
+                    writer.invoke(INVOKEVIRTUAL, INPUT, "read", "()I");
+                    writer.push(0);
+                    writer.invoke(INVOKESTATIC, "java/lang/Math", "max", "(II)I");
+                    writer.op(I2B);
+                    writer.op(BASTORE);
+                }
+                case OUTPUT -> {
+                    writer.op(ALOAD_3);
+                    address(writer, instruction.offset());
+                    writer.op(BALOAD);
+                    writer.invoke(INVOKEVIRTUAL, OUTPUT, "write", "(I)V");
+                }
+                case OPEN -> {
+                    final int[] loop = {writer.label(), writer.label(), i};
+                    loops.push(loop);
+                    writer.jump(GOTO, loop[1]);
+                    writer.place(loop[0]);
+                }
+                case CLOSE -> {
+                    final int[] loop = loops.pop();
+                    final int after = writer.label();
+                    writer.place(loop[1]);
+                    address(writer, instruction.offset());
+                    writer.op(BALOAD);
+                    writer.jump(IFEQ, after);
+                    spend(writer, i - loop[2]);
+                    writer.jump(IFGT, loop[0]);
+                    writer.jump(GOTO, exhausted);
+                    writer.place(after);
+                }
+            }
+        }
+        writer.place(exhausted);
+        writer.op(ALOAD_1);
+        writer.local(LLOAD, FUEL);
+        writer.invoke(INVOKEVIRTUAL, TAPE, "setFuel", "(J)V");
+        writer.op(ALOAD_1);
+        writer.local(ILOAD, POINTER);
+        writer.invoke(INVOKEVIRTUAL, TAPE, "setPointer", "(I)V");
+        writer.op(RETURN);
+        return writer.toByteArray("run", DESCRIPTOR, MAX_STACK, MAX_LOCALS);
+    }
+
+    /**
+     * Emits the array and index of a cell.
+     * @param writer the {@code BytecodeWriter}.
+     * @param offset the offset of the cell from the pointer.
+     */
+    private static void address(BytecodeWriter writer, int offset) {
+        writer.local(ALOAD, CELLS);
+        writer.local(ILOAD, POINTER);
+        if(offset != 0) {
+            writer.push(offset);
+            writer.op(IADD);
+        }
+    }
+
+    /**
+     * Emits a subtraction from the fuel, leaving the comparison of the remaining fuel with zero on the
+     * stack for an {@code IFGT}.
+     * @param writer the {@code BytecodeWriter}.
+     * @param amount the fuel spent.
+     */
+    private static void spend(BytecodeWriter writer, int amount) {
+        writer.local(LLOAD, FUEL);
+        if(amount == 1) {
+            writer.op(LCONST_1);
+        } else {
+            writer.push(amount);
+            writer.op(I2L);
+        }
+        writer.op(LSUB);
+        writer.op(DUP2);
+        writer.local(LSTORE, FUEL);
+        writer.op(LCONST_0);
+        writer.op(LCMP);
+    }
+
+    /**
+     * Emits a check that a window of cells around the pointer is inside the array, growing the tape
+     * if it is not.
+     * @param writer the {@code BytecodeWriter}.
+     * @param window the offsets of the window.
+     */
+    private static void check(BytecodeWriter writer, TapeBounds window) {
+        final int grow = writer.label(), inside = writer.label();
+        writer.local(ILOAD, POINTER);
+        if(window.minimum() != 0) {
+            writer.push(window.minimum());
+            writer.op(IADD);
+        }
+        writer.jump(IFLT, grow);
+        writer.local(ILOAD, POINTER);
+        if(window.maximum() != 0) {
+            writer.push(window.maximum());
+            writer.op(IADD);
+        }
+        writer.local(ALOAD, CELLS);
+        writer.op(ARRAYLENGTH);
+        writer.jump(IF_ICMPLT, inside);
+        writer.place(grow);
+        writer.op(ALOAD_1);
+        writer.local(ILOAD, POINTER);
+        writer.push(window.minimum());
+        writer.push(window.maximum());
+        writer.invoke(INVOKEVIRTUAL, TAPE, "ensure", "(III)[B");
+        writer.local(ASTORE, CELLS);
+        writer.op(ALOAD_1);
+        writer.invoke(INVOKEVIRTUAL, TAPE, "pointer", "()I");
+        writer.local(ISTORE, POINTER);
+        writer.place(inside);
+    }
+
+    /**
+     * Defines a class file as a hidden class and instantiates it.
+     * @param bytes the class file.
+     * @return the {@code BrainstormProgram}.
+     * @throws IllegalStateException if the class cannot be defined.
+     */
+    private static BrainstormProgram define(byte[] bytes) throws IllegalStateException {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return (BrainstormProgram) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch(RuntimeException | Error e) {
+            throw e;
+        } catch(Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
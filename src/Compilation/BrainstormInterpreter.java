@@ -0,0 +1,259 @@
+package Compilation;
+
+import Exception.ExceptionMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Runs Brainstorm programs in process, starting in an interpreter and promoting hot loops to compiled
+ * code. The {@link Instruction Instructions} of {@link BrainstormParser} are flattened into an
+ * {@code int} array of four words each (the opcode, the offset, the value and the target), with each
+ * bracket holding the position of its match, and dispatched by one {@code switch} over locals holding
+ * the tape array and pointer. Every pass of a loop heats it; once a loop is hot it is compiled by
+ * {@link BrainstormCompiler}, and each later entry into the loop runs the compiled code instead.
+ * Runs are bounded by a number of steps shared by both tiers, so that generated programs that never
+ * halt can be screened, and the counters of every run are kept as {@link ExecutionStatistics}.
+ * Compiled loops are kept between runs. This class is not synchronized.
+ */
+public class BrainstormInterpreter {
+    /**
+     * The default number of passes after which a loop is compiled.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 12;
+    private static final int WIDTH = 4;
+    private static final int ADD = 0, SET = 1, MULTIPLY = 2, MOVE = 3, SCAN = 4, INPUT = 5, OUTPUT = 6,
+            OPEN = 7, CLOSE = 8;
+    private final Instruction[] code;
+    private final int[] program, heat;
+    private final BrainstormProgram[] compiled;
+    private final int threshold;
+    private final TapeBounds bounds, window;
+    private long interpretedSteps, compiledSteps, compiledEntries, compileNanos, compiledNanos, totalNanos;
+    private int loopsCompiled;
+
+    /**
+     * Creates a {@code BrainstormInterpreter} with the default threshold.
+     * @param program the Brainstorm program.
+     * @throws IllegalArgumentException if the brackets of the program are unbalanced.
+     */
+    public BrainstormInterpreter(String program) throws IllegalArgumentException {
+        this(BrainstormParser.parse(program), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code BrainstormInterpreter}.
+     * @param code the linked {@code Instructions}.
+     * @param threshold the number of passes after which a loop is compiled, or {@code 0} to only
+     *                  interpret.
+     * @throws IllegalArgumentException if the threshold is negative.
+     */
+    public BrainstormInterpreter(Instruction[] code, int threshold) throws IllegalArgumentException {
+        if(threshold < 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.code = code;
+        this.threshold = threshold;
+        this.program = new int[code.length * WIDTH];
+        this.heat = new int[code.length];
+        this.compiled = new BrainstormProgram[code.length];
+        for(int i = 0; i < code.length; i++) {
+            final Instruction instruction = code[i];
+            this.program[i * WIDTH] = switch(instruction.opcode()) {
+                case ADD -> ADD;
+                case SET -> SET;
+                case MULTIPLY -> MULTIPLY;
+                case MOVE -> MOVE;
+                case SCAN -> SCAN;
+                case INPUT -> INPUT;
+                case OUTPUT -> OUTPUT;
+                case OPEN -> OPEN;
+                case CLOSE -> CLOSE;
+            };
+            this.program[i * WIDTH + 1] = instruction.offset();
+            this.program[i * WIDTH + 2] = instruction.value();
+            this.program[i * WIDTH + 3] = (instruction.opcode() == Instruction.Opcode.OPEN
+                    || instruction.opcode() == Instruction.Opcode.CLOSE) ? instruction.target() * WIDTH : instruction.target();
+        }
+        this.bounds = TapeBounds.of(code);
+        this.window = TapeBounds.window(code, 0, code.length);
+    }
+
+    /**
+     * Runs the program to the end on a new tape.
+     * @param in the input read by {@code ,}.
+     * @param out the output written by {@code .}.
+     * @return the tape after the run.
+     * @throws IOException if the input or output fails.
+     */
+    public BrainstormTape run(InputStream in, OutputStream out) throws IOException {
+        final BrainstormTape tape = BrainstormCompiler.tapeFor(this.code);
+        run(tape, in, out, Long.MAX_VALUE);
+        return tape;
+    }
+
+    /**
+     * Runs the program from its start on a tape, for at most a number of steps. A step is one
+     * instruction in the interpreter, and one instruction of a loop per pass in compiled code.
+     * @param tape the tape, which grows as needed.
+     * @param in the input read by {@code ,}.
+     * @param out the output written by {@code .}.
+     * @param maxSteps the step budget.
+     * @return {@code true} if the program ended within the budget, else {@code false}.
+     * @throws IOException if the input or output fails.
+     */
+    public boolean run(BrainstormTape tape, InputStream in, OutputStream out, long maxSteps) throws IOException {
+        final long started = System.nanoTime();
+        final int[] program = this.program;
+        final boolean checked = ! this.bounds.exact();
+        final int low = this.window.minimum(), high = this.window.maximum();
+        byte[] t = tape.ensure(tape.pointer(), checked ? low : this.bounds.minimum(),
+                checked ? high : this.bounds.maximum());
+        int p = tape.pointer(), pc = 0;
+        long fuel = maxSteps, compiledFuel = 0;
+        boolean finished = true;
+        execution:
+        while(pc < program.length) {
+            if(fuel-- <= 0) {
+                fuel = 0;
+                finished = false;
+                break;
+            }
+            final int offset = program[pc + 1];
+            switch(program[pc]) {
+                case ADD -> t[p + offset] += program[pc + 2];
+                case SET -> t[p + offset] = (byte) program[pc + 2];
+                case MULTIPLY -> t[p + offset] += t[p + program[pc + 3]] * program[pc + 2];
+                case MOVE -> {
+                    p += program[pc + 2];
+                    if(checked && (p + low < 0 || p + high >= t.length)) {
+                        t = tape.ensure(p, low, high);
+                        p = tape.pointer();
+                    }
+                }
+                case SCAN -> {
+                    final int step = program[pc + 2];
+                    while(t[p + offset] != 0) {
+                        p += step;
+                        fuel--;
+                        if(p + low < 0 || p + high >= t.length) {
+                            t = tape.ensure(p, low, high);
+                            p = tape.pointer();
+                        }
+                    }
+                }
+                case INPUT -> t[p + offset] = (byte) Math.max(0, in.read());
+                case OUTPUT -> out.write(t[p + offset]);
+                case OPEN -> {
+                    if(t[p + offset] == 0) {
+                        pc = program[pc + 3];
+                    } else if(this.compiled[pc / WIDTH] != null) {
+                        tape.setPointer(p);
+                        tape.setFuel(fuel);
+                        final long entered = System.nanoTime();
+                        this.compiled[pc / WIDTH].run(tape, in, out);
+                        this.compiledNanos += System.nanoTime() - entered;
+                        this.compiledEntries++;
+                        compiledFuel += fuel - tape.fuel();
+                        fuel = tape.fuel();
+                        t = tape.cells();
+                        p = tape.pointer();
+                        if(checked && (p + low < 0 || p + high >= t.length)) {
+                            t = tape.ensure(p, low, high);
+                            p = tape.pointer();
+                        }
+                        if(fuel <= 0) {
+                            finished = false;
+                            break execution;
+                        }
+                        pc = program[pc + 3];
+                    }
+                }
+                case CLOSE -> {
+                    if(t[p + offset] != 0) {
+                        pc = program[pc + 3];
+                        if(++this.heat[pc / WIDTH] == this.threshold && promote(pc / WIDTH)) {
+                            continue;
+                        }
+                    }
+                }
+            }
+            pc += WIDTH;
+        }
+        tape.setPointer(p);
+        tape.setFuel(Long.MAX_VALUE);
+        this.compiledSteps += compiledFuel;
+        this.interpretedSteps += maxSteps - Math.max(fuel, 0) - compiledFuel;
+        this.totalNanos += System.nanoTime() - started;
+        return finished;
+    }
+
+    /**
+     * Compiles a hot loop.
+     * @param open the index of the {@code OPEN} of the loop.
+     * @return {@code true} if the loop was compiled, else {@code false} if it is too large.
+     */
+    private boolean promote(int open) {
+        final long started = System.nanoTime();
+        try {
+            this.compiled[open] = BrainstormCompiler.compile(this.code, open, this.code[open].target() + 1);
+            this.loopsCompiled++;
+            return true;
+        } catch(IllegalStateException e) {
+            return false;
+        } finally {
+            this.compileNanos += System.nanoTime() - started;
+        }
+    }
+
+    /**
+     * Gets the counters of every run so far.
+     * @return the {@code ExecutionStatistics}.
+     */
+    public ExecutionStatistics statistics() {
+        return new ExecutionStatistics(this.interpretedSteps, this.compiledSteps, this.compiledEntries,
+                this.loopsCompiled, this.compileNanos, this.compiledNanos, this.totalNanos);
+    }
+
+    /**
+     * Clears the counters, keeping the compiled loops.
+     */
+    public void resetStatistics() {
+        this.interpretedSteps = 0;
+        this.compiledSteps = 0;
+        this.compiledEntries = 0;
+        this.compileNanos = 0;
+        this.compiledNanos = 0;
+        this.totalNanos = 0;
+        this.loopsCompiled = 0;
+    }
+
+    /**
+     * Gets the number of instructions of the program.
+     * @return the length of the code.
+     */
+    public int length() {
+        return this.code.length;
+    }
+
+    /**
+     * Converts this {@code BrainstormInterpreter} to a printable format.
+     * @return the instructions, one per line, with compiled loops marked.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for(int i = 0; i < this.code.length; i++) {
+            builder.append(i).append((this.compiled[i] == null) ? ": " : ": * ").append(this.code[i]).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code BrainstormInterpreter}.
+     */
+    public void print() {
+        System.out.print(this);
+    }
+}
@@ -0,0 +1,193 @@
+package Compilation;
+
+import Compilation.Instruction.Opcode;
+import Exception.ExceptionMessage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Parses Brainstorm into {@link Instruction Instructions}, optimizing as it goes:
+ * <ul>
+ *     <li>Runs of {@code +}, {@code -}, {@code <} and {@code >} fold into single instructions.</li>
+ *     <li>Pointer moves are deferred into the offsets of later instructions, and are only emitted
+ *     before a loop whose body moves the pointer.</li>
+ *     <li>{@code [-]} and other loops that add an odd constant to their own cell become a {@code SET}.</li>
+ *     <li>Loops that only add, and take one from their own cell per pass, such as {@code [->++>+<<]},
+ *     become {@code MULTIPLY} instructions followed by a {@code SET}.</li>
+ *     <li>Loops that only move the pointer, such as {@code [>]}, become a {@code SCAN}.</li>
+ * </ul>
+ * Every character other than the eight commands is a comment.
+ */
+public final class BrainstormParser {
+    /**
+     * The instructions of a block, with the pointer move not yet emitted.
+     */
+    private static final class Block {
+        private final List<Instruction> code = new ArrayList<>();
+        private int shift;
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private BrainstormParser() {}
+
+    /**
+     * Parses and optimizes a Brainstorm program.
+     * @param program the program.
+     * @return the {@code Instructions}, with the brackets linked.
+     * @throws IllegalArgumentException if the brackets of the program are unbalanced.
+     */
+    public static Instruction[] parse(String program) throws IllegalArgumentException {
+        final Deque<Block> enclosing = new ArrayDeque<>();
+        Block block = new Block();
+        for(int i = 0; i < program.length(); i++) {
+            switch(program.charAt(i)) {
+                case '+' -> add(block, block.shift, 1);
+                case '-' -> add(block, block.shift, -1);
+                case '>' -> block.shift++;
+                case '<' -> block.shift--;
+                case '.' -> block.code.add(new Instruction(Opcode.OUTPUT, block.shift, 0));
+                case ',' -> block.code.add(new Instruction(Opcode.INPUT, block.shift, 0));
+                case '[' -> {
+                    enclosing.push(block);
+                    block = new Block();
+                }
+                case ']' -> {
+                    if(enclosing.isEmpty()) {
+                        throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+                    }
+                    final Block body = block;
+                    block = enclosing.pop();
+                    close(block, body);
+                }
+                default -> {}
+            }
+        }
+        if(! enclosing.isEmpty()) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        flush(block);
+        return link(block.code);
+    }
+
+    /**
+     * Adds to a cell, merging with the previous instruction if it wrote the same cell.
+     * @param block the block.
+     * @param offset the cell.
+     * @param amount the amount.
+     */
+    private static void add(Block block, int offset, int amount) {
+        final int last = block.code.size() - 1;
+        if(last >= 0) {
+            final Instruction previous = block.code.get(last);
+            if(previous.offset() == offset && (previous.opcode() == Opcode.ADD || previous.opcode() == Opcode.SET)) {
+                final int value = (byte) (previous.value() + amount);
+                if(value == 0 && previous.opcode() == Opcode.ADD) {
+                    block.code.remove(last);
+                } else {
+                    block.code.set(last, new Instruction(previous.opcode(), offset, value));
+                }
+                return;
+            }
+        }
+        block.code.add(new Instruction(Opcode.ADD, offset, (byte) amount));
+    }
+
+    /**
+     * Sets a cell, replacing the previous instruction if it wrote the same cell.
+     * @param block the block.
+     * @param offset the cell.
+     * @param value the value.
+     */
+    private static void set(Block block, int offset, int value) {
+        final int last = block.code.size() - 1;
+        if(last >= 0) {
+            final Instruction previous = block.code.get(last);
+            if(previous.offset() == offset && (previous.opcode() == Opcode.ADD || previous.opcode() == Opcode.SET)) {
+                block.code.remove(last);
+            }
+        }
+        block.code.add(new Instruction(Opcode.SET, offset, value));
+    }
+
+    /**
+     * Emits the deferred pointer move of a block.
+     * @param block the block.
+     */
+    private static void flush(Block block) {
+        if(block.shift != 0) {
+            block.code.add(new Instruction(Opcode.MOVE, 0, block.shift));
+            block.shift = 0;
+        }
+    }
+
+    /**
+     * Closes a loop, appending it to the enclosing block as the cheapest equivalent instructions.
+     * @param block the enclosing block.
+     * @param body the body of the loop.
+     */
+    private static void close(Block block, Block body) {
+        if(body.code.isEmpty() && body.shift != 0) {
+            flush(block);
+            block.code.add(new Instruction(Opcode.SCAN, 0, body.shift));
+            return;
+        }
+        boolean onlyAdds = body.shift == 0, balanced = body.shift == 0;
+        int counter = 0;
+        for(Instruction instruction : body.code) {
+            onlyAdds &= instruction.opcode() == Opcode.ADD;
+            balanced &= instruction.opcode() != Opcode.MOVE && instruction.opcode() != Opcode.SCAN;
+            if(instruction.opcode() == Opcode.ADD && instruction.offset() == 0) {
+                counter += instruction.value();
+            }
+        }
+        counter = (byte) counter;
+        if(onlyAdds && (counter & 1) == 1 && body.code.stream().allMatch(instruction -> instruction.offset() == 0)) {
+            set(block, block.shift, 0);
+        } else if(onlyAdds && (counter == -1 || counter == 1)) {
+            for(Instruction instruction : body.code) {
+                if(instruction.offset() != 0) {
+                    block.code.add(new Instruction(Opcode.MULTIPLY, block.shift + instruction.offset(),
+                            (byte) (instruction.value() * -counter), block.shift));
+                }
+            }
+            set(block, block.shift, 0);
+        } else if(balanced) {
+            block.code.add(new Instruction(Opcode.OPEN, block.shift, 0));
+            for(Instruction instruction : body.code) {
+                block.code.add(instruction.shifted(block.shift));
+            }
+            block.code.add(new Instruction(Opcode.CLOSE, block.shift, 0));
+        } else {
+            flush(block);
+            flush(body);
+            block.code.add(new Instruction(Opcode.OPEN, 0, 0));
+            block.code.addAll(body.code);
+            block.code.add(new Instruction(Opcode.CLOSE, 0, 0));
+        }
+    }
+
+    /**
+     * Links each bracket to its match.
+     * @param code the instructions.
+     * @return the linked instructions.
+     */
+    private static Instruction[] link(List<Instruction> code) {
+        final Instruction[] linked = code.toArray(new Instruction[0]);
+        final Deque<Integer> opens = new ArrayDeque<>();
+        for(int i = 0; i < linked.length; i++) {
+            if(linked[i].opcode() == Opcode.OPEN) {
+                opens.push(i);
+            } else if(linked[i].opcode() == Opcode.CLOSE) {
+                final int open = opens.pop();
+                linked[open] = linked[open].withTarget(i);
+                linked[i] = linked[i].withTarget(open);
+            }
+        }
+        return linked;
+    }
+}
@@ -0,0 +1,22 @@
+package Compilation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A compiled Brainstorm program, or a compiled part of one, that runs on a {@link BrainstormTape} from
+ * its current pointer and leaves the pointer where the code ends.
+ * @see BrainstormCompiler
+ */
+@FunctionalInterface
+public interface BrainstormProgram {
+    /**
+     * Runs this {@code BrainstormProgram}.
+     * @param tape the tape, which grows as needed.
+     * @param in the input read by {@code ,}, which sets a cell to {@code 0} at the end of the input.
+     * @param out the output written by {@code .}.
+     * @throws IOException if the input or output fails.
+     */
+    void run(BrainstormTape tape, InputStream in, OutputStream out) throws IOException;
+}
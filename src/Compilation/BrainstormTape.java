@@ -0,0 +1,165 @@
+package Compilation;
+
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+
+/**
+ * The tape of a running Brainstorm program: an array of byte cells and a pointer into it. Compiled code
+ * copies both into locals, and calls {@link #ensure(int, int, int)} only when a pointer move may leave
+ * the array, so the tape grows in either direction without a check per cell access. The tape also
+ * carries the fuel that bounds how long compiled code runs.
+ * This class is not synchronized.
+ */
+public class BrainstormTape {
+    private static final int MIN_SIZE = 16;
+    private byte[] cells;
+    private int pointer;
+    private long fuel = Long.MAX_VALUE;
+
+    /**
+     * Creates a {@code BrainstormTape} of a default size with the pointer in the middle.
+     */
+    public BrainstormTape() {
+        this(MIN_SIZE * 4, MIN_SIZE * 2);
+    }
+
+    /**
+     * Creates a {@code BrainstormTape} sized by the bounds of a program.
+     * @param bounds the {@code TapeBounds}.
+     */
+    public BrainstormTape(TapeBounds bounds) {
+        this(bounds.size(), bounds.start());
+    }
+
+    /**
+     * Creates a {@code BrainstormTape}.
+     * @param size the number of cells.
+     * @param pointer the index of the starting cell.
+     * @throws IllegalArgumentException if the size is not positive or the pointer is not a cell.
+     */
+    public BrainstormTape(int size, int pointer) throws IllegalArgumentException {
+        if(size < 1 || pointer < 0 || pointer >= size) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.cells = new byte[size];
+        this.pointer = pointer;
+    }
+
+    /**
+     * Gets the array of cells, which is replaced when the tape grows.
+     * @return this.cells
+     */
+    public byte[] cells() {
+        return this.cells;
+    }
+
+    /**
+     * Gets the pointer.
+     * @return this.pointer
+     */
+    public int pointer() {
+        return this.pointer;
+    }
+
+    /**
+     * Sets the pointer.
+     * @param pointer the index of the current cell.
+     */
+    public void setPointer(int pointer) {
+        this.pointer = pointer;
+    }
+
+    /**
+     * Gets the fuel left for compiled code, which spends it on every pass of a loop and returns early
+     * once none is left.
+     * @return this.fuel
+     */
+    public long fuel() {
+        return this.fuel;
+    }
+
+    /**
+     * Sets the fuel left for compiled code.
+     * @param fuel the fuel, {@code Long.MAX_VALUE} by default.
+     */
+    public void setFuel(long fuel) {
+        this.fuel = fuel;
+    }
+
+    /**
+     * Gets the cell at the pointer.
+     * @return the value of the current cell.
+     */
+    public byte current() {
+        return this.cells[this.pointer];
+    }
+
+    /**
+     * Grows this {@code BrainstormTape} so that a window of cells around a pointer is inside the array.
+     * Growing to the left shifts the cells, and with them the pointer.
+     * @param pointer the pointer, which becomes the pointer of this {@code BrainstormTape}.
+     * @param low the offset of the lowest cell of the window.
+     * @param high the offset of the highest cell of the window.
+     * @return the array of cells.
+     * @throws IllegalStateException if the tape would exceed the largest array.
+     */
+    public byte[] ensure(int pointer, int low, int high) throws IllegalStateException {
+        final long left = Math.max(0, -((long) pointer + low)),
+                right = Math.max(0, (long) pointer + high + 1 - this.cells.length);
+        if(left > 0 || right > 0) {
+            final long length = this.cells.length + Math.max(left + right, this.cells.length);
+            if(length > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+            final int shift = (left == 0) ? 0 : (int) (left + (length - this.cells.length - left - right) / 2);
+            final byte[] grown = new byte[(int) length];
+            System.arraycopy(this.cells, 0, grown, shift, this.cells.length);
+            this.cells = grown;
+            pointer += shift;
+        }
+        this.pointer = pointer;
+        return this.cells;
+    }
+
+    /**
+     * Clears every cell and moves the pointer back to a cell.
+     * @param pointer the new pointer.
+     * @throws IndexOutOfBoundsException if the pointer is not a cell.
+     */
+    public void reset(int pointer) throws IndexOutOfBoundsException {
+        if(pointer < 0 || pointer >= this.cells.length) {
+            throw new IndexOutOfBoundsException(pointer);
+        }
+        Arrays.fill(this.cells, (byte) 0);
+        this.pointer = pointer;
+    }
+
+    /**
+     * Converts this {@code BrainstormTape} to a printable format, showing the cells from the first to
+     * the last nonzero one and marking the pointer.
+     * @return this {@code BrainstormTape} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        int first = 0, last = this.cells.length - 1;
+        while(first < this.pointer && this.cells[first] == 0) {
+            first++;
+        }
+        while(last > this.pointer && this.cells[last] == 0) {
+            last--;
+        }
+        final StringBuilder builder = new StringBuilder("[");
+        for(int i = first; i <= last; i++) {
+            builder.append((i == first) ? "" : ", ").append((i == this.pointer) ? "*" : "").append(this.cells[i] & 0xFF);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Prints this {@code BrainstormTape}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
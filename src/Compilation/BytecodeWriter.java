@@ -0,0 +1,333 @@
+package Compilation;
+
+import Exception.ExceptionMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes a minimal class file: a final class with a no-argument constructor and one public method,
+ * whose code is emitted instruction by instruction. The class file version predates stack map frames,
+ * so branches need no frames; forward and backward branches go through labels that are patched when
+ * the class is finished.
+ */
+final class BytecodeWriter {
+    static final int ALOAD_0 = 0x2A, ALOAD_1 = 0x2B, ALOAD_2 = 0x2C, ALOAD_3 = 0x2D, ALOAD = 0x19, ASTORE = 0x3A,
+            ILOAD = 0x15, ISTORE = 0x36, IINC = 0x84, WIDE = 0xC4, BIPUSH = 0x10, SIPUSH = 0x11, LDC_W = 0x13,
+            BALOAD = 0x33, BASTORE = 0x54, IADD = 0x60, IMUL = 0x68, I2B = 0x91, DUP2 = 0x5C, ARRAYLENGTH = 0xBE,
+            LLOAD = 0x16, LSTORE = 0x37, LCONST_0 = 0x09, LCONST_1 = 0x0A, LSUB = 0x65, I2L = 0x85, LCMP = 0x94,
+            IFEQ = 0x99, IFNE = 0x9A, IFLT = 0x9B, IFGT = 0x9D, IFLE = 0x9E, IF_ICMPLT = 0xA1, GOTO = 0xA7, RETURN = 0xB1,
+            INVOKEVIRTUAL = 0xB6, INVOKESPECIAL = 0xB7, INVOKESTATIC = 0xB8;
+    private static final int VERSION = 49, MAX_CODE = 65535;
+    private final ByteBuffer pool = new ByteBuffer(), code = new ByteBuffer();
+    private final Map<String, Integer> constants = new HashMap<>();
+    private final List<int[]> branches = new ArrayList<>();
+    private int[] labels = new int[16];
+    private int constantCount = 1, labelCount;
+    private final String className, superName, interfaceName;
+
+    /**
+     * A growable array of bytes in big-endian order.
+     */
+    private static final class ByteBuffer {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        /**
+         * Appends one byte.
+         * @param value the byte.
+         */
+        private void u1(int value) {
+            if(this.size == this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, this.size * 2);
+            }
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        /**
+         * Appends two bytes.
+         * @param value the value.
+         */
+        private void u2(int value) {
+            u1(value >>> 8);
+            u1(value);
+        }
+
+        /**
+         * Appends four bytes.
+         * @param value the value.
+         */
+        private void u4(int value) {
+            u2(value >>> 16);
+            u2(value);
+        }
+
+        /**
+         * Appends bytes.
+         * @param source the bytes.
+         * @param length the number of bytes.
+         */
+        private void append(byte[] source, int length) {
+            for(int i = 0; i < length; i++) {
+                u1(source[i]);
+            }
+        }
+    }
+
+    /**
+     * Creates a {@code BytecodeWriter}.
+     * @param className the internal name of the class, such as {@code Compilation/Generated}.
+     * @param superName the internal name of the superclass.
+     * @param interfaceName the internal name of the interface implemented.
+     */
+    BytecodeWriter(String className, String superName, String interfaceName) {
+        this.className = className;
+        this.superName = superName;
+        this.interfaceName = interfaceName;
+    }
+
+    /**
+     * Emits one byte of code.
+     * @param opcode the byte.
+     */
+    void op(int opcode) {
+        this.code.u1(opcode);
+    }
+
+    /**
+     * Emits an instruction that takes a local variable index.
+     * @param opcode the opcode.
+     * @param local the index, below 256.
+     */
+    void local(int opcode, int local) {
+        this.code.u1(opcode);
+        this.code.u1(local);
+    }
+
+    /**
+     * Emits an increment of an {@code int} local variable.
+     * @param local the index, below 256.
+     * @param amount the amount.
+     */
+    void increment(int local, int amount) {
+        if(amount == (byte) amount) {
+            this.code.u1(IINC);
+            this.code.u1(local);
+            this.code.u1(amount);
+        } else if(amount == (short) amount) {
+            this.code.u1(WIDE);
+            this.code.u1(IINC);
+            this.code.u2(local);
+            this.code.u2(amount);
+        } else {
+            local(ILOAD, local);
+            push(amount);
+            op(IADD);
+            local(ISTORE, local);
+        }
+    }
+
+    /**
+     * Emits a push of an {@code int} constant.
+     * @param value the constant.
+     */
+    void push(int value) {
+        if(value >= -1 && value <= 5) {
+            this.code.u1(0x03 + value);
+        } else if(value == (byte) value) {
+            this.code.u1(BIPUSH);
+            this.code.u1(value);
+        } else if(value == (short) value) {
+            this.code.u1(SIPUSH);
+            this.code.u2(value);
+        } else {
+            this.code.u1(LDC_W);
+            this.code.u2(constant("I" + value, 3, buffer -> buffer.u4(value)));
+        }
+    }
+
+    /**
+     * Emits a method call.
+     * @param opcode {@code INVOKEVIRTUAL}, {@code INVOKESPECIAL} or {@code INVOKESTATIC}.
+     * @param owner the internal name of the class.
+     * @param name the name of the method.
+     * @param descriptor the descriptor of the method.
+     */
+    void invoke(int opcode, String owner, String name, String descriptor) {
+        this.code.u1(opcode);
+        this.code.u2(methodReference(owner, name, descriptor));
+    }
+
+    /**
+     * Creates a label that is not yet placed.
+     * @return the label.
+     */
+    int label() {
+        if(this.labelCount == this.labels.length) {
+            this.labels = Arrays.copyOf(this.labels, this.labelCount * 2);
+        }
+        this.labels[this.labelCount] = -1;
+        return this.labelCount++;
+    }
+
+    /**
+     * Places a label at the next instruction.
+     * @param label the label.
+     */
+    void place(int label) {
+        this.labels[label] = this.code.size;
+    }
+
+    /**
+     * Emits a branch to a label.
+     * @param opcode the branch opcode.
+     * @param label the label.
+     */
+    void jump(int opcode, int label) {
+        this.branches.add(new int[]{this.code.size, label});
+        this.code.u1(opcode);
+        this.code.u2(0);
+    }
+
+    /**
+     * Gets the number of bytes of code emitted.
+     * @return the size of the code.
+     */
+    int codeSize() {
+        return this.code.size;
+    }
+
+    /**
+     * Finishes the class, with the code emitted as the body of its method.
+     * @param methodName the name of the method.
+     * @param descriptor the descriptor of the method.
+     * @param maxStack the maximum depth of the operand stack.
+     * @param maxLocals the number of local variables, including the parameters.
+     * @return the class file.
+     * @throws IllegalStateException if the code is too large for a method or a branch is too long.
+     */
+    byte[] toByteArray(String methodName, String descriptor, int maxStack, int maxLocals) throws IllegalStateException {
+        if(this.code.size > MAX_CODE) {
+            throw new IllegalStateException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        for(int[] branch : this.branches) {
+            final int distance = this.labels[branch[1]] - branch[0];
+            if(distance != (short) distance) {
+                throw new IllegalStateException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+            this.code.bytes[branch[0] + 1] = (byte) (distance >>> 8);
+            this.code.bytes[branch[0] + 2] = (byte) distance;
+        }
+        final int thisClass = classReference(this.className), superClass = classReference(this.superName),
+                implemented = classReference(this.interfaceName), codeName = utf8("Code"),
+                constructor = methodReference(this.superName, "<init>", "()V"), initName = utf8("<init>"),
+                initType = utf8("()V"), name = utf8(methodName), type = utf8(descriptor);
+        final ByteBuffer file = new ByteBuffer();
+        file.u4(0xCAFEBABE);
+        file.u2(0);
+        file.u2(VERSION);
+        file.u2(this.constantCount);
+        file.append(this.pool.bytes, this.pool.size);
+        file.u2(0x0031);
+        file.u2(thisClass);
+        file.u2(superClass);
+        file.u2(1);
+        file.u2(implemented);
+        file.u2(0);
+        file.u2(2);
+        file.u2(0x0001);
+        file.u2(initName);
+        file.u2(initType);
+        file.u2(1);
+        file.u2(codeName);
+        file.u4(17);
+        file.u2(1);
+        file.u2(1);
+        file.u4(5);
+        file.u1(ALOAD_0);
+        file.u1(INVOKESPECIAL);
+        file.u2(constructor);
+        file.u1(RETURN);
+        file.u2(0);
+        file.u2(0);
+        file.u2(0x0001);
+        file.u2(name);
+        file.u2(type);
+        file.u2(1);
+        file.u2(codeName);
+        file.u4(12 + this.code.size);
+        file.u2(maxStack);
+        file.u2(maxLocals);
+        file.u4(this.code.size);
+        file.append(this.code.bytes, this.code.size);
+        file.u2(0);
+        file.u2(0);
+        file.u2(0);
+        return Arrays.copyOf(file.bytes, file.size);
+    }
+
+    /**
+     * Adds a UTF-8 constant.
+     * @param value the string, which must not contain null or supplementary characters.
+     * @return the index of the constant.
+     */
+    private int utf8(String value) {
+        return constant("U" + value, 1, buffer -> {
+            buffer.u2(value.length());
+            for(int i = 0; i < value.length(); i++) {
+                buffer.u1(value.charAt(i));
+            }
+        });
+    }
+
+    /**
+     * Adds a class constant.
+     * @param name the internal name of the class.
+     * @return the index of the constant.
+     */
+    private int classReference(String name) {
+        final int utf8 = utf8(name);
+        return constant("C" + name, 7, buffer -> buffer.u2(utf8));
+    }
+
+    /**
+     * Adds a method reference constant.
+     * @param owner the internal name of the class.
+     * @param name the name of the method.
+     * @param descriptor the descriptor of the method.
+     * @return the index of the constant.
+     */
+    private int methodReference(String owner, String name, String descriptor) {
+        final int ownerIndex = classReference(owner), nameIndex = utf8(name), typeIndex = utf8(descriptor);
+        final int nameAndType = constant("N" + name + ' ' + descriptor, 12, buffer -> {
+            buffer.u2(nameIndex);
+            buffer.u2(typeIndex);
+        });
+        return constant("M" + owner + '.' + name + descriptor, 10, buffer -> {
+            buffer.u2(ownerIndex);
+            buffer.u2(nameAndType);
+        });
+    }
+
+    /**
+     * Adds a constant to the pool unless an equal one is there.
+     * @param key the identity of the constant.
+     * @param tag the tag of the constant.
+     * @param body the writer of the body of the constant.
+     * @return the index of the constant.
+     */
+    private int constant(String key, int tag, Consumer<ByteBuffer> body) {
+        final Integer existing = this.constants.get(key);
+        if(existing != null) {
+            return existing;
+        }
+        this.pool.u1(tag);
+        body.accept(this.pool);
+        this.constants.put(key, this.constantCount);
+        return this.constantCount++;
+    }
+}
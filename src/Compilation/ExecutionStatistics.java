@@ -0,0 +1,54 @@
+package Compilation;
+
+/**
+ * A snapshot of the counters of a {@link BrainstormInterpreter}.
+ * @param interpretedSteps the number of instructions dispatched by the interpreter.
+ * @param compiledSteps the fuel spent by compiled loops, one per instruction of a loop per pass.
+ * @param compiledEntries the number of calls into compiled loops.
+ * @param loopsCompiled the number of loops promoted to compiled code.
+ * @param compileNanos the time spent compiling loops.
+ * @param compiledNanos the time spent in compiled loops.
+ * @param totalNanos the time spent running, including compilation and compiled loops.
+ */
+public record ExecutionStatistics(long interpretedSteps, long compiledSteps, long compiledEntries, int loopsCompiled,
+                                  long compileNanos, long compiledNanos, long totalNanos) {
+    /**
+     * Finds the number of steps run by either tier.
+     * @return {@code interpretedSteps + compiledSteps}
+     */
+    public long steps() {
+        return this.interpretedSteps + this.compiledSteps;
+    }
+
+    /**
+     * Finds the rate of steps over the whole running time.
+     * @return the steps per second, or {@code 0} if no time was measured.
+     */
+    public double stepsPerSecond() {
+        return (this.totalNanos == 0) ? 0.0 : steps() * 1e9 / this.totalNanos;
+    }
+
+    /**
+     * Adds the counters of two snapshots.
+     * @param statistics the other snapshot.
+     * @return the combined snapshot.
+     */
+    public ExecutionStatistics plus(ExecutionStatistics statistics) {
+        return new ExecutionStatistics(this.interpretedSteps + statistics.interpretedSteps,
+                this.compiledSteps + statistics.compiledSteps, this.compiledEntries + statistics.compiledEntries,
+                this.loopsCompiled + statistics.loopsCompiled, this.compileNanos + statistics.compileNanos,
+                this.compiledNanos + statistics.compiledNanos, this.totalNanos + statistics.totalNanos);
+    }
+
+    /**
+     * Converts this {@code ExecutionStatistics} to a printable format.
+     * @return this {@code ExecutionStatistics} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return "interpreted=" + this.interpretedSteps + ", compiled=" + this.compiledSteps + ", entries="
+                + this.compiledEntries + ", loopsCompiled=" + this.loopsCompiled + ", compileMs="
+                + this.compileNanos / 1e6 + ", compiledMs=" + this.compiledNanos / 1e6 + ", totalMs="
+                + this.totalNanos / 1e6;
+    }
+}
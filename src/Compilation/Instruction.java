@@ -0,0 +1,88 @@
+package Compilation;
+
+/**
+ * One instruction of the intermediate representation of a Brainstorm program, produced by
+ * {@link BrainstormParser}. Cells are addressed relative to the tape pointer {@code p}, so a run of
+ * pointer moves folds into the offsets of the instructions that follow it.
+ * @param opcode the {@code Opcode}.
+ * @param offset the cell addressed, relative to the pointer.
+ * @param value the amount added, the value set, the factor multiplied, or the distance moved.
+ * @param target the source offset of a {@code MULTIPLY}, or the index of the matching bracket of an
+ *               {@code OPEN} or {@code CLOSE}.
+ */
+public record Instruction(Opcode opcode, int offset, int value, int target) {
+    /**
+     * The operations of the intermediate representation.
+     */
+    public enum Opcode {
+        /** {@code cell[p + offset] += value} */
+        ADD,
+        /** {@code cell[p + offset] = value} */
+        SET,
+        /** {@code cell[p + offset] += cell[p + target] * value} */
+        MULTIPLY,
+        /** {@code p += value} */
+        MOVE,
+        /** {@code while(cell[p + offset] != 0) p += value} */
+        SCAN,
+        /** Reads a byte into {@code cell[p + offset]}, or {@code 0} at the end of the input. */
+        INPUT,
+        /** Writes {@code cell[p + offset]}. */
+        OUTPUT,
+        /** Jumps past the matching {@code CLOSE} if {@code cell[p + offset] == 0}. */
+        OPEN,
+        /** Jumps back past the matching {@code OPEN} if {@code cell[p + offset] != 0}. */
+        CLOSE
+    }
+
+    /**
+     * Creates an {@code Instruction} without a target.
+     * @param opcode the {@code Opcode}.
+     * @param offset the cell addressed, relative to the pointer.
+     * @param value the operand.
+     */
+    public Instruction(Opcode opcode, int offset, int value) {
+        this(opcode, offset, value, 0);
+    }
+
+    /**
+     * Moves this {@code Instruction} to cells a fixed distance away.
+     * @param distance the distance added to the offsets.
+     * @return the moved {@code Instruction}.
+     */
+    public Instruction shifted(int distance) {
+        return new Instruction(this.opcode, this.offset + distance, this.value,
+                (this.opcode == Opcode.MULTIPLY) ? this.target + distance : this.target);
+    }
+
+    /**
+     * Replaces the target of this {@code Instruction}.
+     * @param target the new target.
+     * @return the {@code Instruction} with the target.
+     */
+    public Instruction withTarget(int target) {
+        return new Instruction(this.opcode, this.offset, this.value, target);
+    }
+
+    /**
+     * Converts this {@code Instruction} to a printable format.
+     * @return this {@code Instruction} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return switch(this.opcode) {
+            case ADD, SET, SCAN -> this.opcode + "[" + this.offset + "] " + this.value;
+            case MULTIPLY -> this.opcode + "[" + this.offset + "] [" + this.target + "]*" + this.value;
+            case MOVE -> this.opcode + " " + this.value;
+            case INPUT, OUTPUT -> this.opcode + "[" + this.offset + "]";
+            case OPEN, CLOSE -> this.opcode + "[" + this.offset + "] @" + this.target;
+        };
+    }
+
+    /**
+     * Prints this {@code Instruction}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
@@ -1,17 +1,18 @@
 package Compilation;
 
-import DataSet.LinkedChain;
-
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Scanner;
 
 public class Interpreter {
     /**
-     * Converts a file from Brainstorm to Java
+     * Converts a file from Brainstorm to Java. The program is parsed and optimized by
+     * {@link BrainstormParser}, and the tape is a fixed array sized by {@link TapeBounds} when the bounds
+     * are exact, else a {@link BrainstormTape} that grows whenever a pointer move may leave it.
      * @param inputFilename the filepath for the input Brainstorm
      * @param filename the desired filename for the output <code>.java</code> file.
      *                 Note that if a file with this name and filetype already exists,
@@ -25,52 +26,116 @@ public class Interpreter {
                                         String methodName,
                                         Permission fileProtection) {
         File javaFile = new File(filename + ".java");
-        try (Scanner scanner = new Scanner(new File(inputFilename))) {
-            char[] inputBrainstorm = scanner.nextLine().toCharArray();
-            scanner.close();
-            boolean usesScannerInput = false;
-            for(char c : inputBrainstorm) {
-                usesScannerInput |= c == ',';
-            }
+        try {
+            final Instruction[] code = BrainstormParser.parse(Files.readString(Paths.get(inputFilename)));
+            final TapeBounds bounds = TapeBounds.of(code), window = TapeBounds.window(code, 0, code.length);
             FileWriter writer = new FileWriter(javaFile);
+            if(! bounds.exact()) {
+                writer.write("import Compilation.BrainstormTape;\n\n");
+            }
+            writer.write("import java.io.IOException;\n\n");
             writer.write(fileProtection.getTag() + "class " + filename + " {\n");
-            writer.write("\t" + fileProtection.tag + "static void " + methodName + "() {\n");
-            if(usesScannerInput) {
-                writer.write("\t\tScanner scanner = new Scanner(System.in);\n");
+            writer.write("\t" + fileProtection.tag + "static void " + methodName + "() throws IOException {\n");
+            if(bounds.exact()) {
+                writer.write("\t\tfinal byte[] t = new byte[" + bounds.size() + "];\n");
+                writer.write("\t\tint p = " + bounds.start() + ";\n");
+            } else {
+                writer.write("\t\tfinal BrainstormTape tape = new BrainstormTape();\n");
+                writer.write("\t\tbyte[] t = tape.ensure(tape.pointer(), " + window.minimum() + ", " + window.maximum() + ");\n");
+                writer.write("\t\tint p = tape.pointer();\n");
             }
-            int loopCounter = 0;
-            for(char c : inputBrainstorm) {
-                StringBuilder nextLine = new StringBuilder();
-//                switch (c) {
-//                    case '>'
-//                }
+            String indent = "\t\t";
+            for(Instruction instruction : code) {
+                final String cell = "t[" + cellIndex(instruction.offset()) + "]";
+                if(instruction.opcode() == Instruction.Opcode.CLOSE) {
+                    indent = indent.substring(1);
+                }
+                final StringBuilder nextLine = new StringBuilder(indent);
+                switch(instruction.opcode()) {
+                    case ADD -> nextLine.append(cell).append(" += ").append(instruction.value()).append(';');
+                    case SET -> nextLine.append(cell).append(" = ").append(instruction.value()).append(';');
+                    case MULTIPLY -> nextLine.append(cell).append(" += t[").append(cellIndex(instruction.target()))
+                            .append("] * ").append(instruction.value()).append(';');
+                    case MOVE -> nextLine.append("p += ").append(instruction.value()).append(';')
+                            .append(bounds.exact() ? "" : growth(indent, window));
+                    case SCAN -> nextLine.append("while(").append(cell).append(" != 0) {\n").append(indent)
+                            .append("\tp += ").append(instruction.value()).append(';').append(growth(indent + '\t', window))
+                            .append('\n').append(indent).append('}');
+                    case INPUT -> nextLine.append(cell).append(" = (byte) Math.max(0, System.in.read());");
+                    case OUTPUT -> nextLine.append("System.out.write(").append(cell).append(");");
+                    case OPEN -> nextLine.append("while(").append(cell).append(" != 0) {");
+                    case CLOSE -> nextLine.append('}');
+                }
+                if(instruction.opcode() == Instruction.Opcode.OPEN) {
+                    indent += "\t";
+                }
                 nextLine.append("\n");
                 writer.write(nextLine.toString());
             }
-            if(usesScannerInput) {
-                writer.write("\t\tscanner.close();\n");
-            }
+            writer.write("\t\tSystem.out.flush();\n");
             writer.write("\t}\n");
             writer.write("}\n");
             writer.close();
             return javaFile;
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             javaFile.delete();
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Writes the index of a cell relative to the pointer in generated Java
+     * @param offset the offset from the pointer
+     * @return the index expression
+     */
+    private static String cellIndex(int offset) {
+        return (offset == 0) ? "p" : (offset > 0) ? "p + " + offset : "p - " + -offset;
+    }
+
+    /**
+     * Writes the check that grows a BrainstormTape after a pointer move in generated Java
+     * @param indent the indentation of the move
+     * @param window the offsets addressed between two moves
+     * @return the check, starting on a new line
+     */
+    private static String growth(String indent, TapeBounds window) {
+        return "\n" + indent + "if(" + cellIndex(window.minimum()) + " < 0 || " + cellIndex(window.maximum())
+                + " >= t.length) {\n" + indent + "\tt = tape.ensure(p, " + window.minimum() + ", "
+                + window.maximum() + ");\n" + indent + "\tp = tape.pointer();\n" + indent + "}";
+    }
+
     /**
      * Simulates a Brainstorm file to determine bounds on the binary tape used
      * @param instructions the String of instruction characters, written in Brainstorm
      * @return an array with the following information:
      *          - The size of the array
      *          - The starting index
+     *         or null if a loop moves the tape pointer, so that the bounds depend on the data
+     * @throws IllegalArgumentException if the brackets of the instructions are unbalanced
+     * @see TapeBounds
      */
     public static int[] simulateBrainstorm(String instructions) {
-        int index = 0, max = 0, layer = 0, stopLayer = 0;
-        return new int[]{max + 1, index};
+        final TapeBounds bounds = TapeBounds.of(BrainstormParser.parse(instructions));
+        return bounds.exact() ? new int[]{bounds.size(), bounds.start()} : null;
+    }
+
+    /**
+     * Runs a Brainstorm program in process, interpreting it and compiling its hot loops
+     * @param instructions the String of instruction characters, written in Brainstorm
+     * @param in the input read by <code>,</code>
+     * @param out the output written by <code>.</code>
+     * @return the statistics of the run
+     * @throws IOException if the input or output fails
+     * @throws IllegalArgumentException if the brackets of the instructions are unbalanced
+     * @see BrainstormInterpreter
+     */
+    public static ExecutionStatistics runBrainstorm(String instructions, InputStream in, OutputStream out)
+            throws IOException {
+        final BrainstormInterpreter interpreter = new BrainstormInterpreter(instructions);
+        interpreter.run(in, out);
+        out.flush();
+        return interpreter.statistics();
     }
 
     /**
@@ -0,0 +1,117 @@
+package Compilation;
+
+import Compilation.Instruction.Opcode;
+
+/**
+ * The cells that a run of {@link Instruction Instructions} may address or leave the pointer on, relative
+ * to the pointer at the first instruction. The bounds are exact when no loop moves the pointer: every pass of every loop then
+ * addresses the same cells, so a tape of {@link #size()} cells with the pointer starting at
+ * {@link #start()} is always large enough. Otherwise the bounds only cover the instructions up to the
+ * first loop that moves the pointer, and a tape must grow as the program runs.
+ * @param minimum the lowest cell addressed.
+ * @param maximum the highest cell addressed.
+ * @param exact {@code true} if no cell outside the bounds can be addressed, else {@code false}.
+ */
+public record TapeBounds(int minimum, int maximum, boolean exact) {
+    /**
+     * Analyzes the whole of a program.
+     * @param code the {@code Instructions}.
+     * @return the {@code TapeBounds}.
+     */
+    public static TapeBounds of(Instruction[] code) {
+        return of(code, 0, code.length);
+    }
+
+    /**
+     * Analyzes a range of a program, which must not split a loop.
+     * @param code the {@code Instructions}.
+     * @param from the index of the first instruction.
+     * @param to the index after the last instruction.
+     * @return the {@code TapeBounds}.
+     */
+    public static TapeBounds of(Instruction[] code, int from, int to) {
+        int position = 0, minimum = 0, maximum = 0, depth = 0;
+        boolean exact = true;
+        for(int i = from; i < to && exact; i++) {
+            final Instruction instruction = code[i];
+            switch(instruction.opcode()) {
+                case MOVE -> {
+                    exact = depth == 0;
+                    position += instruction.value();
+                }
+                case SCAN -> exact = false;
+                case OPEN -> depth++;
+                case CLOSE -> depth--;
+                default -> {}
+            }
+            final int cell = position + ((instruction.opcode() == Opcode.MOVE) ? 0 : instruction.offset());
+            minimum = Math.min(minimum, cell);
+            maximum = Math.max(maximum, cell);
+            if(instruction.opcode() == Opcode.MULTIPLY) {
+                minimum = Math.min(minimum, position + instruction.target());
+                maximum = Math.max(maximum, position + instruction.target());
+            }
+        }
+        return new TapeBounds(minimum, maximum, exact);
+    }
+
+    /**
+     * Finds the lowest and highest offsets addressed by any single instruction of a range, which bound
+     * the cells addressed between two pointer moves.
+     * @param code the {@code Instructions}.
+     * @param from the index of the first instruction.
+     * @param to the index after the last instruction.
+     * @return the {@code TapeBounds}, which are exact only if the range never moves the pointer.
+     */
+    public static TapeBounds window(Instruction[] code, int from, int to) {
+        int minimum = 0, maximum = 0;
+        boolean exact = true;
+        for(int i = from; i < to; i++) {
+            final Instruction instruction = code[i];
+            if(instruction.opcode() == Opcode.MOVE || instruction.opcode() == Opcode.SCAN) {
+                exact = false;
+            }
+            if(instruction.opcode() != Opcode.MOVE) {
+                minimum = Math.min(minimum, instruction.offset());
+                maximum = Math.max(maximum, instruction.offset());
+            }
+            if(instruction.opcode() == Opcode.MULTIPLY) {
+                minimum = Math.min(minimum, instruction.target());
+                maximum = Math.max(maximum, instruction.target());
+            }
+        }
+        return new TapeBounds(minimum, maximum, exact);
+    }
+
+    /**
+     * Finds the number of cells within the bounds.
+     * @return the size of the tape.
+     */
+    public int size() {
+        return this.maximum - this.minimum + 1;
+    }
+
+    /**
+     * Finds the index of the starting cell in a tape of {@link #size()} cells.
+     * @return the starting pointer.
+     */
+    public int start() {
+        return -this.minimum;
+    }
+
+    /**
+     * Converts these {@code TapeBounds} to a printable format.
+     * @return these {@code TapeBounds} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return "[" + this.minimum + ", " + this.maximum + "]" + (this.exact ? "" : "+");
+    }
+
+    /**
+     * Prints these {@code TapeBounds}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
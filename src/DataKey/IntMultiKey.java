@@ -0,0 +1,191 @@
+package DataKey;
+
+import General.TrueTextEncodable;
+
+import java.util.Arrays;
+
+/**
+ * A {@code MultiKey} of unboxed {@code int} values. The values are copied into a private array, so the
+ * key is immutable and its hash is computed once, by a mixing function under which keys that differ
+ * in any bit of any value spread evenly. The static {@code hash} methods compute the same hash from
+ * loose values or a range of an array, which lets a map find a key without building one.
+ * @see LongMultiKey
+ * @see DataSet.IntMultiKeyMap
+ */
+public final class IntMultiKey implements TrueTextEncodable {
+    static final long SEED = 0x632BE59BD9B4E019L, GOLDEN = 0x9E3779B97F4A7C15L;
+    private final int[] keys;
+    private final int hashCode;
+
+    /**
+     * Creates a new {@code IntMultiKey}.
+     * @param keys the values used to denote this {@code Object} as a key.
+     */
+    public IntMultiKey(int... keys) {
+        this.keys = keys.clone();
+        this.hashCode = hash(this.keys, 0, this.keys.length);
+    }
+
+    /**
+     * Gets the dimension of this {@code IntMultiKey}.
+     * @return the number of values.
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets the value at a specific index.
+     * @param index the target index.
+     * @return the value.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range.
+     */
+    public int get(int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Gets the values of this {@code IntMultiKey}.
+     * @return a copy of the values.
+     */
+    public int[] getKeys() {
+        return this.keys.clone();
+    }
+
+    /**
+     * Determines whether this {@code IntMultiKey} holds the values in a range of an array.
+     * @param keys the array.
+     * @param from the index of the first value.
+     * @return {@code true} if the next {@link #size()} values of the array are equal to those of this
+     * {@code IntMultiKey}, else {@code false}.
+     */
+    public boolean matches(int[] keys, int from) {
+        return Arrays.equals(this.keys, 0, this.keys.length, keys, from, from + this.keys.length);
+    }
+
+    /**
+     * Finds the hashCode of this {@code IntMultiKey}.
+     * @return {@code this.hashCode}
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Determines whether this {@code IntMultiKey} is equal to another {@code Object} of type
+     * {@code IntMultiKey}.
+     * @param o the comparator {@code Object}
+     * @return {@code true} if {@code o} is an {@code IntMultiKey} and its values are equal to those in
+     * this {@code IntMultiKey}, else {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IntMultiKey convert && convert.hashCode == this.hashCode
+                && Arrays.equals(convert.keys, this.keys);
+    }
+
+    /**
+     * Hashes a single value as an {@code IntMultiKey} of one value would be.
+     * @param a the value.
+     * @return the hash.
+     */
+    public static int hash(int a) {
+        return mix(step(SEED + 1, a));
+    }
+
+    /**
+     * Hashes two values as an {@code IntMultiKey} of those values would be.
+     * @param a the first value.
+     * @param b the second value.
+     * @return the hash.
+     */
+    public static int hash(int a, int b) {
+        return mix(step(step(SEED + 2, a), b));
+    }
+
+    /**
+     * Hashes three values as an {@code IntMultiKey} of those values would be.
+     * @param a the first value.
+     * @param b the second value.
+     * @param c the third value.
+     * @return the hash.
+     */
+    public static int hash(int a, int b, int c) {
+        return mix(step(step(step(SEED + 3, a), b), c));
+    }
+
+    /**
+     * Hashes a range of an array as an {@code IntMultiKey} of those values would be.
+     * @param keys the array.
+     * @param from the index of the first value.
+     * @param length the number of values.
+     * @return the hash.
+     */
+    public static int hash(int[] keys, int from, int length) {
+        long hash = SEED + length;
+        for(int i = from; i < from + length; i++) {
+            hash = step(hash, keys[i]);
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Folds one value into a running hash.
+     * @param hash the running hash.
+     * @param key the value.
+     * @return the new running hash.
+     */
+    static long step(long hash, long key) {
+        return Long.rotateLeft((hash ^ key) * GOLDEN, 29);
+    }
+
+    /**
+     * Finishes a running hash with the finalizer of SplitMix64, so that every input bit affects every
+     * output bit.
+     * @param hash the running hash.
+     * @return the hash.
+     */
+    static int mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (hash ^ (hash >>> 31));
+    }
+
+    /**
+     * Provides the TrueText of this {@code IntMultiKey}.
+     * @return this {@code IntMultiKey} in a parsable format.
+     */
+    @Override
+    public String trueText() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(int key : this.keys) {
+            builder.append(delimiter).append(key);
+            delimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this {@code IntMultiKey} to a printable format.
+     * @return this {@code IntMultiKey} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(int key : this.keys) {
+            builder.append(delimiter).append(key);
+            delimiter = ", ";
+        }
+        return "(" + builder + ")";
+    }
+
+    /**
+     * Prints this {@code IntMultiKey}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
@@ -0,0 +1,165 @@
+package DataKey;
+
+import General.TrueTextEncodable;
+
+import java.util.Arrays;
+
+/**
+ * A {@code MultiKey} of unboxed {@code long} values, immutable and hashed once like an
+ * {@link IntMultiKey}. Small keys of {@code int} values can also be bit-packed into a single
+ * {@code long} by {@link #pack(int, int)} and kept in a {@code LongMultiKey} of one value.
+ * @see DataSet.LongMultiKeyMap
+ */
+public final class LongMultiKey implements TrueTextEncodable {
+    private final long[] keys;
+    private final int hashCode;
+
+    /**
+     * Creates a new {@code LongMultiKey}.
+     * @param keys the values used to denote this {@code Object} as a key.
+     */
+    public LongMultiKey(long... keys) {
+        this.keys = keys.clone();
+        this.hashCode = hash(this.keys, 0, this.keys.length);
+    }
+
+    /**
+     * Gets the dimension of this {@code LongMultiKey}.
+     * @return the number of values.
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Gets the value at a specific index.
+     * @param index the target index.
+     * @return the value.
+     * @throws ArrayIndexOutOfBoundsException if the index is out of range.
+     */
+    public long get(int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * Gets the values of this {@code LongMultiKey}.
+     * @return a copy of the values.
+     */
+    public long[] getKeys() {
+        return this.keys.clone();
+    }
+
+    /**
+     * Determines whether this {@code LongMultiKey} holds the values in a range of an array.
+     * @param keys the array.
+     * @param from the index of the first value.
+     * @return {@code true} if the next {@link #size()} values of the array are equal to those of this
+     * {@code LongMultiKey}, else {@code false}.
+     */
+    public boolean matches(long[] keys, int from) {
+        return Arrays.equals(this.keys, 0, this.keys.length, keys, from, from + this.keys.length);
+    }
+
+    /**
+     * Finds the hashCode of this {@code LongMultiKey}.
+     * @return {@code this.hashCode}
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Determines whether this {@code LongMultiKey} is equal to another {@code Object} of type
+     * {@code LongMultiKey}.
+     * @param o the comparator {@code Object}
+     * @return {@code true} if {@code o} is a {@code LongMultiKey} and its values are equal to those in
+     * this {@code LongMultiKey}, else {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LongMultiKey convert && convert.hashCode == this.hashCode
+                && Arrays.equals(convert.keys, this.keys);
+    }
+
+    /**
+     * Packs two {@code int} values into one {@code long}, the first in the high bits.
+     * @param a the first value.
+     * @param b the second value.
+     * @return the packed value.
+     */
+    public static long pack(int a, int b) {
+        return ((long) a << 32) | (b & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Hashes a single value as a {@code LongMultiKey} of one value would be.
+     * @param a the value.
+     * @return the hash.
+     */
+    public static int hash(long a) {
+        return IntMultiKey.mix(IntMultiKey.step(IntMultiKey.SEED + 1, a));
+    }
+
+    /**
+     * Hashes two values as a {@code LongMultiKey} of those values would be.
+     * @param a the first value.
+     * @param b the second value.
+     * @return the hash.
+     */
+    public static int hash(long a, long b) {
+        return IntMultiKey.mix(IntMultiKey.step(IntMultiKey.step(IntMultiKey.SEED + 2, a), b));
+    }
+
+    /**
+     * Hashes a range of an array as a {@code LongMultiKey} of those values would be.
+     * @param keys the array.
+     * @param from the index of the first value.
+     * @param length the number of values.
+     * @return the hash.
+     */
+    public static int hash(long[] keys, int from, int length) {
+        long hash = IntMultiKey.SEED + length;
+        for(int i = from; i < from + length; i++) {
+            hash = IntMultiKey.step(hash, keys[i]);
+        }
+        return IntMultiKey.mix(hash);
+    }
+
+    /**
+     * Provides the TrueText of this {@code LongMultiKey}.
+     * @return this {@code LongMultiKey} in a parsable format.
+     */
+    @Override
+    public String trueText() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(long key : this.keys) {
+            builder.append(delimiter).append(key);
+            delimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this {@code LongMultiKey} to a printable format.
+     * @return this {@code LongMultiKey} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(long key : this.keys) {
+            builder.append(delimiter).append(key);
+            delimiter = ", ";
+        }
+        return "(" + builder + ")";
+    }
+
+    /**
+     * Prints this {@code LongMultiKey}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
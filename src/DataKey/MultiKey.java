@@ -2,13 +2,9 @@ package DataKey;
 
 import General.TrueTextEncodable;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-
 /**
  * A class that can be used to denote a single value mapped to by an ordered set of
- * other values.
+ * other values. {@link IntMultiKey} and {@link LongMultiKey} hold unboxed values for lookups on hot paths.
  * @param <Data> the data type of the identification values.
  */
 public class MultiKey<Data> implements TrueTextEncodable {
@@ -24,11 +20,12 @@ public class MultiKey<Data> implements TrueTextEncodable {
     @SafeVarargs
     public MultiKey(Data... keys) {
         this.keys = keys;
-        final List<Integer> hashCodes = new ArrayList<>();
+        //Equal to Objects.hash applied to the list of component hashCodes, without boxing them
+        int hash = 1;
         for(Data c : keys) {
-            hashCodes.add(c.hashCode());
+            hash = 31 * hash + c.hashCode();
         }
-        this.hashCode = Objects.hash(hashCodes);
+        this.hashCode = 31 + hash;
     }
 
     /**
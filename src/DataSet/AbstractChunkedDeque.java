@@ -0,0 +1,277 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The engine of the chunked deques. Elements live in fixed-size chunks taken lazily from a
+ * {@link ChunkPool} and returned as soon as they empty, so neither end of the deque ever copies
+ * elements, and there is no capacity limit beyond memory. An element is addressed by a {@code long}
+ * position on an unbounded line; position {@code p} lies at offset {@code p & mask} of chunk number
+ * {@code p >> shift}, and the chunks in use sit in a circular directory indexed by chunk number,
+ * which doubles when the deque spans more chunks than it has slots. The directory is the only
+ * structure that grows, and by only one reference per chunk. Subclasses read and write the slots of
+ * one element type. This class is not synchronized.
+ * @see ChunkedDeque
+ * @see IntChunkedDeque
+ * @see LongChunkedDeque
+ * @see DoubleChunkedDeque
+ */
+public abstract class AbstractChunkedDeque {
+    /**
+     * The default base-2 logarithm of the number of elements per chunk on the heap.
+     */
+    public static final int HEAP_CHUNK_SHIFT = 12;
+
+    /**
+     * The default base-2 logarithm of the number of elements per chunk off the heap.
+     */
+    public static final int OFF_HEAP_CHUNK_SHIFT = 16;
+
+    private static final int MIN_DIRECTORY = 8;
+    protected final ChunkPool pool;
+    protected final boolean offHeap;
+    protected final int shift, mask;
+    private Object[] directory;
+    private Object spare;
+    private long head, size;
+
+    /**
+     * Creates an empty deque.
+     * @param chunkShift the base-2 logarithm of the number of elements per chunk, from {@code 4} to {@code 24}.
+     * @param offHeap {@code true} if the chunks are direct buffers, else {@code false} for heap arrays.
+     * @param pool the allocator of the chunks.
+     * @throws IllegalArgumentException if the chunk shift is out of range.
+     */
+    protected AbstractChunkedDeque(int chunkShift, boolean offHeap, ChunkPool pool) throws IllegalArgumentException {
+        if(chunkShift < 4 || chunkShift > 24) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.pool = pool;
+        this.offHeap = offHeap;
+        this.shift = chunkShift;
+        this.mask = (1 << chunkShift) - 1;
+        this.directory = new Object[MIN_DIRECTORY];
+    }
+
+    /**
+     * Takes a new chunk from the pool.
+     * @return the chunk.
+     */
+    protected abstract Object allocate();
+
+    /**
+     * Finds the number of elements in this deque.
+     * @return {@code this.size}
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Determines whether this deque is empty.
+     * @return {@code true} if there are no elements in this deque, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Determines whether this deque is empty, like {@link java.util.Stack#empty()}.
+     * @return {@code true} if there are no elements in this deque, else {@code false}.
+     */
+    public boolean empty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every element, returning all chunks to the pool.
+     */
+    public void clear() {
+        for(int i = 0; i < this.directory.length; i++) {
+            if(this.directory[i] != null) {
+                this.pool.release(this.directory[i]);
+                this.directory[i] = null;
+            }
+        }
+        if(this.spare != null) {
+            this.pool.release(this.spare);
+            this.spare = null;
+        }
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Determines whether the chunks of this deque are direct buffers.
+     * @return {@code this.offHeap}
+     */
+    public boolean isOffHeap() {
+        return this.offHeap;
+    }
+
+    /**
+     * Finds the chunk holding a position.
+     * @param position the position of an element.
+     * @return the chunk.
+     */
+    protected final Object chunk(long position) {
+        return this.directory[(int) (position >> this.shift) & (this.directory.length - 1)];
+    }
+
+    /**
+     * Finds the offset of a position within its chunk.
+     * @param position the position of an element.
+     * @return the offset, in elements.
+     */
+    protected final int offset(long position) {
+        return (int) position & this.mask;
+    }
+
+    /**
+     * Finds the position of an index from the first element.
+     * @param index the index.
+     * @return the position.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    protected final long position(long index) throws IndexOutOfBoundsException {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return this.head + index;
+    }
+
+    /**
+     * Finds the position of the first element.
+     * @return the position.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    protected final long firstPosition() throws NoSuchElementException {
+        if(this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.head;
+    }
+
+    /**
+     * Finds the position of the last element.
+     * @return the position.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    protected final long lastPosition() throws NoSuchElementException {
+        if(this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.head + this.size - 1;
+    }
+
+    /**
+     * Opens a slot after the last element, taking a chunk if the slot starts one.
+     * @return the position of the slot.
+     */
+    protected final long growLast() {
+        final long position = this.head + this.size;
+        if(((int) position & this.mask) == 0 || this.size == 0) {
+            attach(position);
+        }
+        this.size++;
+        return position;
+    }
+
+    /**
+     * Opens a slot before the first element, taking a chunk if the slot ends one.
+     * @return the position of the slot.
+     */
+    protected final long growFirst() {
+        final long position = this.head - 1;
+        if(((int) position & this.mask) == this.mask || this.size == 0) {
+            attach(position);
+        }
+        this.head = position;
+        this.size++;
+        return position;
+    }
+
+    /**
+     * Closes the slot of the last element, which the subclass has already read, and releases its
+     * chunk if no element remains in it.
+     */
+    protected final void shrinkLast() {
+        this.size--;
+        final long position = this.head + this.size;
+        if(((int) position & this.mask) == 0 || this.size == 0) {
+            detach(position);
+        }
+    }
+
+    /**
+     * Closes the slot of the first element, which the subclass has already read, and releases its
+     * chunk if no element remains in it.
+     */
+    protected final void shrinkFirst() {
+        final long position = this.head++;
+        this.size--;
+        if(((int) this.head & this.mask) == 0 || this.size == 0) {
+            detach(position);
+        }
+    }
+
+    /**
+     * Places a chunk at a chunk number, doubling the directory first if it would otherwise wrap onto a
+     * chunk in use.
+     * @param position a position in the chunk.
+     */
+    private void attach(long position) {
+        final long chunkNumber = position >> this.shift;
+        if(this.size > 0) {
+            final long low = Math.min(this.head >> this.shift, chunkNumber),
+                    high = Math.max((this.head + this.size - 1) >> this.shift, chunkNumber);
+            if(high - low + 1 > this.directory.length) {
+                resize(high - low + 1);
+            }
+        }
+        final int slot = (int) chunkNumber & (this.directory.length - 1);
+        if(this.directory[slot] == null) {
+            if(this.spare == null) {
+                this.directory[slot] = allocate();
+            } else {
+                this.directory[slot] = this.spare;
+                this.spare = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the chunk at a chunk number, keeping it as the spare so that pushing and popping
+     * across a chunk boundary does not reach the pool every time.
+     * @param position a position in the chunk.
+     */
+    private void detach(long position) {
+        final int slot = (int) (position >> this.shift) & (this.directory.length - 1);
+        final Object chunk = this.directory[slot];
+        this.directory[slot] = null;
+        if(this.spare == null) {
+            this.spare = chunk;
+        } else {
+            this.pool.release(chunk);
+        }
+    }
+
+    /**
+     * Moves the chunks in use into a directory large enough for a number of chunks.
+     * @param chunks the number of chunks.
+     */
+    private void resize(long chunks) {
+        int length = this.directory.length;
+        while(length < chunks) {
+            length <<= 1;
+        }
+        final Object[] directory = new Object[length];
+        final long first = this.head >> this.shift, last = (this.head + this.size - 1) >> this.shift;
+        for(long chunkNumber = first; chunkNumber <= last; chunkNumber++) {
+            directory[(int) chunkNumber & (length - 1)] = this.directory[(int) chunkNumber & (this.directory.length - 1)];
+        }
+        this.directory = directory;
+    }
+}
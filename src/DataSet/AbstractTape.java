@@ -0,0 +1,231 @@
+package DataSet;
+
+/**
+ * The engine of the array tapes. A tape holds the cells from a start index to an end index, either of
+ * which may be negative, in a circular array whose length is a power of two. Index {@code i} lives in
+ * slot {@code (first + i - start) & mask}, so reading or writing any cell is a mask away, and growing
+ * either end by one cell is amortized constant time: when the array is full it doubles, and the cells
+ * are copied once into the front of the new array. Subclasses store the cells of one element type.
+ * This class is not synchronized.
+ * @see LinkedHashTape
+ * @see IntTape
+ * @see ByteTape
+ */
+public abstract class AbstractTape {
+    /**
+     * The initial number of slots of a tape.
+     */
+    protected static final int MIN_CAPACITY = 8;
+    protected int start, end, size, first, mask;
+
+    /**
+     * Creates an empty tape with room for {@link #MIN_CAPACITY} cells.
+     */
+    protected AbstractTape() {
+        this.mask = MIN_CAPACITY - 1;
+    }
+
+    /**
+     * Creates an array of cells.
+     * @param capacity the number of slots.
+     * @return the array.
+     */
+    protected abstract Object allocate(int capacity);
+
+    /**
+     * Gets the array of cells.
+     * @return the array.
+     */
+    protected abstract Object cells();
+
+    /**
+     * Replaces the array of cells.
+     * @param cells the new array.
+     */
+    protected abstract void install(Object cells);
+
+    /**
+     * Forgets the content of a slot that has left the tape. Tapes of references clear it so that the
+     * element can be collected; primitive tapes do nothing.
+     * @param slot the slot.
+     */
+    protected abstract void release(int slot);
+
+    /**
+     * Removes every cell, keeping the array.
+     */
+    public void clear() {
+        while(this.size > 0) {
+            release(this.first);
+            this.first = (this.first + 1) & this.mask;
+            this.size--;
+        }
+        this.start = 0;
+        this.end = 0;
+        this.first = 0;
+    }
+
+    /**
+     * Finds the starting index of this tape
+     * @return this.start
+     */
+    public int getStartIndex() {
+        return this.start;
+    }
+
+    /**
+     * Finds the end index of this tape
+     * @return this.end
+     */
+    public int getEndIndex() {
+        return this.end;
+    }
+
+    /**
+     * Gets the size of this tape
+     * @return the inclusive difference between the start and end, or 0 if this tape is empty
+     */
+    public int length() {
+        return this.size;
+    }
+
+    /**
+     * Determines whether this tape is empty
+     * @return true if this tape has no cells, else false
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Determines whether an index lies on this tape
+     * @param index the target index
+     * @return true if the index is between the start and end indices inclusive, else false
+     */
+    public boolean contains(int index) {
+        return this.size > 0 && index >= this.start && index <= this.end;
+    }
+
+    /**
+     * Clips the start of this tape at a specified point
+     * @param index the target index
+     * @throws IndexOutOfBoundsException if the specified index occurs outside the bounds of this tape
+     */
+    public void clipStart(int index) throws IndexOutOfBoundsException {
+        verifyLegalIndex(index);
+        while(this.start < index) {
+            shrinkStart();
+        }
+    }
+
+    /**
+     * Clips the end of this tape at a specified point
+     * @param index the target index
+     * @throws IndexOutOfBoundsException if the specified index occurs outside the bounds of this tape
+     */
+    public void clipEnd(int index) throws IndexOutOfBoundsException {
+        verifyLegalIndex(index);
+        while(this.end > index) {
+            shrinkEnd();
+        }
+    }
+
+    /**
+     * Crops the unused memory of this tape, shrinking its array once no more than a quarter of it is in use.
+     */
+    public void crop() {
+        if(this.mask + 1 > MIN_CAPACITY && this.size <= (this.mask + 1) >> 2) {
+            reallocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, this.size)) << 1));
+        }
+    }
+
+    /**
+     * Finds the slot of an index on this tape
+     * @param index the target index
+     * @return the slot
+     * @throws IndexOutOfBoundsException if the specified index does not occur on this tape
+     */
+    protected final int slot(int index) throws IndexOutOfBoundsException {
+        verifyLegalIndex(index);
+        return (this.first + index - this.start) & this.mask;
+    }
+
+    /**
+     * Checks whether the index is legal
+     * @param index the target index
+     * @throws IndexOutOfBoundsException if the specified index does not exist on this tape
+     */
+    protected final void verifyLegalIndex(int index) throws IndexOutOfBoundsException {
+        if(this.size == 0 || index < this.start || index > this.end) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Opens a cell before the start, or at index 0 if this tape is empty
+     * @return the slot of the new cell
+     */
+    protected final int growStart() {
+        if(this.size == this.mask + 1) {
+            reallocate((this.mask + 1) << 1);
+        }
+        if(this.size++ > 0) {
+            this.start--;
+            this.first = (this.first - 1) & this.mask;
+        }
+        return this.first;
+    }
+
+    /**
+     * Opens a cell after the end, or at index 0 if this tape is empty
+     * @return the slot of the new cell
+     */
+    protected final int growEnd() {
+        if(this.size == this.mask + 1) {
+            reallocate((this.mask + 1) << 1);
+        }
+        if(this.size++ > 0) {
+            this.end++;
+        }
+        return (this.first + this.size - 1) & this.mask;
+    }
+
+    /**
+     * Closes the cell at the start, resetting the indices if this tape becomes empty
+     */
+    protected final void shrinkStart() {
+        release(this.first);
+        if(--this.size == 0) {
+            clear();
+        } else {
+            this.first = (this.first + 1) & this.mask;
+            this.start++;
+        }
+    }
+
+    /**
+     * Closes the cell at the end, resetting the indices if this tape becomes empty
+     */
+    protected final void shrinkEnd() {
+        release((this.first + this.size - 1) & this.mask);
+        if(--this.size == 0) {
+            clear();
+        } else {
+            this.end--;
+        }
+    }
+
+    /**
+     * Moves the cells into the front of a new array
+     * @param capacity the number of slots of the new array, a power of two of at least the size
+     */
+    private void reallocate(int capacity) {
+        final Object cells = cells(), target = allocate(capacity);
+        final int head = Math.min(this.size, this.mask + 1 - this.first);
+        System.arraycopy(cells, this.first, target, 0, head);
+        System.arraycopy(cells, 0, target, head, this.size - head);
+        install(target);
+        this.first = 0;
+        this.mask = capacity - 1;
+    }
+}
@@ -1,20 +1,21 @@
 package DataSet;
 
 import Algebra.BooleanSetOperable;
-import DataKey.Index;
 import General.TrueTextEncodable;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntBinaryOperator;
 
 /**
  * A Binary Search Tree sorting object
  * @param <Data> the Comparable target object for sorting
  */
 public class BST<Data extends Comparable<Data>> implements DataSet<Data>, BooleanSetOperable<BST<Data>>, TrueTextEncodable {
+    private static final int PARALLEL_FILL_THRESHOLD = 1 << 15;
     private Data data;
     private BST<Data> above, below;
-    private int size, quantity;
+    private int size, quantity, emptied;
 
     /**
      * Creates an empty BST
@@ -25,24 +26,32 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
     }
 
     /**
-     * Creates a new BST and preloads an array of Data
+     * Creates a new, balanced BST and preloads an array of Data in bulk
      * @param data an array of Data
      */
     @SafeVarargs
     public BST(Data... data) {
         this.size = 0;
         this.quantity = 0;
-        insertAll(data);
+        if(data != null) {
+            final List<Data> list = new ArrayList<>(data.length);
+            for(Data element : data) {
+                list.add(element);
+            }
+            load(toArray(list));
+        }
     }
 
     /**
-     * Creates a new BST and preloads a List of Data
+     * Creates a new, balanced BST and preloads a List of Data in bulk
      * @param data a List of Data
      */
     public BST(Iterable<Data> data) {
         this.size = 0;
         this.quantity = 0;
-        insertAll(data);
+        if(data != null) {
+            load(toArray(data));
+        }
     }
 
     /**
@@ -64,6 +73,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
                 targetThis.data = targetBST.data;
                 targetThis.size = targetBST.size;
                 targetThis.quantity = targetBST.quantity;
+                targetThis.emptied = targetBST.emptied;
                 if(targetBST.above != null) {
                     BST<Data> above = new BST<Data>();
                     thisStack.push(above);
@@ -109,7 +119,9 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
                     }
                 } else {
                     cursor.size++;
-                    cursor.quantity++;
+                    if(cursor.quantity++ == 0) {
+                        this.emptied--;
+                    }
                 }
             }
         }
@@ -122,9 +134,11 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
     @SafeVarargs
     public final void insertAll(Data ... data) {
         if(data != null) {
+            final List<Data> list = new ArrayList<>(data.length);
             for(Data element : data) {
-                insert(element);
+                list.add(element);
             }
+            insertAll(list);
         }
     }
 
@@ -133,7 +147,12 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      * @param data an Iterable List of Data
      */
     public void insertAll(Iterable<Data> data) {
-        if(data != null) {
+        if(data == null) {
+            return;
+        }
+        if(this.data == null) {
+            load(toArray(data));
+        } else {
             for(Data element : data) {
                 insert(element);
             }
@@ -152,7 +171,9 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
             }
             while(! stack.isEmpty()) {
                 BST<Data> cursor = stack.pop();
-                insert(cursor.data);
+                for(int i = 0; i < cursor.quantity; i++) {
+                    insert(cursor.data);
+                }
                 if(cursor.below != null) {
                     stack.push(cursor.below);
                 }
@@ -204,11 +225,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      */
     @Override
     public Data min() {
-        BST<Data> cursor = this;
-        while(cursor.below != null) {
-            cursor = cursor.below;
-        }
-        return cursor.data;
+        return (this.size == 0) ? null : nodeAt(0).data;
     }
 
     /**
@@ -216,65 +233,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      * @return the smallest Data object
      */
     public Data removeMin() {
-        if(this.data == null) {
-            return null;
-        }
-        BST<Data> cursor = this, prevCursor = cursor;
-        while(cursor.below != null) {
-            prevCursor = cursor;
-            cursor.size--;
-            cursor = cursor.below;
-        }
-        cursor.size--;
-        cursor.quantity--;
-        Data ejected = cursor.data;
-        if(this.size == 0) {
-            cursor.data = null;
-            cursor.quantity = 0;
-        } else if(cursor.quantity == 0) {
-            if(cursor.above == null) {
-                prevCursor.below = null;
-            } else {
-                cursor.data = cursor.above.data;
-                cursor.below = cursor.above.below;
-                cursor.quantity = cursor.above.quantity;
-                cursor.above = cursor.above.above;
-            }
-        }
-        return ejected;
-    }
-
-    /**
-     * Removes all instances of the current minimum Data value in this
-     * @return an Index containing the minimum value and the number of instances of that value in this BST
-     */
-    @Nullable
-    private Index<Data, Integer> removeAllMin() {
-        if(this.data == null) {
-            return null;
-        }
-        BST<Data> cursor = this, prevCursor = cursor;
-        Stack<BST<Data>> stack = new Stack<>();
-        while(cursor.below != null) {
-            prevCursor = cursor;
-            cursor.size--;
-            stack.push(cursor);
-            cursor = cursor.below;
-        }
-        cursor.size -= cursor.quantity;
-        Index<Data, Integer> ejected = new Index<>(cursor.data, cursor.quantity);
-        if(cursor.above == null) {
-            prevCursor.below = null;
-        } else {
-            cursor.data = cursor.above.data;
-            cursor.below = cursor.above.below;
-            cursor.quantity = cursor.above.quantity;
-            cursor.above = cursor.above.above;
-        }
-        while(! stack.isEmpty()) {
-            stack.pop().size -= ejected.b();
-        }
-        return ejected;
+        return (this.size == 0) ? null : removeAt(0);
     }
 
     /**
@@ -283,11 +242,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      */
     @Override
     public Data max() {
-        BST<Data> cursor = this;
-        while(cursor.above != null) {
-            cursor = cursor.above;
-        }
-        return cursor.data;
+        return (this.size == 0) ? null : nodeAt(this.size - 1).data;
     }
 
     /**
@@ -295,64 +250,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      * @return the largest Data object
      */
     public Data removeMax() {
-        if(this.data == null) {
-            return null;
-        }
-        BST<Data> cursor = this, prevCursor = cursor;
-        while(cursor.above != null) {
-            prevCursor = cursor;
-            cursor.size--;
-            cursor = cursor.above;
-        }
-        cursor.size--;
-        cursor.quantity--;
-        Data ejected = cursor.data;
-        if(this.size == 0) {
-            cursor.data = null;
-            cursor.quantity = 0;
-        } else if(cursor.quantity == 0) {
-            if(cursor.below == null) {
-                prevCursor.above = null;
-            } else {
-                cursor.data = cursor.below.data;
-                cursor.above = cursor.below.above;
-                cursor.below = cursor.below.below;
-            }
-        }
-        return ejected;
-    }
-
-    /**
-     * Removes all instances of the current maximum Data value in this
-     * @return an Index containing the maximum value and the number of instances of that value in this BST
-     */
-    @Nullable
-    private Index<Data, Integer> removeAllMax() {
-        if(this.data == null) {
-            return null;
-        }
-        BST<Data> cursor = this, prevCursor = cursor;
-        Stack<BST<Data>> stack = new Stack<>();
-        while(cursor.above != null) {
-            prevCursor = cursor;
-            cursor.size--;
-            stack.push(cursor);
-            cursor = cursor.above;
-        }
-        cursor.size -= cursor.quantity;
-        Index<Data, Integer> ejected = new Index<>(cursor.data, cursor.quantity);
-        if(cursor.below == null) {
-            prevCursor.above = null;
-        } else {
-            cursor.data = cursor.below.data;
-            cursor.above = cursor.below.below;
-            cursor.quantity = cursor.below.quantity;
-            cursor.below = cursor.below.below;
-        }
-        while(! stack.isEmpty()) {
-            stack.pop().size -= ejected.b();
-        }
-        return ejected;
+        return (this.size == 0) ? null : removeAt(this.size - 1);
     }
 
     /**
@@ -362,59 +260,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      */
     @Override
     public boolean remove(Data data) {
-        if(this.data == null) {
-            return false;
-        }
-        BST<Data> cursor = this;
-        Stack<BST<Data>> stack = new Stack<>();
-        while(! (cursor == null || cursor.data.equals(data))) {
-            stack.push(cursor);
-            cursor = (cursor.data.compareTo(data) < 0) ? cursor.above : cursor.below;
-        }
-        if(cursor == null) {
-            return false;
-        }
-        cursor.size--;
-        if(cursor.quantity == 1) {
-            int aboveSize = (cursor.above == null) ? 0 : cursor.above.size;
-            int belowSize = (cursor.below == null) ? 0 : cursor.below.size;
-            if(aboveSize > belowSize) {
-                cursor.data = cursor.above.removeMin();
-            } else if(belowSize > 0) {
-                cursor.data = cursor.below.removeMax();
-            } else {
-                cursor.data = null;
-            }
-        } else {
-            cursor.quantity--;
-        }
-        cursor.clean();
-        if(! stack.isEmpty()) {
-            cursor = stack.pop();
-            cursor.clean();
-            cursor.size--;
-            while(! stack.isEmpty()) {
-                cursor = stack.pop();
-                cursor.size--;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Clears any null children from this BST node
-     */
-    private void clean() {
-        if(this.below != null) {
-            if(this.below.data == null) {
-                this.below = null;
-            }
-        }
-        if(this.above != null) {
-            if(this.above.data == null) {
-                this.above = null;
-            }
-        }
+        return remove(data, 1) == 1;
     }
 
     /**
@@ -424,14 +270,8 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      */
     @Override
     public boolean contains(Data data) {
-        if(this.data == null || data == null) {
-            return false;
-        }
-        BST<Data> cursor = this;
-        while(! (cursor == null || cursor.data.equals(data))) {
-            cursor = (cursor.data.compareTo(data) < 0) ? cursor.above : cursor.below;
-        }
-        return cursor != null;
+        final BST<Data> node = find(data);
+        return node != null && node.quantity > 0;
     }
 
     /**
@@ -440,14 +280,8 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      * @return the number of occurrences of this object
      */
     public int getQuantity(Data data) {
-        BST<Data> cursor = this;
-        while(! (cursor == null || cursor.data == null)) {
-            if(cursor.data.equals(data)) {
-                return cursor.quantity;
-            }
-            cursor = (cursor.data.compareTo(data) < 0) ? cursor.above : cursor.below;
-        }
-        return 0;
+        final BST<Data> node = find(data);
+        return (node == null) ? 0 : node.quantity;
     }
 
     /**
@@ -457,40 +291,105 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
      */
     @Override
     public int removeAll(Data data) {
-        if(this.data == null) {
-            return 0;
+        return remove(data, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the node holding a Data object, which may be an emptied node
+     * @param data the target object
+     * @return the node, or null if no node holds the object
+     */
+    private BST<Data> find(Data data) {
+        if(this.data == null || data == null) {
+            return null;
         }
         BST<Data> cursor = this;
-        Stack<BST<Data>> stack = new Stack<>();
         while(! (cursor == null || cursor.data.equals(data))) {
-            stack.push(cursor);
             cursor = (cursor.data.compareTo(data) < 0) ? cursor.above : cursor.below;
         }
-        if(cursor == null) {
+        return cursor;
+    }
+
+    /**
+     * Finds the node holding the element at a position in the sorted order of this BST
+     * @param index the position, counting every instance of each element, in {@code [0, this.size)}
+     * @return the node
+     */
+    private BST<Data> nodeAt(int index) {
+        BST<Data> cursor = this;
+        while(true) {
+            final int belowSize = (cursor.below == null) ? 0 : cursor.below.size;
+            if(index < belowSize) {
+                cursor = cursor.below;
+            } else if(index < belowSize + cursor.quantity) {
+                return cursor;
+            } else {
+                index -= belowSize + cursor.quantity;
+                cursor = cursor.above;
+            }
+        }
+    }
+
+    /**
+     * Removes one instance of the element at a position in the sorted order of this BST
+     * @param index the position, counting every instance of each element, in {@code [0, this.size)}
+     * @return the removed element
+     */
+    private Data removeAt(int index) {
+        BST<Data> cursor = this;
+        while(true) {
+            cursor.size--;
+            final int belowSize = (cursor.below == null) ? 0 : cursor.below.size;
+            if(index < belowSize) {
+                cursor = cursor.below;
+            } else if(index < belowSize + cursor.quantity) {
+                final Data data = cursor.data;
+                if(--cursor.quantity == 0) {
+                    entomb();
+                }
+                return data;
+            } else {
+                index -= belowSize + cursor.quantity;
+                cursor = cursor.above;
+            }
+        }
+    }
+
+    /**
+     * Removes up to a specified number of instances of a Data object from this BST. A node whose quantity
+     * reaches zero is left in place as an emptied node, to be dropped by the next compaction.
+     * @param data the target object
+     * @param quantity the maximum number of instances to remove
+     * @return the number of instances removed
+     */
+    private int remove(Data data, int quantity) {
+        final BST<Data> node = find(data);
+        if(node == null || node.quantity == 0) {
             return 0;
         }
-        int quantity = cursor.quantity;
-        cursor.size -= cursor.quantity;
-        int aboveSize = (cursor.above == null) ? 0 : cursor.above.size;
-        int belowSize = (cursor.below == null) ? 0 : cursor.below.size;
-        if(aboveSize > belowSize) {
-            cursor.data = cursor.above.removeMin();
-        } else if(belowSize > 0) {
-            cursor.data = cursor.below.removeMax();
-        } else {
-            cursor.data = null;
+        final int removed = Math.min(quantity, node.quantity);
+        BST<Data> cursor = this;
+        while(cursor != node) {
+            cursor.size -= removed;
+            cursor = (cursor.data.compareTo(data) < 0) ? cursor.above : cursor.below;
         }
-        cursor.clean();
-        if(! stack.isEmpty()) {
-            cursor = stack.pop();
-            cursor.clean();
-            cursor.size -= cursor.quantity;
-            while(! stack.isEmpty()) {
-                cursor = stack.pop();
-                cursor.size -= cursor.quantity;
-            }
+        node.size -= removed;
+        node.quantity -= removed;
+        if(node.quantity == 0) {
+            entomb();
+        }
+        return removed;
+    }
+
+    /**
+     * Records a newly emptied node in this BST, and compacts this BST by rebuilding it once its emptied
+     * nodes outnumber its elements. Each rebuild is paid for by the removals that emptied those nodes.
+     */
+    private void entomb() {
+        this.emptied++;
+        if(this.emptied > this.size) {
+            balance();
         }
-        return quantity;
     }
 
     /**
@@ -507,6 +406,7 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
             copyCursor.data = thisCursor.data;
             copyCursor.size = thisCursor.size;
             copyCursor.quantity = thisCursor.quantity;
+            copyCursor.emptied = thisCursor.emptied;
             if(thisCursor.below != null) {
                 thisStack.push(thisCursor.below);
                 copyCursor.below = new BST<Data>();
@@ -555,375 +455,317 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
     }
 
     /**
-     * Balances this BST
+     * Balances and compacts this BST in linear time, rebuilding it from the runs of equal elements in its
+     * in-order sequence and dropping any emptied nodes
      */
     public void balance() {
-        BST<Data> balancedCopy = getBSTFromOrderedList(getOrderedList());
-        this.data = balancedCopy.data;
-        this.below = balancedCopy.below;
-        this.above = balancedCopy.above;
-        this.quantity = balancedCopy.quantity;
+        final Runs<Data> runs = new Runs<>();
+        final InOrderCursor<Data> cursor = new InOrderCursor<>(this);
+        for(BST<Data> node = cursor.next(); node != null; node = cursor.next()) {
+            if(node.quantity > 0) {
+                runs.add(node.data, node.quantity);
+            }
+        }
+        fill(runs);
+    }
+
+    /**
+     * Builds a balanced BST from Data in bulk. The Data is copied into an array, which is sorted in parallel
+     * unless it is already in ascending order (so sorted input builds in linear time), collapsed into runs of
+     * equal elements and built bottom-up, with large subtrees built in parallel.
+     * @param data an Iterable List of Data, in any order
+     * @param <Data> the Comparable target object for sorting
+     * @return the balanced BST
+     */
+    public static <Data extends Comparable<Data>> BST<Data> build(Iterable<Data> data) {
+        return new BST<>(data);
     }
 
     /**
      * Creates a new BST from the intersection of the datasets of two BSTs
      * @param bst the comparator BST
-     * @return the intersection BST for this and the comparator
+     * @return the intersection BST, holding each element the lesser number of times it occurs in either BST
      */
     @Override
     public BST<Data> AND(BST<Data> bst) {
-        if(bst == null) {
-            return new BST<Data>();
-        }
-        final int THIS_INDEX = 0, BST_INDEX = 1, RETURN_INDEX = 2;
-        List<Stack<BST<Data>>> stack = List.of(new Stack<>(), new Stack<>());
-        List<Stack<Boolean>> record = List.of(new Stack<>(), new Stack<>());
-        List<LinkedQueue<Data>> queue = List.of(new LinkedQueue<Data>(), new LinkedQueue<Data>(), new LinkedQueue<Data>());
-        List<LinkedQueue<Integer>> count = List.of(new LinkedQueue<Integer>(), new LinkedQueue<Integer>());
-        Data thisData = null, bstData = null;
-        Integer thisCount = null, bstCount = null;
-        boolean stacksContainMoreData = this.data != null;
-        if(stacksContainMoreData) {
-            stack.get(THIS_INDEX).push(this);
-            record.get(THIS_INDEX).push(false);
-            stack.get(BST_INDEX).push(bst);
-            record.get(BST_INDEX).push(false);
-        }
-        while(stacksContainMoreData) {
-            stacksContainMoreData = false;
-            boolean currentTreeFocusIsThisTree = false;
-            do {
-                int index = currentTreeFocusIsThisTree ? THIS_INDEX : BST_INDEX;
-                Stack<BST<Data>> stackFocus = stack.get(index);
-                Stack<Boolean> recordFocus = record.get(index);
-                LinkedQueue<Data> queueFocus = queue.get(index);
-                LinkedQueue<Integer> countFocus = count.get(index);
-                if(! stackFocus.isEmpty()) {
-                    stacksContainMoreData = true;
-                    BST<Data> cursor = stackFocus.pop();
-                    if(recordFocus.pop()) {
-                        queueFocus.add(cursor.data);
-                        countFocus.add(cursor.quantity);
-                        if(cursor.above != null) {
-                            stackFocus.push(cursor.above);
-                            recordFocus.push(false);
-                        }
-                    } else {
-                        stackFocus.add(cursor);
-                        recordFocus.add(true);
-                        if(cursor.below != null) {
-                            stackFocus.add(cursor.below);
-                            recordFocus.add(false);
-                        }
-                    }
-                }
-                currentTreeFocusIsThisTree = ! currentTreeFocusIsThisTree;
-            } while(currentTreeFocusIsThisTree);
-            while(! (queue.get(THIS_INDEX).isEmpty() || queue.get(BST_INDEX).isEmpty())) {
-                if(thisData == bstData || thisData.equals(bstData)) {
-                    if(thisData != null) {
-                        final int maxCount = Math.min(thisCount, bstCount);
-                        for(int i = 0; i < maxCount; i++) {
-                            queue.get(RETURN_INDEX).add(thisData);
-                        }
-                    }
-                    thisData = queue.get(THIS_INDEX).poll();
-                    thisCount = count.get(THIS_INDEX).poll();
-                    bstData = queue.get(BST_INDEX).poll();
-                    bstCount = count.get(BST_INDEX).poll();
-                } else if(thisData.compareTo(bstData) < 0) {
-                    thisData = queue.get(THIS_INDEX).poll();
-                    thisCount = count.get(THIS_INDEX).poll();
-                } else {
-                    bstData = queue.get(BST_INDEX).poll();
-                    bstCount = count.get(BST_INDEX).poll();
-                }
-            }
-        }
-        if(thisData != null && thisData.equals(bstData)) {
-            final int maxCount = Math.min(thisCount, bstCount);
-            for(int i = 0; i < maxCount; i++) {
-                queue.get(RETURN_INDEX).add(thisData);
-            }
-        }
-        return getBSTFromOrderedList(queue.get(RETURN_INDEX));
+        return merge(bst, Math::min);
     }
 
     /**
      * Creates a new BST from the union of the datasets of two BSTs
      * @param bst the comparator BST
-     * @return the union BST for this and the comparator
+     * @return the union BST, holding each element the greater number of times it occurs in either BST
      */
     @Override
     public BST<Data> OR(BST<Data> bst) {
-        if(bst == null) {
-            return copy();
-        }
-        List<Data> thisOrdered = getOrderedList(), bstOrdered = bst.getOrderedList();
-        LinkedQueue<Data> newOrdered = new LinkedQueue<Data>();
-        ListIterator<Data> thisIterator = thisOrdered.listIterator(), bstIterator = bstOrdered.listIterator();
-        Data t = null, b = null;
-        while(thisIterator.hasNext() || bstIterator.hasNext()) {
-            if(t == b || t.equals(b)) {
-                if(t != null) {
-                    newOrdered.add(t);
-                }
-                t = thisIterator.next();
-                b = bstIterator.next();
-            } else if(t.compareTo(b) > 0) {
-                newOrdered.add(b);
-                b = bstIterator.next();
-            } else {
-                newOrdered.add(t);
-                t = thisIterator.next();
-            }
-        }
-        if(t == null || b == null) {
-            if(t != null) {
-                newOrdered.add(t);
-            } else if(b != null) {
-                newOrdered.add(b);
-            }
-        } else if(t.compareTo(b) > 0) {
-            newOrdered.add(b);
-            newOrdered.add(t);
-        } else {
-            newOrdered.add(t);
-            if(t.compareTo(b) < 0) {
-                newOrdered.add(b);
-            }
-        }
-        return getBSTFromOrderedList(newOrdered);
+        return merge(bst, Math::max);
     }
 
     /**
      * Creates a new BST from the disjunctive union of the datasets of two BSTs
      * @param bst the comparator BST
-     * @return the disjunctive union BST for this and the comparator
+     * @return the disjunctive union BST, holding each element the difference of the number of times it
+     * occurs in the two BSTs
      */
     @Override
     public BST<Data> XOR(BST<Data> bst) {
-        if(bst == null) {
-            return copy();
-        }
-        List<Data> thisOrdered = getOrderedList(), bstOrdered = bst.getOrderedList();
-        LinkedQueue<Data> newOrdered = new LinkedQueue<Data>();
-        ListIterator<Data> thisIterator = thisOrdered.listIterator(), bstIterator = bstOrdered.listIterator();
-        Data t = null, b = null;
-        while(thisIterator.hasNext() && bstIterator.hasNext()) {
-            if(t == b || t.equals(b)) {
-                t = thisIterator.next();
-                b = bstIterator.next();
-            } else if(t.compareTo(b) > 0) {
-                newOrdered.add(b);
-                b = bstIterator.next();
-            } else {
-                newOrdered.add(t);
-                t = thisIterator.next();
-            }
-        }
-        while(thisIterator.hasNext()) {
-            newOrdered.add(thisIterator.next());
-        }
-        while(bstIterator.hasNext()) {
-            newOrdered.add(bstIterator.next());
-        }
-        return getBSTFromOrderedList(newOrdered);
+        return merge(bst, (a, b) -> Math.abs(a - b));
     }
 
     /**
      * Creates a new BST with all elements contained in this BST and not in another BST
      * @param bst the comparator BST
-     * @return the new exclusive BST
+     * @return the new exclusive BST, holding each element as many more times as it occurs in this BST
+     * than in the comparator
      */
     @Override
     public BST<Data> AND_NOT(BST<Data> bst) {
-        BST<Data> AND_NOT = copy();
-        if(bst != null) {
-            for(Data data : bst.getOrderedList()) {
-                AND_NOT.remove(data);
+        return merge(bst, (a, b) -> Math.max(a - b, 0));
+    }
+
+    /**
+     * Merges this BST with another in a single pass over the in-order sequences of both, building a new,
+     * balanced BST. Only the nodes of the result, the sorted runs they are built from and two
+     * cursor stacks of the trees' heights are allocated.
+     * @param bst the comparator BST
+     * @param operator the quantity of each element in the result, from its quantities in this BST and the comparator
+     * @return the merged BST
+     */
+    private BST<Data> merge(BST<Data> bst, IntBinaryOperator operator) {
+        final InOrderCursor<Data> thisCursor = new InOrderCursor<>(this), bstCursor = new InOrderCursor<>(bst);
+        final Runs<Data> runs = new Runs<>();
+        BST<Data> thisNode = thisCursor.next(), bstNode = bstCursor.next();
+        while(thisNode != null || bstNode != null) {
+            final int compare = (thisNode == null) ? 1 : (bstNode == null) ? -1 : thisNode.data.compareTo(bstNode.data);
+            final Data element = (compare <= 0) ? thisNode.data : bstNode.data;
+            final int quantity = operator.applyAsInt(compare <= 0 ? thisNode.quantity : 0,
+                    compare >= 0 ? bstNode.quantity : 0);
+            if(compare <= 0) {
+                thisNode = thisCursor.next();
+            }
+            if(compare >= 0) {
+                bstNode = bstCursor.next();
+            }
+            if(quantity > 0) {
+                runs.add(element, quantity);
             }
-            AND_NOT.balance();
         }
-        return AND_NOT; //TODO: rewrite with O(n) complexity using iterator-sortedlist method below
+        final BST<Data> merge = new BST<>();
+        merge.fill(runs);
+        return merge;
     }
 
-    public BST<Data> AND_NOT_TEST(BST<Data> bst) {
-        final int THIS_INDEX = 0, BST_INDEX = 1, RETURN_INDEX = 2;
-        List<Stack<BST<Data>>> stack = List.of(new Stack<>(), new Stack<>());
-        List<Stack<Boolean>> record = List.of(new Stack<>(), new Stack<>());
-        List<LinkedQueue<Data>> queue = List.of(new LinkedQueue<Data>(), new LinkedQueue<Data>(), new LinkedQueue<Data>());
-        List<LinkedQueue<Integer>> count = List.of(new LinkedQueue<Integer>(), new LinkedQueue<Integer>(), new LinkedQueue<Integer>());
-        if(this.data != null) {
-            stack.get(THIS_INDEX).push(this);
-            stack.get(BST_INDEX).push(bst);
-            record.get(THIS_INDEX).push(false);
-            record.get(BST_INDEX).push(false);
+    /**
+     * Copies non-null Data into an array for bulk loading
+     * @param data an Iterable List of Data
+     * @param <Data> the Comparable target object for sorting
+     * @return a new array of the non-null elements
+     */
+    @SuppressWarnings("unchecked")
+    private static <Data extends Comparable<Data>> Data[] toArray(Iterable<Data> data) {
+        Data[] elements;
+        if(data instanceof Collection<Data> collection) {
+            elements = collection.toArray((Data[]) new Comparable<?>[0]);
+        } else {
+            final List<Data> list = new ArrayList<>();
+            for(Data element : data) {
+                list.add(element);
+            }
+            elements = list.toArray((Data[]) new Comparable<?>[0]);
         }
-        Data thisData = null, bstData = null;
-        int thisCount = -1, bstCount = -1;
-        boolean stackContainsMoreValues = ! (stack.get(THIS_INDEX).isEmpty() && stack.get(BST_INDEX).isEmpty());
-        while(stackContainsMoreValues) {
-            stackContainsMoreValues = false;
-            boolean isConsideringThisSearchTree = false;
-            do {
-                final int INDEX = isConsideringThisSearchTree ? THIS_INDEX : BST_INDEX;
-                Stack<BST<Data>> stackFocus = stack.get(INDEX);
-                if(! stackFocus.isEmpty()) {
-                    stackContainsMoreValues = true;
-                    Stack<Boolean> recordFocus = record.get(INDEX);
-                    LinkedQueue<Data> queueFocus = queue.get(INDEX);
-                    LinkedQueue<Integer> countFocus = count.get(INDEX);
-                    BST<Data> cursor = stackFocus.pop();
-                    if(recordFocus.pop()) {
-                        queueFocus.add(cursor.data);
-                        countFocus.add(cursor.quantity);
-                        if(cursor.above != null) {
-                            stackFocus.push(cursor.above);
-                            recordFocus.push(false);
-                        }
-                    } else {
-                        stackFocus.push(cursor);
-                        recordFocus.push(true);
-                        if(cursor.below != null) {
-                            stackFocus.push(cursor.below);
-                            recordFocus.push(false);
-                        }
-                    }
-                }
-                isConsideringThisSearchTree = ! isConsideringThisSearchTree;
-            } while(isConsideringThisSearchTree);
-            while(! queue.get(THIS_INDEX).isEmpty()) {
-                if(thisData == bstData || thisData.equals(bstData)) {
-                    thisData = queue.get(THIS_INDEX).poll();
-                    bstData = queue.get(BST_INDEX).poll();
-                } else if(bstData == null) {
-                    queue.get(RETURN_INDEX).add(thisData);
-                    count.get(RETURN_INDEX).add(thisCount);
-                }
+        int count = 0;
+        for(Data element : elements) {
+            if(element != null) {
+                elements[count++] = element;
             }
         }
-        return getBSTFromOrderedList(queue.get(RETURN_INDEX));
+        return (count == elements.length) ? elements : Arrays.copyOf(elements, count);
     }
 
     /**
-     * Converts an ordered Iterable list into a BST
-     * @param list the given list of Data values
-     * @return the (approximately) balanced BST
+     * Replaces the contents of this BST with a balanced tree of the elements of an array. The array is sorted
+     * in parallel if it is not already in ascending order, and is then collapsed in place into runs of equal
+     * elements.
+     * @param elements the non-null elements, which are overwritten
      */
-    private BST<Data> getBSTFromOrderedList(Iterable<Data> list) {
-        Stack<BST<Data>> bstStack = new Stack<>();
-        Stack<Boolean> recordStack = new Stack<>();
-        Stack<Integer> layerStack = new Stack<>(), maxLayerStack = new Stack<>();
-        bstStack.push(new BST<Data>());
-        recordStack.push(true);
-        layerStack.push(0);
-        maxLayerStack.push(0);
-        Data prevData = null;
-        int count = 0;
-        for(Data data : list) {
-            if(prevData == null) {
-                prevData = data;
-                count = 1;
-            } else if(prevData.equals(data)) {
-                count++;
+    private void load(Data[] elements) {
+        boolean sorted = true;
+        for(int i = 1; i < elements.length && sorted; i++) {
+            sorted = elements[i - 1].compareTo(elements[i]) <= 0;
+        }
+        if(! sorted) {
+            Arrays.parallelSort(elements);
+        }
+        final int[] quantities = new int[elements.length];
+        int runs = 0;
+        for(Data element : elements) {
+            if(runs > 0 && elements[runs - 1].compareTo(element) == 0) {
+                quantities[runs - 1]++;
             } else {
-                BST<Data> bstCursor = bstStack.pop();
-                bstCursor.data = prevData;
-                bstCursor.quantity = count;
-                prevData = data;
-                count = 1;
-                int layer = layerStack.pop(), maxLayer = maxLayerStack.pop();
-                if(recordStack.pop()) {
-                    BST<Data> connectorCell = new BST<Data>();
-                    connectorCell.below = bstCursor.below;
-                    connectorCell.above = bstCursor.above;
-                    connectorCell.data = bstCursor.data;
-                    connectorCell.quantity = bstCursor.quantity;
-                    bstCursor.below = connectorCell;
-                    bstCursor.data = null;
-                    bstCursor.above = null;
-                    bstStack.push(bstCursor);
-                    recordStack.push(layer + 1 != maxLayer);
-                    layerStack.push(layer + 1);
-                    maxLayerStack.push(layer == maxLayer ? (maxLayer + 1) : maxLayer);
-                    if(layer > 0) {
-                        if(connectorCell.above == null) {
-                            connectorCell.above = new BST<Data>();
-                        }
-                        bstStack.push(connectorCell.above);
-                        recordStack.push(layer != 1);
-                        layerStack.push(0);
-                        maxLayerStack.push(layer - 1);
-                    }
-                } else if(maxLayer > 0) {
-                    bstCursor.above = new BST<Data>();
-                    bstStack.push(bstCursor.above);
-                    recordStack.push(layer > 1);
-                    layerStack.push(0);
-                    maxLayerStack.push(maxLayer - 1);
-                }
+                elements[runs] = element;
+                quantities[runs++] = 1;
             }
         }
-        BST<Data> lastItem = bstStack.peek();
-        lastItem.data = prevData;
-        lastItem.quantity = count;
-        while(bstStack.size() > 1) {
-            bstStack.pop();
+        clear();
+        if(runs > 0) {
+            fill(Arrays.asList(elements), quantities, 0, runs);
         }
-        BST<Data> bst = bstStack.pop(), cursor = bst, prevCursor = cursor;
-        while(cursor != null) {
-            if(cursor.data == null) {
-                if(cursor.below == null) {
-                    prevCursor.above = null;
-                } else {
-                    cursor.above = cursor.below.above;
-                    cursor.data = cursor.below.data;
-                    cursor.quantity = cursor.below.quantity;
-                    cursor.below = cursor.below.below;
-                }
+    }
+
+    /**
+     * Replaces the contents of this BST with a perfectly balanced tree of sorted runs
+     * @param runs the runs, in ascending order
+     */
+    private void fill(Runs<Data> runs) {
+        clear();
+        if(runs.size() > 0) {
+            fill(runs.data, runs.quantities, 0, runs.size());
+        }
+    }
+
+    /**
+     * Empties this BST node, detaching its subtrees
+     */
+    private void clear() {
+        this.data = null;
+        this.below = null;
+        this.above = null;
+        this.size = 0;
+        this.quantity = 0;
+        this.emptied = 0;
+    }
+
+    /**
+     * Fills this empty BST node with a perfectly balanced tree of sorted runs in linear time. Subtrees
+     * larger than {@code PARALLEL_FILL_THRESHOLD} runs fill their two halves in parallel.
+     * @param data the distinct elements, in ascending order
+     * @param quantities the quantity of each element
+     * @param from the first index of the runs, inclusive
+     * @param to the last index of the runs, exclusive, greater than {@code from}
+     */
+    private void fill(List<Data> data, int[] quantities, int from, int to) {
+        final int mid = (from + to) >>> 1;
+        this.data = data.get(mid);
+        this.quantity = quantities[mid];
+        this.size = this.quantity;
+        if(to - from > PARALLEL_FILL_THRESHOLD) {
+            final BST<Data> below = new BST<>(), above = new BST<>();
+            ForkJoinTask.invokeAll(ForkJoinTask.adapt(() -> below.fill(data, quantities, from, mid)),
+                    ForkJoinTask.adapt(() -> above.fill(data, quantities, mid + 1, to)));
+            this.below = below;
+            this.above = above;
+            this.size += below.size + above.size;
+            return;
+        }
+        if(from < mid) {
+            this.below = new BST<>();
+            this.below.fill(data, quantities, from, mid);
+            this.size += this.below.size;
+        }
+        if(mid + 1 < to) {
+            this.above = new BST<>();
+            this.above.fill(data, quantities, mid + 1, to);
+            this.size += this.above.size;
+        }
+    }
+
+    /**
+     * A growable sequence of sorted runs, each a distinct element with its quantity, from which
+     * balanced BSTs are built. Adding an element equal to the last run extends that run.
+     * @param <Data> the Comparable target object of the BST
+     */
+    private static final class Runs<Data extends Comparable<Data>> {
+        private final List<Data> data;
+        private int[] quantities;
+
+        /**
+         * Creates an empty Runs
+         */
+        private Runs() {
+            this.data = new ArrayList<>();
+            this.quantities = new int[16];
+        }
+
+        /**
+         * Appends instances of an element no smaller than the last run
+         * @param element the element
+         * @param quantity the number of instances
+         */
+        private void add(Data element, int quantity) {
+            final int last = this.data.size() - 1;
+            if(last >= 0 && this.data.get(last).compareTo(element) == 0) {
+                this.quantities[last] += quantity;
+                return;
+            }
+            if(last + 1 == this.quantities.length) {
+                this.quantities = Arrays.copyOf(this.quantities, this.quantities.length << 1);
             }
-            prevCursor = cursor;
-            cursor = cursor.above;
+            this.quantities[last + 1] = quantity;
+            this.data.add(element);
+        }
+
+        /**
+         * Finds the number of runs
+         * @return the number of distinct elements
+         */
+        private int size() {
+            return this.data.size();
         }
-        assert bst != null;
-        bst.updateSizes();
-        return bst;
     }
 
     /**
-     * Updates the values of all size fields in this BST
+     * An in-order iterator over the nodes of a BST, using an unsynchronized stack of the tree's height.
+     * @param <Data> the Comparable target object of the BST
      */
-    private void updateSizes() {
-        Stack<BST<Data>> stack = new Stack<>();
-        Stack<Boolean> record = new Stack<>();
-        if(this.data != null) {
-            stack.push(this);
-            record.push(false);
+    private static final class InOrderCursor<Data extends Comparable<Data>> {
+        private final ArrayDeque<BST<Data>> stack;
+
+        /**
+         * Creates a new InOrderCursor positioned before the smallest node of a BST
+         * @param bst the BST, which may be null or empty
+         */
+        private InOrderCursor(BST<Data> bst) {
+            this.stack = new ArrayDeque<>();
+            if(bst != null && bst.data != null) {
+                descend(bst);
+            }
         }
-        while(! stack.isEmpty()) {
-            BST<Data> cursor = stack.pop();
-            if(record.pop()) {
-                cursor.size = cursor.quantity;
-                if(cursor.above != null) {
-                    cursor.size += cursor.above.size;
-                }
-                if(cursor.below != null) {
-                    cursor.size += cursor.below.size;
-                }
-            } else {
-                stack.push(cursor);
-                record.push(true);
-                if(cursor.above != null) {
-                    stack.push(cursor.above);
-                    record.push(false);
-                }
-                if(cursor.below != null) {
-                    stack.push(cursor.below);
-                    record.push(false);
-                }
+
+        /**
+         * Pushes a node and its chain of smaller descendants onto the stack
+         * @param cursor the node
+         */
+        private void descend(BST<Data> cursor) {
+            while(cursor != null) {
+                this.stack.push(cursor);
+                cursor = cursor.below;
             }
         }
+
+        /**
+         * Advances this InOrderCursor
+         * @return the node holding the next larger element, or null if the traversal is complete
+         */
+        private BST<Data> next() {
+            if(this.stack.isEmpty()) {
+                return null;
+            }
+            final BST<Data> node = this.stack.pop();
+            descend(node.above);
+            return node;
+        }
+
+        /**
+         * Advances this InOrderCursor past any emptied nodes
+         * @return the next node holding at least one instance of its element, or null if the traversal is complete
+         */
+        private BST<Data> nextNonempty() {
+            BST<Data> node = next();
+            while(node != null && node.quantity == 0) {
+                node = next();
+            }
+            return node;
+        }
     }
 
     /**
@@ -945,58 +787,29 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
         if(! (o instanceof BST<?> convert)) {
             return false;
         }
-        if(this.size != convert.size) {
-            return false;
-        }
-        Stack<BST<Data>> thisStack = new Stack<>();
-        thisStack.push(this);
-        Stack<BST<?>> oStack = new Stack<>();
-        oStack.push(convert);
-        Stack<Boolean> thisRecord = new Stack<>(), oRecord = new Stack<>();
-        thisRecord.push(false);
-        oRecord.push(false);
-        LinkedQueue<BST<Data>> thisQueue = new LinkedQueue<BST<Data>>();
-        LinkedQueue<BST<?>> oQueue = new LinkedQueue<BST<?>>();
-        while(! thisStack.isEmpty()) {
-            BST<Data> thisCursor = thisStack.pop();
-            if(thisRecord.pop()) {
-                thisQueue.add(thisCursor);
-                if(thisCursor.above != null) {
-                    thisStack.push(thisCursor.above);
-                    thisRecord.push(false);
-                }
-            } else {
-                thisStack.push(thisCursor);
-                thisRecord.push(true);
-                if(thisCursor.below != null) {
-                    thisStack.push(thisCursor.below);
-                    thisRecord.push(false);
-                }
-            }
-            BST<?> oCursor = oStack.pop();
-            if(oRecord.pop()) {
-                oQueue.add(oCursor);
-                if(oCursor.above != null) {
-                    oStack.push(oCursor.above);
-                    oRecord.push(false);
-                }
-            } else {
-                oStack.push(oCursor);
-                oRecord.push(true);
-                if(oCursor.below != null) {
-                    oStack.push(oCursor.below);
-                    oRecord.push(false);
-                }
-            }
-            while(! (thisQueue.isEmpty() || oQueue.isEmpty())) {
-                BST<Data> thisNext = thisQueue.poll();
-                BST<?> oNext = oQueue.poll();
-                if(! (thisNext.data.equals(oNext.data) && thisNext.quantity == oNext.quantity)) {
-                    return false;
-                }
+        return this.size == convert.size && matches(convert);
+    }
+
+    /**
+     * Determines whether this BST and another BST hold the same elements with the same quantities,
+     * regardless of the shapes of the trees
+     * @param bst the comparator BST
+     * @param <T> the datatype of the comparator
+     * @return true if the in-order sequences of the two BSTs match, else false
+     */
+    private <T extends Comparable<T>> boolean matches(BST<T> bst) {
+        final InOrderCursor<Data> thisCursor = new InOrderCursor<>(this);
+        final InOrderCursor<T> bstCursor = new InOrderCursor<>(bst);
+        BST<Data> thisNode = thisCursor.nextNonempty();
+        BST<T> bstNode = bstCursor.nextNonempty();
+        while(thisNode != null && bstNode != null) {
+            if(! (thisNode.data.equals(bstNode.data) && thisNode.quantity == bstNode.quantity)) {
+                return false;
             }
+            thisNode = thisCursor.nextNonempty();
+            bstNode = bstCursor.nextNonempty();
         }
-        return thisQueue.isEmpty() && oQueue.isEmpty();
+        return thisNode == bstNode;
     }
 
     /**
@@ -1016,8 +829,10 @@ public class BST<Data extends Comparable<Data>> implements DataSet<Data>, Boolea
         while(! stack.isEmpty()) {
             BST<Data> cursor = stack.pop();
             if(record.pop()) {
-                builder.append(delimiter).append(cursor.data).append(":").append(cursor.quantity);
-                delimiter = "|";
+                if(cursor.quantity > 0) {
+                    builder.append(delimiter).append(cursor.data).append(":").append(cursor.quantity);
+                    delimiter = "|";
+                }
                 if(cursor.above != null) {
                     stack.push(cursor.above);
                     record.push(false);
@@ -0,0 +1,236 @@
+package DataSet;
+
+import General.TrueTextEncodable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A tape of unboxed {@code byte} symbols indexed by ints that grows in both directions one cell at a
+ * time, as the tape of a Turing machine does. This is the primitive counterpart of a
+ * {@code LinkedHashTape<Byte>}, costing one byte per cell, which suits machines with at most 256 symbols.
+ * @see LinkedHashTape
+ * @see IntTape
+ */
+public class ByteTape extends AbstractTape implements Iterable<Integer>, TrueTextEncodable {
+    protected byte[] tape;
+
+    /**
+     * Creates a new ByteTape
+     */
+    public ByteTape() {
+        this.tape = new byte[MIN_CAPACITY];
+    }
+
+    /**
+     * Adds a symbol to the beginning of this ByteTape
+     * @param value the added symbol
+     */
+    public void addToStart(byte value) {
+        final int slot = growStart();
+        this.tape[slot] = value;
+    }
+
+    /**
+     * Adds a symbol to the end of this ByteTape
+     * @param value the added symbol
+     */
+    public void addToEnd(byte value) {
+        final int slot = growEnd();
+        this.tape[slot] = value;
+    }
+
+    /**
+     * Grows this ByteTape with blank symbols until it covers an index
+     * @param index the target index
+     * @param blank the symbol of the new cells
+     */
+    public void extendTo(int index, byte blank) {
+        if(this.size == 0) {
+            addToEnd(blank);
+        }
+        while(index < this.start) {
+            addToStart(blank);
+        }
+        while(index > this.end) {
+            addToEnd(blank);
+        }
+    }
+
+    /**
+     * Gets the symbol at a specific index
+     * @param index the target index
+     * @return the symbol
+     * @throws IndexOutOfBoundsException if the specified index does not occur in this ByteTape
+     */
+    public byte get(int index) throws IndexOutOfBoundsException {
+        return this.tape[slot(index)];
+    }
+
+    /**
+     * Resets a symbol
+     * @param index the index to be changed
+     * @param value the new symbol
+     * @throws IndexOutOfBoundsException if the specified index does not occur in this ByteTape
+     */
+    public void set(int index, byte value) throws IndexOutOfBoundsException {
+        this.tape[slot(index)] = value;
+    }
+
+    /**
+     * Attempts to remove a symbol from the start of this ByteTape
+     * @return true if the previous size of this ByteTape was nonzero, else false
+     */
+    public boolean removeFromStart() {
+        if(this.size == 0) {
+            return false;
+        }
+        shrinkStart();
+        return true;
+    }
+
+    /**
+     * Attempts to remove a symbol from the end of this ByteTape
+     * @return true if the previous size of this ByteTape was nonzero, else false
+     */
+    public boolean removeFromEnd() {
+        if(this.size == 0) {
+            return false;
+        }
+        shrinkEnd();
+        return true;
+    }
+
+    /**
+     * Copies the symbols of this ByteTape from start to end into an array
+     * @return the array
+     */
+    public byte[] toArray() {
+        final byte[] array = new byte[this.size];
+        final int head = Math.min(this.size, this.tape.length - this.first);
+        System.arraycopy(this.tape, this.first, array, 0, head);
+        System.arraycopy(this.tape, 0, array, head, this.size - head);
+        return array;
+    }
+
+    /**
+     * Returns an Iterator over the symbols in this ByteTape, widened to ints
+     * @return the Iterator
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = ByteTape.this.start;
+
+            /**
+             * Determines whether there is another symbol in this ByteTape Iterator
+             * @return true if another symbol exists, else false
+             */
+            @Override
+            public boolean hasNext() {
+                return ByteTape.this.size > 0 && this.index <= ByteTape.this.end;
+            }
+
+            /**
+             * Gets the next symbol in this ByteTape
+             * @return the target symbol
+             * @throws NoSuchElementException if there is no next symbol
+             */
+            @Override
+            public int nextInt() throws NoSuchElementException {
+                if(! hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.index++);
+            }
+        };
+    }
+
+    /**
+     * Determines whether this ByteTape is equal to a specified Object
+     * @param o the comparator Object
+     * @return true if the Object is an ByteTape with the same symbols at the same indices, else false
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ByteTape tape && this.size == tape.size && this.start == tape.start
+                && Arrays.equals(toArray(), tape.toArray());
+    }
+
+    /**
+     * Hashes this ByteTape consistently with {@link #equals(Object)}
+     * @return the hash of the start index and symbols
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.start + Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Provides the TrueText of this ByteTape
+     * @return this ByteTape in a parsable format
+     */
+    @Override
+    public String trueText() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(int i = this.start; this.size > 0 && i <= this.end; i++) {
+            builder.append(delimiter).append(get(i));
+            delimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this ByteTape to a printable format
+     * @return this ByteTape as a String
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Prints this ByteTape
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Creates an array of cells
+     * @param capacity the number of slots
+     * @return the array
+     */
+    @Override
+    protected Object allocate(int capacity) {
+        return new byte[capacity];
+    }
+
+    /**
+     * Gets the array of cells
+     * @return this.tape
+     */
+    @Override
+    protected Object cells() {
+        return this.tape;
+    }
+
+    /**
+     * Replaces the array of cells
+     * @param cells the new array
+     */
+    @Override
+    protected void install(Object cells) {
+        this.tape = (byte[]) cells;
+    }
+
+    /**
+     * Leaves a slot that has left this ByteTape as it is, since symbols hold no references
+     * @param slot the slot
+     */
+    @Override
+    protected void release(int slot) {
+    }
+}
@@ -0,0 +1,49 @@
+package DataSet;
+
+/**
+ * A snapshot of the counters of a cache.
+ * @param hits the number of lookups that found their key.
+ * @param misses the number of lookups that did not find their key.
+ * @param evictions the number of entries dropped to respect the capacity, including new entries
+ *                  refused by an admission filter.
+ * @see FixedCacheStack
+ * @see ConcurrentCache
+ */
+public record CacheStatistics(long hits, long misses, long evictions) {
+    /**
+     * Finds the number of lookups.
+     * @return {@code hits + misses}
+     */
+    public long requests() {
+        return this.hits + this.misses;
+    }
+
+    /**
+     * Finds the fraction of lookups that found their key.
+     * @return the hit rate, or {@code 1} if there were no lookups.
+     */
+    public double hitRate() {
+        final long requests = requests();
+        return (requests == 0) ? 1.0 : (double) this.hits / requests;
+    }
+
+    /**
+     * Adds the counters of two snapshots.
+     * @param statistics the other snapshot.
+     * @return the combined snapshot.
+     */
+    public CacheStatistics plus(CacheStatistics statistics) {
+        return new CacheStatistics(this.hits + statistics.hits, this.misses + statistics.misses,
+                this.evictions + statistics.evictions);
+    }
+
+    /**
+     * Converts this {@code CacheStatistics} to a printable format.
+     * @return this {@code CacheStatistics} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return "hits=" + this.hits + ", misses=" + this.misses + ", evictions=" + this.evictions
+                + ", hitRate=" + hitRate();
+    }
+}
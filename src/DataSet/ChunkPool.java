@@ -0,0 +1,170 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Recycles the fixed-size chunks of the {@link AbstractChunkedDeque chunked deques}, so that a deque
+ * that repeatedly grows and shrinks, as the stack of a depth-first search does, stops allocating once
+ * it has reached its working depth. Heap chunks are primitive or {@code Object} arrays; off-heap chunks
+ * are direct {@link ByteBuffer ByteBuffers} in native byte order, which are invisible to the garbage
+ * collector. Direct memory is still capped by {@code -XX:MaxDirectMemorySize}, which defaults to the
+ * maximum heap size, so off-heap deques of billions of elements need that flag raised; the memory
+ * segments of {@code java.lang.foreign} are reserved against the same cap. Released chunks are kept
+ * until a byte budget is reached, after which they are dropped. This class is thread-safe.
+ */
+public final class ChunkPool {
+    /**
+     * The pool shared by every chunked deque that is not given its own, retaining up to {@code 64 MiB}.
+     */
+    public static final ChunkPool SHARED = new ChunkPool(64L << 20);
+    private static final int INT = 0, LONG = 1, DOUBLE = 2, OBJECT = 3, DIRECT = 4;
+    private final Map<Long, ArrayDeque<Object>> free;
+    private final long maxRetainedBytes;
+    private long retainedBytes;
+
+    /**
+     * Creates a {@code ChunkPool}.
+     * @param maxRetainedBytes the most bytes of released chunks kept for reuse.
+     * @throws IllegalArgumentException if the budget is negative.
+     */
+    public ChunkPool(long maxRetainedBytes) throws IllegalArgumentException {
+        if(maxRetainedBytes < 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.free = new HashMap<>();
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * Takes an {@code int} chunk. Its contents are unspecified.
+     * @param length the number of elements.
+     * @return the chunk.
+     */
+    public int[] ints(int length) {
+        final Object chunk = take(key(INT, length), (long) length * Integer.BYTES);
+        return (chunk == null) ? new int[length] : (int[]) chunk;
+    }
+
+    /**
+     * Takes a {@code long} chunk. Its contents are unspecified.
+     * @param length the number of elements.
+     * @return the chunk.
+     */
+    public long[] longs(int length) {
+        final Object chunk = take(key(LONG, length), (long) length * Long.BYTES);
+        return (chunk == null) ? new long[length] : (long[]) chunk;
+    }
+
+    /**
+     * Takes a {@code double} chunk. Its contents are unspecified.
+     * @param length the number of elements.
+     * @return the chunk.
+     */
+    public double[] doubles(int length) {
+        final Object chunk = take(key(DOUBLE, length), (long) length * Double.BYTES);
+        return (chunk == null) ? new double[length] : (double[]) chunk;
+    }
+
+    /**
+     * Takes an {@code Object} chunk filled with {@code null}.
+     * @param length the number of elements.
+     * @return the chunk.
+     */
+    public Object[] objects(int length) {
+        final Object chunk = take(key(OBJECT, length), (long) length * Integer.BYTES);
+        return (chunk == null) ? new Object[length] : (Object[]) chunk;
+    }
+
+    /**
+     * Takes an off-heap chunk in native byte order. Its contents are unspecified.
+     * @param bytes the capacity in bytes.
+     * @return the chunk.
+     * @throws OutOfMemoryError if the chunk would exceed the direct memory limit.
+     */
+    public ByteBuffer direct(int bytes) {
+        final Object chunk = take(key(DIRECT, bytes), bytes);
+        return (chunk == null) ? ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder()) : (ByteBuffer) chunk;
+    }
+
+    /**
+     * Returns a chunk for reuse, or drops it if the pool is full. The caller must not touch it afterwards.
+     * @param chunk a chunk taken from any {@code ChunkPool}.
+     * @throws IllegalArgumentException if the chunk is not of a pooled type.
+     */
+    public void release(Object chunk) throws IllegalArgumentException {
+        final long key, bytes;
+        if(chunk instanceof int[] ints) {
+            key = key(INT, ints.length);
+            bytes = (long) ints.length * Integer.BYTES;
+        } else if(chunk instanceof long[] longs) {
+            key = key(LONG, longs.length);
+            bytes = (long) longs.length * Long.BYTES;
+        } else if(chunk instanceof double[] doubles) {
+            key = key(DOUBLE, doubles.length);
+            bytes = (long) doubles.length * Double.BYTES;
+        } else if(chunk instanceof Object[] objects) {
+            Arrays.fill(objects, null);
+            key = key(OBJECT, objects.length);
+            bytes = (long) objects.length * Integer.BYTES;
+        } else if(chunk instanceof ByteBuffer buffer && buffer.isDirect()) {
+            key = key(DIRECT, buffer.capacity());
+            bytes = buffer.capacity();
+        } else {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        synchronized(this) {
+            if(this.retainedBytes + bytes <= this.maxRetainedBytes) {
+                this.free.computeIfAbsent(key, k -> new ArrayDeque<>()).push(chunk);
+                this.retainedBytes += bytes;
+            }
+        }
+    }
+
+    /**
+     * Finds the number of bytes held by released chunks.
+     * @return {@code this.retainedBytes}
+     */
+    public synchronized long retainedBytes() {
+        return this.retainedBytes;
+    }
+
+    /**
+     * Drops every released chunk.
+     */
+    public synchronized void trim() {
+        this.free.clear();
+        this.retainedBytes = 0;
+    }
+
+    /**
+     * Takes a released chunk of a kind and size.
+     * @param key the kind and size of the chunk.
+     * @param bytes the size of the chunk in bytes.
+     * @return the chunk, or {@code null} if none is available.
+     */
+    private synchronized Object take(long key, long bytes) {
+        final ArrayDeque<Object> chunks = this.free.get(key);
+        if(chunks == null || chunks.isEmpty()) {
+            return null;
+        }
+        this.retainedBytes -= bytes;
+        return chunks.pop();
+    }
+
+    /**
+     * Combines the kind and size of a chunk into a key.
+     * @param kind the kind.
+     * @param length the number of elements or bytes.
+     * @return the key.
+     */
+    private static long key(int kind, int length) {
+        return ((long) kind << 32) | length;
+    }
+}
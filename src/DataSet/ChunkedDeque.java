@@ -0,0 +1,237 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A double-ended queue and stack of objects, stored in {@code Object} array chunks on the heap. Unlike
+ * {@link JaggedStack} and {@link Stack3}, it has no fixed number of rows, so its capacity is limited
+ * only by memory, and it can grow and shrink at both ends. The stack methods act on the last element.
+ * This class is not synchronized.
+ * @param <Data> the stored element type.
+ * @see AbstractChunkedDeque
+ */
+public class ChunkedDeque<Data> extends AbstractChunkedDeque implements Iterable<Data> {
+    /**
+     * Creates an empty {@code ChunkedDeque} with the default chunk size and the shared pool.
+     */
+    public ChunkedDeque() {
+        this(HEAP_CHUNK_SHIFT, ChunkPool.SHARED);
+    }
+
+    /**
+     * Creates an empty {@code ChunkedDeque}.
+     * @param chunkShift the base-2 logarithm of the number of elements per chunk, from {@code 4} to {@code 24}.
+     * @param pool the allocator of the chunks.
+     * @throws IllegalArgumentException if the chunk shift is out of range.
+     */
+    public ChunkedDeque(int chunkShift, ChunkPool pool) throws IllegalArgumentException {
+        super(chunkShift, false, pool);
+    }
+
+    /**
+     * Adds an element after the last element.
+     * @param value the element.
+     */
+    public void addLast(Data value) {
+        write(growLast(), value);
+    }
+
+    /**
+     * Adds an element before the first element.
+     * @param value the element.
+     */
+    public void addFirst(Data value) {
+        write(growFirst(), value);
+    }
+
+    /**
+     * Removes the last element.
+     * @return the removed element.
+     * @throws NoSuchElementException if this {@code ChunkedDeque} is empty.
+     */
+    public Data removeLast() throws NoSuchElementException {
+        final long position = lastPosition();
+        final Data value = read(position);
+        write(position, null);
+        shrinkLast();
+        return value;
+    }
+
+    /**
+     * Removes the first element.
+     * @return the removed element.
+     * @throws NoSuchElementException if this {@code ChunkedDeque} is empty.
+     */
+    public Data removeFirst() throws NoSuchElementException {
+        final long position = firstPosition();
+        final Data value = read(position);
+        write(position, null);
+        shrinkFirst();
+        return value;
+    }
+
+    /**
+     * Retrieves the last element.
+     * @return the last element.
+     * @throws NoSuchElementException if this {@code ChunkedDeque} is empty.
+     */
+    public Data peekLast() throws NoSuchElementException {
+        return read(lastPosition());
+    }
+
+    /**
+     * Retrieves the first element.
+     * @return the first element.
+     * @throws NoSuchElementException if this {@code ChunkedDeque} is empty.
+     */
+    public Data peekFirst() throws NoSuchElementException {
+        return read(firstPosition());
+    }
+
+    /**
+     * Pushes an element onto this {@code ChunkedDeque}.
+     * @param value the element.
+     * @return the pushed element.
+     */
+    public Data push(Data value) {
+        addLast(value);
+        return value;
+    }
+
+    /**
+     * Pops the element at the top of this {@code ChunkedDeque}.
+     * @return the popped element.
+     * @throws EmptyStackException if this {@code ChunkedDeque} is empty.
+     */
+    public Data pop() throws EmptyStackException {
+        if(isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return removeLast();
+    }
+
+    /**
+     * Retrieves the element at the top of this {@code ChunkedDeque}.
+     * @return the top element.
+     * @throws EmptyStackException if this {@code ChunkedDeque} is empty.
+     */
+    public Data peek() throws EmptyStackException {
+        if(isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return peekLast();
+    }
+
+    /**
+     * Gets an element by its index from the first element.
+     * @param index the index.
+     * @return the element.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public Data get(long index) throws IndexOutOfBoundsException {
+        return read(position(index));
+    }
+
+    /**
+     * Replaces an element by its index from the first element.
+     * @param index the index.
+     * @param value the new element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public Data set(long index, Data value) throws IndexOutOfBoundsException {
+        final long position = position(index);
+        final Data previous = read(position);
+        write(position, value);
+        return previous;
+    }
+
+    /**
+     * Returns an {@code Iterator} over the elements from first to last.
+     * @return the {@code Iterator}.
+     */
+    @Override
+    public Iterator<Data> iterator() {
+        return new Iterator<>() {
+            private long index = 0;
+
+            /**
+             * Determines whether there is another element.
+             * @return {@code true} if there is a next element, else {@code false}.
+             */
+            @Override
+            public boolean hasNext() {
+                return this.index < size();
+            }
+
+            /**
+             * Gets the next element.
+             * @return the next element.
+             * @throws NoSuchElementException if there is no next element.
+             */
+            @Override
+            public Data next() throws NoSuchElementException {
+                if(! hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.index++);
+            }
+        };
+    }
+
+    /**
+     * Converts this {@code ChunkedDeque} to a printable format.
+     * @return this {@code ChunkedDeque} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        builder.append('[');
+        for(long i = 0; i < size(); i++) {
+            builder.append(delimiter).append(get(i));
+            delimiter = ", ";
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code ChunkedDeque}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Takes a new chunk from the pool.
+     * @return an {@code Object} array.
+     */
+    @Override
+    protected Object allocate() {
+        return this.pool.objects(this.mask + 1);
+    }
+
+    /**
+     * Reads the element at a position.
+     * @param position the position.
+     * @return the element.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    private Data read(long position) {
+        return (Data) ((Object[]) chunk(position))[offset(position)];
+    }
+
+    /**
+     * Writes the element at a position.
+     * @param position the position.
+     * @param value the element.
+     */
+    private void write(long position, Data value) {
+        ((Object[]) chunk(position))[offset(position)] = value;
+    }
+}
@@ -0,0 +1,207 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache that stripes its capacity over several {@link FixedCacheStack FixedCacheStacks},
+ * each guarded by its own lock, so that threads querying different keys rarely contend. Every stripe
+ * evicts independently with the shared {@link FixedCacheStack.Policy}. Null values are not cached.
+ * @param <Key> the key type stored within this {@code ConcurrentCache}.
+ * @param <Value> the value type stored within this {@code ConcurrentCache}.
+ */
+public class ConcurrentCache<Key, Value> {
+    private final FixedCacheStack<Key, Value>[] stripes;
+    private final int capacity;
+
+    /**
+     * Creates a {@code ConcurrentCache} with four stripes per available processor.
+     * @param capacity the maximum number of entries.
+     * @param policy the eviction policy of every stripe.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public ConcurrentCache(int capacity, FixedCacheStack.Policy policy) throws IllegalArgumentException {
+        this(capacity, policy, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a {@code ConcurrentCache}.
+     * @param capacity the maximum number of entries.
+     * @param policy the eviction policy of every stripe.
+     * @param concurrency the expected number of threads using this {@code ConcurrentCache}, rounded
+     *                    up to a power of two and limited so that every stripe holds an entry.
+     * @throws IllegalArgumentException if the capacity or the concurrency is not positive.
+     */
+    public ConcurrentCache(int capacity, FixedCacheStack.Policy policy, int concurrency) throws IllegalArgumentException {
+        if(capacity < 1 || concurrency < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final int stripeCount = Math.min(Integer.highestOneBit(Math.min(concurrency, 1 << 16) * 2 - 1),
+                Integer.highestOneBit(capacity));
+        @SuppressWarnings("unchecked")
+        final FixedCacheStack<Key, Value>[] stripes = (FixedCacheStack<Key, Value>[]) new FixedCacheStack<?, ?>[stripeCount];
+        this.stripes = stripes;
+        for(int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new FixedCacheStack<>(capacity / stripeCount
+                    + ((i < capacity % stripeCount) ? 1 : 0), policy);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the value of a key.
+     * @param key the target key.
+     * @return the value of the key, else {@code null} if it is not cached.
+     */
+    public Value get(Key key) {
+        final FixedCacheStack<Key, Value> stripe = stripe(key);
+        synchronized(stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    /**
+     * Stores the value of a key.
+     * @param key the target key.
+     * @param value the new value.
+     * @return the previous value of the key, else {@code null} if it was not cached.
+     * @throws NullPointerException if the value is {@code null}.
+     */
+    public Value put(Key key, Value value) throws NullPointerException {
+        if(value == null) {
+            throw new NullPointerException();
+        }
+        final FixedCacheStack<Key, Value> stripe = stripe(key);
+        synchronized(stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    /**
+     * Gets the value of a key, computing and caching it if it is absent. The computation runs outside
+     * the lock of the stripe, so it may call back into this {@code ConcurrentCache}, and two threads
+     * missing the same key at once may both compute it; the first result stored is kept.
+     * @param key the target key.
+     * @param function the computation of a value from its key.
+     * @return the cached or computed value.
+     */
+    public Value computeIfAbsent(Key key, Function<? super Key, ? extends Value> function) {
+        final FixedCacheStack<Key, Value> stripe = stripe(key);
+        synchronized(stripe) {
+            final Value value = stripe.get(key);
+            if(value != null) {
+                return value;
+            }
+        }
+        final Value value = function.apply(key);
+        if(value == null) {
+            return null;
+        }
+        synchronized(stripe) {
+            final Value raced = stripe.peek(key);
+            if(raced != null) {
+                return raced;
+            }
+            stripe.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes a key.
+     * @param key the target key.
+     * @return the value of the removed key, else {@code null} if it was not cached.
+     */
+    public Value remove(Key key) {
+        final FixedCacheStack<Key, Value> stripe = stripe(key);
+        synchronized(stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    /**
+     * Determines whether a key is cached, without counting a query.
+     * @param key the target key.
+     * @return {@code true} if the key is cached, else {@code false}.
+     */
+    public boolean containsKey(Key key) {
+        final FixedCacheStack<Key, Value> stripe = stripe(key);
+        synchronized(stripe) {
+            return stripe.containsKey(key);
+        }
+    }
+
+    /**
+     * Removes every entry, keeping the statistics.
+     */
+    public void clear() {
+        for(FixedCacheStack<Key, Value> stripe : this.stripes) {
+            synchronized(stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Finds the number of cached entries. Concurrent updates may or may not be counted.
+     * @return the size of this {@code ConcurrentCache}.
+     */
+    public int size() {
+        int size = 0;
+        for(FixedCacheStack<Key, Value> stripe : this.stripes) {
+            synchronized(stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Finds the capacity of this {@code ConcurrentCache}.
+     * @return {@code this.capacity}
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Sums the statistics of every stripe. Concurrent updates may or may not be counted.
+     * @return the statistics of this {@code ConcurrentCache}.
+     */
+    public CacheStatistics statistics() {
+        CacheStatistics statistics = new CacheStatistics(0, 0, 0);
+        for(FixedCacheStack<Key, Value> stripe : this.stripes) {
+            synchronized(stripe) {
+                statistics = statistics.plus(stripe.statistics());
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Converts this {@code ConcurrentCache} to a printable format.
+     * @return the size, capacity and statistics of this {@code ConcurrentCache}.
+     */
+    @Override
+    public String toString() {
+        return "ConcurrentCache[size=" + size() + ", capacity=" + this.capacity + ", " + statistics() + "]";
+    }
+
+    /**
+     * Prints this {@code ConcurrentCache}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Finds the stripe responsible for a key.
+     * @param key the target key.
+     * @return the stripe.
+     */
+    private FixedCacheStack<Key, Value> stripe(Key key) {
+        final int h = (key == null) ? 0 : key.hashCode() * 0x9E3779B9;
+        return this.stripes[(h ^ (h >>> 16)) & (this.stripes.length - 1)];
+    }
+}
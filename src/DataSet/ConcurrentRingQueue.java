@@ -0,0 +1,411 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A bounded multi-producer, multi-consumer queue for handing work between threads, after Dmitry
+ * Vyukov's array ring. Every slot carries a sequence number that tells producers whether it is free
+ * and consumers whether it is filled, so {@link #offer(Object)} and {@link #poll()} each take one
+ * compare-and-set on a shared counter and never lock. {@link #drain(Consumer, int)} claims a run of
+ * filled slots with a single compare-and-set. The blocking {@link #put(Object)} and {@link #take()}
+ * only lock once they must wait, and {@link #close()} lets consumers finish the remaining elements and
+ * then stop. Unlike {@link LinkedQueue}, this queue has a capacity, which holds back producers that
+ * outrun their consumers, and it does not accept {@code null}.
+ * @param <Data> the stored element type.
+ * @see LinkedQueue
+ */
+public class ConcurrentRingQueue<Data> {
+    private final AtomicReferenceArray<Data> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head, tail, peakSize;
+    private final LongAdder offered, polled, rejected;
+    private final ReentrantLock lock;
+    private final Condition notEmpty, notFull;
+    private final AtomicInteger waitingConsumers, waitingProducers;
+    private volatile boolean closed;
+
+    /**
+     * Creates an empty {@code ConcurrentRingQueue}.
+     * @param capacity the least number of elements the queue can hold, rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is below {@code 2} or exceeds {@code 2^30}, since a
+     * single slot could not tell a free sequence number from a filled one.
+     */
+    public ConcurrentRingQueue(int capacity) throws IllegalArgumentException {
+        if(capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final int length = Integer.highestOneBit(capacity * 2 - 1);
+        this.buffer = new AtomicReferenceArray<>(length);
+        this.sequences = new AtomicLongArray(length);
+        for(int i = 0; i < length; i++) {
+            this.sequences.set(i, i);
+        }
+        this.mask = length - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.peakSize = new AtomicLong();
+        this.offered = new LongAdder();
+        this.polled = new LongAdder();
+        this.rejected = new LongAdder();
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+        this.waitingConsumers = new AtomicInteger();
+        this.waitingProducers = new AtomicInteger();
+    }
+
+    /**
+     * Adds an element if there is room, without waiting.
+     * @param data the element.
+     * @return {@code true} if the element was added, else {@code false} if the queue is full or closed.
+     * @throws NullPointerException if the element is {@code null}.
+     */
+    public boolean offer(Data data) throws NullPointerException {
+        if(data == null) {
+            throw new NullPointerException();
+        }
+        if(this.closed) {
+            return false;
+        }
+        if(! tryOffer(data)) {
+            this.rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adds an element, waiting for room if the queue is full.
+     * @param data the element.
+     * @throws NullPointerException if the element is {@code null}.
+     * @throws IllegalStateException if the queue is closed.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public void put(Data data) throws NullPointerException, IllegalStateException, InterruptedException {
+        if(data == null) {
+            throw new NullPointerException();
+        }
+        while(this.closed || ! tryOffer(data)) {
+            if(this.closed) {
+                throw new IllegalStateException();
+            }
+            this.lock.lockInterruptibly();
+            try {
+                this.waitingProducers.incrementAndGet();
+                try {
+                    while(isFull() && ! this.closed) {
+                        this.notFull.await();
+                    }
+                } finally {
+                    this.waitingProducers.decrementAndGet();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the first element if there is one, without waiting.
+     * @return the first element, or {@code null} if the queue is empty.
+     */
+    public Data poll() {
+        long position = this.head.get();
+        while(true) {
+            final int slot = (int) position & this.mask;
+            final long difference = this.sequences.get(slot) - (position + 1);
+            if(difference == 0) {
+                if(this.head.compareAndSet(position, position + 1)) {
+                    return consume(slot, position);
+                }
+                position = this.head.get();
+            } else if(difference < 0) {
+                return null;
+            } else {
+                position = this.head.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the first element, waiting for one if the queue is empty.
+     * @return the first element, or {@code null} if the queue is closed and empty.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Data take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Removes the first element, waiting up to a timeout for one if the queue is empty.
+     * @param timeout the longest time to wait.
+     * @param unit the unit of the timeout.
+     * @return the first element, or {@code null} if the timeout elapsed or the queue is closed and empty.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Data poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        while(true) {
+            final Data data = poll();
+            if(data != null) {
+                return data;
+            }
+            if(this.closed || nanos <= 0) {
+                return poll();
+            }
+            this.lock.lockInterruptibly();
+            try {
+                this.waitingConsumers.incrementAndGet();
+                try {
+                    while(isEmpty() && ! this.closed && nanos > 0) {
+                        nanos = this.notEmpty.awaitNanos(nanos);
+                    }
+                } finally {
+                    this.waitingConsumers.decrementAndGet();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes up to a number of elements in order, claiming every filled slot at the front of the queue
+     * with a single compare-and-set, and passes each to a consumer. Each slot is freed before its element
+     * is handed out, and if the consumer throws, the rest of the claimed run is freed and its elements are
+     * dropped, so that producers are never left waiting on slots nobody will release.
+     * @param consumer the receiver of the elements.
+     * @param maxElements the most elements to remove.
+     * @return the number of elements removed.
+     */
+    public int drain(Consumer<? super Data> consumer, int maxElements) {
+        int drained = 0;
+        while(drained < maxElements) {
+            final long position = this.head.get();
+            int claimable = 0;
+            while(drained + claimable < maxElements && claimable <= this.mask
+                    && this.sequences.get((int) (position + claimable) & this.mask) == position + claimable + 1) {
+                claimable++;
+            }
+            if(claimable == 0) {
+                if(this.sequences.get((int) position & this.mask) - (position + 1) < 0) {
+                    break;
+                }
+                continue;
+            }
+            if(this.head.compareAndSet(position, position + claimable)) {
+                int i = 0;
+                try {
+                    while(i < claimable) {
+                        final Data data = consume((int) (position + i) & this.mask, position + i);
+                        i++;
+                        consumer.accept(data);
+                    }
+                } finally {
+                    while(i < claimable) {
+                        consume((int) (position + i) & this.mask, position + i);
+                        i++;
+                    }
+                }
+                drained += claimable;
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Stops accepting elements. Waiting producers fail, and consumers receive the remaining elements
+     * before {@link #take()} returns {@code null}.
+     */
+    public void close() {
+        this.closed = true;
+        this.lock.lock();
+        try {
+            this.notEmpty.signalAll();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Determines whether this {@code ConcurrentRingQueue} has been closed.
+     * @return {@code this.closed}
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Estimates the number of elements, which may be stale by the time it is read.
+     * @return the number of elements, between {@code 0} and the capacity.
+     */
+    public int size() {
+        while(true) {
+            final long head = this.head.get(), tail = this.tail.get();
+            if(head == this.head.get()) {
+                return (int) Math.max(0, Math.min(tail - head, this.mask + 1));
+            }
+        }
+    }
+
+    /**
+     * Determines whether this {@code ConcurrentRingQueue} appears empty.
+     * @return {@code true} if no filled slot is at the front of the queue, else {@code false}.
+     */
+    public boolean isEmpty() {
+        final long position = this.head.get();
+        return this.sequences.get((int) position & this.mask) != position + 1;
+    }
+
+    /**
+     * Determines whether this {@code ConcurrentRingQueue} appears full.
+     * @return {@code true} if no free slot is at the back of the queue, else {@code false}.
+     */
+    public boolean isFull() {
+        final long position = this.tail.get();
+        return this.sequences.get((int) position & this.mask) != position;
+    }
+
+    /**
+     * Finds the capacity of this {@code ConcurrentRingQueue}.
+     * @return the number of slots.
+     */
+    public int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Finds the fraction of the capacity in use.
+     * @return {@code size() / capacity()}
+     */
+    public double occupancy() {
+        return (double) size() / capacity();
+    }
+
+    /**
+     * Finds the largest size reached.
+     * @return the peak number of elements.
+     */
+    public long peakSize() {
+        return this.peakSize.get();
+    }
+
+    /**
+     * Finds the number of elements added since creation.
+     * @return the number of successful offers.
+     */
+    public long totalOffered() {
+        return this.offered.sum();
+    }
+
+    /**
+     * Finds the number of elements removed since creation.
+     * @return the number of successful polls, including drained elements.
+     */
+    public long totalPolled() {
+        return this.polled.sum();
+    }
+
+    /**
+     * Finds the number of offers refused because the queue was full.
+     * @return the number of rejected offers.
+     */
+    public long totalRejected() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Converts the metrics of this {@code ConcurrentRingQueue} to a printable format.
+     * @return the size, capacity and counters of this {@code ConcurrentRingQueue}.
+     */
+    @Override
+    public String toString() {
+        return "ConcurrentRingQueue[size=" + size() + ", capacity=" + capacity() + ", peak=" + peakSize()
+                + ", offered=" + totalOffered() + ", polled=" + totalPolled() + ", rejected=" + totalRejected()
+                + (this.closed ? ", closed]" : "]");
+    }
+
+    /**
+     * Prints the metrics of this {@code ConcurrentRingQueue}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Adds an element to an open queue if there is room, without counting a rejection when there is not,
+     * so that the spins of {@link #put(Object)} are not reported as refused offers.
+     * @param data the element.
+     * @return {@code true} if the element was added, else {@code false} if the queue is full.
+     */
+    private boolean tryOffer(Data data) {
+        long position = this.tail.get();
+        while(true) {
+            final int slot = (int) position & this.mask;
+            final long difference = this.sequences.get(slot) - position;
+            if(difference == 0) {
+                if(this.tail.compareAndSet(position, position + 1)) {
+                    this.buffer.set(slot, data);
+                    this.sequences.set(slot, position + 1);
+                    break;
+                }
+                position = this.tail.get();
+            } else if(difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+        this.offered.increment();
+        final long size = position + 1 - this.head.get();
+        if(size > this.peakSize.get()) {
+            this.peakSize.accumulateAndGet(size, Math::max);
+        }
+        if(this.waitingConsumers.get() > 0) {
+            signal(this.notEmpty);
+        }
+        return true;
+    }
+
+    /**
+     * Takes the element out of a claimed slot and frees the slot for the producer one lap later.
+     * @param slot the slot.
+     * @param position the position claimed.
+     * @return the element.
+     */
+    private Data consume(int slot, long position) {
+        final Data data = this.buffer.get(slot);
+        this.buffer.set(slot, null);
+        this.sequences.set(slot, position + this.mask + 1);
+        this.polled.increment();
+        if(this.waitingProducers.get() > 0) {
+            signal(this.notFull);
+        }
+        return data;
+    }
+
+    /**
+     * Wakes one thread waiting on a condition.
+     * @param condition the condition.
+     */
+    private void signal(Condition condition) {
+        this.lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
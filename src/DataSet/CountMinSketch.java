@@ -0,0 +1,95 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+/**
+ * Estimates how often elements have been seen, in constant space. Each element increments one
+ * saturating 4-bit counter in each of four rows, and its frequency is the smallest of those
+ * counters, so estimates can only err upward. Once the number of increments reaches ten times the
+ * width, every counter is halved, so that the sketch favors recent history over old history.
+ */
+public class CountMinSketch {
+    private static final int DEPTH = 4, MAX_COUNT = 15, SAMPLE_FACTOR = 10;
+    private static final int[] SEEDS = {0x97CB3127, 0xB492B66F, 0x9AE16A3B, 0xC2B2AE35};
+    private final byte[] counters;
+    private final int mask, sampleSize;
+    private int additions;
+
+    /**
+     * Creates a {@code CountMinSketch} sized for a number of distinct elements.
+     * @param expectedElements the number of elements the sketch should distinguish.
+     * @throws IllegalArgumentException if the expected element count is not positive.
+     */
+    public CountMinSketch(int expectedElements) throws IllegalArgumentException {
+        if(expectedElements < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final int width = Integer.highestOneBit(Math.min(Math.max(expectedElements, 16), 1 << 26) * 2 - 1);
+        this.counters = new byte[DEPTH * width];
+        this.mask = width - 1;
+        this.sampleSize = SAMPLE_FACTOR * width;
+    }
+
+    /**
+     * Records one occurrence of an element.
+     * @param element the element.
+     */
+    public void increment(Object element) {
+        final int hash = spread(element);
+        for(int row = 0; row < DEPTH; row++) {
+            final int index = index(hash, row);
+            if(this.counters[index] < MAX_COUNT) {
+                this.counters[index]++;
+            }
+        }
+        if(++this.additions == this.sampleSize) {
+            age();
+        }
+    }
+
+    /**
+     * Estimates the number of recent occurrences of an element.
+     * @param element the element.
+     * @return the estimated frequency, between {@code 0} and {@code 15}.
+     */
+    public int frequency(Object element) {
+        final int hash = spread(element);
+        int frequency = MAX_COUNT;
+        for(int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, this.counters[index(hash, row)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Halves every counter.
+     */
+    private void age() {
+        for(int i = 0; i < this.counters.length; i++) {
+            this.counters[i] >>>= 1;
+        }
+        this.additions >>>= 1;
+    }
+
+    /**
+     * Finds the counter of a hashed element in a row.
+     * @param hash the spread hash of the element.
+     * @param row the row.
+     * @return the index of the counter.
+     */
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9E3779B9;
+        h ^= h >>> 15;
+        return row * (this.mask + 1) + (h & this.mask);
+    }
+
+    /**
+     * Spreads the hash code of an element.
+     * @param element the element.
+     * @return the spread hash.
+     */
+    private static int spread(Object element) {
+        final int h = (element == null) ? 0 : element.hashCode() * 0x85EBCA6B;
+        return h ^ (h >>> 13);
+    }
+}
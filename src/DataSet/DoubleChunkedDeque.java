@@ -0,0 +1,247 @@
+package DataSet;
+
+import java.nio.ByteBuffer;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A double-ended queue and stack of unboxed {@code double} elements, stored in chunks that are either
+ * {@code double} arrays or, in off-heap mode, direct buffers that hold billions of elements without
+ * adding to the work of the garbage collector, as far as the direct memory limit allows (see
+ * {@link ChunkPool}). The stack methods act on the last element.
+ * This class is not synchronized.
+ * @see AbstractChunkedDeque
+ */
+public class DoubleChunkedDeque extends AbstractChunkedDeque implements Iterable<Double> {
+    /**
+     * Creates an empty {@code DoubleChunkedDeque} on the heap.
+     */
+    public DoubleChunkedDeque() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty {@code DoubleChunkedDeque} with the default chunk size and the shared pool.
+     * @param offHeap {@code true} if the elements are stored off the heap, else {@code false}.
+     */
+    public DoubleChunkedDeque(boolean offHeap) {
+        this(offHeap ? OFF_HEAP_CHUNK_SHIFT : HEAP_CHUNK_SHIFT, offHeap, ChunkPool.SHARED);
+    }
+
+    /**
+     * Creates an empty {@code DoubleChunkedDeque}.
+     * @param chunkShift the base-2 logarithm of the number of elements per chunk, from {@code 4} to {@code 24}.
+     * @param offHeap {@code true} if the elements are stored off the heap, else {@code false}.
+     * @param pool the allocator of the chunks.
+     * @throws IllegalArgumentException if the chunk shift is out of range.
+     */
+    public DoubleChunkedDeque(int chunkShift, boolean offHeap, ChunkPool pool) throws IllegalArgumentException {
+        super(chunkShift, offHeap, pool);
+    }
+
+    /**
+     * Adds an element after the last element.
+     * @param value the element.
+     */
+    public void addLast(double value) {
+        write(growLast(), value);
+    }
+
+    /**
+     * Adds an element before the first element.
+     * @param value the element.
+     */
+    public void addFirst(double value) {
+        write(growFirst(), value);
+    }
+
+    /**
+     * Removes the last element.
+     * @return the removed element.
+     * @throws NoSuchElementException if this {@code DoubleChunkedDeque} is empty.
+     */
+    public double removeLast() throws NoSuchElementException {
+        final double value = read(lastPosition());
+        shrinkLast();
+        return value;
+    }
+
+    /**
+     * Removes the first element.
+     * @return the removed element.
+     * @throws NoSuchElementException if this {@code DoubleChunkedDeque} is empty.
+     */
+    public double removeFirst() throws NoSuchElementException {
+        final double value = read(firstPosition());
+        shrinkFirst();
+        return value;
+    }
+
+    /**
+     * Retrieves the last element.
+     * @return the last element.
+     * @throws NoSuchElementException if this {@code DoubleChunkedDeque} is empty.
+     */
+    public double peekLast() throws NoSuchElementException {
+        return read(lastPosition());
+    }
+
+    /**
+     * Retrieves the first element.
+     * @return the first element.
+     * @throws NoSuchElementException if this {@code DoubleChunkedDeque} is empty.
+     */
+    public double peekFirst() throws NoSuchElementException {
+        return read(firstPosition());
+    }
+
+    /**
+     * Pushes an element onto this {@code DoubleChunkedDeque}.
+     * @param value the element.
+     * @return the pushed element.
+     */
+    public double push(double value) {
+        addLast(value);
+        return value;
+    }
+
+    /**
+     * Pops the element at the top of this {@code DoubleChunkedDeque}.
+     * @return the popped element.
+     * @throws EmptyStackException if this {@code DoubleChunkedDeque} is empty.
+     */
+    public double pop() throws EmptyStackException {
+        if(isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return removeLast();
+    }
+
+    /**
+     * Retrieves the element at the top of this {@code DoubleChunkedDeque}.
+     * @return the top element.
+     * @throws EmptyStackException if this {@code DoubleChunkedDeque} is empty.
+     */
+    public double peek() throws EmptyStackException {
+        if(isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return peekLast();
+    }
+
+    /**
+     * Gets an element by its index from the first element.
+     * @param index the index.
+     * @return the element.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public double get(long index) throws IndexOutOfBoundsException {
+        return read(position(index));
+    }
+
+    /**
+     * Replaces an element by its index from the first element.
+     * @param index the index.
+     * @param value the new element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public double set(long index, double value) throws IndexOutOfBoundsException {
+        final long position = position(index);
+        final double previous = read(position);
+        write(position, value);
+        return previous;
+    }
+
+    /**
+     * Returns an {@code Iterator} over the elements from first to last.
+     * @return the {@code Iterator}.
+     */
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private long index = 0;
+
+            /**
+             * Determines whether there is another element.
+             * @return {@code true} if there is a next element, else {@code false}.
+             */
+            @Override
+            public boolean hasNext() {
+                return this.index < size();
+            }
+
+            /**
+             * Gets the next element.
+             * @return the next element.
+             * @throws NoSuchElementException if there is no next element.
+             */
+            @Override
+            public double nextDouble() throws NoSuchElementException {
+                if(! hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.index++);
+            }
+        };
+    }
+
+    /**
+     * Converts this {@code DoubleChunkedDeque} to a printable format.
+     * @return this {@code DoubleChunkedDeque} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        builder.append('[');
+        for(long i = 0; i < size(); i++) {
+            builder.append(delimiter).append(get(i));
+            delimiter = ", ";
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code DoubleChunkedDeque}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Takes a new chunk from the pool.
+     * @return a {@code double} array, or a direct buffer in off-heap mode.
+     */
+    @Override
+    protected Object allocate() {
+        return this.offHeap ? this.pool.direct((this.mask + 1) * Double.BYTES) : this.pool.doubles(this.mask + 1);
+    }
+
+    /**
+     * Reads the element at a position.
+     * @param position the position.
+     * @return the element.
+     */
+    private double read(long position) {
+        final Object chunk = chunk(position);
+        return this.offHeap ? ((ByteBuffer) chunk).getDouble(offset(position) * Double.BYTES)
+                : ((double[]) chunk)[offset(position)];
+    }
+
+    /**
+     * Writes the element at a position.
+     * @param position the position.
+     * @param value the element.
+     */
+    private void write(long position, double value) {
+        final Object chunk = chunk(position);
+        if(this.offHeap) {
+            ((ByteBuffer) chunk).putDouble(offset(position) * Double.BYTES, value);
+        } else {
+            ((double[]) chunk)[offset(position)] = value;
+        }
+    }
+}
@@ -1,73 +1,184 @@
 package DataSet;
 
+import Exception.ExceptionMessage;
+
 import java.util.*;
 
 /**
- * A HashMap of fixed size that pulls data based on previously searched values.
- * @param <Data> the datatype stored within this {@code FixedCacheStack}.
+ * A HashMap of fixed size that pulls data based on previously searched values. Each key may carry a
+ * value, and once the capacity is exceeded an entry is evicted according to a {@link Policy}. This
+ * class is not synchronized; {@link ConcurrentCache} stripes several of them behind locks.
+ * @param <Key> the key type stored within this {@code FixedCacheStack}.
+ * @param <Value> the value type stored within this {@code FixedCacheStack}.
  */
-public class FixedCacheStack<Data> implements Iterable<Data> {
-    private final Map<Data, Cell<Data>> cache;
-    private Cell<Data> head, tail;
+public class FixedCacheStack<Key, Value> implements Iterable<Key> {
+    private static final Object NO_MISS = new Object();
+    private final Map<Key, Cell<Key, Value>> cache;
+    private Cell<Key, Value> head, tail;
     private final int capacity;
+    private final Policy policy;
+    private final Ring<Key, Value> window, probation, protect;
+    private final CountMinSketch sketch;
+    private final int windowCapacity, protectCapacity;
+    private Bucket<Key, Value> lowest;
+    private Object missed;
+    private long hits, misses, evictions;
 
     /**
-     * Creates a new {@code FixedCacheStack}.
+     * The rules for choosing the entry evicted from a full {@code FixedCacheStack}.
+     */
+    public enum Policy {
+        /**
+         * Evicts the least recently queried entry.
+         */
+        LRU,
+        /**
+         * Evicts the least frequently queried entry, breaking ties by recency.
+         */
+        LFU,
+        /**
+         * Window TinyLFU: new entries pass through a small LRU window, and leave it for a segmented
+         * LRU main region only if a {@link CountMinSketch} estimates them to be queried more often
+         * than the entry they would displace.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * Creates a new {@code FixedCacheStack} evicting the least recently queried entry.
      * @param capacity the maximum number of items that can be stored in this {@code FixedCacheStack}.
      */
     public FixedCacheStack(int capacity) {
+        this(capacity, Policy.LRU);
+    }
+
+    /**
+     * Creates a new {@code FixedCacheStack}.
+     * @param capacity the maximum number of items that can be stored in this {@code FixedCacheStack}.
+     * @param policy the eviction policy.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public FixedCacheStack(int capacity, Policy policy) throws IllegalArgumentException {
+        if(capacity < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
         this.cache = new HashMap<>();
         this.capacity = capacity;
+        this.policy = policy;
+        this.window = new Ring<>();
+        this.probation = new Ring<>();
+        this.protect = new Ring<>();
+        this.sketch = (policy == Policy.TINY_LFU) ? new CountMinSketch(capacity) : null;
+        this.windowCapacity = Math.max(1, capacity / 100);
+        this.protectCapacity = (capacity - this.windowCapacity) * 4 / 5;
+        this.missed = NO_MISS;
     }
 
     /**
-     * Requests a Data value from this {@code FixedCacheStack} and updates the query order.
-     * @param data the target Data value.
-     * @return true if the Data value was previously in this {@code FixedCacheStack}, else false.
+     * Requests a Key from this {@code FixedCacheStack} and updates the query order, adding the Key
+     * without a value if it is absent.
+     * @param key the target Key.
+     * @return true if the Key was previously in this {@code FixedCacheStack}, else false.
      */
-    public boolean request(Data data) {
-        Cell<Data> cell = this.cache.get(data);
-        boolean dataWasRecentlyQueried = cell != null;
-        if(dataWasRecentlyQueried) {
-            if(cell.next == null) {
-                this.tail = this.tail.prev;
-            } else {
-                cell.next.prev = cell.prev;
-            }
-            if(cell.prev != null) {
-                cell.prev.next = cell.next;
+    public boolean request(Key key) {
+        final Cell<Key, Value> cell = this.cache.get(key);
+        if(cell != null) {
+            this.hits++;
+            touch(cell);
+            return true;
+        }
+        this.misses++;
+        add(key, null);
+        return false;
+    }
+
+    /**
+     * Gets the value of a Key and updates the query order.
+     * @param key the target Key.
+     * @return the value of the Key, else null if the Key is absent.
+     */
+    public Value get(Key key) {
+        final Cell<Key, Value> cell = this.cache.get(key);
+        if(cell == null) {
+            this.misses++;
+            if(this.sketch != null) {
+                this.sketch.increment(key);
+                this.missed = key;
             }
-        } else {
-            cell = new Cell<>(data);
-            this.cache.put(data, cell);
+            return null;
         }
-        cell.queries++;
-        if(this.head == null) {
-            this.head = cell;
-            this.tail = cell;
-        } else {
-            this.head.prev = cell;
-            cell.next = this.head;
-            cell.prev = null;
-            this.head = this.head.prev;
+        this.hits++;
+        touch(cell);
+        return cell.value;
+    }
+
+    /**
+     * Gets the value of a Key without counting a query or updating the query order.
+     * @param key the target Key.
+     * @return the value of the Key, else null if the Key is absent.
+     */
+    public Value peek(Key key) {
+        final Cell<Key, Value> cell = this.cache.get(key);
+        return (cell == null) ? null : cell.value;
+    }
+
+    /**
+     * Stores a value for a Key and updates the query order, evicting an entry if the capacity is exceeded.
+     * @param key the target Key.
+     * @param value the new value.
+     * @return the previous value of the Key, else null if the Key was absent.
+     */
+    public Value put(Key key, Value value) {
+        final Cell<Key, Value> cell = this.cache.get(key);
+        if(cell == null) {
+            add(key, value);
+            return null;
         }
-        if(this.cache.size() > this.capacity) {
-            if(this.tail.prev != null) {
-                this.tail.prev.next = null;
-                this.cache.remove(this.tail.data);
-                this.tail = this.tail.prev;
-            }
+        final Value previous = cell.value;
+        cell.value = value;
+        touch(cell);
+        return previous;
+    }
+
+    /**
+     * Determines whether a Key is in this {@code FixedCacheStack}, without updating the query order.
+     * @param key the target Key.
+     * @return true if the Key is present, else false.
+     */
+    public boolean containsKey(Key key) {
+        return this.cache.containsKey(key);
+    }
+
+    /**
+     * Removes a Key from this {@code FixedCacheStack}.
+     * @param key the target Key.
+     * @return the value of the removed Key, else null if the Key was absent.
+     */
+    public Value remove(Key key) {
+        final Cell<Key, Value> cell = this.cache.remove(key);
+        if(cell == null) {
+            return null;
+        }
+        unlink(cell);
+        return cell.value;
+    }
+
+    /**
+     * Removes every entry from this {@code FixedCacheStack}, keeping its statistics.
+     */
+    public void clear() {
+        for(Cell<Key, Value> cell : new ArrayList<>(this.cache.values())) {
+            remove(cell.key);
         }
-        return dataWasRecentlyQueried;
     }
 
     /**
-     * Finds the number of times a specified Data value has been queried
-     * @param data the target Data value
-     * @return the number of recorded queries for the specified Data, else 0 if the value does not exist in this FixedCacheStack
+     * Finds the number of times a specified Key has been queried
+     * @param key the target Key
+     * @return the number of recorded queries for the specified Key, else 0 if the Key does not exist in this FixedCacheStack
      */
-    public int queries(Data data) {
-        Cell<Data> cell = this.cache.get(data);
+    public int queries(Key key) {
+        Cell<Key, Value> cell = this.cache.get(key);
         return cell == null ? 0 : cell.queries;
     }
 
@@ -79,6 +190,14 @@ public class FixedCacheStack<Data> implements Iterable<Data> {
         return this.capacity;
     }
 
+    /**
+     * Finds the eviction policy of this FixedCacheStack
+     * @return this.policy
+     */
+    public Policy policy() {
+        return this.policy;
+    }
+
     /**
      * Finds the current size of this FixedCacheStack
      * @return this.cache.size
@@ -88,27 +207,35 @@ public class FixedCacheStack<Data> implements Iterable<Data> {
     }
 
     /**
-     * Assembles a List of all Data values in this FixedCacheStack
+     * Takes a snapshot of the hit, miss and eviction counts of this FixedCacheStack
+     * @return the statistics
+     */
+    public CacheStatistics statistics() {
+        return new CacheStatistics(this.hits, this.misses, this.evictions);
+    }
+
+    /**
+     * Assembles a List of all Keys in this FixedCacheStack, from the most to the least recently queried
      * @return the desired List
      */
-    public List<Data> asList() {
-        List<Data> dataList = new LinkedList<>();
-        Cell<Data> cursor = this.head;
+    public List<Key> asList() {
+        List<Key> keyList = new LinkedList<>();
+        Cell<Key, Value> cursor = this.head;
         while(cursor != null) {
-            dataList.add(cursor.data);
-            cursor = cursor.next;
+            keyList.add(cursor.key);
+            cursor = cursor.older;
         }
-        return dataList;
+        return keyList;
     }
 
     /**
-     * Creates an Iterator over the elements of this FixedCacheStack
+     * Creates an Iterator over the Keys of this FixedCacheStack, from the most to the least recently queried
      * @return the Iterator
      */
     @Override
-    public Iterator<Data> iterator() {
+    public Iterator<Key> iterator() {
         return new Iterator<>() {
-            private Cell<Data> cursor = FixedCacheStack.this.head;
+            private Cell<Key, Value> cursor = FixedCacheStack.this.head;
 
             /**
              * Determines whether this Iterator has a next element
@@ -116,21 +243,21 @@ public class FixedCacheStack<Data> implements Iterable<Data> {
              */
             @Override
             public boolean hasNext() {
-                return this.cursor == null;
+                return this.cursor != null;
             }
 
             /**
              * Gets the next element in this FixedCacheStack and moves the cursor
-             * @return the next Data value
-             * @throws IllegalStateException if there is no next Data element
+             * @return the next Key
+             * @throws NoSuchElementException if there is no next Key
              */
             @Override
-            public Data next() {
+            public Key next() {
                 if(this.cursor == null) {
-                    throw new IllegalStateException();
+                    throw new NoSuchElementException();
                 }
-                Data target = this.cursor.data;
-                this.cursor = this.cursor.next;
+                Key target = this.cursor.key;
+                this.cursor = this.cursor.older;
                 return target;
             }
         };
@@ -139,29 +266,42 @@ public class FixedCacheStack<Data> implements Iterable<Data> {
     /**
      * Determines whether this FixedCacheStack is equal to a specified Object
      * @param o the comparator Object
-     * @return true if the Object is a FixedCacheStack with equivalent Data objects, else false
+     * @return true if the Object is a FixedCacheStack with equivalent Keys in the same query order, else false
      */
     @Override
     public boolean equals(Object o) {
-        if(! (o instanceof FixedCacheStack<?>)) {
+        if(! (o instanceof FixedCacheStack<?, ?>)) {
             return false;
         }
-        FixedCacheStack<?> oStack = (FixedCacheStack<?>) o;
+        FixedCacheStack<?, ?> oStack = (FixedCacheStack<?, ?>) o;
         if(oStack.cache.size() != this.cache.size()) {
             return false;
         }
-        Cell<Data> thisCursor = this.head;
-        Cell<?> oCursor = oStack.head;
+        Cell<Key, Value> thisCursor = this.head;
+        Cell<?, ?> oCursor = oStack.head;
         while(thisCursor != null) {
-            if(! thisCursor.data.equals(oCursor.data)) {
+            if(! Objects.equals(thisCursor.key, oCursor.key)) {
                 return false;
             }
-            thisCursor = thisCursor.next;
-            oCursor = oCursor.next;
+            thisCursor = thisCursor.older;
+            oCursor = oCursor.older;
         }
         return true;
     }
 
+    /**
+     * Hashes this FixedCacheStack consistently with {@link #equals(Object)}
+     * @return the hash of the Keys in query order
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for(Key key : this) {
+            hash = 31 * hash + Objects.hashCode(key);
+        }
+        return hash;
+    }
+
     /**
      * Converts this FixedCacheStack to a printable format
      * @return this FixedCacheStack as a String
@@ -169,11 +309,11 @@ public class FixedCacheStack<Data> implements Iterable<Data> {
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        Cell<Data> cursor = this.head;
+        Cell<Key, Value> cursor = this.head;
         String delimiter = "";
         while(cursor != null) {
-            builder.append(delimiter).append(cursor.data);
-            cursor = cursor.next;
+            builder.append(delimiter).append(cursor.key);
+            cursor = cursor.older;
             delimiter = ", ";
         }
         return "[" + builder + "]";
@@ -187,21 +327,308 @@ public class FixedCacheStack<Data> implements Iterable<Data> {
     }
 
     /**
-     * Stores different data values for
-     * @param <Data> the data type stored as payload in this FixedCacheStack
+     * Adds an absent Key and evicts an entry if the capacity is exceeded. Under TinyLFU the sketch counts
+     * the Key unless it was the last miss of {@link #get(Object)}, so that a miss followed by a put of the
+     * same Key counts as one query.
+     * @param key the new Key.
+     * @param value the value of the Key.
      */
-    private static class Cell<Data> {
-        Data data;
-        Cell<Data> next, prev;
+    private void add(Key key, Value value) {
+        final Cell<Key, Value> cell = new Cell<>(key, value);
+        this.cache.put(key, cell);
+        cell.queries = 1;
+        pushRecent(cell);
+        switch(this.policy) {
+            case LRU -> {
+                if(this.cache.size() > this.capacity) {
+                    evict(this.tail);
+                }
+            }
+            case LFU -> {
+                if(this.cache.size() > this.capacity) {
+                    evict(this.lowest.cells.last());
+                }
+                enterBucket(cell, null);
+            }
+            case TINY_LFU -> {
+                if(! Objects.equals(this.missed, key)) {
+                    this.sketch.increment(key);
+                }
+                this.missed = NO_MISS;
+                cell.ring = this.window;
+                this.window.addFirst(cell);
+                if(this.window.size > this.windowCapacity) {
+                    admit(this.window.last());
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a query of a present entry.
+     * @param cell the entry.
+     */
+    private void touch(Cell<Key, Value> cell) {
+        cell.queries++;
+        if(cell != this.head) {
+            unlinkRecent(cell);
+            pushRecent(cell);
+        }
+        switch(this.policy) {
+            case LRU -> { }
+            case LFU -> {
+                final Bucket<Key, Value> bucket = cell.bucket;
+                bucket.cells.remove(cell);
+                enterBucket(cell, bucket);
+                if(bucket.cells.size == 0) {
+                    removeBucket(bucket);
+                }
+            }
+            case TINY_LFU -> {
+                this.sketch.increment(cell.key);
+                final Ring<Key, Value> ring = cell.ring;
+                ring.remove(cell);
+                if(ring == this.window) {
+                    this.window.addFirst(cell);
+                } else {
+                    cell.ring = this.protect;
+                    this.protect.addFirst(cell);
+                    if(this.protect.size > this.protectCapacity) {
+                        final Cell<Key, Value> demoted = this.protect.last();
+                        this.protect.remove(demoted);
+                        demoted.ring = this.probation;
+                        this.probation.addFirst(demoted);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the oldest entry of the window into the main region, and if the capacity is exceeded
+     * evicts whichever of it and the main region's victim the sketch estimates to be less frequent.
+     * @param candidate the oldest entry of the window.
+     */
+    private void admit(Cell<Key, Value> candidate) {
+        this.window.remove(candidate);
+        candidate.ring = this.probation;
+        this.probation.addFirst(candidate);
+        if(this.cache.size() > this.capacity) {
+            Cell<Key, Value> victim = this.probation.last();
+            if(victim == candidate && this.protect.size > 0) {
+                victim = this.protect.last();
+            }
+            if(victim == candidate
+                    || this.sketch.frequency(candidate.key) <= this.sketch.frequency(victim.key)) {
+                evict(candidate);
+            } else {
+                evict(victim);
+            }
+        }
+    }
+
+    /**
+     * Removes an entry to respect the capacity.
+     * @param cell the evicted entry.
+     */
+    private void evict(Cell<Key, Value> cell) {
+        this.cache.remove(cell.key);
+        unlink(cell);
+        this.evictions++;
+    }
+
+    /**
+     * Detaches an entry from the recency list and from the structure of the eviction policy.
+     * @param cell the entry.
+     */
+    private void unlink(Cell<Key, Value> cell) {
+        unlinkRecent(cell);
+        if(cell.bucket != null) {
+            final Bucket<Key, Value> bucket = cell.bucket;
+            bucket.cells.remove(cell);
+            if(bucket.cells.size == 0) {
+                removeBucket(bucket);
+            }
+            cell.bucket = null;
+        }
+        if(cell.ring != null) {
+            cell.ring.remove(cell);
+            cell.ring = null;
+        }
+    }
+
+    /**
+     * Places an entry in the frequency bucket matching its query count, which is either the bucket
+     * after its previous bucket or a new bucket inserted there.
+     * @param cell the entry.
+     * @param previous the previous bucket of the entry, else null if the entry is new.
+     */
+    private void enterBucket(Cell<Key, Value> cell, Bucket<Key, Value> previous) {
+        Bucket<Key, Value> bucket = (previous == null) ? this.lowest : previous.next;
+        if(bucket == null || bucket.count != cell.queries) {
+            final Bucket<Key, Value> created = new Bucket<>(cell.queries);
+            if(previous == null) {
+                created.next = this.lowest;
+                if(this.lowest != null) {
+                    this.lowest.prev = created;
+                }
+                this.lowest = created;
+            } else {
+                created.prev = previous;
+                created.next = previous.next;
+                if(previous.next != null) {
+                    previous.next.prev = created;
+                }
+                previous.next = created;
+            }
+            bucket = created;
+        }
+        cell.bucket = bucket;
+        bucket.cells.addFirst(cell);
+    }
+
+    /**
+     * Unlinks an empty frequency bucket.
+     * @param bucket the bucket.
+     */
+    private void removeBucket(Bucket<Key, Value> bucket) {
+        if(bucket.prev == null) {
+            this.lowest = bucket.next;
+        } else {
+            bucket.prev.next = bucket.next;
+        }
+        if(bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+
+    /**
+     * Places an entry at the head of the recency list.
+     * @param cell the entry.
+     */
+    private void pushRecent(Cell<Key, Value> cell) {
+        cell.newer = null;
+        cell.older = this.head;
+        if(this.head == null) {
+            this.tail = cell;
+        } else {
+            this.head.newer = cell;
+        }
+        this.head = cell;
+    }
+
+    /**
+     * Detaches an entry from the recency list.
+     * @param cell the entry.
+     */
+    private void unlinkRecent(Cell<Key, Value> cell) {
+        if(cell.newer == null) {
+            this.head = cell.older;
+        } else {
+            cell.newer.older = cell.older;
+        }
+        if(cell.older == null) {
+            this.tail = cell.newer;
+        } else {
+            cell.older.newer = cell.newer;
+        }
+        cell.newer = null;
+        cell.older = null;
+    }
+
+    /**
+     * Stores a Key, its value and its position in the recency list and in the eviction policy
+     * @param <Key> the key type stored in this FixedCacheStack
+     * @param <Value> the value type stored in this FixedCacheStack
+     */
+    private static class Cell<Key, Value> {
+        final Key key;
+        Value value;
+        Cell<Key, Value> newer, older, prev, next;
+        Ring<Key, Value> ring;
+        Bucket<Key, Value> bucket;
         int queries;
 
         /**
          * Creates a new Cell with a specified payload
-         * @param data the target Data payload
+         * @param key the target Key
+         * @param value the value of the Key
          */
-        public Cell(Data data) {
-            this.data = data;
+        public Cell(Key key, Value value) {
+            this.key = key;
+            this.value = value;
             this.queries = 0;
         }
     }
+
+    /**
+     * A circular list of Cells around a sentinel, ordered from the most to the least recently queried
+     * @param <Key> the key type stored in this FixedCacheStack
+     * @param <Value> the value type stored in this FixedCacheStack
+     */
+    private static class Ring<Key, Value> {
+        final Cell<Key, Value> sentinel;
+        int size;
+
+        /**
+         * Creates a new, empty Ring
+         */
+        public Ring() {
+            this.sentinel = new Cell<>(null, null);
+            this.sentinel.prev = this.sentinel;
+            this.sentinel.next = this.sentinel;
+        }
+
+        /**
+         * Places a Cell at the front of this Ring
+         * @param cell the Cell
+         */
+        void addFirst(Cell<Key, Value> cell) {
+            cell.prev = this.sentinel;
+            cell.next = this.sentinel.next;
+            this.sentinel.next.prev = cell;
+            this.sentinel.next = cell;
+            this.size++;
+        }
+
+        /**
+         * Detaches a Cell of this Ring
+         * @param cell the Cell
+         */
+        void remove(Cell<Key, Value> cell) {
+            cell.prev.next = cell.next;
+            cell.next.prev = cell.prev;
+            cell.prev = null;
+            cell.next = null;
+            this.size--;
+        }
+
+        /**
+         * Finds the Cell at the back of this Ring
+         * @return the least recently queried Cell
+         */
+        Cell<Key, Value> last() {
+            return this.sentinel.prev;
+        }
+    }
+
+    /**
+     * The Cells sharing a query count, linked to the buckets of the neighboring counts
+     * @param <Key> the key type stored in this FixedCacheStack
+     * @param <Value> the value type stored in this FixedCacheStack
+     */
+    private static class Bucket<Key, Value> {
+        final int count;
+        final Ring<Key, Value> cells;
+        Bucket<Key, Value> prev, next;
+
+        /**
+         * Creates a new, empty Bucket
+         * @param count the query count of the Bucket
+         */
+        public Bucket(int count) {
+            this.count = count;
+            this.cells = new Ring<>();
+        }
+    }
 }
@@ -4,20 +4,23 @@ import Algebra.Fraction;
 
 import java.util.*;
 
+/**
+ * A multiset of Fractions that keeps its statistics current as elements are added and removed. The
+ * elements are held in an order-statistic {@link RBT}, so that quantiles cost a logarithmic selection
+ * instead of a sort, and the exact running sums of the elements and of their squares give the mean and
+ * the variance in constant time. Groups built in parallel can be combined with {@link #merge(FractionGroup)};
+ * for streams too large to hold, see {@link RunningStatistics} and {@link QuantileSketch}.
+ */
 public class FractionGroup extends DataGroup<Fraction> {
-    private final HashMap<Fraction, Integer> map;
-    private int size;
+    private final RBT<Fraction> tree;
+    private Fraction sum, sumOfSquares;
 
     /**
      * Creates a new FractionGroup
      * @param f an array of given Fractions
      */
     public FractionGroup(Fraction... f) {
-        this.map = new HashMap<>();
-        for(Fraction n : f) {
-            add(n, false);
-        }
-        this.size = f.length;
+        this(Arrays.asList(f));
     }
 
     /**
@@ -25,39 +28,38 @@ public class FractionGroup extends DataGroup<Fraction> {
      * @param f a List of given Fractions
      */
     public FractionGroup(Collection<Fraction> f) {
-        this.map = new HashMap<>();
+        this.tree = new RBT<>(f);
+        this.sum = Fraction.ZERO;
+        this.sumOfSquares = Fraction.ZERO;
         for(Fraction n : f) {
-            add(n, false);
+            accumulate(n, 1);
         }
-        this.size = f.size();
     }
 
     /**
      * Adds an element to the FractionGroup
      * @param f the new element
+     * @return true if the target Fraction was a new value in this FractionGroup, else false
      */
     @Override
     public boolean add(Fraction f) {
-        return add(f, true);
+        final boolean isNew = ! this.tree.contains(f);
+        this.tree.insert(f);
+        accumulate(f, 1);
+        return isNew;
     }
 
     /**
-     * Adds a Fraction to this FractionGroup
-     * @param f the new Fraction
-     * @param incrementTotal true if the population should be incremented in this method, else false
-     * @return true if the target Fraction was a new value in this FractionGroup, else false
+     * Adds every element of another FractionGroup to this FractionGroup, as when combining groups
+     * that were filled in parallel
+     * @param group the other FractionGroup
+     * @return this FractionGroup
      */
-    private boolean add(Fraction f, boolean incrementTotal) {
-        Integer count = this.map.get(f);
-        if(incrementTotal) {
-            this.size++;
-        }
-        if(count == null) {
-            this.map.put(f, 1);
-            return true;
-        }
-        this.map.replace(f, count + 1);
-        return false;
+    public FractionGroup merge(FractionGroup group) {
+        this.tree.insertAll(group.tree);
+        this.sum = this.sum.add(group.sum);
+        this.sumOfSquares = this.sumOfSquares.add(group.sumOfSquares);
+        return this;
     }
 
     /**
@@ -67,14 +69,10 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     @Override
     public boolean remove(Fraction f) {
-        Integer count = this.map.remove(f);
-        if(count == null) {
+        if(! this.tree.remove(f)) {
             return false;
         }
-        if(count > 1) {
-            this.map.put(f, count - 1);
-            this.size--;
-        }
+        accumulate(f, -1);
         return true;
     }
 
@@ -85,28 +83,31 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     @Override
     public int removeAll(Fraction f) {
-        Integer count = this.map.remove(f);
-        if(count == null) {
-            count = 0;
-        } else {
-            this.size -= count;
-        }
+        final int count = this.tree.removeAll(f);
+        accumulate(f, -count);
         return count;
     }
 
+    /**
+     * Updates the running sums for instances of a Fraction entering or leaving this FractionGroup
+     * @param f the Fraction
+     * @param count the number of instances added, or the negated number removed
+     */
+    private void accumulate(Fraction f, int count) {
+        if(count != 0) {
+            final Fraction weighted = f.multiply(new Fraction(count));
+            this.sum = this.sum.add(weighted);
+            this.sumOfSquares = this.sumOfSquares.add(weighted.multiply(f));
+        }
+    }
+
     /**
      * Finds the maximum value in this FractionGroup
      * @return the unique value F such that f<=F for all 'f' in this FractionGroup
      */
     @Override
     public Fraction max() {
-        Fraction max = null;
-        for(Fraction f : this.map.keySet()) {
-            if(max == null || max.compareTo(f) > 0) {
-                max = f;
-            }
-        }
-        return max;
+        return this.tree.max();
     }
 
     /**
@@ -115,13 +116,16 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     @Override
     public Fraction min() {
-        Fraction min = null;
-        for(Fraction f : this.map.keySet()) {
-            if(min == null || min.compareTo(f) < 0) {
-                min = f;
-            }
-        }
-        return min;
+        return this.tree.min();
+    }
+
+    /**
+     * Finds the population of this FractionGroup
+     * @return the number of elements, counting repeats
+     */
+    @Override
+    public int size() {
+        return this.tree.size();
     }
 
     /**
@@ -140,19 +144,7 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     @Override
     public List<Fraction> modes() {
-        Integer maxCount = 0;
-        List<Fraction> modes = new LinkedList<>();
-        for(Fraction f : this.map.keySet()) {
-            int count = this.map.get(f), compareTo = maxCount.compareTo(count);
-            if(compareTo <= 0) {
-                if(compareTo < 0) {
-                    modes.clear();
-                    maxCount = count;
-                }
-                modes.add(f);
-            }
-        }
-        return modes;
+        return this.tree.modes();
     }
 
     /**
@@ -160,11 +152,7 @@ public class FractionGroup extends DataGroup<Fraction> {
      * @return the average value in this FractionGroup
      */
     public Fraction arithmeticMean() {
-        Fraction sum = Fraction.ZERO;
-        for(Fraction f : this.map.keySet()) {
-            sum = sum.add(f.multiply(new Fraction(this.map.get(f))));
-        }
-        return sum.divide(new Fraction(this.size));
+        return this.sum.divide(new Fraction(size()));
     }
 
     /**
@@ -173,8 +161,8 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     public Fraction parallelSum() {
         Fraction sum = Fraction.ZERO;
-        for(Fraction f : this.map.keySet()) {
-            sum = sum.add(f.inverse().multiply(new Fraction(this.map.get(f))));
+        for(Fraction f : this.tree.getDistinctList()) {
+            sum = sum.add(f.inverse().multiply(new Fraction(this.tree.getQuantity(f))));
         }
         return sum.inverse();
     }
@@ -184,7 +172,7 @@ public class FractionGroup extends DataGroup<Fraction> {
      * @return the inverse mean of the inverses of the values in this FractionGroup
      */
     public Fraction harmonicMean() {
-        return new Fraction(this.size).multiply(parallelSum());
+        return new Fraction(size()).multiply(parallelSum());
     }
 
     /**
@@ -194,8 +182,8 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     public Fraction LehmerMean(int pow) {
         Fraction nSum = Fraction.ZERO, divisorSum = Fraction.ZERO;
-        for(Fraction f : this.map.keySet()) {
-            Fraction term = new Fraction(this.map.get(f)).multiply(f.pow(pow - 1));
+        for(Fraction f : this.tree.getDistinctList()) {
+            Fraction term = new Fraction(this.tree.getQuantity(f)).multiply(f.pow(pow - 1));
             divisorSum = divisorSum.add(term);
             nSum = nSum.add(term.multiply(f));
         }
@@ -203,20 +191,15 @@ public class FractionGroup extends DataGroup<Fraction> {
     }
 
     /**
-     * Finds the variance of this FractionGroup
+     * Finds the variance of this FractionGroup from its running sums, which is exact because
+     * Fraction arithmetic does not round
      * @param isSample true if this FractionGroup is a sample, else false (population)
      * @return the average squared distance to the mean
      */
     public Fraction variance(boolean isSample) {
-        Fraction variance = Fraction.ZERO;
-        for(Fraction f : this.map.keySet()) {
-            variance = variance.add(f.multiply(f).multiply(new Fraction(this.map.get(f))));
-        }
-        variance = variance.divide(new Fraction(this.size)).subtract(this.arithmeticMean().pow(2));
-        if(isSample) {
-            variance = variance.multiply(Fraction.ONE.add(new Fraction(1, this.size - 1)));
-        }
-        return variance;
+        final int size = size();
+        final Fraction squaredDeviations = this.sumOfSquares.subtract(this.sum.multiply(this.sum).divide(new Fraction(size)));
+        return squaredDeviations.divide(new Fraction(isSample ? size - 1 : size));
     }
 
     /**
@@ -247,7 +230,7 @@ public class FractionGroup extends DataGroup<Fraction> {
         if(dividend < 0 || quantile < 1) {
             throw new IllegalArgumentException();
         }
-        Fraction rawIndex = new Fraction(dividend, quantile).multiply(new Fraction(this.size));
+        Fraction rawIndex = new Fraction(dividend, quantile).multiply(new Fraction(size()));
         List<Fraction> elements = elementsAtIndices(rawIndex.floor().intValue(), rawIndex.round().intValue());
         return elements.get(0).add(elements.get(1)).divide(new Fraction(2)); // Finds the mean of two consecutive values
     }
@@ -258,24 +241,12 @@ public class FractionGroup extends DataGroup<Fraction> {
      * @return the set of elements
      */
     public List<Fraction> elementsAtIndices(int... indices) {
-        List<Fraction> sortedKeyList = new BST<>(this.map.keySet()).getOrderedList();
-        HashMap<Fraction, Integer> accumulativeMap = new HashMap<>();
-        int count = 0;
-        for(Fraction f : sortedKeyList) {
-            count += this.map.get(f);
-            accumulativeMap.put(f, count);
-        }
-        List<Fraction> elementsAtIndices = new LinkedList<>();
+        List<Fraction> elementsAtIndices = new ArrayList<>(indices.length);
         for(int i : indices) {
-            if(i >= this.size) {
+            if(i >= size()) {
                 throw new IndexOutOfBoundsException();
             }
-            ListIterator<Fraction> iterator = sortedKeyList.listIterator();
-            Fraction target = iterator.next();
-            while(accumulativeMap.get(target) < i) {
-                target = iterator.next();
-            }
-            elementsAtIndices.add(target);
+            elementsAtIndices.add(this.tree.select(Math.max(i - 1, 0))); // The first element whose cumulative count reaches i
         }
         return elementsAtIndices;
     }
@@ -286,7 +257,7 @@ public class FractionGroup extends DataGroup<Fraction> {
      *              if a appears before b then a<=b
      */
     public List<Fraction> sortedDistinctList() {
-        return new BST<>(this.map.keySet()).getOrderedList();
+        return this.tree.getDistinctList();
     }
 
     /**
@@ -296,32 +267,14 @@ public class FractionGroup extends DataGroup<Fraction> {
      */
     @Override
     public boolean contains(Fraction f) {
-        return this.map.containsKey(f);
+        return this.tree.contains(f);
     }
 
     /**
-     * Provides an Iterator over the Fractions in this FractionGroup
+     * Provides an Iterator over the Fractions in this FractionGroup, in increasing order with repeats
      * @return the Iterator
      */
     public Iterator<Fraction> iterator() {
-        return new Iterator<>() {
-            private final List<Fraction> list = FractionGroup.this.sortedDistinctList();
-            private int individualCount = 0, itemCount = 0, totalCount = 0;
-
-            /**
-             * Determines whether there is another element in this FractionGroup
-             * @return true if the total counter 
-             */
-            @Override
-            public boolean hasNext() {
-                return this.totalCount < FractionGroup.this.size;
-            }
-
-            @Override
-            public Fraction next() {
-                this.totalCount++;
-                return null;
-            }
-        };
+        return this.tree.getOrderedList().iterator();
     }
-}
\ No newline at end of file
+}
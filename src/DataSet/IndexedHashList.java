@@ -0,0 +1,827 @@
+package DataSet;
+
+import General.TrueTextEncodable;
+
+import java.util.*;
+
+/**
+ * Maintains an ordered set of unique elements with positional access, as an array-backed alternative to
+ * {@link HashList}. The order is kept in a tiered vector: a list of fixed-capacity array blocks whose
+ * capacity tracks the square root of the size, so that {@code get}, {@code insert}, {@code remove} and
+ * {@code indexOf} at any position take {@code O(sqrt n)} time instead of a pointer walk. Membership is
+ * kept in an open-addressing hash table that maps each element to the block holding it.
+ * @param <Value> the stored data type.
+ * @see HashList
+ */
+public class IndexedHashList<Value> implements Iterable<Value>, TrueTextEncodable {
+    private static final int MIN_BLOCK_CAPACITY = 64, MIN_TABLE_CAPACITY = 16;
+    private static final Object NULL = new Object();
+    private Block[] blocks;
+    private int blockCount, blockCapacity, size;
+    private Object[] keys;
+    private Block[] owners;
+
+    /**
+     * Creates a new, empty {@code IndexedHashList}.
+     */
+    public IndexedHashList() {
+        clear();
+    }
+
+    /**
+     * Creates an {@code IndexedHashList} with a starter set of {@code Values}.
+     * @param values the list of starter {@code Values} for this {@code IndexedHashList}.
+     */
+    public IndexedHashList(Iterable<Value> values) {
+        clear();
+        addAll(values);
+    }
+
+    /**
+     * Adds a {@code Value} to the end of this {@code IndexedHashList}.
+     * @param value the target {@code Value}.
+     * @return {@code true} if the target {@code Value} was successfully added
+     * to this {@code IndexedHashList}, else {@code false} if the {@code Value} was
+     * already contained in this {@code IndexedHashList}.
+     */
+    public boolean add(Value value) {
+        return insertAt(this.size, mask(value));
+    }
+
+    /**
+     * Adds a list of {@code Values} to the end of this {@code IndexedHashList}.
+     * @param iterable the target {@code Iterable}.
+     * @return {@code true} if all new elements were successfully added to this
+     * {@code IndexedHashList}, else {@code false} if at least one element already existed
+     * in this {@code IndexedHashList}.
+     */
+    public boolean addAll(Iterable<Value> iterable) {
+        boolean allElementsAreOriginal = true;
+        for(Value value : iterable) {
+            allElementsAreOriginal &= add(value);
+        }
+        return allElementsAreOriginal;
+    }
+
+    /**
+     * Inserts a {@code Value} into this {@code IndexedHashList} at the specified index.
+     * @param index the index of this {@code IndexedHashList}.
+     * @param value the target {@code Value}.
+     * @return {@code true} if the {@code Value} was inserted, else {@code false}
+     * if it was already contained in this {@code IndexedHashList}.
+     * @throws IndexOutOfBoundsException if the insertion index is not included in
+     * the {@code IndexedHashList}.
+     */
+    public boolean insert(int index, Value value) throws IndexOutOfBoundsException {
+        if(index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return insertAt(index, mask(value));
+    }
+
+    /**
+     * Inserts a {@code Value} before another target {@code Value} in this {@code IndexedHashList}.
+     * @param target the {@code Value} to be used as a reference for placement.
+     * @param value the new {@code Value} to be added to this {@code IndexedHashList}.
+     * @return {@code true} if the reference {@code Value} exists in this {@code IndexedHashList}
+     * and the new {@code Value} was inserted, else {@code false}.
+     */
+    public boolean insertBefore(Value target, Value value) {
+        final int index = indexOf(target);
+        return index >= 0 && insertAt(index, mask(value));
+    }
+
+    /**
+     * Inserts a {@code Value} after another target {@code Value} in this {@code IndexedHashList}.
+     * @param target the {@code Value} to be used as a reference for placement.
+     * @param value the new {@code Value} to be added to this {@code IndexedHashList}.
+     * @return {@code true} if the reference {@code Value} exists in this {@code IndexedHashList}
+     * and the new {@code Value} was inserted, else {@code false}.
+     */
+    public boolean insertAfter(Value target, Value value) {
+        final int index = indexOf(target);
+        return index >= 0 && insertAt(index + 1, mask(value));
+    }
+
+    /**
+     * Checks if this {@code IndexedHashList} contains a key.
+     * @param value the target {@code Value}.
+     * @return {@code true} if this {@code IndexedHashList} contains the target key,
+     * else {@code false}.
+     */
+    public boolean contains(Value value) {
+        return find(mask(value)) >= 0;
+    }
+
+    /**
+     * Determines if this {@code IndexedHashList} contains all of a collection of {@code Values}.
+     * @param c the target {@code Values}.
+     * @return {@code true} if all {@code Values} are in this {@code IndexedHashList}, else {@code false}.
+     */
+    public boolean containsAll(Iterable<? extends Value> c) {
+        for(Value value : c) {
+            if(! contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether this {@code IndexedHashList} contains any of a collection of {@code Values}.
+     * @param c the target {@code Values}.
+     * @return {@code true} if any of the {@code Values} are contained in this
+     * {@code IndexedHashList}, else {@code false}.
+     */
+    public boolean containsAny(Iterable<? extends Value> c) {
+        for(Value value : c) {
+            if(contains(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the stored {@code Value} equal to a specified key.
+     * @param value the key.
+     * @return the equal {@code Value} held by this {@code IndexedHashList}, else
+     * {@code null} if there is none.
+     */
+    public Value get(Value value) {
+        final int slot = find(mask(value));
+        return (slot < 0) ? null : unmask(this.keys[slot]);
+    }
+
+    /**
+     * Gets the {@code Value} located at a specific index in this {@code IndexedHashList}.
+     * @param index the target index.
+     * @return the target {@code Value}.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public Value get(int index) throws IndexOutOfBoundsException {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final long location = locate(index);
+        return unmask(this.blocks[(int) (location >>> 32)].values[(int) location]);
+    }
+
+    /**
+     * Replaces the {@code Value} at a specific index in this {@code IndexedHashList}.
+     * @param index the target index.
+     * @param value the new {@code Value}.
+     * @return the replaced {@code Value}.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     * @throws IllegalArgumentException if the new {@code Value} is contained in this
+     * {@code IndexedHashList} at a different index.
+     */
+    public Value set(int index, Value value) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final long location = locate(index);
+        final Block block = this.blocks[(int) (location >>> 32)];
+        final Object previous = block.values[(int) location], masked = mask(value);
+        if(! previous.equals(masked)) {
+            if(find(masked) >= 0) {
+                throw new IllegalArgumentException();
+            }
+            delete(find(previous));
+            put(masked, block);
+            block.values[(int) location] = masked;
+        }
+        return unmask(previous);
+    }
+
+    /**
+     * Removes a specific element from this {@code IndexedHashList}.
+     * @param value the target {@code Value}.
+     * @return {@code true} if the desired element was successfully removed, else
+     * {@code false} if the element did not previously exist in this {@code IndexedHashList}.
+     */
+    public boolean remove(Value value) {
+        final int index = indexOf(value);
+        if(index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes from this {@code IndexedHashList} the element at a specified index.
+     * @param index the target index.
+     * @return the {@code Value} removed from this {@code IndexedHashList}.
+     * @throws IndexOutOfBoundsException if the target index is negative or
+     * at least the length of this {@code IndexedHashList}.
+     */
+    public Value remove(int index) throws IndexOutOfBoundsException {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unmask(removeAt(index));
+    }
+
+    /**
+     * Creates an {@code IndexedHashList} of consecutive elements from this {@code IndexedHashList}.
+     * @param fromIndex the first index (inclusive) where an element is referenced.
+     * @param toIndex the last index (exclusive) where an element is referenced.
+     * @return the subset {@code IndexedHashList}.
+     * @throws IndexOutOfBoundsException if the indices are out of order or outside this {@code IndexedHashList}.
+     */
+    public IndexedHashList<Value> subList(int fromIndex, int toIndex) throws IndexOutOfBoundsException {
+        if(fromIndex > toIndex || fromIndex < 0 || toIndex > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        final IndexedHashList<Value> list = new IndexedHashList<>();
+        if(fromIndex == toIndex) {
+            return list;
+        }
+        final long location = locate(fromIndex);
+        int blockIndex = (int) (location >>> 32), offset = (int) location;
+        for(int i = fromIndex; i < toIndex; i++) {
+            while(offset == this.blocks[blockIndex].count) {
+                blockIndex++;
+                offset = 0;
+            }
+            list.insertAt(list.size, this.blocks[blockIndex].values[offset++]);
+        }
+        return list;
+    }
+
+    /**
+     * Finds the {@code Value} at the head of this {@code IndexedHashList}.
+     * @return the first {@code Value}.
+     * @throws NoSuchElementException if this {@code IndexedHashList} is empty.
+     */
+    public Value getHead() throws NoSuchElementException {
+        if(this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    /**
+     * Finds the {@code Value} at the tail of this {@code IndexedHashList}.
+     * @return the last {@code Value}.
+     * @throws NoSuchElementException if this {@code IndexedHashList} is empty.
+     */
+    public Value getTail() throws NoSuchElementException {
+        if(this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(this.size - 1);
+    }
+
+    /**
+     * Finds the size of this {@code IndexedHashList}.
+     * @return {@code this.size}
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the index of a specific {@code Value} in this {@code IndexedHashList}.
+     * @param value the target {@code Value}.
+     * @return the number of elements before this {@code Value}, else {@code -1}
+     * if this {@code Value} is not in this {@code IndexedHashList}.
+     */
+    public int indexOf(Value value) {
+        final int slot = find(mask(value));
+        if(slot < 0) {
+            return -1;
+        }
+        final Object key = this.keys[slot];
+        final Block block = this.owners[slot];
+        int index = 0;
+        for(int i = 0; i < block.index; i++) {
+            index += this.blocks[i].count;
+        }
+        int offset = 0;
+        while(block.values[offset] != key) {
+            offset++;
+        }
+        return index + offset;
+    }
+
+    /**
+     * Determines if this {@code IndexedHashList} is empty.
+     * @return {@code true} if this {@code IndexedHashList} has no elements, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Clears this {@code IndexedHashList}.
+     */
+    public void clear() {
+        this.blocks = new Block[4];
+        this.blockCount = 0;
+        this.blockCapacity = MIN_BLOCK_CAPACITY;
+        this.size = 0;
+        this.keys = new Object[MIN_TABLE_CAPACITY];
+        this.owners = new Block[MIN_TABLE_CAPACITY];
+    }
+
+    /**
+     * Provides the TrueText of this {@code IndexedHashList}.
+     * @return this {@code IndexedHashList} in a parsable format.
+     */
+    @Override
+    public String trueText() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(Value value : this) {
+            builder.append(delimiter).append(value);
+            delimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this {@code IndexedHashList} to a printable format.
+     * @return this {@code IndexedHashList} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(Value value : this) {
+            builder.append(delimiter).append(value);
+            delimiter = ", ";
+        }
+        return "[" + builder + "]";
+    }
+
+    /**
+     * Prints this {@code IndexedHashList}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Returns an {@code Iterator} over all elements in this {@code IndexedHashList}.
+     * @return the desired {@code Iterator}.
+     */
+    @Override
+    public Iterator<Value> iterator() {
+        return listIterator();
+    }
+
+    /**
+     * Returns a {@code ListIterator} over all elements in this {@code IndexedHashList}, starting
+     * at the head. Sequential steps take amortized constant time.
+     * @return the desired {@code ListIterator}.
+     */
+    public ListIterator<Value> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a {@code ListIterator} over all elements in this {@code IndexedHashList}, starting
+     * before a specified index.
+     * @param index the index of the first element returned by {@code next()}.
+     * @return the desired {@code ListIterator}.
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the size.
+     */
+    public ListIterator<Value> listIterator(int index) throws IndexOutOfBoundsException {
+        if(index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new ListIterator<>() {
+            private int cursor = index, lastReturned = -1, blockIndex = -1, blockStart = 0;
+
+            /**
+             * Determines if this {@code ListIterator} has another element.
+             * @return {@code true} if there is at least one unvisited element after the cursor, else {@code false}.
+             */
+            @Override
+            public boolean hasNext() {
+                return this.cursor < IndexedHashList.this.size;
+            }
+
+            /**
+             * Gets the next element of this {@code ListIterator} if one exists.
+             * @return the next {@code Value} in this {@code ListIterator}.
+             * @throws NoSuchElementException when there is no next element.
+             */
+            @Override
+            public Value next() {
+                if(! hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.lastReturned = this.cursor;
+                return valueAt(this.cursor++);
+            }
+
+            /**
+             * Determines whether there is an element in this {@code ListIterator} before the cursor.
+             * @return {@code true} if such a {@code Value} exists, else {@code false}
+             * if the cursor is at the beginning of this {@code IndexedHashList}.
+             */
+            @Override
+            public boolean hasPrevious() {
+                return this.cursor > 0;
+            }
+
+            /**
+             * Gets the previous element from this {@code ListIterator}.
+             * @return the previous {@code Value} if one exists.
+             * @throws NoSuchElementException if there is no previous element.
+             */
+            @Override
+            public Value previous() {
+                if(! hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                this.lastReturned = --this.cursor;
+                return valueAt(this.cursor);
+            }
+
+            /**
+             * Gets the index of the element that would be returned by {@code next()}.
+             * @return {@code this.cursor}
+             */
+            @Override
+            public int nextIndex() {
+                return this.cursor;
+            }
+
+            /**
+             * Gets the index of the element that would be returned by {@code previous()}.
+             * @return {@code this.cursor - 1}
+             */
+            @Override
+            public int previousIndex() {
+                return this.cursor - 1;
+            }
+
+            /**
+             * Removes the element last returned by {@code next()} or {@code previous()}.
+             * @throws IllegalStateException if neither has been called since the last
+             * {@code remove()} or {@code add()} invocation.
+             */
+            @Override
+            public void remove() {
+                if(this.lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                IndexedHashList.this.removeAt(this.lastReturned);
+                if(this.lastReturned < this.cursor) {
+                    this.cursor--;
+                }
+                this.lastReturned = -1;
+                this.blockIndex = -1;
+            }
+
+            /**
+             * Replaces the element last returned by {@code next()} or {@code previous()}.
+             * @param value the new {@code Value}.
+             * @throws IllegalStateException if neither has been called since the last
+             * {@code remove()} or {@code add()} invocation.
+             * @throws IllegalArgumentException if the new {@code Value} is contained in this
+             * {@code IndexedHashList} at a different index.
+             */
+            @Override
+            public void set(Value value) {
+                if(this.lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                IndexedHashList.this.set(this.lastReturned, value);
+            }
+
+            /**
+             * Inserts an element before the cursor, unless it is already contained in this
+             * {@code IndexedHashList}.
+             * @param value the new {@code Value}.
+             */
+            @Override
+            public void add(Value value) {
+                if(IndexedHashList.this.insertAt(this.cursor, mask(value))) {
+                    this.cursor++;
+                }
+                this.lastReturned = -1;
+                this.blockIndex = -1;
+            }
+
+            /**
+             * Reads the element at an index, stepping between neighboring blocks in constant time.
+             * @param target the index.
+             * @return the element.
+             */
+            private Value valueAt(int target) {
+                final Block[] blocks = IndexedHashList.this.blocks;
+                if(this.blockIndex >= 0) {
+                    if(target == this.blockStart + blocks[this.blockIndex].count) {
+                        this.blockStart += blocks[this.blockIndex++].count;
+                    } else if(target == this.blockStart - 1) {
+                        this.blockStart -= blocks[--this.blockIndex].count;
+                    }
+                }
+                if(this.blockIndex < 0 || target < this.blockStart
+                        || target >= this.blockStart + blocks[this.blockIndex].count) {
+                    final long location = locate(target);
+                    this.blockIndex = (int) (location >>> 32);
+                    this.blockStart = target - (int) location;
+                }
+                return unmask(blocks[this.blockIndex].values[target - this.blockStart]);
+            }
+        };
+    }
+
+    /**
+     * Inserts an element at an index, splitting its block if the block is full.
+     * @param index the index, in {@code [0, this.size]}.
+     * @param key the masked element.
+     * @return {@code true} if the element was inserted, else {@code false} if it was already contained.
+     */
+    private boolean insertAt(int index, Object key) {
+        if(find(key) >= 0) {
+            return false;
+        }
+        Block block;
+        int offset;
+        if(this.blockCount == 0) {
+            block = insertBlock(0);
+            offset = 0;
+        } else if(index == this.size) {
+            block = this.blocks[this.blockCount - 1];
+            offset = block.count;
+            if(offset == this.blockCapacity) {
+                // appending starts a new block rather than splitting a full one
+                block = insertBlock(this.blockCount);
+                offset = 0;
+            }
+        } else {
+            final long location = locate(index);
+            block = this.blocks[(int) (location >>> 32)];
+            offset = (int) location;
+            if(block.count == this.blockCapacity) {
+                final Block upper = split(block);
+                if(offset > block.count) {
+                    offset -= block.count;
+                    block = upper;
+                }
+            }
+        }
+        System.arraycopy(block.values, offset, block.values, offset + 1, block.count - offset);
+        block.values[offset] = key;
+        block.count++;
+        this.size++;
+        put(key, block);
+        if(this.blockCount > this.blockCapacity << 1) {
+            rebuild(this.blockCapacity << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes the element at an index, merging its block with the next block if both are sparse.
+     * @param index the index, in {@code [0, this.size)}.
+     * @return the masked element.
+     */
+    private Object removeAt(int index) {
+        final long location = locate(index);
+        final Block block = this.blocks[(int) (location >>> 32)];
+        final int offset = (int) location;
+        final Object key = block.values[offset];
+        System.arraycopy(block.values, offset + 1, block.values, offset, block.count - offset - 1);
+        block.values[--block.count] = null;
+        this.size--;
+        delete(find(key));
+        if(block.count == 0) {
+            removeBlock(block.index);
+        } else if(block.index + 1 < this.blockCount
+                && block.count + this.blocks[block.index + 1].count <= this.blockCapacity >>> 1) {
+            merge(block, this.blocks[block.index + 1]);
+        }
+        return key;
+    }
+
+    /**
+     * Finds the block and offset of an index.
+     * @param index the index, in {@code [0, this.size)}.
+     * @return the block index in the upper 32 bits and the offset within the block in the lower 32 bits.
+     */
+    private long locate(int index) {
+        if(index < this.size >>> 1) {
+            int blockIndex = 0;
+            while(index >= this.blocks[blockIndex].count) {
+                index -= this.blocks[blockIndex++].count;
+            }
+            return ((long) blockIndex << 32) | index;
+        }
+        int blockIndex = this.blockCount - 1, remaining = this.size - index;
+        while(remaining > this.blocks[blockIndex].count) {
+            remaining -= this.blocks[blockIndex--].count;
+        }
+        return ((long) blockIndex << 32) | (this.blocks[blockIndex].count - remaining);
+    }
+
+    /**
+     * Moves the upper half of a full block into a new block after it.
+     * @param block the full block.
+     * @return the new block.
+     */
+    private Block split(Block block) {
+        final Block upper = insertBlock(block.index + 1);
+        final int keep = block.count >>> 1;
+        upper.count = block.count - keep;
+        System.arraycopy(block.values, keep, upper.values, 0, upper.count);
+        Arrays.fill(block.values, keep, block.count, null);
+        block.count = keep;
+        for(int i = 0; i < upper.count; i++) {
+            this.owners[find(upper.values[i])] = upper;
+        }
+        return upper;
+    }
+
+    /**
+     * Moves all elements of a block into the block before it, and removes the emptied block.
+     * @param block the receiving block.
+     * @param next the block after it.
+     */
+    private void merge(Block block, Block next) {
+        System.arraycopy(next.values, 0, block.values, block.count, next.count);
+        for(int i = 0; i < next.count; i++) {
+            this.owners[find(next.values[i])] = block;
+        }
+        block.count += next.count;
+        removeBlock(next.index);
+    }
+
+    /**
+     * Creates an empty block at a position in the block list.
+     * @param blockIndex the position.
+     * @return the new block.
+     */
+    private Block insertBlock(int blockIndex) {
+        if(this.blockCount == this.blocks.length) {
+            this.blocks = Arrays.copyOf(this.blocks, this.blockCount << 1);
+        }
+        System.arraycopy(this.blocks, blockIndex, this.blocks, blockIndex + 1, this.blockCount - blockIndex);
+        final Block block = new Block(this.blockCapacity);
+        this.blocks[blockIndex] = block;
+        this.blockCount++;
+        for(int i = blockIndex; i < this.blockCount; i++) {
+            this.blocks[i].index = i;
+        }
+        return block;
+    }
+
+    /**
+     * Removes a block from the block list.
+     * @param blockIndex the position of the block.
+     */
+    private void removeBlock(int blockIndex) {
+        System.arraycopy(this.blocks, blockIndex + 1, this.blocks, blockIndex, this.blockCount - blockIndex - 1);
+        this.blocks[--this.blockCount] = null;
+        for(int i = blockIndex; i < this.blockCount; i++) {
+            this.blocks[i].index = i;
+        }
+    }
+
+    /**
+     * Repacks all elements into half-full blocks of a new capacity.
+     * @param blockCapacity the new block capacity.
+     */
+    private void rebuild(int blockCapacity) {
+        final Object[] values = new Object[this.size];
+        int index = 0;
+        for(int i = 0; i < this.blockCount; i++) {
+            System.arraycopy(this.blocks[i].values, 0, values, index, this.blocks[i].count);
+            index += this.blocks[i].count;
+        }
+        final int fill = blockCapacity >>> 1;
+        this.blockCapacity = blockCapacity;
+        this.blockCount = 0;
+        this.blocks = new Block[Math.max(4, (values.length + fill - 1) / fill)];
+        for(int from = 0; from < values.length; from += fill) {
+            final Block block = insertBlock(this.blockCount);
+            block.count = Math.min(fill, values.length - from);
+            System.arraycopy(values, from, block.values, 0, block.count);
+            for(int i = 0; i < block.count; i++) {
+                this.owners[find(block.values[i])] = block;
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of a key in the hash table.
+     * @param key the masked element.
+     * @return the slot, or a negative number if the key is absent.
+     */
+    private int find(Object key) {
+        final int mask = this.keys.length - 1;
+        for(int slot = spread(key) & mask; this.keys[slot] != null; slot = (slot + 1) & mask) {
+            if(this.keys[slot].equals(key)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds an absent key to the hash table, doubling the table if it becomes half full.
+     * @param key the masked element.
+     * @param owner the block holding the element.
+     */
+    private void put(Object key, Block owner) {
+        if(this.size > this.keys.length >>> 1) {
+            final Object[] keys = this.keys;
+            final Block[] owners = this.owners;
+            this.keys = new Object[keys.length << 1];
+            this.owners = new Block[keys.length << 1];
+            for(int i = 0; i < keys.length; i++) {
+                if(keys[i] != null) {
+                    place(keys[i], owners[i]);
+                }
+            }
+        }
+        place(key, owner);
+    }
+
+    /**
+     * Writes an absent key into the first free slot of its probe sequence.
+     * @param key the masked element.
+     * @param owner the block holding the element.
+     */
+    private void place(Object key, Block owner) {
+        final int mask = this.keys.length - 1;
+        int slot = spread(key) & mask;
+        while(this.keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        this.keys[slot] = key;
+        this.owners[slot] = owner;
+    }
+
+    /**
+     * Deletes a slot from the hash table, shifting later keys of the same probe run back into the gap
+     * so that no tombstones are needed.
+     * @param slot the occupied slot.
+     */
+    private void delete(int slot) {
+        final int mask = this.keys.length - 1;
+        int hole = slot;
+        for(int i = (slot + 1) & mask; this.keys[i] != null; i = (i + 1) & mask) {
+            final int home = spread(this.keys[i]) & mask;
+            if(((i - home) & mask) >= ((i - hole) & mask)) {
+                this.keys[hole] = this.keys[i];
+                this.owners[hole] = this.owners[i];
+                hole = i;
+            }
+        }
+        this.keys[hole] = null;
+        this.owners[hole] = null;
+    }
+
+    /**
+     * Spreads the hash code of a key across the bits used by the hash table.
+     * @param key the masked element.
+     * @return the spread hash.
+     */
+    private static int spread(Object key) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Replaces {@code null} with a sentinel, so that {@code null} can be stored like any other element.
+     * @param value the element.
+     * @return the masked element.
+     */
+    private static Object mask(Object value) {
+        return (value == null) ? NULL : value;
+    }
+
+    /**
+     * Restores an element masked by {@link #mask(Object)}.
+     * @param key the masked element.
+     * @return the element.
+     */
+    @SuppressWarnings("unchecked")
+    private Value unmask(Object key) {
+        return (key == NULL) ? null : (Value) key;
+    }
+
+    /**
+     * A block of the tiered vector of an {@code IndexedHashList}.
+     */
+    private static final class Block {
+        private final Object[] values;
+        private int count, index;
+
+        /**
+         * Creates a new, empty {@code Block}.
+         * @param capacity the capacity of the {@code Block}.
+         */
+        private Block(int capacity) {
+            this.values = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package DataSet;
+
+import java.nio.ByteBuffer;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A double-ended queue and stack of unboxed {@code int} elements, stored in chunks that are either
+ * {@code int} arrays or, in off-heap mode, direct buffers that hold billions of elements without
+ * adding to the work of the garbage collector, as far as the direct memory limit allows (see
+ * {@link ChunkPool}). The stack methods act on the last element.
+ * This class is not synchronized.
+ * @see AbstractChunkedDeque
+ */
+public class IntChunkedDeque extends AbstractChunkedDeque implements Iterable<Integer> {
+    /**
+     * Creates an empty {@code IntChunkedDeque} on the heap.
+     */
+    public IntChunkedDeque() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty {@code IntChunkedDeque} with the default chunk size and the shared pool.
+     * @param offHeap {@code true} if the elements are stored off the heap, else {@code false}.
+     */
+    public IntChunkedDeque(boolean offHeap) {
+        this(offHeap ? OFF_HEAP_CHUNK_SHIFT : HEAP_CHUNK_SHIFT, offHeap, ChunkPool.SHARED);
+    }
+
+    /**
+     * Creates an empty {@code IntChunkedDeque}.
+     * @param chunkShift the base-2 logarithm of the number of elements per chunk, from {@code 4} to {@code 24}.
+     * @param offHeap {@code true} if the elements are stored off the heap, else {@code false}.
+     * @param pool the allocator of the chunks.
+     * @throws IllegalArgumentException if the chunk shift is out of range.
+     */
+    public IntChunkedDeque(int chunkShift, boolean offHeap, ChunkPool pool) throws IllegalArgumentException {
+        super(chunkShift, offHeap, pool);
+    }
+
+    /**
+     * Adds an element after the last element.
+     * @param value the element.
+     */
+    public void addLast(int value) {
+        write(growLast(), value);
+    }
+
+    /**
+     * Adds an element before the first element.
+     * @param value the element.
+     */
+    public void addFirst(int value) {
+        write(growFirst(), value);
+    }
+
+    /**
+     * Removes the last element.
+     * @return the removed element.
+     * @throws NoSuchElementException if this {@code IntChunkedDeque} is empty.
+     */
+    public int removeLast() throws NoSuchElementException {
+        final int value = read(lastPosition());
+        shrinkLast();
+        return value;
+    }
+
+    /**
+     * Removes the first element.
+     * @return the removed element.
+     * @throws NoSuchElementException if this {@code IntChunkedDeque} is empty.
+     */
+    public int removeFirst() throws NoSuchElementException {
+        final int value = read(firstPosition());
+        shrinkFirst();
+        return value;
+    }
+
+    /**
+     * Retrieves the last element.
+     * @return the last element.
+     * @throws NoSuchElementException if this {@code IntChunkedDeque} is empty.
+     */
+    public int peekLast() throws NoSuchElementException {
+        return read(lastPosition());
+    }
+
+    /**
+     * Retrieves the first element.
+     * @return the first element.
+     * @throws NoSuchElementException if this {@code IntChunkedDeque} is empty.
+     */
+    public int peekFirst() throws NoSuchElementException {
+        return read(firstPosition());
+    }
+
+    /**
+     * Pushes an element onto this {@code IntChunkedDeque}.
+     * @param value the element.
+     * @return the pushed element.
+     */
+    public int push(int value) {
+        addLast(value);
+        return value;
+    }
+
+    /**
+     * Pops the element at the top of this {@code IntChunkedDeque}.
+     * @return the popped element.
+     * @throws EmptyStackException if this {@code IntChunkedDeque} is empty.
+     */
+    public int pop() throws EmptyStackException {
+        if(isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return removeLast();
+    }
+
+    /**
+     * Retrieves the element at the top of this {@code IntChunkedDeque}.
+     * @return the top element.
+     * @throws EmptyStackException if this {@code IntChunkedDeque} is empty.
+     */
+    public int peek() throws EmptyStackException {
+        if(isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return peekLast();
+    }
+
+    /**
+     * Gets an element by its index from the first element.
+     * @param index the index.
+     * @return the element.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public int get(long index) throws IndexOutOfBoundsException {
+        return read(position(index));
+    }
+
+    /**
+     * Replaces an element by its index from the first element.
+     * @param index the index.
+     * @param value the new element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size.
+     */
+    public int set(long index, int value) throws IndexOutOfBoundsException {
+        final long position = position(index);
+        final int previous = read(position);
+        write(position, value);
+        return previous;
+    }
+
+    /**
+     * Returns an {@code Iterator} over the elements from first to last.
+     * @return the {@code Iterator}.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private long index = 0;
+
+            /**
+             * Determines whether there is another element.
+             * @return {@code true} if there is a next element, else {@code false}.
+             */
+            @Override
+            public boolean hasNext() {
+                return this.index < size();
+            }
+
+            /**
+             * Gets the next element.
+             * @return the next element.
+             * @throws NoSuchElementException if there is no next element.
+             */
+            @Override
+            public int nextInt() throws NoSuchElementException {
+                if(! hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.index++);
+            }
+        };
+    }
+
+    /**
+     * Converts this {@code IntChunkedDeque} to a printable format.
+     * @return this {@code IntChunkedDeque} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        builder.append('[');
+        for(long i = 0; i < size(); i++) {
+            builder.append(delimiter).append(get(i));
+            delimiter = ", ";
+        }
+        builder.append(']');
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code IntChunkedDeque}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Takes a new chunk from the pool.
+     * @return an {@code int} array, or a direct buffer in off-heap mode.
+     */
+    @Override
+    protected Object allocate() {
+        return this.offHeap ? this.pool.direct((this.mask + 1) * Integer.BYTES) : this.pool.ints(this.mask + 1);
+    }
+
+    /**
+     * Reads the element at a position.
+     * @param position the position.
+     * @return the element.
+     */
+    private int read(long position) {
+        final Object chunk = chunk(position);
+        return this.offHeap ? ((ByteBuffer) chunk).getInt(offset(position) * Integer.BYTES)
+                : ((int[]) chunk)[offset(position)];
+    }
+
+    /**
+     * Writes the element at a position.
+     * @param position the position.
+     * @param value the element.
+     */
+    private void write(long position, int value) {
+        final Object chunk = chunk(position);
+        if(this.offHeap) {
+            ((ByteBuffer) chunk).putInt(offset(position) * Integer.BYTES, value);
+        } else {
+            ((int[]) chunk)[offset(position)] = value;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+import General.TrueTextEncodable;
+
+import java.util.*;
+
+/**
+ * A multiset of ints counted in an open-addressing table of parallel {@code int} arrays, as a
+ * primitive counterpart of {@code DataGroup<Integer>}. Slots are found by Fibonacci hashing and
+ * linear probing, and removals shift the rest of the probe run back instead of leaving tombstones,
+ * so no element is ever boxed. The boxed methods of {@link DataSet} delegate to the primitive ones.
+ */
+public class IntGroup implements DataSet<Integer>, TrueTextEncodable {
+    private static final int MIN_CAPACITY = 16;
+    private int[] keys, counts;
+    private int shift, distinct, size;
+
+    /**
+     * Creates a new IntGroup
+     * @param values the ints initiated in this IntGroup
+     */
+    public IntGroup(int... values) {
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, values.length) * 2 - 1) << 1));
+        for(int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Creates a new IntGroup
+     * @param values the Integers initiated in this IntGroup
+     */
+    public IntGroup(Collection<Integer> values) {
+        this();
+        for(int value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds an int to this IntGroup
+     * @param value the new int
+     * @return true if the int was not previously contained in this IntGroup, else false
+     */
+    public boolean add(int value) {
+        return add(value, 1) == 0;
+    }
+
+    /**
+     * Adds several instances of an int to this IntGroup
+     * @param value the new int
+     * @param quantity the number of instances
+     * @return the number of instances of the int previously in this IntGroup
+     * @throws IllegalArgumentException if the quantity is negative
+     */
+    public int add(int value, int quantity) throws IllegalArgumentException {
+        if(quantity < 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        if(quantity == 0) {
+            return count(value);
+        }
+        int slot = slot(value);
+        final int previous = this.counts[slot];
+        if(previous == 0) {
+            if(this.distinct + 1 > this.keys.length >>> 1) {
+                allocate(this.keys.length << 1);
+                slot = slot(value);
+            }
+            this.keys[slot] = value;
+            this.distinct++;
+        }
+        this.counts[slot] = previous + quantity;
+        this.size += quantity;
+        return previous;
+    }
+
+    /**
+     * Adds every element of another IntGroup to this IntGroup
+     * @param group the other IntGroup
+     * @return this IntGroup
+     */
+    public IntGroup merge(IntGroup group) {
+        for(int slot = 0; slot < group.keys.length; slot++) {
+            if(group.counts[slot] > 0) {
+                add(group.keys[slot], group.counts[slot]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Attempts to remove an instance of an int from this IntGroup
+     * @param value the target int
+     * @return true if the int previously existed in this IntGroup, else false
+     */
+    public boolean remove(int value) {
+        return remove(value, 1) == 1;
+    }
+
+    /**
+     * Removes up to a specified number of instances of an int from this IntGroup
+     * @param value the target int
+     * @param quantity the maximum number of instances to remove
+     * @return the number of instances removed
+     */
+    public int remove(int value, int quantity) {
+        final int slot = slot(value);
+        final int count = this.counts[slot];
+        if(count == 0 || quantity < 1) {
+            return 0;
+        }
+        final int removed = Math.min(count, quantity);
+        this.size -= removed;
+        if(removed == count) {
+            delete(slot);
+        } else {
+            this.counts[slot] = count - removed;
+        }
+        return removed;
+    }
+
+    /**
+     * Attempts to remove an instance of an Integer from this IntGroup
+     * @param value the target Integer
+     * @return true if the Integer previously existed in this IntGroup, else false
+     */
+    @Override
+    public boolean remove(Integer value) {
+        return remove(value.intValue());
+    }
+
+    /**
+     * Removes all instances of an int from this IntGroup
+     * @param value the target int
+     * @return the number of instances of the target int previously in this IntGroup
+     */
+    public int removeAll(int value) {
+        return remove(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes all instances of an Integer from this IntGroup
+     * @param value the target Integer
+     * @return the number of instances of the target Integer previously in this IntGroup
+     */
+    @Override
+    public int removeAll(Integer value) {
+        return removeAll(value.intValue());
+    }
+
+    /**
+     * Finds the number of instances of an int in this IntGroup
+     * @param value the target int
+     * @return the number of instances, or 0 if the int is absent
+     */
+    public int count(int value) {
+        return this.counts[slot(value)];
+    }
+
+    /**
+     * Finds the maximum value in this IntGroup
+     * @return the int 'o' such that for all 't' in this IntGroup, 'o' >= 't', or null if this IntGroup is empty
+     */
+    @Override
+    public Integer max() {
+        if(this.distinct == 0) {
+            return null;
+        }
+        int max = Integer.MIN_VALUE;
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(this.counts[slot] > 0 && this.keys[slot] > max) {
+                max = this.keys[slot];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Finds the minimum value in this IntGroup
+     * @return the int 'o' such that for all 't' in this IntGroup, 'o' <= 't', or null if this IntGroup is empty
+     */
+    @Override
+    public Integer min() {
+        if(this.distinct == 0) {
+            return null;
+        }
+        int min = Integer.MAX_VALUE;
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(this.counts[slot] > 0 && this.keys[slot] < min) {
+                min = this.keys[slot];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Finds all modes of this IntGroup
+     * @return a List of all modes: let c(p) equal the number of occurrences of 'p' in this IntGroup. For all elements
+     * 'e' in this IntGroup, a mode 'm' of this IntGroup satisfies c(m) >= c(e)
+     */
+    @Override
+    public List<Integer> modes() {
+        int maxCount = 0, modeCount = 0;
+        for(int count : this.counts) {
+            if(count > maxCount) {
+                maxCount = count;
+                modeCount = 0;
+            }
+            if(count == maxCount) {
+                modeCount++;
+            }
+        }
+        final List<Integer> modes = new ArrayList<>(modeCount);
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(maxCount > 0 && this.counts[slot] == maxCount) {
+                modes.add(this.keys[slot]);
+            }
+        }
+        return modes;
+    }
+
+    /**
+     * Determines whether this IntGroup contains a specific int
+     * @param value the target int
+     * @return true if this IntGroup contains the specified int, else false
+     */
+    public boolean contains(int value) {
+        return this.counts[slot(value)] > 0;
+    }
+
+    /**
+     * Determines whether this IntGroup contains a specific Integer
+     * @param value the target Integer
+     * @return true if this IntGroup contains the specified Integer, else false
+     */
+    @Override
+    public boolean contains(Integer value) {
+        return contains(value.intValue());
+    }
+
+    /**
+     * Gets the distinct ints of this IntGroup
+     * @return an array of each contained int, in no particular order
+     */
+    public int[] distinctValues() {
+        final int[] values = new int[this.distinct];
+        int index = 0;
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(this.counts[slot] > 0) {
+                values[index++] = this.keys[slot];
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Finds the population of this IntGroup
+     * @return this.size
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Finds the number of distinct ints in this IntGroup
+     * @return this.distinct
+     */
+    public int distinctSize() {
+        return this.distinct;
+    }
+
+    /**
+     * Determines whether this IntGroup is empty
+     * @return true if this IntGroup has no elements, else false
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every element from this IntGroup
+     */
+    public void clear() {
+        this.keys = null;
+        this.counts = null;
+        allocate(MIN_CAPACITY);
+        this.size = 0;
+    }
+
+    /**
+     * Determines whether this IntGroup is equal to a specified Object
+     * @param o the comparator Object
+     * @return true if the Object is an IntGroup with the same count of every int, else false
+     */
+    @Override
+    public boolean equals(Object o) {
+        if(! (o instanceof IntGroup group) || group.size != this.size || group.distinct != this.distinct) {
+            return false;
+        }
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(this.counts[slot] > 0 && group.count(this.keys[slot]) != this.counts[slot]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hashes this IntGroup consistently with {@link #equals(Object)}
+     * @return the sum of the hashes of every int and its count
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(this.counts[slot] > 0) {
+                hash += this.keys[slot] * 31 + this.counts[slot];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Provides the TrueText of this IntGroup
+     * @return this IntGroup in a parsable format
+     */
+    @Override
+    public String trueText() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(int slot = 0; slot < this.keys.length; slot++) {
+            if(this.counts[slot] > 0) {
+                builder.append(delimiter).append(this.keys[slot]).append(":").append(this.counts[slot]);
+                delimiter = "|";
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this IntGroup to a printable format
+     * @return this IntGroup as a String
+     */
+    @Override
+    public String toString() {
+        return "[" + trueText() + "]";
+    }
+
+    /**
+     * Prints this IntGroup
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Finds the slot holding an int, or the empty slot ending its probe run
+     * @param value the target int
+     * @return the slot
+     */
+    private int slot(int value) {
+        final int mask = this.keys.length - 1;
+        int slot = home(value);
+        while(this.counts[slot] > 0 && this.keys[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Finds the first slot of the probe run of an int by Fibonacci hashing
+     * @param value the target int
+     * @return the home slot
+     */
+    private int home(int value) {
+        return (value * 0x9E3779B9) >>> this.shift;
+    }
+
+    /**
+     * Empties a slot, shifting later entries of its probe run back so that lookups stay correct
+     * @param slot the occupied slot
+     */
+    private void delete(int slot) {
+        final int mask = this.keys.length - 1;
+        int hole = slot;
+        for(int i = (slot + 1) & mask; this.counts[i] > 0; i = (i + 1) & mask) {
+            if(((i - home(this.keys[i])) & mask) >= ((i - hole) & mask)) {
+                this.keys[hole] = this.keys[i];
+                this.counts[hole] = this.counts[i];
+                hole = i;
+            }
+        }
+        this.counts[hole] = 0;
+        this.distinct--;
+    }
+
+    /**
+     * Replaces the table with one of a new capacity, reinserting every entry
+     * @param capacity the new capacity, a power of two
+     */
+    private void allocate(int capacity) {
+        final int[] keys = this.keys, counts = this.counts;
+        this.keys = new int[capacity];
+        this.counts = new int[capacity];
+        this.shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        this.distinct = 0;
+        if(keys != null) {
+            for(int slot = 0; slot < keys.length; slot++) {
+                if(counts[slot] > 0) {
+                    final int target = slot(keys[slot]);
+                    this.keys[target] = keys[slot];
+                    this.counts[target] = counts[slot];
+                    this.distinct++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package DataSet;
+
+import General.TrueTextEncodable;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * A growable list of ints backed by an {@code int[]}, as a primitive counterpart of a
+ * {@code List<Integer>}: each element costs four bytes instead of a boxed Integer and a list node.
+ * The boxed methods of {@link DataSet} and {@link Iterable} delegate to the primitive ones.
+ */
+public class IntList implements Iterable<Integer>, DataSet<Integer>, TrueTextEncodable {
+    private static final int MIN_CAPACITY = 10;
+    private int[] elements;
+    private int size;
+
+    /**
+     * Creates an IntList from an array of ints
+     * @param ar the given array
+     */
+    public IntList(int... ar) {
+        this.elements = Arrays.copyOf(ar, Math.max(MIN_CAPACITY, ar.length));
+        this.size = ar.length;
+    }
+
+    /**
+     * Creates an IntList from a Collection of Integers
+     * @param list the given Collection
+     */
+    public IntList(Collection<Integer> list) {
+        this.elements = new int[Math.max(MIN_CAPACITY, list.size())];
+        for(int element : list) {
+            this.elements[this.size++] = element;
+        }
+    }
+
+    /**
+     * Creates an IntList with the elements of another IntList
+     * @param list the given IntList
+     */
+    public IntList(IntList list) {
+        this(list.toArray());
+    }
+
+    /**
+     * Creates an IntList of sequential ints in ascending order
+     * @param start the starting value
+     * @param size the length of the IntList
+     * @return the IntList {@code start, start + 1, ..., start + size - 1}
+     */
+    public static IntList range(int start, int size) {
+        final IntList list = new IntList();
+        list.ensureCapacity(size);
+        for(int i = 0; i < size; i++) {
+            list.elements[i] = start + i;
+        }
+        list.size = size;
+        return list;
+    }
+
+    /**
+     * Creates an IntList of random ints
+     * @param min minimum possible value in the list, inclusive
+     * @param max maximum possible value in the list, exclusive
+     * @param size size of the IntList
+     * @param random the source of randomness
+     * @return the IntList
+     */
+    public static IntList random(int min, int max, int size, Random random) {
+        final IntList list = new IntList();
+        list.ensureCapacity(size);
+        for(int i = 0; i < size; i++) {
+            list.elements[i] = random.nextInt(max - min) + min;
+        }
+        list.size = size;
+        return list;
+    }
+
+    /**
+     * Adds an int to the end of this IntList
+     * @param n the added value
+     */
+    public void add(int n) {
+        if(this.size == this.elements.length) {
+            ensureCapacity(this.size + 1);
+        }
+        this.elements[this.size++] = n;
+    }
+
+    /**
+     * Adds several ints to the end of this IntList
+     * @param ar the added values
+     */
+    public void addAll(int... ar) {
+        ensureCapacity(this.size + ar.length);
+        System.arraycopy(ar, 0, this.elements, this.size, ar.length);
+        this.size += ar.length;
+    }
+
+    /**
+     * Inserts an int into this IntList at a specific index
+     * @param index the target index
+     * @param n the added value
+     * @throws IndexOutOfBoundsException if the index is negative or greater than the size
+     */
+    public void insert(int index, int n) throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, this.size + 1);
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+        this.elements[index] = n;
+        this.size++;
+    }
+
+    /**
+     * Gets the int at a specific index
+     * @param index the target index
+     * @return the int
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size
+     */
+    public int get(int index) throws IndexOutOfBoundsException {
+        return this.elements[Objects.checkIndex(index, this.size)];
+    }
+
+    /**
+     * Replaces the int at a specific index
+     * @param index the target index
+     * @param n the new value
+     * @return the replaced int
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size
+     */
+    public int set(int index, int n) throws IndexOutOfBoundsException {
+        final int previous = this.elements[Objects.checkIndex(index, this.size)];
+        this.elements[index] = n;
+        return previous;
+    }
+
+    /**
+     * Removes the int at a specific index
+     * @param index the target index
+     * @return the removed int
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size
+     */
+    public int removeAt(int index) throws IndexOutOfBoundsException {
+        final int removed = this.elements[Objects.checkIndex(index, this.size)];
+        System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+        this.size--;
+        return removed;
+    }
+
+    /**
+     * Removes the first instance of an int from this IntList
+     * @param n the target value
+     * @return true if an instance of the target value was removed, else false
+     */
+    public boolean remove(int n) {
+        final int index = indexOf(n);
+        if(index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the first instance of an Integer from this IntList
+     * @param n the target value
+     * @return true if an instance of the target value was removed, else false
+     */
+    @Override
+    public boolean remove(Integer n) {
+        return remove(n.intValue());
+    }
+
+    /**
+     * Removes all instances of an int from this IntList in one pass
+     * @param n the target value
+     * @return the number of instances of the value previously in this IntList
+     */
+    public int removeAll(int n) {
+        int kept = 0;
+        for(int i = 0; i < this.size; i++) {
+            if(this.elements[i] != n) {
+                this.elements[kept++] = this.elements[i];
+            }
+        }
+        final int removed = this.size - kept;
+        this.size = kept;
+        return removed;
+    }
+
+    /**
+     * Removes all instances of an Integer from this IntList in one pass
+     * @param n the target value
+     * @return the number of instances of the value previously in this IntList
+     */
+    @Override
+    public int removeAll(Integer n) {
+        return removeAll(n.intValue());
+    }
+
+    /**
+     * Finds the first index of an int
+     * @param n the target value
+     * @return the index, or -1 if the value is absent
+     */
+    public int indexOf(int n) {
+        for(int i = 0; i < this.size; i++) {
+            if(this.elements[i] == n) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determines whether this IntList contains a specified int
+     * @param n the target int
+     * @return true if n is contained in this IntList, else false
+     */
+    public boolean contains(int n) {
+        return indexOf(n) >= 0;
+    }
+
+    /**
+     * Determines whether this IntList contains a specified Integer
+     * @param n the target Integer
+     * @return true if n is contained in this IntList, else false
+     */
+    @Override
+    public boolean contains(Integer n) {
+        return contains(n.intValue());
+    }
+
+    /**
+     * Finds the maximum value in this IntList
+     * @return the int 'o' in this IntList such that for all values 't' in this IntList, 'o' >= 't', or null if this IntList is empty
+     */
+    @Override
+    public Integer max() {
+        if(this.size == 0) {
+            return null;
+        }
+        int max = this.elements[0];
+        for(int i = 1; i < this.size; i++) {
+            max = Math.max(max, this.elements[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Finds the minimum value in this IntList
+     * @return the int 'o' in this IntList such that for all values 't' in this IntList, 'o' <= 't', or null if this IntList is empty
+     */
+    @Override
+    public Integer min() {
+        if(this.size == 0) {
+            return null;
+        }
+        int min = this.elements[0];
+        for(int i = 1; i < this.size; i++) {
+            min = Math.min(min, this.elements[i]);
+        }
+        return min;
+    }
+
+    /**
+     * Finds all modes of this IntList by counting into an {@link IntGroup}
+     * @return a List of all modes: let c(p) equal the number of occurrences of 'p' in this IntList. For all elements
+     * 'e' in this IntList, a mode 'm' of this IntList satisfies c(m) >= c(e)
+     */
+    @Override
+    public List<Integer> modes() {
+        return counts().modes();
+    }
+
+    /**
+     * Counts the elements of this IntList
+     * @return an IntGroup holding every element of this IntList
+     */
+    public IntGroup counts() {
+        return new IntGroup(toArray());
+    }
+
+    /**
+     * Shuffles this IntList uniformly with the Fisher-Yates algorithm
+     * @param random the source of randomness
+     */
+    public void shuffle(Random random) {
+        for(int i = this.size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1), swap = this.elements[i];
+            this.elements[i] = this.elements[j];
+            this.elements[j] = swap;
+        }
+    }
+
+    /**
+     * Sorts this IntList in ascending order
+     */
+    public void sort() {
+        Arrays.sort(this.elements, 0, this.size);
+    }
+
+    /**
+     * Ensures that this IntList can hold a number of elements without growing
+     * @param capacity the number of elements
+     */
+    public void ensureCapacity(int capacity) {
+        if(capacity > this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, Math.max(capacity, this.elements.length + (this.elements.length >> 1)));
+        }
+    }
+
+    /**
+     * Removes every element from this IntList
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Finds the size of this IntList
+     * @return this.size
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Determines whether this IntList is empty
+     * @return true if this IntList has no elements, else false
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Copies the elements of this IntList into an array
+     * @return the array
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.elements, this.size);
+    }
+
+    /**
+     * Streams the elements of this IntList without boxing
+     * @return the IntStream
+     */
+    public IntStream stream() {
+        return Arrays.stream(this.elements, 0, this.size);
+    }
+
+    /**
+     * Gets a primitive Iterator over the elements of this IntList
+     * @return the Iterator
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int cursor = 0, lastReturned = -1;
+
+            /**
+             * Determines whether this Iterator has a next element
+             * @return true if the cursor is before the end of this IntList, else false
+             */
+            @Override
+            public boolean hasNext() {
+                return this.cursor < IntList.this.size;
+            }
+
+            /**
+             * Gets the next element of this IntList and moves the cursor
+             * @return the next int
+             * @throws NoSuchElementException if there is no next element
+             */
+            @Override
+            public int nextInt() {
+                if(this.cursor >= IntList.this.size) {
+                    throw new NoSuchElementException();
+                }
+                this.lastReturned = this.cursor;
+                return IntList.this.elements[this.cursor++];
+            }
+
+            /**
+             * Removes the element last returned by this Iterator
+             * @throws IllegalStateException if no element has been returned since the last removal
+             */
+            @Override
+            public void remove() {
+                if(this.lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                removeAt(this.lastReturned);
+                this.cursor = this.lastReturned;
+                this.lastReturned = -1;
+            }
+        };
+    }
+
+    /**
+     * Determines whether this IntList is equal to a specified Object
+     * @param o the comparator Object
+     * @return true if the Object is an IntList with the same elements in the same order, else false
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IntList list
+                && Arrays.equals(this.elements, 0, this.size, list.elements, 0, list.size);
+    }
+
+    /**
+     * Hashes this IntList consistently with {@link #equals(Object)}
+     * @return the hash of the elements in order
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for(int i = 0; i < this.size; i++) {
+            hash = 31 * hash + this.elements[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Provides the TrueText of this IntList
+     * @return this IntList in a parsable format
+     */
+    @Override
+    public String trueText() {
+        StringBuilder builder = new StringBuilder();
+        String includeDelimiter = "";
+        for(int i = 0; i < this.size; i++) {
+            builder.append(includeDelimiter).append(this.elements[i]);
+            includeDelimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Finds a printable version of this IntList
+     * @return this IntList as a String
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for(int i = 0; i < this.size; i++) {
+            builder.append(i == 0 ? "" : ", ").append(this.elements[i]);
+        }
+        return builder.append("]").toString();
+    }
+
+    /**
+     * Prints this IntList
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
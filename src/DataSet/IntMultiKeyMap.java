@@ -0,0 +1,377 @@
+package DataSet;
+
+import DataKey.IntMultiKey;
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map from {@link IntMultiKey IntMultiKeys} of a fixed size to Values, by open addressing with
+ * linear probing. The values of the keys are stored flattened in one {@code int} array next to their
+ * hashes, so a lookup compares the hash and then the values in place, and the lookups by loose values
+ * or an array neither box nor build a key. Removal shifts later entries back instead of leaving
+ * tombstones. Null Values are not stored. This class is not synchronized.
+ * @param <Value> the type of the mapped values.
+ * @see LongMultiKeyMap
+ */
+public class IntMultiKeyMap<Value> {
+    private static final int MIN_CAPACITY = 8;
+    private final int arity;
+    private int[] keys, hashes;
+    private Object[] values;
+    private int size, mask;
+
+    /**
+     * Creates an empty {@code IntMultiKeyMap}.
+     * @param arity the size of every key.
+     * @throws IllegalArgumentException if the arity is not positive.
+     */
+    public IntMultiKeyMap(int arity) throws IllegalArgumentException {
+        this(arity, MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Creates an empty {@code IntMultiKeyMap} that holds a number of entries without growing.
+     * @param arity the size of every key.
+     * @param expectedSize the number of entries.
+     * @throws IllegalArgumentException if the arity is not positive or the expected size is negative
+     * or too large.
+     */
+    public IntMultiKeyMap(int arity, int expectedSize) throws IllegalArgumentException {
+        if(arity < 1 || expectedSize < 0 || expectedSize > (1 << 29) / arity) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.arity = arity;
+        allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1));
+    }
+
+    /**
+     * Maps a key to a Value.
+     * @param key the key.
+     * @param value the Value.
+     * @return the previous Value of the key, or {@code null} if there was none.
+     * @throws IllegalArgumentException if the key has the wrong size.
+     * @throws NullPointerException if the Value is null.
+     */
+    public Value put(IntMultiKey key, Value value) throws IllegalArgumentException, NullPointerException {
+        return put(key.getKeys(), value);
+    }
+
+    /**
+     * Maps the key held in an array to a Value. The array is copied.
+     * @param keys the values of the key.
+     * @param value the Value.
+     * @return the previous Value of the key, or {@code null} if there was none.
+     * @throws IllegalArgumentException if the array has the wrong length.
+     * @throws NullPointerException if the Value is null.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value put(int[] keys, Value value) throws IllegalArgumentException, NullPointerException {
+        verifyArity(keys.length);
+        if(value == null) {
+            throw new NullPointerException();
+        }
+        final int hash = stored(IntMultiKey.hash(keys, 0, this.arity));
+        int slot = hash & this.mask;
+        for(; this.hashes[slot] != 0; slot = (slot + 1) & this.mask) {
+            if(this.hashes[slot] == hash && Arrays.equals(this.keys, slot * this.arity, (slot + 1) * this.arity,
+                    keys, 0, this.arity)) {
+                final Value previous = (Value) this.values[slot];
+                this.values[slot] = value;
+                return previous;
+            }
+        }
+        this.hashes[slot] = hash;
+        System.arraycopy(keys, 0, this.keys, slot * this.arity, this.arity);
+        this.values[slot] = value;
+        if(++this.size * 2 > this.hashes.length) {
+            resize(this.hashes.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the Value of a key.
+     * @param key the key.
+     * @return the Value, or {@code null} if the key is not mapped.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value get(IntMultiKey key) {
+        if(key.size() != this.arity) {
+            return null;
+        }
+        final int hash = stored(key.hashCode());
+        for(int slot = hash & this.mask; this.hashes[slot] != 0; slot = (slot + 1) & this.mask) {
+            if(this.hashes[slot] == hash && key.matches(this.keys, slot * this.arity)) {
+                return (Value) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the Value of the key held in an array.
+     * @param keys the values of the key.
+     * @return the Value, or {@code null} if the key is not mapped.
+     * @throws IllegalArgumentException if the array has the wrong length.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value get(int[] keys) throws IllegalArgumentException {
+        final int slot = find(keys);
+        return (slot < 0) ? null : (Value) this.values[slot];
+    }
+
+    /**
+     * Gets the Value of a key of one value.
+     * @param a the value.
+     * @return the Value, or {@code null} if the key is not mapped.
+     * @throws IllegalArgumentException if the keys of this {@code IntMultiKeyMap} are of another size.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value get(int a) throws IllegalArgumentException {
+        verifyArity(1);
+        final int hash = stored(IntMultiKey.hash(a));
+        for(int slot = hash & this.mask; this.hashes[slot] != 0; slot = (slot + 1) & this.mask) {
+            if(this.hashes[slot] == hash && this.keys[slot] == a) {
+                return (Value) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the Value of a key of two values.
+     * @param a the first value.
+     * @param b the second value.
+     * @return the Value, or {@code null} if the key is not mapped.
+     * @throws IllegalArgumentException if the keys of this {@code IntMultiKeyMap} are of another size.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value get(int a, int b) throws IllegalArgumentException {
+        verifyArity(2);
+        final int hash = stored(IntMultiKey.hash(a, b));
+        for(int slot = hash & this.mask; this.hashes[slot] != 0; slot = (slot + 1) & this.mask) {
+            if(this.hashes[slot] == hash && this.keys[2 * slot] == a && this.keys[2 * slot + 1] == b) {
+                return (Value) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the Value of a key of three values.
+     * @param a the first value.
+     * @param b the second value.
+     * @param c the third value.
+     * @return the Value, or {@code null} if the key is not mapped.
+     * @throws IllegalArgumentException if the keys of this {@code IntMultiKeyMap} are of another size.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value get(int a, int b, int c) throws IllegalArgumentException {
+        verifyArity(3);
+        final int hash = stored(IntMultiKey.hash(a, b, c));
+        for(int slot = hash & this.mask; this.hashes[slot] != 0; slot = (slot + 1) & this.mask) {
+            final int base = 3 * slot;
+            if(this.hashes[slot] == hash && this.keys[base] == a && this.keys[base + 1] == b && this.keys[base + 2] == c) {
+                return (Value) this.values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines whether a key is mapped.
+     * @param key the key.
+     * @return {@code true} if the key has a Value, else {@code false}.
+     */
+    public boolean containsKey(IntMultiKey key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Determines whether the key held in an array is mapped.
+     * @param keys the values of the key.
+     * @return {@code true} if the key has a Value, else {@code false}.
+     * @throws IllegalArgumentException if the array has the wrong length.
+     */
+    public boolean containsKey(int[] keys) throws IllegalArgumentException {
+        return find(keys) >= 0;
+    }
+
+    /**
+     * Removes a key.
+     * @param key the key.
+     * @return the Value of the key, or {@code null} if the key was not mapped.
+     */
+    public Value remove(IntMultiKey key) {
+        return (key.size() == this.arity) ? remove(key.getKeys()) : null;
+    }
+
+    /**
+     * Removes the key held in an array.
+     * @param keys the values of the key.
+     * @return the Value of the key, or {@code null} if the key was not mapped.
+     * @throws IllegalArgumentException if the array has the wrong length.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public Value remove(int[] keys) throws IllegalArgumentException {
+        int slot = find(keys);
+        if(slot < 0) {
+            return null;
+        }
+        final Value removed = (Value) this.values[slot];
+        for(int next = (slot + 1) & this.mask; this.hashes[next] != 0; next = (next + 1) & this.mask) {
+            final int home = this.hashes[next] & this.mask;
+            if(((next - home) & this.mask) >= ((next - slot) & this.mask)) {
+                this.hashes[slot] = this.hashes[next];
+                this.values[slot] = this.values[next];
+                System.arraycopy(this.keys, next * this.arity, this.keys, slot * this.arity, this.arity);
+                slot = next;
+            }
+        }
+        this.hashes[slot] = 0;
+        this.values[slot] = null;
+        this.size--;
+        return removed;
+    }
+
+    /**
+     * Performs an action on every entry, building the key of each.
+     * @param action the action.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    public void forEach(BiConsumer<? super IntMultiKey, ? super Value> action) {
+        for(int slot = 0; slot < this.hashes.length; slot++) {
+            if(this.hashes[slot] != 0) {
+                action.accept(new IntMultiKey(Arrays.copyOfRange(this.keys, slot * this.arity, (slot + 1) * this.arity)),
+                        (Value) this.values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Gets the size of every key.
+     * @return this.arity
+     */
+    public int arity() {
+        return this.arity;
+    }
+
+    /**
+     * Gets the number of entries.
+     * @return this.size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Determines whether this {@code IntMultiKeyMap} is empty.
+     * @return {@code true} if there are no entries, else {@code false}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the capacity.
+     */
+    public void clear() {
+        Arrays.fill(this.hashes, 0);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Converts this {@code IntMultiKeyMap} to a printable format.
+     * @return this {@code IntMultiKeyMap} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        final String[] delimiter = {""};
+        forEach((key, value) -> {
+            builder.append(delimiter[0]).append(key).append('=').append(value);
+            delimiter[0] = ", ";
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Prints this {@code IntMultiKeyMap}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Finds the slot of the key held in an array.
+     * @param keys the values of the key.
+     * @return the slot, or {@code -1} if the key is not mapped.
+     * @throws IllegalArgumentException if the array has the wrong length.
+     */
+    private int find(int[] keys) throws IllegalArgumentException {
+        verifyArity(keys.length);
+        final int hash = stored(IntMultiKey.hash(keys, 0, this.arity));
+        for(int slot = hash & this.mask; this.hashes[slot] != 0; slot = (slot + 1) & this.mask) {
+            if(this.hashes[slot] == hash && Arrays.equals(this.keys, slot * this.arity, (slot + 1) * this.arity,
+                    keys, 0, this.arity)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Verifies the size of a key.
+     * @param length the size.
+     * @throws IllegalArgumentException if the size is not the arity of this {@code IntMultiKeyMap}.
+     */
+    private void verifyArity(int length) throws IllegalArgumentException {
+        if(length != this.arity) {
+            throw new IllegalArgumentException(ExceptionMessage.INCORRECT_NUMBER_OF_ARGUMENTS(this.arity));
+        }
+    }
+
+    /**
+     * Converts a hash to the form stored in a slot, in which {@code 0} marks an empty slot.
+     * @param hash the hash.
+     * @return the nonzero stored hash.
+     */
+    private static int stored(int hash) {
+        return (hash == 0) ? 1 : hash;
+    }
+
+    /**
+     * Replaces the arrays with empty ones of a capacity.
+     * @param capacity the number of slots, a power of two.
+     */
+    private void allocate(int capacity) {
+        this.keys = new int[capacity * this.arity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Moves every entry into arrays of a new capacity.
+     * @param capacity the number of slots, a power of two.
+     */
+    private void resize(int capacity) {
+        final int[] oldKeys = this.keys, oldHashes = this.hashes;
+        final Object[] oldValues = this.values;
+        allocate(capacity);
+        for(int old = 0; old < oldHashes.length; old++) {
+            if(oldHashes[old] != 0) {
+                int slot = oldHashes[old] & this.mask;
+                while(this.hashes[slot] != 0) {
+                    slot = (slot + 1) & this.mask;
+                }
+                this.hashes[slot] = oldHashes[old];
+                this.values[slot] = oldValues[old];
+                System.arraycopy(oldKeys, old * this.arity, this.keys, slot * this.arity, this.arity);
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package DataSet;
+
+import General.TrueTextEncodable;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A tape of unboxed {@code int} symbols indexed by ints that grows in both directions one cell at a
+ * time, as the tape of a Turing machine does. This is the primitive counterpart of a
+ * {@code LinkedHashTape<Integer>}, costing four bytes per cell.
+ * @see LinkedHashTape
+ * @see ByteTape
+ */
+public class IntTape extends AbstractTape implements Iterable<Integer>, TrueTextEncodable {
+    protected int[] tape;
+
+    /**
+     * Creates a new IntTape
+     */
+    public IntTape() {
+        this.tape = new int[MIN_CAPACITY];
+    }
+
+    /**
+     * Adds a symbol to the beginning of this IntTape
+     * @param value the added symbol
+     */
+    public void addToStart(int value) {
+        final int slot = growStart();
+        this.tape[slot] = value;
+    }
+
+    /**
+     * Adds a symbol to the end of this IntTape
+     * @param value the added symbol
+     */
+    public void addToEnd(int value) {
+        final int slot = growEnd();
+        this.tape[slot] = value;
+    }
+
+    /**
+     * Grows this IntTape with blank symbols until it covers an index
+     * @param index the target index
+     * @param blank the symbol of the new cells
+     */
+    public void extendTo(int index, int blank) {
+        if(this.size == 0) {
+            addToEnd(blank);
+        }
+        while(index < this.start) {
+            addToStart(blank);
+        }
+        while(index > this.end) {
+            addToEnd(blank);
+        }
+    }
+
+    /**
+     * Gets the symbol at a specific index
+     * @param index the target index
+     * @return the symbol
+     * @throws IndexOutOfBoundsException if the specified index does not occur in this IntTape
+     */
+    public int get(int index) throws IndexOutOfBoundsException {
+        return this.tape[slot(index)];
+    }
+
+    /**
+     * Resets a symbol
+     * @param index the index to be changed
+     * @param value the new symbol
+     * @throws IndexOutOfBoundsException if the specified index does not occur in this IntTape
+     */
+    public void set(int index, int value) throws IndexOutOfBoundsException {
+        this.tape[slot(index)] = value;
+    }
+
+    /**
+     * Attempts to remove a symbol from the start of this IntTape
+     * @return true if the previous size of this IntTape was nonzero, else false
+     */
+    public boolean removeFromStart() {
+        if(this.size == 0) {
+            return false;
+        }
+        shrinkStart();
+        return true;
+    }
+
+    /**
+     * Attempts to remove a symbol from the end of this IntTape
+     * @return true if the previous size of this IntTape was nonzero, else false
+     */
+    public boolean removeFromEnd() {
+        if(this.size == 0) {
+            return false;
+        }
+        shrinkEnd();
+        return true;
+    }
+
+    /**
+     * Copies the symbols of this IntTape from start to end into an array
+     * @return the array
+     */
+    public int[] toArray() {
+        final int[] array = new int[this.size];
+        final int head = Math.min(this.size, this.tape.length - this.first);
+        System.arraycopy(this.tape, this.first, array, 0, head);
+        System.arraycopy(this.tape, 0, array, head, this.size - head);
+        return array;
+    }
+
+    /**
+     * Returns an Iterator over the symbols in this IntTape
+     * @return the Iterator
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = IntTape.this.start;
+
+            /**
+             * Determines whether there is another symbol in this IntTape Iterator
+             * @return true if another symbol exists, else false
+             */
+            @Override
+            public boolean hasNext() {
+                return IntTape.this.size > 0 && this.index <= IntTape.this.end;
+            }
+
+            /**
+             * Gets the next symbol in this IntTape
+             * @return the target symbol
+             * @throws NoSuchElementException if there is no next symbol
+             */
+            @Override
+            public int nextInt() throws NoSuchElementException {
+                if(! hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(this.index++);
+            }
+        };
+    }
+
+    /**
+     * Determines whether this IntTape is equal to a specified Object
+     * @param o the comparator Object
+     * @return true if the Object is an IntTape with the same symbols at the same indices, else false
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IntTape tape && this.size == tape.size && this.start == tape.start
+                && Arrays.equals(toArray(), tape.toArray());
+    }
+
+    /**
+     * Hashes this IntTape consistently with {@link #equals(Object)}
+     * @return the hash of the start index and symbols
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.start + Arrays.hashCode(toArray());
+    }
+
+    /**
+     * Provides the TrueText of this IntTape
+     * @return this IntTape in a parsable format
+     */
+    @Override
+    public String trueText() {
+        StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(int i = this.start; this.size > 0 && i <= this.end; i++) {
+            builder.append(delimiter).append(get(i));
+            delimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this IntTape to a printable format
+     * @return this IntTape as a String
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Prints this IntTape
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Creates an array of cells
+     * @param capacity the number of slots
+     * @return the array
+     */
+    @Override
+    protected Object allocate(int capacity) {
+        return new int[capacity];
+    }
+
+    /**
+     * Gets the array of cells
+     * @return this.tape
+     */
+    @Override
+    protected Object cells() {
+        return this.tape;
+    }
+
+    /**
+     * Replaces the array of cells
+     * @param cells the new array
+     */
+    @Override
+    protected void install(Object cells) {
+        this.tape = (int[]) cells;
+    }
+
+    /**
+     * Leaves a slot that has left this IntTape as it is, since symbols hold no references
+     * @param slot the slot
+     */
+    @Override
+    protected void release(int slot) {
+    }
+}
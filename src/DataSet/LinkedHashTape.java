@@ -1,31 +1,25 @@
 package DataSet;
 
+import Exception.ExceptionMessage;
 import General.TrueTextEncodable;
 
-import java.util.HashMap;
 import java.util.Iterator;
 
-public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable {
-    protected HashMap<Integer, Cell<Value>> tape;
-    protected int start, end, memoryStart, memoryEnd;
+/**
+ * A tape of Values indexed by ints that grows in both directions one cell at a time. The cells live in
+ * the circular array of an {@link AbstractTape}, so that indexed access is a mask instead of a lookup
+ * of a boxed index, and no node is allocated per cell. {@link IntTape} and {@link ByteTape} store
+ * primitive symbols.
+ * @param <Value> the type of the cells
+ */
+public class LinkedHashTape<Value> extends AbstractTape implements Iterable<Value>, TrueTextEncodable {
+    protected Object[] tape;
 
     /**
      * Creates a new LinkedHashTape
      */
     public LinkedHashTape() {
-        this.tape = new HashMap<>();
-        clear();
-    }
-
-    /**
-     * Resets the values in this LinkedHashTape
-     */
-    public void clear() {
-        this.start = 0;
-        this.end = 0;
-        this.memoryStart = 0;
-        this.memoryEnd = 0;
-        this.tape.clear();
+        this.tape = new Object[MIN_CAPACITY];
     }
 
     /**
@@ -33,41 +27,17 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
      * @param value the added Value
      */
     public void addToStart(Value value) {
-        if(this.tape.size() == 0) {
-            setOriginalValue(value);
-        } else {
-            Cell<Value> cell = new Cell<>(value), neighbor = this.tape.get(this.start);
-            cell.next = neighbor;
-            neighbor.prev = cell;
-            this.start--;
-            this.tape.put(this.start, cell);
-            crop();
-        }
+        final int slot = growStart();
+        this.tape[slot] = value;
     }
 
     /**
-     * Adds a Value to the beginning of this LinkedHashTape
+     * Adds a Value to the end of this LinkedHashTape
      * @param value the added Value
      */
     public void addToEnd(Value value) {
-        if(this.tape.size() == 0) {
-            setOriginalValue(value);
-        } else {
-            Cell<Value> cell = new Cell<>(value), neighbor = this.tape.get(this.end);
-            cell.prev = neighbor;
-            neighbor.next = cell;
-            this.end++;
-            this.tape.put(this.end, cell);
-            crop();
-        }
-    }
-
-    /**
-     * Sets the first Value in this empty LinkedHashTape
-     * @param value the initial Value in this LinkedHashTape
-     */
-    private void setOriginalValue(Value value) {
-        this.tape.put(this.start, new Cell<>(value));
+        final int slot = growEnd();
+        this.tape[slot] = value;
     }
 
     /**
@@ -76,10 +46,9 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
      * @return the Value
      * @throws IndexOutOfBoundsException if the specified index does not occur in this LinkedHashTape
      */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
     public Value get(int index) {
-        verifyLegalIndex(index);
-        crop();
-        return this.tape.get(index).value;
+        return (Value) this.tape[slot(index)];
     }
 
     /**
@@ -89,20 +58,7 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
      * @throws IndexOutOfBoundsException if the specified index does not occur in this LinkedHashTape
      */
     public void set(int index, Value value) {
-        verifyLegalIndex(index);
-        this.tape.get(index).value = value;
-        crop();
-    }
-
-    /**
-     * Checks whether the index is legal
-     * @param index the target index
-     * @throws IndexOutOfBoundsException if the specified index does not exist in this LinkedHashTape
-     */
-    private void verifyLegalIndex(int index) {
-        if(index < this.start || index > this.end || this.tape.get(0) == null) {
-            throw new IndexOutOfBoundsException();
-        }
+        this.tape[slot(index)] = value;
     }
 
     /**
@@ -110,116 +66,25 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
      * @return true if the previous size of this LinkedHashTape was nonzero, else false
      */
     public boolean removeFromStart() {
-        Cell<Value> cell = this.tape.get(this.start);
-        if(cell == null) {
+        if(this.size == 0) {
             return false;
         }
-        Cell<Value> neighbor = cell.next;
-        if(neighbor != null) {
-            neighbor.prev = null;
-        }
-        this.tape.remove(this.start);
-        if(this.start < this.end) {
-            this.start++;
-            crop();
-        } else {
-            clear();
-        }
+        shrinkStart();
         return true;
     }
 
     /**
-     * Attempts to remove an element from the start of this LinkedHashTape
+     * Attempts to remove an element from the end of this LinkedHashTape
      * @return true if the previous size of this LinkedHashTape was nonzero, else false
      */
     public boolean removeFromEnd() {
-        Cell<Value> cell = this.tape.get(this.end);
-        if(cell == null) {
+        if(this.size == 0) {
             return false;
         }
-        Cell<Value> neighbor = cell.prev;
-        if(neighbor != null) {
-            neighbor.next = null;
-        }
-        this.tape.remove(this.end);
-        if(this.start < this.end) {
-            this.end--;
-            crop();
-        } else {
-            clear();
-        }
+        shrinkEnd();
         return true;
     }
 
-    /**
-     * Clips the start of this LinkedHashTape at a specified point
-     * @param index the target index
-     * @throws IndexOutOfBoundsException if the specified index occurs outside the bounds of this LinkedHashTape
-     */
-    public void clipStart(int index) {
-        verifyLegalIndex(index);
-        this.start = index;
-        crop();
-    }
-
-    /**
-     * Clips the end of this LinkedHashTape at a specified point
-     * @param index the target index
-     * @throws IndexOutOfBoundsException if the specified index occurs outside the bounds of this LinkedHashTape
-     */
-    public void clipEnd(int index) {
-        verifyLegalIndex(index);
-        this.end = index;
-        crop();
-    }
-
-    /**
-     * Crops any unused ends of the LinkedHashTape. A single iteration of this method removes only one item from each end.
-     */
-    public void crop() {
-        if(this.memoryStart >= this.start) {
-            this.memoryStart = this.start;
-        } else {
-            Cell<Value> cell = this.tape.get(this.memoryStart);
-            cell.next.prev = null;
-            this.tape.remove(this.memoryStart);
-            this.memoryStart++;
-        }
-        if(this.memoryEnd <= this.end) {
-            this.memoryEnd = this.end;
-        } else {
-            Cell<Value> cell = this.tape.get(this.memoryEnd);
-            cell.prev.next = null;
-            this.tape.remove(this.memoryEnd);
-            this.memoryEnd--;
-        }
-    }
-
-    /**
-     * Finds the starting index of this LinkedHashTape
-     * @return this.start
-     */
-    public int getStartIndex() {
-        return this.start;
-    }
-
-    /**
-     * Finds the end index of this LinkedHashTape
-     * @return this.end
-     */
-    public int getEndIndex() {
-        return this.end;
-    }
-
-    /**
-     * Gets the size of this LinkedHashTape
-     * @return the inclusive difference between the start and end
-     */
-    public int length() {
-        crop();
-        return this.end - this.start + 1;
-    }
-
     /**
      * Returns an Iterator over the Values in this LinkedHashTape
      * @return the Iterator
@@ -227,7 +92,6 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
     public Iterator<Value> iterator() {
         return new Iterator<>() {
             private int index = LinkedHashTape.this.start;
-            private Cell<Value> cursor = LinkedHashTape.this.tape.get(this.index);
 
             /**
              * Determines whether there is another element in this LinkedHashTape Iterator
@@ -235,7 +99,7 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
              */
             @Override
             public boolean hasNext() {
-                return this.index <= LinkedHashTape.this.end;
+                return LinkedHashTape.this.size > 0 && this.index <= LinkedHashTape.this.end;
             }
 
             /**
@@ -247,10 +111,7 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
                 if(! hasNext()) {
                     throw new IllegalStateException();
                 }
-                Value value = this.cursor.value;
-                this.cursor = this.cursor.next;
-                this.index++;
-                return value;
+                return get(this.index++);
             }
         };
     }
@@ -262,7 +123,6 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
     public Iterator<Value> descendingIterator() {
         return new Iterator<>() {
             private int index = LinkedHashTape.this.end;
-            private Cell<Value> cursor = LinkedHashTape.this.tape.get(this.index);
 
             /**
              * Determines whether there is another element in this LinkedHashTape Iterator
@@ -270,7 +130,7 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
              */
             @Override
             public boolean hasNext() {
-                return this.index >= LinkedHashTape.this.start;
+                return LinkedHashTape.this.size > 0 && this.index >= LinkedHashTape.this.start;
             }
 
             /**
@@ -282,10 +142,7 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
                 if(! hasNext()) {
                     throw new IllegalStateException();
                 }
-                Value value = this.cursor.value;
-                this.cursor = this.cursor.prev;
-                this.index--;
-                return value;
+                return get(this.index--);
             }
         };
     }
@@ -298,11 +155,9 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
     public String trueText() {
         StringBuilder builder = new StringBuilder();
         String delimiter = "";
-        Cell<Value> cursor = this.tape.get(this.start);
-        while(cursor != null) {
-            builder.append(delimiter).append(cursor.value);
+        for(Value value : this) {
+            builder.append(delimiter).append(value);
             delimiter = "|";
-            cursor = cursor.next;
         }
         return builder.toString();
     }
@@ -313,19 +168,13 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
      */
     @Override
     public String toString() {
-        String print = "";
+        StringBuilder builder = new StringBuilder("[");
+        String delimiter = "";
         for(Value value : this) {
-            String textValue = "null";
-            if(value != null) {
-                textValue = value.toString();
-            }
-            print = print.concat(", ").concat(textValue);
+            builder.append(delimiter).append(value);
+            delimiter = ", ";
         }
-        if(print.length() > 0) {
-            print = print.substring(2);
-        }
-        crop();
-        return "[" + print + "]";
+        return builder.append(']').toString();
     }
 
     /**
@@ -336,19 +185,39 @@ public class LinkedHashTape<Value> implements Iterable<Value>, TrueTextEncodable
     }
 
     /**
-     * A cell of the LinkedHashTape
-     * @param <Value>
+     * Creates an array of cells
+     * @param capacity the number of slots
+     * @return the array
      */
-    private static class Cell<Value> {
-        private Value value;
-        private Cell<Value> next, prev;
+    @Override
+    protected Object allocate(int capacity) {
+        return new Object[capacity];
+    }
 
-        /**
-         * Creates a new Cell
-         * @param value the value of this Cell
-         */
-        public Cell(Value value) {
-            this.value = value;
-        }
+    /**
+     * Gets the array of cells
+     * @return this.tape
+     */
+    @Override
+    protected Object cells() {
+        return this.tape;
+    }
+
+    /**
+     * Replaces the array of cells
+     * @param cells the new array
+     */
+    @Override
+    protected void install(Object cells) {
+        this.tape = (Object[]) cells;
+    }
+
+    /**
+     * Clears a slot that has left this LinkedHashTape
+     * @param slot the slot
+     */
+    @Override
+    protected void release(int slot) {
+        this.tape[slot] = null;
     }
 }
@@ -5,6 +5,7 @@ import java.util.Iterator;
 
 /**
  * A single-link implementation of the LinkedList class that does not store size.
+ * This class is not synchronized; {@link ConcurrentRingQueue} hands work between threads.
  * @param <Data> the type parameter encoding the class of information
  */
 public class LinkedQueue<Data> implements Iterable<Data> {
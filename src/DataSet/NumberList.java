@@ -4,8 +4,12 @@ import General.TrueTextEncodable;
 
 import java.util.*;
 
+/**
+ * A list of ints backed by an {@link IntList}, so that elements are stored unboxed and
+ * {@link #randomize()} is a single Fisher-Yates pass.
+ */
 public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueTextEncodable {
-    private List<Integer> list;
+    private final IntList list;
 
     /**
      * Generates a List of random Integers
@@ -14,11 +18,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param size size of the set
      */
     public NumberList(int min, int max, int size) {
-        Random random = new Random();
-        this.list = new LinkedList<>();
-        for(int i = 0; i < size; i++) {
-            this.list.add(random.nextInt(max - min) + min);
-        }
+        this.list = IntList.random(min, max, size, new Random());
     }
 
     /**
@@ -27,10 +27,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param size the length of the List
      */
     public NumberList(int start, int size) {
-        this.list = new LinkedList<>();
-        for(int i = start; i < start + size; i++) {
-            this.list.add(i);
-        }
+        this.list = IntList.range(start, size);
     }
 
     /**
@@ -38,7 +35,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param list the given List
      */
     public NumberList(Collection<Integer> list) {
-        this.list = new LinkedList<>(list);
+        this.list = new IntList(list);
     }
 
     /**
@@ -46,10 +43,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param ar the given array
      */
     public NumberList(int... ar) {
-        this.list = new LinkedList<>();
-        for(int element : ar) {
-            this.list.add(element);
-        }
+        this.list = new IntList(ar);
     }
 
     /**
@@ -57,27 +51,14 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param n the given NumberList
      */
     public NumberList(NumberList n) {
-        this.list = new LinkedList<>(n.list);
+        this.list = new IntList(n.list);
     }
 
     /**
      * Randomizes the order of integers in this NumberList
      */
     public void randomize() {
-        Random random = new Random();
-        final int HALF_SIZE = (size() + 1) / 2;
-        int iterations = random.nextInt(HALF_SIZE) + HALF_SIZE;
-        for(int i = 0; i < iterations; i++) {
-            List<Integer> proxyList = new LinkedList<>();
-            for(int n : this.list) {
-                if(random.nextBoolean()) {
-                    proxyList.add(n);
-                } else {
-                    proxyList.add(0, n);
-                }
-            }
-            this.list = proxyList;
-        }
+        this.list.shuffle(new Random());
     }
 
     /**
@@ -94,7 +75,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param pos the target position
      */
     public void insert(int n, int pos) {
-        this.list.add(pos % (size() + 1), n);
+        this.list.insert(pos % (size() + 1), n);
     }
 
     /**
@@ -102,7 +83,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @param n the added value
      */
     public void insertRandom(int n) {
-        this.list.add(new Random().nextInt(size()), n);
+        this.list.insert(new Random().nextInt(size()), n);
     }
 
     /**
@@ -112,14 +93,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public boolean remove(Integer n) {
-        ListIterator<Integer> thisListIterator = this.list.listIterator();
-        while (thisListIterator.hasNext()) {
-            if(thisListIterator.next().equals(n)) {
-                thisListIterator.remove();
-                return true;
-            }
-        }
-        return false;
+        return this.list.remove(n.intValue());
     }
 
     /**
@@ -129,13 +103,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public int removeAll(Integer n) {
-        int quantity = 0;
-        boolean continueRemoval = remove(n);
-        while (continueRemoval) {
-            quantity++;
-            continueRemoval = remove(n);
-        }
-        return quantity;
+        return this.list.removeAll(n.intValue());
     }
 
     /**
@@ -144,13 +112,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public Integer max() {
-        int max = 0;
-        for(int i : this.list) {
-            if(i > max) {
-                max = i;
-            }
-        }
-        return max;
+        return this.list.max();
     }
 
     /**
@@ -159,13 +121,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public Integer min() {
-        Integer min = null;
-        for(int i : this.list) {
-            if(min == null || min > i) {
-                min = i;
-            }
-        }
-        return min;
+        return this.list.min();
     }
 
     /**
@@ -175,26 +131,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public List<Integer> modes() {
-        List<Integer> modes = new LinkedList<>();
-        Map<Integer, Integer> map = new HashMap<>();
-        int maxCount = 0;
-        for(int i : this.list) {
-            Integer count = map.get(i);
-            if(count == null) {
-                count = 0;
-            }
-            count++;
-            map.put(i, count);
-            int compareTo = count.compareTo(maxCount);
-            if(compareTo >= 0) {
-                if(compareTo > 0) {
-                    modes.clear();
-                    maxCount = count;
-                }
-                modes.add(i);
-            }
-        }
-        return modes;
+        return this.list.modes();
     }
 
     /**
@@ -202,7 +139,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @return the removed Integer
      */
     public int removeRandom() {
-        return this.list.remove(new Random().nextInt(size()));
+        return this.list.removeAt(new Random().nextInt(size()));
     }
 
     /**
@@ -210,7 +147,19 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      * @return this.list
      */
     public List<Integer> getList() {
-        return new LinkedList<>(this.list);
+        List<Integer> list = new LinkedList<>();
+        for(int n : this.list.toArray()) {
+            list.add(n);
+        }
+        return list;
+    }
+
+    /**
+     * Gets the primitive list of ints in this NumberList
+     * @return a copy of this.list
+     */
+    public IntList getIntList() {
+        return new IntList(this.list);
     }
 
     /**
@@ -224,7 +173,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
 
     /**
      * Gets an Iterator over the items in this NumberList
-     * @return an Iterator for the embedded List of Integers
+     * @return an Iterator for the embedded list of ints
      */
     @Override
     public Iterator<Integer> iterator() {
@@ -238,12 +187,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public boolean contains(Integer n) {
-        for(int i : this.list) {
-            if(i == n) {
-                return true;
-            }
-        }
-        return false;
+        return this.list.contains(n.intValue());
     }
 
     /**
@@ -252,13 +196,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public String trueText() {
-        StringBuilder builder = new StringBuilder();
-        String includeDelimiter = "";
-        for(int value : this.list) {
-            builder.append(includeDelimiter).append(value);
-            includeDelimiter = "|";
-        }
-        return builder.toString();
+        return this.list.trueText();
     }
 
     /**
@@ -267,7 +205,7 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
      */
     @Override
     public String toString() {
-        return "" + this.list;
+        return this.list.toString();
     }
 
     /**
@@ -276,4 +214,4 @@ public class NumberList implements Iterable<Integer>, DataSet<Integer>, TrueText
     public void print() {
         System.out.println(this);
     }
-}
\ No newline at end of file
+}
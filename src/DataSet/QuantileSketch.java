@@ -0,0 +1,327 @@
+package DataSet;
+
+import Exception.ExceptionMessage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estimates the quantiles of a stream of doubles in space logarithmic in its length, after the KLL
+ * sketch of Karnin, Lang and Liberty. Values enter the lowest of a stack of compactors; a full
+ * compactor sorts itself and promotes every other value, chosen from a random offset, to the
+ * compactor above, where each value stands for twice as many. The capacities of the compactors
+ * shrink geometrically towards the bottom, so that the rank error of a query is about
+ * {@code 1.7 / k} of the count. Sketches of disjoint streams merge into a sketch of their union, so
+ * the threads of a parallel job may each fill one and combine them. This class is not synchronized.
+ * @see FractionGroup
+ */
+public class QuantileSketch {
+    private static final int DEFAULT_K = 200, MIN_CAPACITY = 8;
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+    private final int k;
+    private final List<double[]> compactors;
+    private int[] sizes, capacities;
+    private int retained, totalCapacity;
+    private long count;
+    private double min, max;
+
+    /**
+     * Creates an empty {@code QuantileSketch} with a rank error of about {@code 1%}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates an empty {@code QuantileSketch}.
+     * @param k the capacity of the top compactor, which trades space for accuracy.
+     * @throws IllegalArgumentException if {@code k} is less than {@code 8}.
+     */
+    public QuantileSketch(int k) throws IllegalArgumentException {
+        if(k < MIN_CAPACITY) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.k = k;
+        this.compactors = new ArrayList<>();
+        this.sizes = new int[0];
+        this.capacities = new int[0];
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+        grow();
+    }
+
+    /**
+     * Records a value.
+     * @param value the value.
+     */
+    public void add(double value) {
+        this.count++;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+        append(0, value);
+        if(this.retained >= this.totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Records several values.
+     * @param values the values.
+     */
+    public void addAll(double... values) {
+        for(double value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds the values summarized by another {@code QuantileSketch} to this one. The other sketch is
+     * read before this one changes, so a sketch may be merged with itself to double every weight.
+     * @param sketch the other sketch, which is left unchanged.
+     * @return this {@code QuantileSketch}.
+     */
+    public QuantileSketch merge(QuantileSketch sketch) {
+        final double[][] levels = new double[sketch.compactors.size()][];
+        for(int level = 0; level < levels.length; level++) {
+            levels[level] = Arrays.copyOf(sketch.compactors.get(level), sketch.sizes[level]);
+        }
+        final long count = sketch.count;
+        final double min = sketch.min, max = sketch.max;
+        while(this.compactors.size() < levels.length) {
+            grow();
+        }
+        for(int level = 0; level < levels.length; level++) {
+            for(double value : levels[level]) {
+                append(level, value);
+            }
+        }
+        this.count += count;
+        this.min = Math.min(this.min, min);
+        this.max = Math.max(this.max, max);
+        compress();
+        return this;
+    }
+
+    /**
+     * Estimates the value at a fraction of the sorted stream.
+     * @param fraction the fraction, between {@code 0} (the minimum) and {@code 1} (the maximum).
+     * @return the estimated quantile, or {@code NaN} if the sketch is empty.
+     * @throws IllegalArgumentException if the fraction is outside {@code [0, 1]}.
+     */
+    public double quantile(double fraction) throws IllegalArgumentException {
+        if(! (fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        if(this.count == 0) {
+            return Double.NaN;
+        }
+        if(fraction == 0) {
+            return this.min;
+        }
+        if(fraction == 1) {
+            return this.max;
+        }
+        final int retained = retained();
+        final double[] values = new double[retained];
+        final long[] weights = new long[retained];
+        sorted(values, weights);
+        final double target = fraction * this.count;
+        long cumulative = 0;
+        for(int i = 0; i < retained; i++) {
+            cumulative += weights[i];
+            if(cumulative >= target) {
+                return values[i];
+            }
+        }
+        return this.max;
+    }
+
+    /**
+     * Estimates the specified quantile, with the same arguments as {@link FractionGroup#quantile(int, int)}.
+     * @param dividend the number of quantiles before the target element.
+     * @param quantile the type of quantile.
+     * @return the estimated quantile, or {@code NaN} if the sketch is empty.
+     * @throws IllegalArgumentException if the dividend is negative or exceeds the quantile, or if the quantile is not positive.
+     */
+    public double quantile(int dividend, int quantile) throws IllegalArgumentException {
+        if(dividend < 0 || quantile < 1 || dividend > quantile) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return quantile((double) dividend / quantile);
+    }
+
+    /**
+     * Finds the median of this {@code QuantileSketch}.
+     * @return the estimated middle value.
+     */
+    public double median() {
+        return quantile(0.5);
+    }
+
+    /**
+     * Estimates the number of recorded values less than or equal to a value.
+     * @param value the value.
+     * @return the estimated rank.
+     */
+    public long rank(double value) {
+        long rank = 0;
+        for(int level = 0; level < this.compactors.size(); level++) {
+            final double[] values = this.compactors.get(level);
+            for(int i = 0; i < this.sizes[level]; i++) {
+                if(values[i] <= value) {
+                    rank += 1L << level;
+                }
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the number of recorded values.
+     * @return {@code this.count}
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Finds the minimum recorded value.
+     * @return the minimum, or positive infinity if the sketch is empty.
+     */
+    public double min() {
+        return this.min;
+    }
+
+    /**
+     * Finds the maximum recorded value.
+     * @return the maximum, or negative infinity if the sketch is empty.
+     */
+    public double max() {
+        return this.max;
+    }
+
+    /**
+     * Finds the number of values held by this {@code QuantileSketch}.
+     * @return the number of values across all compactors.
+     */
+    public int retained() {
+        return this.retained;
+    }
+
+    /**
+     * Converts this {@code QuantileSketch} to a printable format.
+     * @return the count, extremes and quartiles of this {@code QuantileSketch}.
+     */
+    @Override
+    public String toString() {
+        return "count=" + this.count + ", min=" + this.min + ", q1=" + quantile(0.25) + ", median=" + quantile(0.5)
+                + ", q3=" + quantile(0.75) + ", max=" + this.max;
+    }
+
+    /**
+     * Prints this {@code QuantileSketch}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Compacts the lowest full compactor until the sketch fits within its total capacity.
+     */
+    private void compress() {
+        while(this.retained >= this.totalCapacity) {
+            int level = 0;
+            while(this.sizes[level] < this.capacities[level]) {
+                level++;
+            }
+            compact(level);
+        }
+    }
+
+    /**
+     * Sorts a compactor and promotes every other value to the next level, keeping one value back if
+     * the compactor holds an odd number.
+     * @param level the level of the compactor.
+     */
+    private void compact(int level) {
+        if(level + 1 == this.compactors.size()) {
+            grow();
+        }
+        final double[] values = this.compactors.get(level);
+        int size = this.sizes[level];
+        Arrays.sort(values, 0, size);
+        final boolean odd = (size & 1) == 1;
+        final double kept = values[size - 1];
+        if(odd) {
+            size--;
+        }
+        for(int i = ThreadLocalRandom.current().nextInt(2); i < size; i += 2) {
+            append(level + 1, values[i]);
+        }
+        this.retained -= this.sizes[level];
+        this.sizes[level] = 0;
+        if(odd) {
+            append(level, kept);
+        }
+    }
+
+    /**
+     * Adds an empty compactor on top, and recomputes the capacities, which shrink by {@code 2/3} per
+     * level below the top.
+     */
+    private void grow() {
+        this.compactors.add(new double[MIN_CAPACITY]);
+        final int levels = this.compactors.size();
+        this.sizes = Arrays.copyOf(this.sizes, levels);
+        this.capacities = new int[levels];
+        this.totalCapacity = 0;
+        for(int level = 0; level < levels; level++) {
+            this.capacities[level] = Math.max(MIN_CAPACITY,
+                    (int) Math.ceil(this.k * Math.pow(CAPACITY_RATIO, levels - 1 - level)));
+            this.totalCapacity += this.capacities[level];
+        }
+    }
+
+    /**
+     * Appends a value to a compactor, growing its array if needed.
+     * @param level the level of the compactor.
+     * @param value the value.
+     */
+    private void append(int level, double value) {
+        double[] values = this.compactors.get(level);
+        if(this.sizes[level] == values.length) {
+            values = Arrays.copyOf(values, values.length << 1);
+            this.compactors.set(level, values);
+        }
+        values[this.sizes[level]++] = value;
+        this.retained++;
+    }
+
+    /**
+     * Sorts the retained values together with their weights.
+     * @param values receives the values in increasing order.
+     * @param weights receives the weight of each value.
+     */
+    private void sorted(double[] values, long[] weights) {
+        final double[] unsorted = new double[values.length];
+        final int[] levels = new int[values.length];
+        final Integer[] permutation = new Integer[values.length];
+        int index = 0;
+        for(int level = 0; level < this.compactors.size(); level++) {
+            final double[] compactor = this.compactors.get(level);
+            for(int i = 0; i < this.sizes[level]; i++) {
+                unsorted[index] = compactor[i];
+                levels[index] = level;
+                permutation[index] = index;
+                index++;
+            }
+        }
+        Arrays.sort(permutation, (a, b) -> Double.compare(unsorted[a], unsorted[b]));
+        for(int i = 0; i < permutation.length; i++) {
+            values[i] = unsorted[permutation[i]];
+            weights[i] = 1L << levels[permutation[i]];
+        }
+    }
+}
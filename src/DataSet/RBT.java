@@ -1,9 +1,915 @@
 package DataSet;
 
+import Algebra.BooleanSetOperable;
+import Exception.ExceptionMessage;
+import General.TrueTextEncodable;
+
+import java.util.*;
+import java.util.function.IntBinaryOperator;
+
 /**
- * This is an implementation of a red-black binary search tree (to be completed at a later date).
- * @param <Data> the datatype contained within this tree.
+ * A red-black multiset tree. Equal elements share a single node with a quantity, and every node
+ * tracks the total quantity of its subtree, so that insertion, removal, lookup, rank, selection and
+ * range counting all take {@code O(log n)} time regardless of the order in which elements arrive.
+ * The boolean set operations treat this tree as a multiset and run as linear-time merges of the two
+ * in-order sequences.
+ * @param <Data> the Comparable datatype contained within this tree.
+ * @see BST
  */
-public class RBT<Data> {
-    //TODO: literally everything
+public class RBT<Data extends Comparable<Data>> implements DataSet<Data>, BooleanSetOperable<RBT<Data>>, TrueTextEncodable {
+    private final Node<Data> nil;
+    private Node<Data> root;
+    private int distinct;
+
+    /**
+     * A node of an {@code RBT}, holding one distinct element and its quantity.
+     * @param <Data> the datatype contained within the node.
+     */
+    private static final class Node<Data> {
+        private Data data;
+        private int quantity, size;
+        private boolean red;
+        private Node<Data> parent, below, above;
+
+        /**
+         * Creates a new, red {@code Node}.
+         * @param data the element.
+         * @param quantity the number of instances of the element.
+         * @param nil the sentinel leaf of the owning tree, or {@code null} when creating the sentinel.
+         */
+        private Node(Data data, int quantity, Node<Data> nil) {
+            this.data = data;
+            this.quantity = quantity;
+            this.size = quantity;
+            this.red = nil != null;
+            this.parent = nil;
+            this.below = nil;
+            this.above = nil;
+        }
+    }
+
+    /**
+     * Creates an empty RBT
+     */
+    public RBT() {
+        this.nil = new Node<>(null, 0, null);
+        this.root = this.nil;
+        this.distinct = 0;
+    }
+
+    /**
+     * Creates a new RBT and preloads an array of Data
+     * @param data an array of Data
+     */
+    @SafeVarargs
+    public RBT(Data... data) {
+        this();
+        insertAll(data);
+    }
+
+    /**
+     * Creates a new RBT and preloads a List of Data
+     * @param data a List of Data
+     */
+    public RBT(Iterable<Data> data) {
+        this();
+        insertAll(data);
+    }
+
+    /**
+     * Creates a new RBT and preloads the contents of an existing RBT in linear time
+     * @param rbt the model RBT
+     */
+    public RBT(RBT<Data> rbt) {
+        this();
+        if(rbt != null) {
+            final List<Data> data = new ArrayList<>(rbt.distinct);
+            final int[] quantities = new int[rbt.distinct];
+            for(Node<Data> cursor = rbt.first(); cursor != rbt.nil; cursor = rbt.next(cursor)) {
+                quantities[data.size()] = cursor.quantity;
+                data.add(cursor.data);
+            }
+            build(data, quantities);
+        }
+    }
+
+    /**
+     * Inserts an element of Data into this RBT
+     * @param data the data to be added
+     */
+    public void insert(Data data) {
+        insert(data, 1);
+    }
+
+    /**
+     * Inserts several instances of an element of Data into this RBT
+     * @param data the data to be added
+     * @param quantity the number of instances to add
+     * @throws IllegalArgumentException if the quantity is not positive
+     */
+    public void insert(Data data, int quantity) throws IllegalArgumentException {
+        if(quantity < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        if(data == null) {
+            return;
+        }
+        Node<Data> parent = this.nil, cursor = this.root;
+        int compare = 0;
+        while(cursor != this.nil) {
+            compare = data.compareTo(cursor.data);
+            if(compare == 0) {
+                cursor.quantity += quantity;
+                resize(cursor, quantity);
+                return;
+            }
+            parent = cursor;
+            cursor = (compare < 0) ? cursor.below : cursor.above;
+        }
+        resize(parent, quantity);
+        final Node<Data> node = new Node<>(data, quantity, this.nil);
+        node.parent = parent;
+        if(parent == this.nil) {
+            this.root = node;
+        } else if(compare < 0) {
+            parent.below = node;
+        } else {
+            parent.above = node;
+        }
+        this.distinct++;
+        insertFixup(node);
+    }
+
+    /**
+     * Inserts all elements of a Data array into this RBT
+     * @param data an array of Data
+     */
+    @SafeVarargs
+    public final void insertAll(Data... data) {
+        if(data != null) {
+            for(Data element : data) {
+                insert(element);
+            }
+        }
+    }
+
+    /**
+     * Inserts all elements of a Data list into this RBT
+     * @param data an Iterable List of Data
+     */
+    public void insertAll(Iterable<Data> data) {
+        if(data != null) {
+            for(Data element : data) {
+                insert(element);
+            }
+        }
+    }
+
+    /**
+     * Inserts all elements of another RBT into this RBT
+     * @param rbt the addend RBT
+     */
+    public void insertAll(RBT<Data> rbt) {
+        if(rbt != null) {
+            for(Node<Data> cursor = rbt.first(); cursor != rbt.nil; cursor = rbt.next(cursor)) {
+                insert(cursor.data, cursor.quantity);
+            }
+        }
+    }
+
+    /**
+     * Attempts to remove a Data object from this RBT
+     * @param data the target object
+     * @return true if the removal is successful, else false if no such element occurs in this RBT
+     */
+    @Override
+    public boolean remove(Data data) {
+        return remove(data, 1) == 1;
+    }
+
+    /**
+     * Removes up to a specified number of instances of a Data object from this RBT
+     * @param data the target object
+     * @param quantity the maximum number of instances to remove
+     * @return the number of instances removed
+     */
+    public int remove(Data data, int quantity) {
+        final Node<Data> node = find(data);
+        return (node == null || quantity < 1) ? 0 : remove(node, quantity);
+    }
+
+    /**
+     * Removes all instances of a Data object from this RBT
+     * @param data the target object
+     * @return the number of instances of the target object previously contained in this RBT
+     */
+    @Override
+    public int removeAll(Data data) {
+        return remove(data, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Finds the minimum Value in this RBT
+     * @return the Value 'o' in this RBT such that for all values 't' in this RBT, 'o' <= 't', or null if this RBT is empty
+     */
+    @Override
+    public Data min() {
+        return first().data;
+    }
+
+    /**
+     * Finds the maximum Value in this RBT
+     * @return the Value 'o' in this RBT such that for all values 't' in this RBT, 'o' >= 't', or null if this RBT is empty
+     */
+    @Override
+    public Data max() {
+        return last().data;
+    }
+
+    /**
+     * Removes the smallest Data object from this RBT
+     * @return the smallest Data object, or null if this RBT is empty
+     */
+    public Data removeMin() {
+        final Node<Data> node = first();
+        final Data data = node.data;
+        if(node != this.nil) {
+            remove(node, 1);
+        }
+        return data;
+    }
+
+    /**
+     * Removes the largest Data object from this RBT
+     * @return the largest Data object, or null if this RBT is empty
+     */
+    public Data removeMax() {
+        final Node<Data> node = last();
+        final Data data = node.data;
+        if(node != this.nil) {
+            remove(node, 1);
+        }
+        return data;
+    }
+
+    /**
+     * Determines whether this RBT contains a specific Data object
+     * @param data the Data object
+     * @return true if this RBT contains the object, else false
+     */
+    @Override
+    public boolean contains(Data data) {
+        return find(data) != null;
+    }
+
+    /**
+     * Gets the total quantity of a Data object in this RBT
+     * @param data the target object
+     * @return the number of occurrences of this object
+     */
+    public int getQuantity(Data data) {
+        final Node<Data> node = find(data);
+        return (node == null) ? 0 : node.quantity;
+    }
+
+    /**
+     * Finds the rank of a Data object in this RBT
+     * @param data the target object, which need not be contained in this RBT
+     * @return the number of elements in this RBT strictly less than the target object
+     */
+    public int rank(Data data) {
+        return countBelow(data, false);
+    }
+
+    /**
+     * Finds the element at a specified position in the sorted order of this RBT
+     * @param index the position, counting every instance of each element
+     * @return the element 'e' such that exactly {@code index} elements precede 'e' in sorted order
+     * @throws IndexOutOfBoundsException if the index is negative or at least the size of this RBT
+     */
+    public Data select(int index) throws IndexOutOfBoundsException {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Node<Data> cursor = this.root;
+        while(true) {
+            final int below = cursor.below.size;
+            if(index < below) {
+                cursor = cursor.below;
+            } else if(index < below + cursor.quantity) {
+                return cursor.data;
+            } else {
+                index -= below + cursor.quantity;
+                cursor = cursor.above;
+            }
+        }
+    }
+
+    /**
+     * Counts the elements of this RBT within a closed range
+     * @param from the lower bound of the range
+     * @param to the upper bound of the range
+     * @return the number of elements 'e' in this RBT with from <= e <= to
+     */
+    public int countRange(Data from, Data to) {
+        if(from.compareTo(to) > 0) {
+            return 0;
+        }
+        return countBelow(to, true) - countBelow(from, false);
+    }
+
+    /**
+     * Gets a complete, sorted List of Data from this RBT
+     * @return the complete List of Data
+     */
+    public List<Data> getOrderedList() {
+        final List<Data> orderedList = new ArrayList<>(size());
+        for(Node<Data> cursor = first(); cursor != this.nil; cursor = next(cursor)) {
+            for(int i = 0; i < cursor.quantity; i++) {
+                orderedList.add(cursor.data);
+            }
+        }
+        return orderedList;
+    }
+
+    /**
+     * Gets a sorted List of the distinct Data in this RBT
+     * @return the List of Data, with each element appearing once
+     */
+    public List<Data> getDistinctList() {
+        final List<Data> distinctList = new ArrayList<>(this.distinct);
+        for(Node<Data> cursor = first(); cursor != this.nil; cursor = next(cursor)) {
+            distinctList.add(cursor.data);
+        }
+        return distinctList;
+    }
+
+    /**
+     * Finds all modes of this DataSet
+     * @return a List of all modes: let c(p) equal the number of occurrences of 'p' in this DataSet. For all elements
+     * 'e' in this DataSet, a mode 'm' of this DataSet satisfies c(m) >= c(e)
+     */
+    @Override
+    public List<Data> modes() {
+        final List<Data> modes = new LinkedList<>();
+        int maxCount = 0;
+        for(Node<Data> cursor = first(); cursor != this.nil; cursor = next(cursor)) {
+            if(cursor.quantity >= maxCount) {
+                if(cursor.quantity > maxCount) {
+                    modes.clear();
+                    maxCount = cursor.quantity;
+                }
+                modes.add(cursor.data);
+            }
+        }
+        return modes;
+    }
+
+    /**
+     * Creates a deep copy of this RBT
+     * @return the new copy
+     */
+    public RBT<Data> copy() {
+        return new RBT<>(this);
+    }
+
+    /**
+     * Creates a new RBT from the intersection of the datasets of two RBTs
+     * @param rbt the comparator RBT
+     * @return the intersection RBT, holding each element the lesser number of times it occurs in either RBT
+     */
+    @Override
+    public RBT<Data> AND(RBT<Data> rbt) {
+        return merge(rbt, Math::min);
+    }
+
+    /**
+     * Creates a new RBT from the union of the datasets of two RBTs
+     * @param rbt the comparator RBT
+     * @return the union RBT, holding each element the greater number of times it occurs in either RBT
+     */
+    @Override
+    public RBT<Data> OR(RBT<Data> rbt) {
+        return merge(rbt, Math::max);
+    }
+
+    /**
+     * Creates a new RBT from the disjunctive union of the datasets of two RBTs
+     * @param rbt the comparator RBT
+     * @return the disjunctive union RBT, holding each element the difference of the number of times it
+     * occurs in the two RBTs
+     */
+    @Override
+    public RBT<Data> XOR(RBT<Data> rbt) {
+        return merge(rbt, (a, b) -> Math.abs(a - b));
+    }
+
+    /**
+     * Creates a new RBT with all elements contained in this RBT and not in another RBT
+     * @param rbt the comparator RBT
+     * @return the new exclusive RBT, holding each element as many more times as it occurs in this RBT
+     * than in the comparator
+     */
+    @Override
+    public RBT<Data> AND_NOT(RBT<Data> rbt) {
+        return merge(rbt, (a, b) -> Math.max(a - b, 0));
+    }
+
+    /**
+     * Finds the number of Data objects stored in this RBT
+     * @return the total quantity of all elements
+     */
+    @Override
+    public int size() {
+        return this.root.size;
+    }
+
+    /**
+     * Finds the number of distinct Data objects stored in this RBT
+     * @return the number of nodes in this RBT
+     */
+    public int distinctSize() {
+        return this.distinct;
+    }
+
+    /**
+     * Determines whether this RBT is empty
+     * @return true if this RBT contains no elements, else false
+     */
+    public boolean isEmpty() {
+        return this.root == this.nil;
+    }
+
+    /**
+     * Checks for equality between this RBT and another Object
+     * @param o the comparator Object
+     * @return true if the comparator is an RBT holding the same elements with the same quantities, else false
+     */
+    @Override
+    public boolean equals(Object o) {
+        if(! (o instanceof RBT<?> convert)) {
+            return false;
+        }
+        return size() == convert.size() && this.distinct == convert.distinct && matches(convert);
+    }
+
+    /**
+     * Finds the hashCode of this RBT
+     * @return a hash of the elements and their quantities, independent of the shape of the tree
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for(Node<Data> cursor = first(); cursor != this.nil; cursor = next(cursor)) {
+            hashCode = 31 * hashCode + cursor.data.hashCode() * 17 + cursor.quantity;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Provides the TrueText of this RBT
+     * @return this RBT in a parsable format
+     */
+    @Override
+    public String trueText() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(Node<Data> cursor = first(); cursor != this.nil; cursor = next(cursor)) {
+            builder.append(delimiter).append(cursor.data).append(":").append(cursor.quantity);
+            delimiter = "|";
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this RBT to a printable format
+     * @return this tree in String form, with each element indented by its depth and marked if red
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        final Stack<Node<Data>> stack = new Stack<>();
+        final Stack<Integer> layerStack = new Stack<>();
+        Node<Data> cursor = this.root;
+        int layer = 0;
+        while(cursor != this.nil || ! stack.isEmpty()) {
+            while(cursor != this.nil) {
+                stack.push(cursor);
+                layerStack.push(layer++);
+                cursor = cursor.below;
+            }
+            cursor = stack.pop();
+            layer = layerStack.pop();
+            builder.append("\t".repeat(layer)).append(cursor.data).append(" [x").append(cursor.quantity)
+                    .append(cursor.red ? "] R\n" : "]\n");
+            cursor = cursor.above;
+            layer++;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints this RBT
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Finds the node holding a Data object
+     * @param data the target object
+     * @return the node, or null if this RBT does not contain the object
+     */
+    private Node<Data> find(Data data) {
+        if(data == null) {
+            return null;
+        }
+        Node<Data> cursor = this.root;
+        while(cursor != this.nil) {
+            final int compare = data.compareTo(cursor.data);
+            if(compare == 0) {
+                return cursor;
+            }
+            cursor = (compare < 0) ? cursor.below : cursor.above;
+        }
+        return null;
+    }
+
+    /**
+     * Counts the elements of this RBT below a Data object
+     * @param data the bound
+     * @param inclusive true to also count instances equal to the bound, else false
+     * @return the number of elements 'e' with e < data, or e <= data if inclusive
+     */
+    private int countBelow(Data data, boolean inclusive) {
+        int count = 0;
+        Node<Data> cursor = this.root;
+        while(cursor != this.nil) {
+            final int compare = data.compareTo(cursor.data);
+            if(compare < 0) {
+                cursor = cursor.below;
+            } else if(compare > 0) {
+                count += cursor.below.size + cursor.quantity;
+                cursor = cursor.above;
+            } else {
+                return count + cursor.below.size + (inclusive ? cursor.quantity : 0);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Finds the node holding the smallest element
+     * @return the leftmost node, or the sentinel if this RBT is empty
+     */
+    private Node<Data> first() {
+        Node<Data> cursor = this.root;
+        while(cursor != this.nil && cursor.below != this.nil) {
+            cursor = cursor.below;
+        }
+        return cursor;
+    }
+
+    /**
+     * Finds the node holding the largest element
+     * @return the rightmost node, or the sentinel if this RBT is empty
+     */
+    private Node<Data> last() {
+        Node<Data> cursor = this.root;
+        while(cursor != this.nil && cursor.above != this.nil) {
+            cursor = cursor.above;
+        }
+        return cursor;
+    }
+
+    /**
+     * Finds the in-order successor of a node
+     * @param node the node
+     * @return the node holding the next larger element, or the sentinel if there is none
+     */
+    private Node<Data> next(Node<Data> node) {
+        if(node.above != this.nil) {
+            node = node.above;
+            while(node.below != this.nil) {
+                node = node.below;
+            }
+            return node;
+        }
+        Node<Data> parent = node.parent;
+        while(parent != this.nil && node == parent.above) {
+            node = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    /**
+     * Determines whether this RBT and another RBT of the same size hold the same elements with the same quantities
+     * @param rbt the comparator RBT
+     * @param <T> the datatype of the comparator
+     * @return true if the in-order sequences of the two RBTs match, else false
+     */
+    private <T extends Comparable<T>> boolean matches(RBT<T> rbt) {
+        Node<Data> thisCursor = first();
+        Node<T> rbtCursor = rbt.first();
+        while(thisCursor != this.nil) {
+            if(! (thisCursor.data.equals(rbtCursor.data) && thisCursor.quantity == rbtCursor.quantity)) {
+                return false;
+            }
+            thisCursor = next(thisCursor);
+            rbtCursor = rbt.next(rbtCursor);
+        }
+        return true;
+    }
+
+    /**
+     * Adjusts the subtree sizes from a node up to the root
+     * @param node the lowest node whose subtree changed
+     * @param change the change in quantity
+     */
+    private void resize(Node<Data> node, int change) {
+        for(; node != this.nil; node = node.parent) {
+            node.size += change;
+        }
+    }
+
+    /**
+     * Removes up to a specified number of instances of the element held by a node
+     * @param node the node
+     * @param quantity the maximum number of instances to remove
+     * @return the number of instances removed
+     */
+    private int remove(Node<Data> node, int quantity) {
+        if(quantity < node.quantity) {
+            node.quantity -= quantity;
+            resize(node, -quantity);
+            return quantity;
+        }
+        final int removed = node.quantity;
+        delete(node);
+        return removed;
+    }
+
+    /**
+     * Deletes a node from this RBT and restores the red-black properties
+     * @param node the node
+     */
+    private void delete(Node<Data> node) {
+        resize(node, -node.quantity);
+        if(node.below != this.nil && node.above != this.nil) {
+            // move the successor's element here and delete the successor's node instead
+            Node<Data> successor = node.above;
+            while(successor.below != this.nil) {
+                successor = successor.below;
+            }
+            for(Node<Data> cursor = successor.parent; cursor != node; cursor = cursor.parent) {
+                cursor.size -= successor.quantity;
+            }
+            node.data = successor.data;
+            node.quantity = successor.quantity;
+            node = successor;
+        }
+        final Node<Data> child = (node.below != this.nil) ? node.below : node.above;
+        transplant(node, child);
+        if(! node.red) {
+            deleteFixup(child);
+        }
+        this.distinct--;
+    }
+
+    /**
+     * Restores the red-black properties after inserting a red node
+     * @param node the inserted node
+     */
+    private void insertFixup(Node<Data> node) {
+        while(node.parent.red) {
+            Node<Data> parent = node.parent;
+            final Node<Data> grandparent = parent.parent;
+            if(parent == grandparent.below) {
+                final Node<Data> uncle = grandparent.above;
+                if(uncle.red) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if(node == parent.above) {
+                        node = parent;
+                        rotateLeft(node);
+                        parent = node.parent;
+                    }
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateRight(grandparent);
+                }
+            } else {
+                final Node<Data> uncle = grandparent.below;
+                if(uncle.red) {
+                    parent.red = false;
+                    uncle.red = false;
+                    grandparent.red = true;
+                    node = grandparent;
+                } else {
+                    if(node == parent.below) {
+                        node = parent;
+                        rotateRight(node);
+                        parent = node.parent;
+                    }
+                    parent.red = false;
+                    grandparent.red = true;
+                    rotateLeft(grandparent);
+                }
+            }
+        }
+        this.root.red = false;
+    }
+
+    /**
+     * Restores the red-black properties after deleting a black node
+     * @param node the node that took the place of the deleted node, possibly the sentinel
+     */
+    private void deleteFixup(Node<Data> node) {
+        while(node != this.root && ! node.red) {
+            final Node<Data> parent = node.parent;
+            if(node == parent.below) {
+                Node<Data> sibling = parent.above;
+                if(sibling.red) {
+                    sibling.red = false;
+                    parent.red = true;
+                    rotateLeft(parent);
+                    sibling = parent.above;
+                }
+                if(! (sibling.below.red || sibling.above.red)) {
+                    sibling.red = true;
+                    node = parent;
+                } else {
+                    if(! sibling.above.red) {
+                        sibling.below.red = false;
+                        sibling.red = true;
+                        rotateRight(sibling);
+                        sibling = parent.above;
+                    }
+                    sibling.red = parent.red;
+                    parent.red = false;
+                    sibling.above.red = false;
+                    rotateLeft(parent);
+                    node = this.root;
+                }
+            } else {
+                Node<Data> sibling = parent.below;
+                if(sibling.red) {
+                    sibling.red = false;
+                    parent.red = true;
+                    rotateRight(parent);
+                    sibling = parent.below;
+                }
+                if(! (sibling.below.red || sibling.above.red)) {
+                    sibling.red = true;
+                    node = parent;
+                } else {
+                    if(! sibling.below.red) {
+                        sibling.above.red = false;
+                        sibling.red = true;
+                        rotateLeft(sibling);
+                        sibling = parent.below;
+                    }
+                    sibling.red = parent.red;
+                    parent.red = false;
+                    sibling.below.red = false;
+                    rotateRight(parent);
+                    node = this.root;
+                }
+            }
+        }
+        node.red = false;
+    }
+
+    /**
+     * Rotates a node down towards its smaller side, raising its larger child
+     * @param node the node
+     */
+    private void rotateLeft(Node<Data> node) {
+        final Node<Data> pivot = node.above;
+        node.above = pivot.below;
+        if(pivot.below != this.nil) {
+            pivot.below.parent = node;
+        }
+        transplant(node, pivot);
+        pivot.below = node;
+        node.parent = pivot;
+        pivot.size = node.size;
+        node.size = node.below.size + node.above.size + node.quantity;
+    }
+
+    /**
+     * Rotates a node down towards its larger side, raising its smaller child
+     * @param node the node
+     */
+    private void rotateRight(Node<Data> node) {
+        final Node<Data> pivot = node.below;
+        node.below = pivot.above;
+        if(pivot.above != this.nil) {
+            pivot.above.parent = node;
+        }
+        transplant(node, pivot);
+        pivot.above = node;
+        node.parent = pivot;
+        pivot.size = node.size;
+        node.size = node.below.size + node.above.size + node.quantity;
+    }
+
+    /**
+     * Replaces a node with another node (or the sentinel) in the eyes of its parent
+     * @param target the node being replaced
+     * @param replacement the replacing node
+     */
+    private void transplant(Node<Data> target, Node<Data> replacement) {
+        if(target.parent == this.nil) {
+            this.root = replacement;
+        } else if(target == target.parent.below) {
+            target.parent.below = replacement;
+        } else {
+            target.parent.above = replacement;
+        }
+        replacement.parent = target.parent;
+    }
+
+    /**
+     * Merges this RBT with another in a single in-order pass over both, producing a new RBT
+     * @param rbt the comparator RBT
+     * @param operator the quantity of each element in the result, from its quantities in this RBT and the comparator
+     * @return the merged RBT
+     */
+    private RBT<Data> merge(RBT<Data> rbt, IntBinaryOperator operator) {
+        if(rbt == null) {
+            rbt = new RBT<>();
+        }
+        final List<Data> data = new ArrayList<>();
+        final int[] quantities = new int[this.distinct + rbt.distinct];
+        Node<Data> thisCursor = first(), rbtCursor = rbt.first();
+        while(thisCursor != this.nil || rbtCursor != rbt.nil) {
+            final int compare = (thisCursor == this.nil) ? 1
+                    : (rbtCursor == rbt.nil) ? -1 : thisCursor.data.compareTo(rbtCursor.data);
+            final Data element = (compare <= 0) ? thisCursor.data : rbtCursor.data;
+            final int quantity = operator.applyAsInt(compare <= 0 ? thisCursor.quantity : 0,
+                    compare >= 0 ? rbtCursor.quantity : 0);
+            if(compare <= 0) {
+                thisCursor = next(thisCursor);
+            }
+            if(compare >= 0) {
+                rbtCursor = rbt.next(rbtCursor);
+            }
+            if(quantity > 0) {
+                quantities[data.size()] = quantity;
+                data.add(element);
+            }
+        }
+        final RBT<Data> merge = new RBT<>();
+        merge.build(data, quantities);
+        return merge;
+    }
+
+    /**
+     * Replaces the contents of this RBT with a balanced tree built from sorted, distinct elements in linear time.
+     * Every level is filled except possibly the deepest, whose nodes are colored red so that all paths
+     * have the same number of black nodes.
+     * @param data the distinct elements, in ascending order
+     * @param quantities the quantity of each element
+     */
+    private void build(List<Data> data, int[] quantities) {
+        final int count = data.size();
+        this.distinct = count;
+        if(count == 0) {
+            this.root = this.nil;
+            return;
+        }
+        final int redLayer = 31 - Integer.numberOfLeadingZeros(count);
+        this.root = build(data, quantities, 0, count, 0, redLayer, this.nil);
+        this.root.red = false;
+    }
+
+    /**
+     * Builds a balanced subtree from a range of sorted, distinct elements
+     * @param data the distinct elements, in ascending order
+     * @param quantities the quantity of each element
+     * @param from the first index of the range, inclusive
+     * @param to the last index of the range, exclusive
+     * @param layer the depth of the subtree root
+     * @param redLayer the depth at which nodes are colored red
+     * @param parent the parent of the subtree root
+     * @return the subtree root, or the sentinel if the range is empty
+     */
+    private Node<Data> build(List<Data> data, int[] quantities, int from, int to, int layer, int redLayer, Node<Data> parent) {
+        if(from >= to) {
+            return this.nil;
+        }
+        final int mid = (from + to) >>> 1;
+        final Node<Data> node = new Node<>(data.get(mid), quantities[mid], this.nil);
+        node.parent = parent;
+        node.red = layer == redLayer;
+        node.below = build(data, quantities, from, mid, layer + 1, redLayer, node);
+        node.above = build(data, quantities, mid + 1, to, layer + 1, redLayer, node);
+        node.size = node.below.size + node.above.size + node.quantity;
+        return node;
+    }
 }
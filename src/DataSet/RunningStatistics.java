@@ -0,0 +1,158 @@
+package DataSet;
+
+/**
+ * Summarizes a stream of doubles in one pass and constant space. The mean and the sum of squared
+ * deviations are updated by Welford's recurrence, which avoids the cancellation of subtracting
+ * squared sums, and two summaries are combined by Chan's formula, so that each thread of a parallel
+ * job may keep its own {@code RunningStatistics} and merge them at the end. This class is not
+ * synchronized.
+ * @see FractionGroup
+ */
+public class RunningStatistics {
+    private long count;
+    private double mean, squaredDeviations, min, max;
+
+    /**
+     * Creates an empty {@code RunningStatistics}.
+     */
+    public RunningStatistics() {
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Creates a {@code RunningStatistics} of starter values.
+     * @param values the starter values.
+     */
+    public RunningStatistics(double... values) {
+        this();
+        addAll(values);
+    }
+
+    /**
+     * Records a value.
+     * @param value the value.
+     */
+    public void add(double value) {
+        this.count++;
+        final double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.squaredDeviations += delta * (value - this.mean);
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Records several values.
+     * @param values the values.
+     */
+    public void addAll(double... values) {
+        for(double value : values) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds the values summarized by another {@code RunningStatistics} to this one.
+     * @param statistics the other summary.
+     * @return this {@code RunningStatistics}.
+     */
+    public RunningStatistics merge(RunningStatistics statistics) {
+        if(statistics.count == 0) {
+            return this;
+        }
+        final long count = this.count + statistics.count;
+        final double delta = statistics.mean - this.mean;
+        this.squaredDeviations += statistics.squaredDeviations
+                + delta * delta * ((double) this.count * statistics.count / count);
+        this.mean += delta * statistics.count / count;
+        this.count = count;
+        this.min = Math.min(this.min, statistics.min);
+        this.max = Math.max(this.max, statistics.max);
+        return this;
+    }
+
+    /**
+     * Finds the number of recorded values.
+     * @return {@code this.count}
+     */
+    public long count() {
+        return this.count;
+    }
+
+    /**
+     * Finds the sum of the recorded values.
+     * @return the sum, or {@code 0} if there are no values.
+     */
+    public double sum() {
+        return this.mean * this.count;
+    }
+
+    /**
+     * Finds the arithmetic mean of the recorded values.
+     * @return the mean, or {@code NaN} if there are no values.
+     */
+    public double mean() {
+        return (this.count == 0) ? Double.NaN : this.mean;
+    }
+
+    /**
+     * Finds the variance of the recorded values.
+     * @param isSample {@code true} if the values are a sample, else {@code false} (population).
+     * @return the variance, or {@code NaN} if there are too few values.
+     */
+    public double variance(boolean isSample) {
+        final long divisor = isSample ? this.count - 1 : this.count;
+        return (divisor <= 0) ? Double.NaN : this.squaredDeviations / divisor;
+    }
+
+    /**
+     * Finds the standard deviation of the recorded values.
+     * @param isSample {@code true} if the values are a sample, else {@code false} (population).
+     * @return the standard deviation, or {@code NaN} if there are too few values.
+     */
+    public double standardDeviation(boolean isSample) {
+        return Math.sqrt(variance(isSample));
+    }
+
+    /**
+     * Finds the minimum recorded value.
+     * @return the minimum, or positive infinity if there are no values.
+     */
+    public double min() {
+        return this.min;
+    }
+
+    /**
+     * Finds the maximum recorded value.
+     * @return the maximum, or negative infinity if there are no values.
+     */
+    public double max() {
+        return this.max;
+    }
+
+    /**
+     * Creates a copy of this {@code RunningStatistics}.
+     * @return the copy.
+     */
+    public RunningStatistics copy() {
+        return new RunningStatistics().merge(this);
+    }
+
+    /**
+     * Converts this {@code RunningStatistics} to a printable format.
+     * @return this {@code RunningStatistics} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return "count=" + this.count + ", mean=" + mean() + ", variance=" + variance(false)
+                + ", min=" + this.min + ", max=" + this.max;
+    }
+
+    /**
+     * Prints this {@code RunningStatistics}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
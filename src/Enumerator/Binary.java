@@ -1,19 +1,19 @@
 package Enumerator;
 
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
 
 public class Binary {
-    protected final List<Boolean> digits;
+    protected long[] words;
+    protected int length;
 
     /**
      * Creates a new Binary
      * @param value the decimal representation of the initial value of this Binary
      */
     public Binary(int value) {
-        this.digits = new LinkedList<>();
+        this.words = new long[1];
         set(value);
     }
 
@@ -22,30 +22,45 @@ public class Binary {
      * @param value the decimal representation of the new value
      */
     public void set(int value) {
-        this.digits.clear();
+        Arrays.fill(this.words, 0);
         if(value < 0) {
             value = 0;
         }
-        do {
-            this.digits.add((value & 1) == 1);
-            value >>>= 1;
-        } while(value != 0);
+        this.words[0] = value;
+        this.length = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(value));
     }
 
     /**
-     * Adds one to this Binary
+     * Adds one to this Binary. The carry stops at the first word that does not overflow,
+     * so the amortized cost is constant.
      */
     public void increment() {
-        ListIterator<Boolean> iterator = this.digits.listIterator();
-        boolean carry = true;
-        while(carry) {
-            boolean hasNext = iterator.hasNext();
-            carry = hasNext && iterator.next();
-            if(hasNext) {
-                iterator.remove();
+        int index = 0;
+        while(++this.words[index] == 0) {
+            index++;
+            if(index == this.words.length) {
+                this.words = Arrays.copyOf(this.words, this.words.length << 1);
             }
-            iterator.add(! carry);
         }
+        this.length = Math.max(this.length,
+                (index << 6) + Long.SIZE - Long.numberOfLeadingZeros(this.words[index]));
+    }
+
+    /**
+     * Gets a single digit of this Binary
+     * @param index the place value of the digit, starting at 0 for the ones place
+     * @return true if the digit is 1, else false
+     */
+    public boolean getDigit(int index) {
+        return index < this.length && (this.words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets the number of digits in this Binary
+     * @return this.length
+     */
+    public int length() {
+        return this.length;
     }
 
     /**
@@ -53,8 +68,10 @@ public class Binary {
      * @return this.digits as an Integer list
      */
     public List<Integer> getDigits() {
-        List<Integer> digits = new LinkedList<>();
-        this.digits.forEach(digit -> digits.add(digit ? 1 : 0));
+        List<Integer> digits = new ArrayList<>(this.length);
+        for(int i = 0; i < this.length; i++) {
+            digits.add(getDigit(i) ? 1 : 0);
+        }
         return digits;
     }
 
@@ -63,25 +80,20 @@ public class Binary {
      * @return this.digits
      */
     public List<Boolean> getBinary() {
-        return new LinkedList<>(this.digits);
+        List<Boolean> digits = new ArrayList<>(this.length);
+        for(int i = 0; i < this.length; i++) {
+            digits.add(getDigit(i));
+        }
+        return digits;
     }
 
     /**
-     * Determines the hashCode of this SignedBinary
-     * @return the decimal representation of this SingedBinary
+     * Determines the hashCode of this Binary
+     * @return the decimal representation of this Binary, truncated to 32 bits
      */
     @Override
     public int hashCode() {
-        Iterator<Boolean> iterator = ((LinkedList<Boolean>) this.digits).descendingIterator();
-        int hashCode = 0;
-        while(iterator.hasNext()) {
-            boolean nextDigit = iterator.next();
-            hashCode <<= 1;
-            if(nextDigit) {
-                hashCode |= 1;
-            }
-        }
-        return hashCode;
+        return (int) this.words[0];
     }
 
     /**
@@ -94,16 +106,11 @@ public class Binary {
         if(! (o instanceof Binary b)) {
             return false;
         }
-        if(this.digits.size() != b.digits.size()) {
+        if(this.length != b.length) {
             return false;
         }
-        Iterator<Boolean> iterator = b.digits.iterator();
-        for(boolean digit : this.digits) {
-            if(digit != iterator.next()) {
-                return false;
-            }
-        }
-        return true;
+        final int words = (this.length + Long.SIZE - 1) >>> 6;
+        return Arrays.equals(this.words, 0, words, b.words, 0, words);
     }
 
     /**
@@ -112,8 +119,10 @@ public class Binary {
      */
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-        this.digits.forEach(digit -> builder.insert(0, digit ? 1 : 0));
+        StringBuilder builder = new StringBuilder(this.length);
+        for(int i = this.length - 1; i >= 0; i--) {
+            builder.append(getDigit(i) ? 1 : 0);
+        }
         return builder.toString();
     }
 
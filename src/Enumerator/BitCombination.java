@@ -0,0 +1,197 @@
+package Enumerator;
+
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Enumerates the {@code k}-subsets of {@code {0, 1, ..., n - 1}} for {@code n <= 64} as {@code long}
+ * bitmasks. Successive subsets are generated with Gosper's hack in increasing numeric (colexicographic)
+ * order, so no objects are allocated while stepping. A {@code BitCombination} may be restricted to a
+ * contiguous interval of ranks, which allows the {@code C(n, k)} subsets to be split evenly across
+ * worker threads with {@link #split(int)}.
+ * @see CombinatorialNumberSystem
+ * @see RevolvingDoorCombination
+ */
+public class BitCombination {
+    private final int n, k;
+    private final long start, end;
+    private long mask, rank;
+
+    /**
+     * Creates a new {@code BitCombination} over all {@code k}-subsets of an {@code n}-set.
+     * @param n the size of the ground set, in {@code [0, 64]}.
+     * @param k the size of each subset, in {@code [0, n]}.
+     * @throws IllegalArgumentException if {@code n} or {@code k} is out of range.
+     */
+    public BitCombination(int n, int k) throws IllegalArgumentException {
+        this(n, k, 0, verifySize(n, k));
+    }
+
+    /**
+     * Creates a new {@code BitCombination} over the {@code k}-subsets of an {@code n}-set whose
+     * colexicographic ranks lie in {@code [start, end)}.
+     * @param n the size of the ground set, in {@code [0, 64]}.
+     * @param k the size of each subset, in {@code [0, n]}.
+     * @param start the inclusive first rank.
+     * @param end the exclusive last rank.
+     * @throws IllegalArgumentException if {@code n} or {@code k} is out of range, or the rank
+     * interval does not lie within {@code [0, C(n, k)]}.
+     */
+    public BitCombination(int n, int k, long start, long end) throws IllegalArgumentException {
+        final long total = verifySize(n, k);
+        if(start < 0 || start > end || end > total) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.n = n;
+        this.k = k;
+        this.start = start;
+        this.end = end;
+        reset();
+    }
+
+    /**
+     * Returns this {@code BitCombination} to the first subset of its rank interval.
+     */
+    public void reset() {
+        this.rank = this.start;
+        this.mask = this.start < this.end ? CombinatorialNumberSystem.unrankMask(this.n, this.k, this.start) : 0;
+    }
+
+    /**
+     * Determines whether a call to {@link #nextCombination()} will yield another subset.
+     * @return {@code true} if subsets remain in the rank interval, else {@code false}.
+     */
+    public boolean hasNextCombination() {
+        return this.rank < this.end;
+    }
+
+    /**
+     * Yields the current subset and advances to the next one.
+     * @return the current subset as a bitmask.
+     * @throws IllegalStateException if the rank interval is exhausted.
+     */
+    public long nextCombination() throws IllegalStateException {
+        if(this.rank >= this.end) {
+            throw new IllegalStateException();
+        }
+        final long current = this.mask;
+        if(++this.rank < this.end) {
+            this.mask = next(current);
+        }
+        return current;
+    }
+
+    /**
+     * Gets the subset that the next call to {@link #nextCombination()} will yield.
+     * @return the pending subset as a bitmask.
+     */
+    public long getMask() {
+        return this.mask;
+    }
+
+    /**
+     * Gets the colexicographic rank of the pending subset.
+     * @return the rank of {@link #getMask()}.
+     */
+    public long rank() {
+        return this.rank;
+    }
+
+    /**
+     * Counts the subsets not yet yielded by this {@code BitCombination}.
+     * @return the number of remaining subsets.
+     */
+    public long remaining() {
+        return this.end - this.rank;
+    }
+
+    /**
+     * Splits the remaining rank interval of this {@code BitCombination} into independent
+     * enumerators of near-equal size. This {@code BitCombination} is not modified.
+     * @param chunks the number of pieces.
+     * @return the pieces, in rank order.
+     * @throws IllegalArgumentException if {@code chunks < 1}.
+     */
+    public BitCombination[] split(int chunks) throws IllegalArgumentException {
+        final long[] bounds = CombinatorialNumberSystem.partition(this.end - this.rank, chunks);
+        final BitCombination[] pieces = new BitCombination[chunks];
+        for(int i = 0; i < chunks; i++) {
+            pieces[i] = new BitCombination(this.n, this.k, this.rank + bounds[i], this.rank + bounds[i + 1]);
+        }
+        return pieces;
+    }
+
+    /**
+     * Feeds every remaining subset of this {@code BitCombination} to an action.
+     * @param action the action, given each subset as a bitmask.
+     */
+    public void forEachRemaining(LongConsumer action) {
+        while(this.rank < this.end) {
+            action.accept(nextCombination());
+        }
+    }
+
+    /**
+     * Converts this {@code BitCombination} to a printable format.
+     * @return the pending subset as a {@code String} of element indices.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(long m = this.mask; m != 0; m &= m - 1) {
+            builder.append(delimiter).append(Long.numberOfTrailingZeros(m));
+            delimiter = ", ";
+        }
+        return "[" + builder + "]";
+    }
+
+    /**
+     * Prints this {@code BitCombination}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    // Static methods
+
+    /**
+     * Feeds every {@code k}-subset of an {@code n}-set to an action, splitting the work across
+     * the common {@code ForkJoinPool}. The action is called concurrently and in no particular order.
+     * @param n the size of the ground set, in {@code [0, 64]}.
+     * @param k the size of each subset, in {@code [0, n]}.
+     * @param action the thread-safe action, given each subset as a bitmask.
+     * @throws IllegalArgumentException if {@code n} or {@code k} is out of range.
+     */
+    public static void parallelForEach(int n, int k, LongConsumer action) throws IllegalArgumentException {
+        final int chunks = Math.max(1, Runtime.getRuntime().availableProcessors() << 2);
+        Arrays.stream(new BitCombination(n, k).split(chunks)).parallel()
+                .forEach(piece -> piece.forEachRemaining(action));
+    }
+
+    /**
+     * Computes the next larger bitmask with the same number of set bits (Gosper's hack).
+     * @param mask the current nonzero bitmask, which must not be the largest of its popcount.
+     * @return the successor bitmask.
+     */
+    public static long next(long mask) {
+        final long lowest = mask & -mask, ripple = mask + lowest;
+        return (((ripple ^ mask) >>> 2) >>> Long.numberOfTrailingZeros(lowest)) | ripple;
+    }
+
+    /**
+     * Determines whether {@code n} and {@code k} describe a legal bitmask enumeration.
+     * @param n the size of the ground set.
+     * @param k the size of each subset.
+     * @return {@code C(n, k)}
+     * @throws IllegalArgumentException if {@code n} is not in {@code [0, 64]} or {@code k} is not in {@code [0, n]}.
+     */
+    private static long verifySize(int n, int k) throws IllegalArgumentException {
+        if(n < 0 || n > Long.SIZE || k < 0 || k > n) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return CombinatorialNumberSystem.choose(n, k);
+    }
+}
@@ -0,0 +1,178 @@
+package Enumerator;
+
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-width odometer over all {@code 2^bits} subsets of {@code {0, ..., bits - 1}}, stored in a
+ * {@code long[]}. In binary mode the counter steps through the subsets in numeric order; in Gray-code
+ * mode it steps through them in reflected Gray-code order, so that exactly one bit changes on each
+ * step. Either way {@link #increment()} reports which bit changed, letting callers maintain values
+ * such as subset sums incrementally rather than recomputing them. The hash code is updated as bits
+ * flip and is read in constant time.
+ * @see Binary
+ * @see SignedBinary
+ */
+public class BitCounter {
+    private final int bits;
+    private final boolean gray;
+    private final long[] words, count;
+    private int hashCode;
+
+    /**
+     * Creates a new {@code BitCounter} equal to zero.
+     * @param bits the number of bits, after which the counter cycles back to zero.
+     * @param gray {@code true} to step in Gray-code order, else {@code false} for numeric order.
+     * @throws IllegalArgumentException if {@code bits < 1}.
+     */
+    public BitCounter(int bits, boolean gray) throws IllegalArgumentException {
+        if(bits < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.bits = bits;
+        this.gray = gray;
+        this.words = new long[(bits + Long.SIZE - 1) >>> 6];
+        this.count = gray ? new long[this.words.length] : this.words;
+        this.hashCode = 0;
+    }
+
+    /**
+     * Advances this {@code BitCounter} by one step, cycling to zero after the last subset.
+     * @return in Gray-code mode, the index of the single bit that changed; in binary mode,
+     * the highest index that changed, with every bit at or below it having flipped.
+     */
+    public int increment() {
+        int index = 0;
+        while(++this.count[index] == 0 && ++index < this.count.length) {
+            // carry into the next word
+        }
+        int changed = index < this.count.length
+                ? (index << 6) + Long.numberOfTrailingZeros(this.count[index]) : this.bits;
+        if(changed >= this.bits) {
+            // the step that wraps the counter around
+            Arrays.fill(this.count, 0);
+            changed = this.bits - 1;
+        }
+        if(this.gray) {
+            this.words[changed >>> 6] ^= 1L << changed;
+            this.hashCode ^= mix(changed);
+        } else {
+            for(int i = 0; i <= changed; i++) {
+                this.hashCode ^= mix(i);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Determines whether a bit is set.
+     * @param index the bit index.
+     * @return {@code true} if the bit is set, else {@code false}.
+     */
+    public boolean get(int index) {
+        return (this.words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Gets a 64-bit block of this {@code BitCounter}, for callers that process subsets wordwise.
+     * @param index the word index.
+     * @return bits {@code 64 * index} to {@code 64 * index + 63}.
+     */
+    public long getWord(int index) {
+        return this.words[index];
+    }
+
+    /**
+     * Gets the number of bits in this {@code BitCounter}.
+     * @return {@code this.bits}
+     */
+    public int bits() {
+        return this.bits;
+    }
+
+    /**
+     * Determines whether this {@code BitCounter} steps in Gray-code order.
+     * @return {@code this.gray}
+     */
+    public boolean isGray() {
+        return this.gray;
+    }
+
+    /**
+     * Determines whether this {@code BitCounter} is zero, i.e. at the start of its cycle.
+     * @return {@code true} if no bits are set, else {@code false}.
+     */
+    public boolean hasCycled() {
+        for(long word : this.words) {
+            if(word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resets this {@code BitCounter} to zero.
+     */
+    public void reset() {
+        Arrays.fill(this.words, 0);
+        Arrays.fill(this.count, 0);
+        this.hashCode = 0;
+    }
+
+    /**
+     * Finds the hashCode of this {@code BitCounter}.
+     * @return the hash of the set bits, maintained as bits flip.
+     */
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Determines whether this {@code BitCounter} is equal to a specified {@code Object}.
+     * @param o the comparator.
+     * @return {@code true} if the comparator is a {@code BitCounter} of the same width
+     * with the same bits set, else {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if(! (o instanceof BitCounter b)) {
+            return false;
+        }
+        return this.bits == b.bits && this.hashCode == b.hashCode && Arrays.equals(this.words, b.words);
+    }
+
+    /**
+     * Converts this {@code BitCounter} to a printable format.
+     * @return the bits of this {@code BitCounter}, most significant first.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(this.bits);
+        for(int i = this.bits - 1; i >= 0; i--) {
+            builder.append(get(i) ? 1 : 0);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code BitCounter}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Computes the hash contribution of a single set bit.
+     * @param index the bit index.
+     * @return a well-mixed {@code int} derived from the index.
+     */
+    private static int mix(int index) {
+        long z = (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+}
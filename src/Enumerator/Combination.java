@@ -2,9 +2,15 @@ package Enumerator;
 
 import java.util.*;
 
+/**
+ * Enumerates every subset of a fixed array of elements. The chosen indices are kept on a
+ * primitive stack in descending order from bottom to top. For subsets of a fixed size,
+ * see {@link BitCombination} and {@link RevolvingDoorCombination}.
+ */
 public class Combination<Element> {
     private final Element[] elements;
-    private final Stack<Integer> indices;
+    private final int[] indices;
+    private int size;
 
     /**
      * Constructs a new Combination
@@ -13,21 +19,22 @@ public class Combination<Element> {
     @SafeVarargs
     public Combination(Element... e) {
         this.elements = e;
-        this.indices = new Stack<>();
+        this.indices = new int[e.length];
+        this.size = 0;
     }
 
     /**
      * Transitions this Combination to the next Combination
      */
     public void makeNextCombination() {
-        if(this.indices.isEmpty()) {
+        if(this.size == 0) {
             for(int i = this.elements.length - 1; i >= 0; i--) {
-                this.indices.push(i);
+                this.indices[this.size++] = i;
             }
         } else {
-            int start = this.indices.pop();
+            int start = this.indices[--this.size];
             while(start-- > 0) {
-                this.indices.push(start);
+                this.indices[this.size++] = start;
             }
         }
     }
@@ -37,21 +44,39 @@ public class Combination<Element> {
      * @return the list
      */
     public List<Element> getCombination() {
-        List<Element> list = new LinkedList<>();
-        for(int index : this.indices) {
-            list.add(this.elements[index]);
+        List<Element> list = new ArrayList<>(this.size);
+        for(int i = 0; i < this.size; i++) {
+            list.add(this.elements[this.indices[i]]);
         }
         return list;
     }
 
+    /**
+     * Gets the number of elements in this Combination
+     * @return the size of the current subset
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets an index chosen by this Combination without building a list
+     * @param i the position on the index stack, counted from the bottom
+     * @return the element index at that position
+     */
+    public int getIndex(int i) {
+        return this.indices[i];
+    }
+
     /**
      * Gets the hashCode of this Combination
-     * @return the Integer representation of the values in the Stack field
+     * @return the Integer representation of the values on the index stack
      */
     @Override
     public int hashCode() {
         int prevValue = 0, hashCode = 0;
-        for(int index : this.indices) {
+        for(int i = 0; i < this.size; i++) {
+            final int index = this.indices[i];
             hashCode = (hashCode << (index - prevValue)) | 1;
             prevValue = index;
         }
@@ -66,8 +91,8 @@ public class Combination<Element> {
     public String toString() {
         StringBuilder builder = new StringBuilder();
         String delimiter = "";
-        for(int index : this.indices) {
-            builder.append(delimiter).append(this.elements[index]);
+        for(int i = 0; i < this.size; i++) {
+            builder.append(delimiter).append(this.elements[this.indices[i]]);
             delimiter = ", ";
         }
         return "[" + builder + "]";
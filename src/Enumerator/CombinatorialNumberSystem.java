@@ -0,0 +1,209 @@
+package Enumerator;
+
+import Exception.ExceptionMessage;
+
+/**
+ * Maps {@code k}-subsets of {@code {0, 1, ..., n - 1}} to and from their ranks in colexicographic
+ * order using the combinatorial number system. A subset {@code c_1 < c_2 < ... < c_k} has the rank
+ * {@code C(c_1, 1) + C(c_2, 2) + ... + C(c_k, k)}, so the full range of {@code C(n, k)} subsets can
+ * be cut into contiguous rank intervals and each interval handed to a separate worker.
+ * @see BitCombination
+ * @see RevolvingDoorCombination
+ */
+public final class CombinatorialNumberSystem {
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private CombinatorialNumberSystem() {}
+
+    /**
+     * Computes the binomial coefficient {@code C(n, k)} exactly.
+     * @param n the size of the ground set.
+     * @param k the size of each subset.
+     * @return the number of {@code k}-subsets of an {@code n}-set, or {@code 0} if
+     * {@code k < 0} or {@code k > n}.
+     * @throws ArithmeticException if the coefficient does not fit in a {@code long}.
+     */
+    public static long choose(int n, int k) throws ArithmeticException {
+        final long choose = chooseCapped(n, k);
+        if(choose == Long.MAX_VALUE) {
+            throw new ArithmeticException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return choose;
+    }
+
+    /**
+     * Computes the binomial coefficient {@code C(n, k)}, saturating instead of overflowing.
+     * @param n the size of the ground set.
+     * @param k the size of each subset.
+     * @return {@code C(n, k)}, or {@code Long.MAX_VALUE} if the coefficient is at least that large.
+     */
+    static long chooseCapped(int n, int k) {
+        if(k < 0 || k > n) {
+            return 0;
+        }
+        k = Math.min(k, n - k);
+        long choose = 1;
+        for(int i = 1; i <= k; i++) {
+            // choose * (n - k + i) is divisible by i; divide out the common factor first
+            final long g = gcd(choose, i), factor = (n - k + i) / (i / g);
+            if(choose / g > (Long.MAX_VALUE - 1) / factor) {
+                return Long.MAX_VALUE;
+            }
+            choose = (choose / g) * factor;
+        }
+        return choose;
+    }
+
+    /**
+     * Finds the colexicographic rank of a {@code k}-subset given by ascending indices.
+     * @param indices the strictly ascending element indices.
+     * @return the rank of the subset among all subsets of the same size.
+     * @throws ArithmeticException if the rank does not fit in a {@code long}.
+     */
+    public static long rank(int... indices) throws ArithmeticException {
+        long rank = 0;
+        for(int i = 0; i < indices.length; i++) {
+            rank = Math.addExact(rank, choose(indices[i], i + 1));
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the colexicographic rank of a subset of {@code {0, ..., 63}} given as a bitmask.
+     * @param mask the subset, with bit {@code i} set iff element {@code i} is chosen.
+     * @return the rank of the subset among all subsets with {@code Long.bitCount(mask)} elements.
+     */
+    public static long rank(long mask) {
+        long rank = 0;
+        int i = 0;
+        while(mask != 0) {
+            rank += choose(Long.numberOfTrailingZeros(mask), ++i);
+            mask &= mask - 1;
+        }
+        return rank;
+    }
+
+    /**
+     * Writes the {@code k}-subset of a given colexicographic rank into an index array.
+     * @param n the size of the ground set.
+     * @param k the size of the subset.
+     * @param rank the rank, in {@code [0, C(n, k))}.
+     * @param indices the destination; its first {@code k} entries receive the ascending indices.
+     * @throws IllegalArgumentException if the rank is out of range.
+     */
+    public static void unrank(int n, int k, long rank, int[] indices) throws IllegalArgumentException {
+        verifyRank(n, k, rank);
+        int x = n;
+        for(int i = k; i > 0; i--) {
+            x = largestBelow(x, i, rank);
+            indices[i - 1] = x;
+            rank -= chooseCapped(x, i);
+        }
+    }
+
+    /**
+     * Finds the {@code k}-subset of a given colexicographic rank.
+     * @param n the size of the ground set.
+     * @param k the size of the subset.
+     * @param rank the rank, in {@code [0, C(n, k))}.
+     * @return the ascending indices of the subset.
+     * @throws IllegalArgumentException if the rank is out of range.
+     */
+    public static int[] unrank(int n, int k, long rank) throws IllegalArgumentException {
+        final int[] indices = new int[k];
+        unrank(n, k, rank, indices);
+        return indices;
+    }
+
+    /**
+     * Finds the {@code k}-subset of a given colexicographic rank as a bitmask.
+     * @param n the size of the ground set, at most {@code 64}.
+     * @param k the size of the subset.
+     * @param rank the rank, in {@code [0, C(n, k))}.
+     * @return the subset, with bit {@code i} set iff element {@code i} is chosen.
+     * @throws IllegalArgumentException if {@code n > 64} or the rank is out of range.
+     */
+    public static long unrankMask(int n, int k, long rank) throws IllegalArgumentException {
+        if(n > Long.SIZE) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        verifyRank(n, k, rank);
+        long mask = 0;
+        int x = n;
+        for(int i = k; i > 0; i--) {
+            x = largestBelow(x, i, rank);
+            mask |= 1L << x;
+            rank -= chooseCapped(x, i);
+        }
+        return mask;
+    }
+
+    /**
+     * Splits the rank range {@code [0, total)} into contiguous chunks of near-equal size.
+     * @param total the number of ranks.
+     * @param chunks the requested number of chunks.
+     * @return an array of {@code chunks + 1} ascending boundaries, where chunk {@code i} covers
+     * {@code [bounds[i], bounds[i + 1])}. Chunk sizes differ by at most one.
+     * @throws IllegalArgumentException if {@code chunks < 1} or {@code total < 0}.
+     */
+    public static long[] partition(long total, int chunks) throws IllegalArgumentException {
+        if(chunks < 1 || total < 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final long[] bounds = new long[chunks + 1];
+        final long size = total / chunks, extra = total % chunks;
+        for(int i = 0; i < chunks; i++) {
+            bounds[i + 1] = bounds[i] + size + (i < extra ? 1 : 0);
+        }
+        return bounds;
+    }
+
+    /**
+     * Determines whether a rank lies in the legal range for {@code k}-subsets of an {@code n}-set.
+     * @param n the size of the ground set.
+     * @param k the size of the subset.
+     * @param rank the rank.
+     * @throws IllegalArgumentException if the rank is negative or at least {@code C(n, k)}.
+     */
+    static void verifyRank(int n, int k, long rank) throws IllegalArgumentException {
+        if(rank < 0 || rank >= chooseCapped(n, k)) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+    }
+
+    /**
+     * Finds the largest {@code x < upper} such that {@code C(x, i) <= rank} by binary search.
+     * @param upper the exclusive upper bound.
+     * @param i the subset size.
+     * @param rank the residual rank.
+     * @return the largest qualifying {@code x}.
+     */
+    static int largestBelow(int upper, int i, long rank) {
+        int low = i - 1, high = upper - 1;
+        while(low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if(chooseCapped(mid, i) <= rank) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Computes the greatest common divisor of two non-negative {@code longs}.
+     * @param a the first value.
+     * @param b the second value.
+     * @return {@code gcd(a, b)}
+     */
+    private static long gcd(long a, long b) {
+        while(b != 0) {
+            final long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,807 @@
+package Enumerator;
+
+import Algebra.IntegerArithmetic;
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+
+/**
+ * Unsigned arithmetic on magnitudes stored as little-endian arrays of 32-bit limbs. Arrays may
+ * carry leading zero limbs; every method treats them as insignificant. Multiplication and squaring
+ * are dispatched by operand size between schoolbook, Karatsuba and Toom-3 algorithms. Division uses
+ * Knuth's long division for short operands and a Newton-iterated reciprocal for long ones, and the
+ * integral square root is found by Newton iteration. This class backs the fixed-width arithmetic of
+ * {@link UnsignedInt}, which converts to and from its bit arrays at the boundary.
+ */
+final class Magnitude {
+    static final int KARATSUBA_THRESHOLD = 40, TOOM_THRESHOLD = 120, NEWTON_THRESHOLD = 100;
+    private static final int NEWTON_BASE_BITS = 4096, GUARD_BITS = 32;
+    private static final long MASK = 0xFFFFFFFFL;
+    static final int[] ZERO = new int[0];
+    static final IntegerArithmetic<int[]> ARITHMETIC = new Arithmetic();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private Magnitude() {}
+
+    /**
+     * Packs a little-endian bit array into limbs.
+     * @param bits the bit array.
+     * @return the equivalent magnitude.
+     */
+    static int[] fromBits(boolean[] bits) {
+        final int[] mag = new int[(bits.length + 31) >>> 5];
+        for(int i = 0; i < bits.length; i++) {
+            if(bits[i]) {
+                mag[i >>> 5] |= 1 << i;
+            }
+        }
+        return mag;
+    }
+
+    /**
+     * Unpacks a magnitude into a bit array of fixed length, discarding higher bits.
+     * @param mag the magnitude.
+     * @param length the number of bits to keep.
+     * @return the truncated bit array.
+     */
+    static boolean[] toBits(int[] mag, int length) {
+        final boolean[] bits = new boolean[length];
+        final int limit = (int) Math.min(length, (long) mag.length << 5);
+        for(int i = 0; i < limit; i++) {
+            bits[i] = ((mag[i >>> 5] >>> i) & 1) != 0;
+        }
+        return bits;
+    }
+
+    /**
+     * Creates a magnitude equal to a power of two.
+     * @param exp the exponent.
+     * @return {@code 2 ^ exp}
+     */
+    static int[] pow2(int exp) {
+        final int[] mag = new int[(exp >>> 5) + 1];
+        mag[exp >>> 5] = 1 << exp;
+        return mag;
+    }
+
+    /**
+     * Counts the significant limbs of a magnitude.
+     * @param a the magnitude.
+     * @return the index of the highest nonzero limb plus one.
+     */
+    static int length(int[] a) {
+        int length = a.length;
+        while(length > 0 && a[length - 1] == 0) {
+            length--;
+        }
+        return length;
+    }
+
+    /**
+     * Counts the significant bits of a magnitude.
+     * @param a the magnitude.
+     * @return the index of the highest set bit plus one.
+     */
+    static int bitLength(int[] a) {
+        final int length = length(a);
+        return length == 0 ? 0 : (length << 5) - Integer.numberOfLeadingZeros(a[length - 1]);
+    }
+
+    /**
+     * Compares two magnitudes.
+     * @param a the first magnitude.
+     * @param b the second magnitude.
+     * @return a negative number, zero, or a positive number as {@code a} is less than,
+     * equal to, or greater than {@code b}.
+     */
+    static int compare(int[] a, int[] b) {
+        final int la = length(a), lb = length(b);
+        if(la != lb) {
+            return la < lb ? -1 : 1;
+        }
+        for(int i = la - 1; i >= 0; i--) {
+            if(a[i] != b[i]) {
+                return Integer.compareUnsigned(a[i], b[i]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Truncates a magnitude to a number of bits.
+     * @param a the magnitude.
+     * @param bits the number of bits to keep.
+     * @return {@code a mod 2 ^ bits}, without leading limbs beyond the bit count.
+     */
+    static int[] truncate(int[] a, int bits) {
+        final int[] truncated = Arrays.copyOf(a, Math.min(a.length, (bits + 31) >>> 5));
+        if((bits & 31) != 0 && truncated.length == (bits + 31) >>> 5) {
+            truncated[truncated.length - 1] &= (1 << bits) - 1;
+        }
+        return truncated;
+    }
+
+    /**
+     * Finds the sum of two magnitudes.
+     * @param a the first addend.
+     * @param b the second addend.
+     * @return {@code a + b}
+     */
+    static int[] add(int[] a, int[] b) {
+        final int la = length(a), lb = length(b);
+        if(la < lb) {
+            return add(b, a);
+        }
+        final int[] sum = new int[la + 1];
+        long carry = 0;
+        for(int i = 0; i < la; i++) {
+            carry += (a[i] & MASK) + (i < lb ? b[i] & MASK : 0);
+            sum[i] = (int) carry;
+            carry >>>= 32;
+        }
+        sum[la] = (int) carry;
+        return sum;
+    }
+
+    /**
+     * Finds the difference of two magnitudes.
+     * @param a the minuend, which must be at least the subtrahend.
+     * @param b the subtrahend.
+     * @return {@code a - b}
+     */
+    static int[] subtract(int[] a, int[] b) {
+        final int la = length(a), lb = length(b);
+        final int[] difference = new int[la];
+        long borrow = 0;
+        for(int i = 0; i < la; i++) {
+            borrow = (a[i] & MASK) - (i < lb ? b[i] & MASK : 0) + borrow;
+            difference[i] = (int) borrow;
+            borrow >>= 32;
+        }
+        return difference;
+    }
+
+    /**
+     * Shifts a magnitude to the left.
+     * @param a the magnitude.
+     * @param n the non-negative number of bits.
+     * @return {@code a * 2 ^ n}
+     */
+    static int[] shiftLeft(int[] a, int n) {
+        final int la = length(a), limbs = n >>> 5, bits = n & 31;
+        final int[] shifted = new int[la + limbs + 1];
+        if(bits == 0) {
+            System.arraycopy(a, 0, shifted, limbs, la);
+        } else {
+            for(int i = la - 1; i >= 0; i--) {
+                shifted[i + limbs + 1] |= a[i] >>> (32 - bits);
+                shifted[i + limbs] = a[i] << bits;
+            }
+        }
+        return shifted;
+    }
+
+    /**
+     * Shifts a magnitude to the right.
+     * @param a the magnitude.
+     * @param n the non-negative number of bits.
+     * @return {@code a / 2 ^ n}, rounded down.
+     */
+    static int[] shiftRight(int[] a, int n) {
+        final int la = length(a), limbs = n >>> 5, bits = n & 31;
+        if(limbs >= la) {
+            return ZERO;
+        }
+        final int[] shifted = new int[la - limbs];
+        if(bits == 0) {
+            System.arraycopy(a, limbs, shifted, 0, shifted.length);
+        } else {
+            for(int i = 0; i < shifted.length; i++) {
+                shifted[i] = a[i + limbs] >>> bits;
+                if(i + limbs + 1 < la) {
+                    shifted[i] |= a[i + limbs + 1] << (32 - bits);
+                }
+            }
+        }
+        return shifted;
+    }
+
+    /**
+     * Adds a magnitude, shifted by a whole number of limbs, into an accumulator in place.
+     * @param target the accumulator, long enough to hold the sum.
+     * @param a the magnitude to add.
+     * @param offset the number of limbs by which {@code a} is shifted.
+     */
+    private static void addInto(int[] target, int[] a, int offset) {
+        final int la = length(a);
+        long carry = 0;
+        int i = 0;
+        for(; i < la; i++) {
+            carry += (target[i + offset] & MASK) + (a[i] & MASK);
+            target[i + offset] = (int) carry;
+            carry >>>= 32;
+        }
+        for(i += offset; carry != 0 && i < target.length; i++) {
+            carry += target[i] & MASK;
+            target[i] = (int) carry;
+            carry >>>= 32;
+        }
+    }
+
+    /**
+     * Copies a block of limbs out of a magnitude.
+     * @param a the magnitude.
+     * @param from the first limb.
+     * @param length the maximum number of limbs.
+     * @return the block, which is empty if {@code from} lies beyond {@code a}.
+     */
+    private static int[] slice(int[] a, int from, int length) {
+        final int to = Math.min(length(a), from + length);
+        return to <= from ? ZERO : Arrays.copyOfRange(a, from, to);
+    }
+
+    // Multiplication
+
+    /**
+     * Finds the product of two magnitudes, choosing an algorithm by operand size.
+     * @param a the first multiplicand.
+     * @param b the second multiplicand.
+     * @return {@code a * b}
+     */
+    static int[] multiply(int[] a, int[] b) {
+        final int la = length(a), lb = length(b);
+        if(la == 0 || lb == 0) {
+            return ZERO;
+        }
+        if(la < lb) {
+            return multiply(b, a);
+        }
+        if(lb < KARATSUBA_THRESHOLD) {
+            return multiplySchoolbook(a, la, b, lb);
+        }
+        if(la > lb << 1) {
+            // split the longer operand into blocks to keep the recursion balanced
+            final int[] product = new int[la + lb];
+            for(int from = 0; from < la; from += lb) {
+                addInto(product, multiply(slice(a, from, lb), b), from);
+            }
+            return product;
+        }
+        return lb < TOOM_THRESHOLD ? multiplyKaratsuba(a, b, la) : multiplyToom3(a, b, la);
+    }
+
+    /**
+     * Finds the square of a magnitude, choosing an algorithm by operand size.
+     * @param a the magnitude.
+     * @return {@code a * a}
+     */
+    static int[] square(int[] a) {
+        final int la = length(a);
+        if(la == 0) {
+            return ZERO;
+        }
+        if(la < KARATSUBA_THRESHOLD) {
+            return squareSchoolbook(a, la);
+        }
+        return la < TOOM_THRESHOLD ? squareKaratsuba(a, la) : squareToom3(a, la);
+    }
+
+    /**
+     * Multiplies two magnitudes limb by limb.
+     * @param a the first multiplicand.
+     * @param la the significant limbs of {@code a}.
+     * @param b the second multiplicand.
+     * @param lb the significant limbs of {@code b}.
+     * @return {@code a * b}
+     */
+    private static int[] multiplySchoolbook(int[] a, int la, int[] b, int lb) {
+        final int[] product = new int[la + lb];
+        for(int i = 0; i < la; i++) {
+            final long ai = a[i] & MASK;
+            long carry = 0;
+            for(int j = 0; j < lb; j++) {
+                carry += ai * (b[j] & MASK) + (product[i + j] & MASK);
+                product[i + j] = (int) carry;
+                carry >>>= 32;
+            }
+            product[i + lb] = (int) carry;
+        }
+        return product;
+    }
+
+    /**
+     * Squares a magnitude limb by limb, computing each cross product once.
+     * @param a the magnitude.
+     * @param la the significant limbs of {@code a}.
+     * @return {@code a * a}
+     */
+    private static int[] squareSchoolbook(int[] a, int la) {
+        final int[] square = new int[la << 1];
+        for(int i = 0; i < la; i++) {
+            final long ai = a[i] & MASK;
+            long carry = 0;
+            for(int j = i + 1; j < la; j++) {
+                carry += ai * (a[j] & MASK) + (square[i + j] & MASK);
+                square[i + j] = (int) carry;
+                carry >>>= 32;
+            }
+            square[i + la] = (int) carry;
+        }
+        // double the cross products, then add the diagonal
+        int high = 0;
+        for(int i = 0; i < square.length; i++) {
+            final int limb = square[i];
+            square[i] = (limb << 1) | high;
+            high = limb >>> 31;
+        }
+        long carry = 0;
+        for(int i = 0; i < la; i++) {
+            final long diagonal = (a[i] & MASK) * (a[i] & MASK);
+            carry += (square[i << 1] & MASK) + (diagonal & MASK);
+            square[i << 1] = (int) carry;
+            carry = (carry >>> 32) + (square[(i << 1) + 1] & MASK) + (diagonal >>> 32);
+            square[(i << 1) + 1] = (int) carry;
+            carry >>>= 32;
+        }
+        return square;
+    }
+
+    /**
+     * Multiplies two magnitudes of similar length with Karatsuba's three-product recursion.
+     * @param a the first multiplicand.
+     * @param b the second multiplicand.
+     * @param n the length of the longer operand.
+     * @return {@code a * b}
+     */
+    private static int[] multiplyKaratsuba(int[] a, int[] b, int n) {
+        final int half = (n + 1) >>> 1;
+        final int[] a0 = slice(a, 0, half), a1 = slice(a, half, n), b0 = slice(b, 0, half), b1 = slice(b, half, n);
+        final int[] z0 = multiply(a0, b0), z2 = multiply(a1, b1);
+        final int[] z1 = subtract(subtract(multiply(add(a0, a1), add(b0, b1)), z0), z2);
+        final int[] product = new int[length(a) + length(b) + 1];
+        addInto(product, z0, 0);
+        addInto(product, z1, half);
+        addInto(product, z2, half << 1);
+        return product;
+    }
+
+    /**
+     * Squares a magnitude with Karatsuba's three-square recursion.
+     * @param a the magnitude.
+     * @param n the significant limbs of {@code a}.
+     * @return {@code a * a}
+     */
+    private static int[] squareKaratsuba(int[] a, int n) {
+        final int half = (n + 1) >>> 1;
+        final int[] a0 = slice(a, 0, half), a1 = slice(a, half, n);
+        final int[] z0 = square(a0), z2 = square(a1);
+        final int[] z1 = subtract(subtract(square(add(a0, a1)), z0), z2);
+        final int[] square = new int[(n << 1) + 1];
+        addInto(square, z0, 0);
+        addInto(square, z1, half);
+        addInto(square, z2, half << 1);
+        return square;
+    }
+
+    /**
+     * Multiplies two magnitudes of similar length with Toom-3, evaluating at
+     * {@code 0, 1, -1, -2} and infinity and interpolating with Bodrato's sequence.
+     * @param a the first multiplicand.
+     * @param b the second multiplicand.
+     * @param n the length of the longer operand.
+     * @return {@code a * b}
+     */
+    private static int[] multiplyToom3(int[] a, int[] b, int n) {
+        final int k = (n + 2) / 3;
+        final Signed[] p = evaluateToom3(a, k), q = evaluateToom3(b, k);
+        final Signed[] r = new Signed[5];
+        for(int i = 0; i < r.length; i++) {
+            r[i] = Signed.multiply(p[i], q[i]);
+        }
+        return interpolateToom3(r, k, length(a) + length(b) + 1);
+    }
+
+    /**
+     * Squares a magnitude with Toom-3, using five half-size squarings.
+     * @param a the magnitude.
+     * @param n the significant limbs of {@code a}.
+     * @return {@code a * a}
+     */
+    private static int[] squareToom3(int[] a, int n) {
+        final int k = (n + 2) / 3;
+        final Signed[] p = evaluateToom3(a, k);
+        final Signed[] r = new Signed[5];
+        for(int i = 0; i < r.length; i++) {
+            r[i] = new Signed(1, square(p[i].mag));
+        }
+        return interpolateToom3(r, k, (n << 1) + 1);
+    }
+
+    /**
+     * Evaluates the three-piece polynomial of a magnitude at the Toom-3 points.
+     * @param a the magnitude.
+     * @param k the piece length in limbs.
+     * @return the values at {@code 0, 1, -1, -2} and infinity.
+     */
+    private static Signed[] evaluateToom3(int[] a, int k) {
+        final Signed a0 = new Signed(1, slice(a, 0, k)), a1 = new Signed(1, slice(a, k, k)),
+                a2 = new Signed(1, slice(a, k << 1, k));
+        final Signed sum = Signed.add(a0, a2);
+        final Signed minusOne = Signed.subtract(sum, a1);
+        final Signed minusTwo = Signed.subtract(Signed.add(minusOne, a2).shiftLeft(1), a0);
+        return new Signed[]{a0, Signed.add(sum, a1), minusOne, minusTwo, a2};
+    }
+
+    /**
+     * Recovers a product from its values at the Toom-3 points.
+     * @param r the values at {@code 0, 1, -1, -2} and infinity.
+     * @param k the piece length in limbs.
+     * @param length the length of the result array.
+     * @return the interpolated product.
+     */
+    private static int[] interpolateToom3(Signed[] r, int k, int length) {
+        final Signed r0 = r[0], r4 = r[4];
+        Signed r3 = Signed.subtract(r[3], r[1]).divideExact(3);
+        Signed r1 = Signed.subtract(r[1], r[2]).shiftRight(1);
+        Signed r2 = Signed.subtract(r[2], r0);
+        r3 = Signed.add(Signed.subtract(r2, r3).shiftRight(1), r4.shiftLeft(1));
+        r2 = Signed.subtract(Signed.add(r2, r1), r4);
+        r1 = Signed.subtract(r1, r3);
+        final int[] product = new int[length];
+        addInto(product, r0.mag, 0);
+        addInto(product, r1.mag, k);
+        addInto(product, r2.mag, k << 1);
+        addInto(product, r3.mag, 3 * k);
+        addInto(product, r4.mag, k << 2);
+        return product;
+    }
+
+    // Division
+
+    /**
+     * Finds the quotient and remainder of two magnitudes.
+     * @param a the dividend.
+     * @param b the divisor.
+     * @return an array holding {@code a / b} at index {@code 0} and {@code a % b} at index {@code 1}.
+     * @throws ArithmeticException if the divisor is zero.
+     */
+    static int[][] divideAndRemainder(int[] a, int[] b) throws ArithmeticException {
+        final int la = length(a), lb = length(b);
+        if(lb == 0) {
+            throw new ArithmeticException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        if(compare(a, b) < 0) {
+            return new int[][]{ZERO, Arrays.copyOf(a, la)};
+        }
+        if(lb == 1) {
+            return divideSmall(a, la, b[0]);
+        }
+        if(lb < NEWTON_THRESHOLD || la - lb < NEWTON_THRESHOLD) {
+            return divideKnuth(a, la, b, lb);
+        }
+        return divideNewton(a, b);
+    }
+
+    /**
+     * Divides a magnitude by a single limb.
+     * @param a the dividend.
+     * @param la the significant limbs of {@code a}.
+     * @param divisor the nonzero divisor limb, read as unsigned.
+     * @return the quotient and the remainder.
+     */
+    private static int[][] divideSmall(int[] a, int la, int divisor) {
+        final long d = divisor & MASK;
+        final int[] quotient = new int[la];
+        long remainder = 0;
+        for(int i = la - 1; i >= 0; i--) {
+            final long current = (remainder << 32) | (a[i] & MASK);
+            quotient[i] = (int) Long.divideUnsigned(current, d);
+            remainder = Long.remainderUnsigned(current, d);
+        }
+        return new int[][]{quotient, new int[]{(int) remainder}};
+    }
+
+    /**
+     * Finds the remainder of a magnitude modulo a single limb without allocating.
+     * @param a the dividend.
+     * @param divisor the nonzero divisor limb, read as unsigned.
+     * @return {@code a % divisor}
+     */
+    static int remainderSmall(int[] a, int divisor) {
+        final long d = divisor & MASK;
+        long remainder = 0;
+        for(int i = length(a) - 1; i >= 0; i--) {
+            remainder = Long.remainderUnsigned((remainder << 32) | (a[i] & MASK), d);
+        }
+        return (int) remainder;
+    }
+
+    /**
+     * Divides two magnitudes with Knuth's Algorithm D.
+     * @param a the dividend.
+     * @param m the significant limbs of {@code a}.
+     * @param b the divisor.
+     * @param n the significant limbs of {@code b}, at least {@code 2}.
+     * @return the quotient and the remainder.
+     */
+    private static int[][] divideKnuth(int[] a, int m, int[] b, int n) {
+        final int s = Integer.numberOfLeadingZeros(b[n - 1]);
+        final int[] v = new int[n], u = new int[m + 1];
+        for(int i = n - 1; i > 0; i--) {
+            v[i] = s == 0 ? b[i] : (b[i] << s) | (b[i - 1] >>> (32 - s));
+        }
+        v[0] = b[0] << s;
+        u[m] = s == 0 ? 0 : a[m - 1] >>> (32 - s);
+        for(int i = m - 1; i > 0; i--) {
+            u[i] = s == 0 ? a[i] : (a[i] << s) | (a[i - 1] >>> (32 - s));
+        }
+        u[0] = a[0] << s;
+        final int[] quotient = new int[m - n + 1];
+        final long vn1 = v[n - 1] & MASK, vn2 = v[n - 2] & MASK;
+        for(int j = m - n; j >= 0; j--) {
+            final long numerator = ((u[j + n] & MASK) << 32) | (u[j + n - 1] & MASK);
+            long qhat = Long.divideUnsigned(numerator, vn1), rhat = Long.remainderUnsigned(numerator, vn1);
+            while(qhat > MASK || Long.compareUnsigned(qhat * vn2, (rhat << 32) | (u[j + n - 2] & MASK)) > 0) {
+                qhat--;
+                rhat += vn1;
+                if(rhat > MASK) {
+                    break;
+                }
+            }
+            long borrow = 0, t;
+            for(int i = 0; i < n; i++) {
+                final long p = qhat * (v[i] & MASK);
+                t = (u[i + j] & MASK) - borrow - (p & MASK);
+                u[i + j] = (int) t;
+                borrow = (p >>> 32) - (t >> 32);
+            }
+            t = (u[j + n] & MASK) - borrow;
+            u[j + n] = (int) t;
+            if(t < 0) {
+                // qhat was one too large; add the divisor back
+                qhat--;
+                long carry = 0;
+                for(int i = 0; i < n; i++) {
+                    carry += (u[i + j] & MASK) + (v[i] & MASK);
+                    u[i + j] = (int) carry;
+                    carry >>>= 32;
+                }
+                u[j + n] += (int) carry;
+            }
+            quotient[j] = (int) qhat;
+        }
+        final int[] remainder = new int[n];
+        for(int i = 0; i < n; i++) {
+            remainder[i] = s == 0 ? u[i] : (u[i] >>> s) | (u[i + 1] << (32 - s));
+        }
+        return new int[][]{quotient, remainder};
+    }
+
+    /**
+     * Divides two long magnitudes by multiplying the dividend with a Newton-iterated reciprocal
+     * of the divisor, then correcting the estimate by at most a few units.
+     * @param a the dividend.
+     * @param b the divisor.
+     * @return the quotient and the remainder.
+     */
+    private static int[][] divideNewton(int[] a, int[] b) {
+        final int e = bitLength(a);
+        int[] quotient = shiftRight(multiply(a, reciprocal(b, e)), e);
+        int[] product = multiply(quotient, b);
+        final int[] one = {1};
+        while(compare(product, a) > 0) {
+            quotient = subtract(quotient, one);
+            product = subtract(product, b);
+        }
+        int[] remainder = subtract(a, product);
+        while(compare(remainder, b) >= 0) {
+            quotient = add(quotient, one);
+            remainder = subtract(remainder, b);
+        }
+        return new int[][]{quotient, remainder};
+    }
+
+    /**
+     * Approximates {@code 2 ^ e / b} to within a few units. Each level of recursion computes the
+     * reciprocal to half the precision from the leading bits of {@code b}, then applies one
+     * Newton step {@code x <- x * (2 ^ (e + 1) - b * x) / 2 ^ e} at full precision.
+     * @param b the nonzero divisor.
+     * @param e the exponent, at least {@code bitLength(b) - 1}.
+     * @return the approximate reciprocal.
+     */
+    private static int[] reciprocal(int[] b, int e) {
+        int bits = bitLength(b);
+        final int r = e - bits + 1;
+        if(r <= NEWTON_BASE_BITS) {
+            final int[] power = pow2(e);
+            return divideKnuth(power, length(power), b, length(b))[0];
+        }
+        if(bits > r + GUARD_BITS) {
+            // bits of b below the reciprocal's precision cannot affect it
+            final int t = bits - r - GUARD_BITS;
+            b = shiftRight(b, t);
+            e -= t;
+            bits -= t;
+        } else if(bits < r) {
+            b = shiftLeft(b, r - bits);
+            e += r - bits;
+            bits = r;
+        }
+        final int s = r - ((r >>> 1) + GUARD_BITS);
+        final int[] x = shiftLeft(reciprocal(shiftRight(b, s), e - (s << 1)), s);
+        final int[] bx = multiply(b, x), two = pow2(e + 1);
+        if(compare(bx, two) >= 0) {
+            final int[] power = pow2(e);
+            return divideKnuth(power, length(power), b, length(b))[0];
+        }
+        return shiftRight(multiply(x, subtract(two, bx)), e);
+    }
+
+    // Roots
+
+    /**
+     * Computes the integral square root of a magnitude by Newton iteration from above,
+     * starting from an estimate accurate to roughly half of a {@code double}'s precision.
+     * @param a the magnitude.
+     * @return the largest {@code x} with {@code x * x <= a}.
+     */
+    static int[] sqrt(int[] a) {
+        final int bits = bitLength(a);
+        if(bits == 0) {
+            return ZERO;
+        }
+        final int shift = bits > 52 ? (bits - 51) & ~1 : 0;
+        final int[] top = shiftRight(a, shift);
+        long leading = 0;
+        for(int i = length(top) - 1; i >= 0; i--) {
+            leading = (leading << 32) | (top[i] & MASK);
+        }
+        final long estimate = (long) Math.sqrt((double) leading) + 2;
+        int[] x = shiftLeft(new int[]{(int) estimate, (int) (estimate >>> 32)}, shift >>> 1);
+        while(true) {
+            final int[] y = shiftRight(add(x, divideAndRemainder(a, x)[0]), 1);
+            if(compare(y, x) >= 0) {
+                return x;
+            }
+            x = y;
+        }
+    }
+
+    /**
+     * Exposes {@code Magnitude} operations as an {@link IntegerArithmetic}, so that the generic
+     * algorithms in {@code Theory} can work on untruncated limb arrays.
+     */
+    private static final class Arithmetic implements IntegerArithmetic<int[]> {
+        @Override
+        public int[] valueOf(int value) {
+            return new int[]{value};
+        }
+
+        @Override
+        public int[] add(int[] a, int[] b) {
+            return Magnitude.add(a, b);
+        }
+
+        @Override
+        public int[] subtract(int[] a, int[] b) {
+            return Magnitude.subtract(a, b);
+        }
+
+        @Override
+        public int[] multiply(int[] a, int[] b) {
+            return Magnitude.multiply(a, b);
+        }
+
+        @Override
+        public int[][] divideAndRemainder(int[] a, int[] b) {
+            return Magnitude.divideAndRemainder(a, b);
+        }
+
+        @Override
+        public int remainder(int[] a, int divisor) {
+            return remainderSmall(a, divisor);
+        }
+
+        @Override
+        public int[] divide(int[] a, int divisor) {
+            return divideSmall(a, length(a), divisor)[0];
+        }
+
+        @Override
+        public int compare(int[] a, int[] b) {
+            return Magnitude.compare(a, b);
+        }
+    }
+
+    /**
+     * A magnitude with a sign, used for the negative intermediate values of Toom-3.
+     */
+    private static final class Signed {
+        private final int sign;
+        private final int[] mag;
+
+        /**
+         * Creates a new {@code Signed} value.
+         * @param sign the sign; ignored if the magnitude is zero.
+         * @param mag the magnitude.
+         */
+        private Signed(int sign, int[] mag) {
+            this.sign = length(mag) == 0 ? 0 : sign;
+            this.mag = mag;
+        }
+
+        /**
+         * Finds the sum of two {@code Signed} values.
+         * @param a the first addend.
+         * @param b the second addend.
+         * @return {@code a + b}
+         */
+        private static Signed add(Signed a, Signed b) {
+            if(a.sign == 0) {
+                return b;
+            }
+            if(b.sign == 0) {
+                return a;
+            }
+            if(a.sign == b.sign) {
+                return new Signed(a.sign, Magnitude.add(a.mag, b.mag));
+            }
+            final int comparison = compare(a.mag, b.mag);
+            if(comparison == 0) {
+                return new Signed(0, ZERO);
+            }
+            return comparison > 0 ? new Signed(a.sign, Magnitude.subtract(a.mag, b.mag))
+                    : new Signed(b.sign, Magnitude.subtract(b.mag, a.mag));
+        }
+
+        /**
+         * Finds the difference of two {@code Signed} values.
+         * @param a the minuend.
+         * @param b the subtrahend.
+         * @return {@code a - b}
+         */
+        private static Signed subtract(Signed a, Signed b) {
+            return add(a, new Signed(-b.sign, b.mag));
+        }
+
+        /**
+         * Finds the product of two {@code Signed} values.
+         * @param a the first multiplicand.
+         * @param b the second multiplicand.
+         * @return {@code a * b}
+         */
+        private static Signed multiply(Signed a, Signed b) {
+            return new Signed(a.sign * b.sign, Magnitude.multiply(a.mag, b.mag));
+        }
+
+        /**
+         * Multiplies this {@code Signed} value by a power of two.
+         * @param n the exponent.
+         * @return {@code this * 2 ^ n}
+         */
+        private Signed shiftLeft(int n) {
+            return new Signed(this.sign, Magnitude.shiftLeft(this.mag, n));
+        }
+
+        /**
+         * Divides this {@code Signed} value by a power of two that is known to divide it.
+         * @param n the exponent.
+         * @return {@code this / 2 ^ n}
+         */
+        private Signed shiftRight(int n) {
+            return new Signed(this.sign, Magnitude.shiftRight(this.mag, n));
+        }
+
+        /**
+         * Divides this {@code Signed} value by a small integer that is known to divide it.
+         * @param divisor the divisor.
+         * @return {@code this / divisor}
+         */
+        private Signed divideExact(int divisor) {
+            final int length = length(this.mag);
+            return length == 0 ? this : new Signed(this.sign, divideSmall(this.mag, length, divisor)[0]);
+        }
+    }
+}
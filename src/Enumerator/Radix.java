@@ -1,12 +1,15 @@
 package Enumerator;
 
+import Algebra.IntegerArithmetic;
 import Exception.ExceptionMessage.TargetedMessage;
+import Theory.Factorization;
 
 import java.util.*;
 
 public class Radix implements Comparable<Radix> {
     private List<Integer> digits;
     private int base, sign;
+    private List<Radix> primeFactors, factors;
     private final int DEFAULT_BASE = 10;
 
     /**
@@ -507,72 +510,26 @@ public class Radix implements Comparable<Radix> {
     }
 
     /**
-     * Finds all prime factors of this Radix
-     * @return all Radices r such that r | this and r is prime
+     * Finds all prime factors of this Radix. The factorization is computed once, by trial division
+     * against cached small primes followed by Pollard's rho, and then reused on later calls
+     * @return an unmodifiable, ascending list of all Radices r such that r | this and r is prime
      */
     public List<Radix> primeFactors() {
-        List<Radix> primeFactors = new LinkedList<>();
-        Radix test = abs();
-        final Radix ZERO = new Radix("0", this.base);
-        final Radix TWO = new Radix("2").convertToBase(this.base);
-        while(test.parity() == 0) {
-            primeFactors.add(TWO);
-            test = test.divide(TWO);
-        }
-        Radix sqrt = test.sqrt();
-        for(Radix i = new Radix("3").convertToBase(this.base); i.compareTo(sqrt) <= 0; i = i.add(TWO)) {
-            boolean checkIfDivisible = true, refreshSqrt = false;;
-            Radix[] divideAndRemainder = test.divideAndRemainder(i);
-            if(divideAndRemainder[1].equals(ZERO)) {
-                refreshSqrt = true;
-                primeFactors.add(i);
-                test = divideAndRemainder[0];
-            } else {
-                checkIfDivisible = false;
-            }
-            while(checkIfDivisible) {
-                divideAndRemainder = test.divideAndRemainder(i);
-                if(divideAndRemainder[1].equals(ZERO)) {
-                    primeFactors.add(i);
-                    test = divideAndRemainder[0];
-                } else {
-                    checkIfDivisible = false;
-                }
-            }
-            if(refreshSqrt) {
-                sqrt = test.sqrt();
-            }
-        }
-        if(! test.equals(new Radix("1", this.base))) {
-            primeFactors.add(test);
+        if(this.primeFactors == null) {
+            this.primeFactors = List.copyOf(Factorization.primeFactors(abs(), new Arithmetic(this.base)));
         }
-        return primeFactors;
+        return this.primeFactors;
     }
 
     /**
-     * Finds all factors of this Radix
-     * @return all Radices r such that r | this
+     * Finds all factors of this Radix. The result is computed once and reused on later calls
+     * @return an unmodifiable, ascending list of all Radices r such that r | this
      */
     public List<Radix> factors() {
-        Radix prev = new Radix("1", this.base), product = new Radix("1", this.base);
-        List<Radix> factors = new LinkedList<>(), test = new LinkedList<>(), primes = primeFactors();
-        factors.add(prev);
-        for(Radix primeFactor : primes) {
-            if(primeFactor.equals(prev)) {
-                product = product.multiply(primeFactor);
-            } else {
-                factors.addAll(test);
-                prev = primeFactor;
-                test = new LinkedList<>();
-                product = primeFactor;
-            }
-            for(Radix factor : factors) {
-                test.add(factor.multiply(product));
-            }
+        if(this.factors == null) {
+            this.factors = List.copyOf(Factorization.divisors(primeFactors(), new Arithmetic(this.base)));
         }
-        factors.addAll(test);
-        Collections.sort(factors);
-        return factors;
+        return this.factors;
     }
 
     /**
@@ -757,4 +714,81 @@ public class Radix implements Comparable<Radix> {
         }
         return parsedRadices;
     }
-}
\ No newline at end of file
+
+    /**
+     * Exposes the arithmetic of Radices in a single base as an {@link IntegerArithmetic}, so that
+     * the generic factorization in {@code Theory} can run on Radix values directly
+     */
+    private static final class Arithmetic implements IntegerArithmetic<Radix> {
+        private final int base;
+
+        /**
+         * Creates a new Arithmetic for Radices of a given base
+         * @param base the base
+         */
+        private Arithmetic(int base) {
+            this.base = base;
+        }
+
+        @Override
+        public Radix valueOf(int value) {
+            Radix radix = new Radix("", this.base);
+            radix.sign = Integer.signum(value);
+            do {
+                radix.digits.add(value % this.base);
+                value /= this.base;
+            } while(value != 0);
+            return radix;
+        }
+
+        @Override
+        public Radix add(Radix a, Radix b) {
+            return a.add(b);
+        }
+
+        @Override
+        public Radix subtract(Radix a, Radix b) {
+            return a.subtract(b);
+        }
+
+        @Override
+        public Radix multiply(Radix a, Radix b) {
+            return a.multiply(b);
+        }
+
+        @Override
+        public Radix[] divideAndRemainder(Radix a, Radix b) {
+            return a.divideAndRemainder(b);
+        }
+
+        @Override
+        public int remainder(Radix a, int divisor) {
+            Iterator<Integer> iterator = ((LinkedList<Integer>) a.digits).descendingIterator();
+            long remainder = 0;
+            while(iterator.hasNext()) {
+                remainder = (remainder * a.base + iterator.next()) % divisor;
+            }
+            return (int) remainder;
+        }
+
+        @Override
+        public Radix divide(Radix a, int divisor) {
+            Radix quotient = new Radix("", a.base);
+            Iterator<Integer> iterator = ((LinkedList<Integer>) a.digits).descendingIterator();
+            long remainder = 0;
+            while(iterator.hasNext()) {
+                remainder = remainder * a.base + iterator.next();
+                quotient.digits.add(0, (int) (remainder / divisor));
+                remainder %= divisor;
+            }
+            quotient.sign = a.sign;
+            quotient.crop();
+            return quotient;
+        }
+
+        @Override
+        public int compare(Radix a, Radix b) {
+            return a.compareTo(b);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package Enumerator;
+
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates the {@code k}-subsets of {@code {0, 1, ..., n - 1}} for any {@code n} in revolving-door
+ * (Gray code) order: each step removes exactly one element and adds exactly one other, and both are
+ * reported so callers can update running totals incrementally. The subset is kept in a sorted
+ * {@code int[]} which is updated in place. Like {@link BitCombination}, a
+ * {@code RevolvingDoorCombination} may be restricted to a contiguous interval of ranks (here in
+ * revolving-door order) and split across worker threads.
+ * @see CombinatorialNumberSystem
+ */
+public class RevolvingDoorCombination {
+    private final int n, k;
+    private final long start, end;
+    private final int[] t;
+    private long rank;
+    private int removed, added;
+
+    /**
+     * Creates a new {@code RevolvingDoorCombination} over all {@code k}-subsets of an {@code n}-set.
+     * @param n the size of the ground set.
+     * @param k the size of each subset, in {@code [0, n]}.
+     * @throws IllegalArgumentException if {@code n} or {@code k} is out of range.
+     * @throws ArithmeticException if {@code C(n, k)} does not fit in a {@code long}.
+     */
+    public RevolvingDoorCombination(int n, int k) throws IllegalArgumentException, ArithmeticException {
+        this(n, k, 0, verifySize(n, k));
+    }
+
+    /**
+     * Creates a new {@code RevolvingDoorCombination} over the {@code k}-subsets of an {@code n}-set
+     * whose revolving-door ranks lie in {@code [start, end)}.
+     * @param n the size of the ground set.
+     * @param k the size of each subset, in {@code [0, n]}.
+     * @param start the inclusive first rank.
+     * @param end the exclusive last rank.
+     * @throws IllegalArgumentException if {@code n} or {@code k} is out of range, or the rank
+     * interval does not lie within {@code [0, C(n, k)]}.
+     * @throws ArithmeticException if {@code C(n, k)} does not fit in a {@code long}.
+     */
+    public RevolvingDoorCombination(int n, int k, long start, long end)
+            throws IllegalArgumentException, ArithmeticException {
+        final long total = verifySize(n, k);
+        if(start < 0 || start > end || end > total) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.n = n;
+        this.k = k;
+        this.start = start;
+        this.end = end;
+        this.t = new int[k + 2];
+        reset();
+    }
+
+    /**
+     * Returns this {@code RevolvingDoorCombination} to the first subset of its rank interval.
+     */
+    public void reset() {
+        this.rank = this.start;
+        this.removed = -1;
+        this.added = -1;
+        if(this.start < this.end) {
+            unrank(this.n, this.k, this.start, this.t);
+        }
+    }
+
+    /**
+     * Determines whether the current subset has a successor in the rank interval.
+     * @return {@code true} if {@link #makeNextCombination()} may be called, else {@code false}.
+     */
+    public boolean hasNextCombination() {
+        return this.rank + 1 < this.end;
+    }
+
+    /**
+     * Transitions this {@code RevolvingDoorCombination} to the next subset. Afterwards,
+     * {@link #getRemoved()} and {@link #getAdded()} report the single element exchanged.
+     * @throws IllegalStateException if the current subset is the last in the rank interval.
+     */
+    public void makeNextCombination() throws IllegalStateException {
+        if(! hasNextCombination()) {
+            throw new IllegalStateException();
+        }
+        final int[] t = this.t;
+        final int k = this.k;
+        int j = 1;
+        while(j <= k && t[j] == j) {
+            j++;
+        }
+        // t is 1-based here; removed/added are reported 0-based
+        if(((k - j) & 1) != 0) {
+            if(j == 1) {
+                this.removed = t[1] - 1;
+                t[1]--;
+                this.added = t[1] - 1;
+            } else {
+                this.removed = j == 2 ? 0 : j - 3;
+                this.added = j - 1;
+                t[j - 1] = j;
+                if(j > 2) {
+                    t[j - 2] = j - 1;
+                }
+            }
+        } else if(t[j + 1] != t[j] + 1) {
+            this.removed = (j == 1 ? t[1] : j - 1) - 1;
+            this.added = t[j];
+            t[j - 1] = t[j];
+            t[j]++;
+        } else {
+            this.removed = t[j];
+            this.added = j - 1;
+            t[j + 1] = t[j];
+            t[j] = j;
+        }
+        this.rank++;
+    }
+
+    /**
+     * Gets an element of the current subset.
+     * @param index the position within the sorted subset, in {@code [0, k)}.
+     * @return the element at that position.
+     */
+    public int get(int index) {
+        return this.t[index + 1] - 1;
+    }
+
+    /**
+     * Copies the current subset into an array, in ascending order.
+     * @param indices the destination, with room for at least {@code k} entries.
+     * @return {@code indices}
+     */
+    public int[] getCombination(int[] indices) {
+        for(int i = 0; i < this.k; i++) {
+            indices[i] = this.t[i + 1] - 1;
+        }
+        return indices;
+    }
+
+    /**
+     * Gets the element that left the subset on the last transition.
+     * @return the removed element, or {@code -1} before the first transition.
+     */
+    public int getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Gets the element that entered the subset on the last transition.
+     * @return the added element, or {@code -1} before the first transition.
+     */
+    public int getAdded() {
+        return this.added;
+    }
+
+    /**
+     * Gets the revolving-door rank of the current subset.
+     * @return the rank.
+     */
+    public long rank() {
+        return this.rank;
+    }
+
+    /**
+     * Counts the subsets from the current one to the end of the rank interval, inclusive.
+     * @return the number of remaining subsets.
+     */
+    public long remaining() {
+        return this.end - this.rank;
+    }
+
+    /**
+     * Splits the remaining rank interval of this {@code RevolvingDoorCombination} into independent
+     * enumerators of near-equal size. This {@code RevolvingDoorCombination} is not modified.
+     * @param chunks the number of pieces.
+     * @return the pieces, in rank order.
+     * @throws IllegalArgumentException if {@code chunks < 1}.
+     */
+    public RevolvingDoorCombination[] split(int chunks) throws IllegalArgumentException {
+        final long[] bounds = CombinatorialNumberSystem.partition(this.end - this.rank, chunks);
+        final RevolvingDoorCombination[] pieces = new RevolvingDoorCombination[chunks];
+        for(int i = 0; i < chunks; i++) {
+            pieces[i] = new RevolvingDoorCombination(this.n, this.k,
+                    this.rank + bounds[i], this.rank + bounds[i + 1]);
+        }
+        return pieces;
+    }
+
+    /**
+     * Feeds this {@code RevolvingDoorCombination} to an action once for each subset from the
+     * current one to the end of the rank interval.
+     * @param action the action, which may read the current subset and the exchanged elements.
+     */
+    public void forEachRemaining(Consumer<RevolvingDoorCombination> action) {
+        if(this.rank >= this.end) {
+            return;
+        }
+        action.accept(this);
+        while(hasNextCombination()) {
+            makeNextCombination();
+            action.accept(this);
+        }
+    }
+
+    /**
+     * Converts this {@code RevolvingDoorCombination} to a printable format.
+     * @return the current subset as a {@code String} of element indices.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        String delimiter = "";
+        for(int i = 1; i <= this.k; i++) {
+            builder.append(delimiter).append(this.t[i] - 1);
+            delimiter = ", ";
+        }
+        return "[" + builder + "]";
+    }
+
+    /**
+     * Prints this {@code RevolvingDoorCombination}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    // Static methods
+
+    /**
+     * Feeds every {@code k}-subset of an {@code n}-set to an action, splitting the work across
+     * the common {@code ForkJoinPool}. Each worker passes its own enumerator to the action.
+     * @param n the size of the ground set.
+     * @param k the size of each subset, in {@code [0, n]}.
+     * @param action the thread-safe action.
+     * @throws IllegalArgumentException if {@code n} or {@code k} is out of range.
+     * @throws ArithmeticException if {@code C(n, k)} does not fit in a {@code long}.
+     */
+    public static void parallelForEach(int n, int k, Consumer<RevolvingDoorCombination> action)
+            throws IllegalArgumentException, ArithmeticException {
+        final int chunks = Math.max(1, Runtime.getRuntime().availableProcessors() << 2);
+        Arrays.stream(new RevolvingDoorCombination(n, k).split(chunks)).parallel()
+                .forEach(piece -> piece.forEachRemaining(action));
+    }
+
+    /**
+     * Finds the revolving-door rank of a {@code k}-subset given by ascending indices.
+     * @param indices the strictly ascending element indices.
+     * @return the position of the subset in revolving-door order.
+     * @throws ArithmeticException if the rank does not fit in a {@code long}.
+     */
+    public static long rank(int... indices) throws ArithmeticException {
+        long rank = -(indices.length & 1), sign = 1;
+        for(int i = indices.length; i > 0; i--) {
+            rank += sign * CombinatorialNumberSystem.choose(indices[i - 1] + 1, i);
+            sign = -sign;
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the {@code k}-subset of a given revolving-door rank.
+     * @param n the size of the ground set.
+     * @param k the size of the subset.
+     * @param rank the rank, in {@code [0, C(n, k))}.
+     * @return the ascending indices of the subset.
+     * @throws IllegalArgumentException if the rank is out of range.
+     */
+    public static int[] unrank(int n, int k, long rank) throws IllegalArgumentException {
+        final int[] t = new int[k + 2];
+        unrank(n, k, rank, t);
+        final int[] indices = new int[k];
+        for(int i = 0; i < k; i++) {
+            indices[i] = t[i + 1] - 1;
+        }
+        return indices;
+    }
+
+    /**
+     * Writes the subset of a given revolving-door rank into a 1-based working array with
+     * sentinels at index {@code 0} and {@code k + 1}.
+     * @param n the size of the ground set.
+     * @param k the size of the subset.
+     * @param rank the rank, in {@code [0, C(n, k))}.
+     * @param t the working array, of length {@code k + 2}.
+     * @throws IllegalArgumentException if the rank is out of range.
+     */
+    private static void unrank(int n, int k, long rank, int[] t) throws IllegalArgumentException {
+        CombinatorialNumberSystem.verifyRank(n, k, rank);
+        int x = n;
+        for(int i = k; i > 0; i--) {
+            x = CombinatorialNumberSystem.largestBelow(x + 1, i, rank);
+            t[i] = x + 1;
+            rank = CombinatorialNumberSystem.chooseCapped(x + 1, i) - rank - 1;
+        }
+        t[0] = 0;
+        t[k + 1] = n + 1;
+    }
+
+    /**
+     * Determines whether {@code n} and {@code k} describe a legal enumeration.
+     * @param n the size of the ground set.
+     * @param k the size of each subset.
+     * @return {@code C(n, k)}
+     * @throws IllegalArgumentException if {@code n < 0} or {@code k} is not in {@code [0, n]}.
+     * @throws ArithmeticException if {@code C(n, k)} does not fit in a {@code long}.
+     */
+    private static long verifySize(int n, int k) throws IllegalArgumentException, ArithmeticException {
+        if(n < 0 || k < 0 || k > n) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return CombinatorialNumberSystem.choose(n, k);
+    }
+}
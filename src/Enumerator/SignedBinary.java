@@ -1,9 +1,8 @@
 package Enumerator;
 
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
 
 public class SignedBinary extends Binary {
     private int capacity;
@@ -48,9 +47,9 @@ public class SignedBinary extends Binary {
      * Forces this SignedBinary to cycle if its length exceeds the given bound
      */
     private void cycle() {
-        if(this.digits.size() > this.capacity) {
-            this.digits.clear();
-            this.digits.add(false);
+        if(this.length > this.capacity) {
+            Arrays.fill(this.words, 0);
+            this.length = 1;
         }
     }
 
@@ -60,10 +59,9 @@ public class SignedBinary extends Binary {
      */
     @Override
     public List<Integer> getDigits() {
-        List<Integer> digits = new LinkedList<>();
-        ListIterator<Boolean> iterator = this.digits.listIterator();
+        List<Integer> digits = new ArrayList<>(this.capacity);
         for(int i = 0; i < this.capacity; i++) {
-            digits.add((iterator.hasNext() && iterator.next()) ? 1 : 0);
+            digits.add(getDigit(i) ? 1 : 0);
         }
         return digits;
     }
@@ -74,41 +72,25 @@ public class SignedBinary extends Binary {
      */
     @Override
     public List<Boolean> getBinary() {
-        List<Boolean> list = new LinkedList<>(this.digits);
+        List<Boolean> list = new ArrayList<>(Math.max(this.capacity, this.length));
+        for(int i = 0; i < this.length; i++) {
+            list.add(getDigit(i));
+        }
         while(list.size() < this.capacity) {
             list.add(false);
         }
         return list;
     }
 
-    /**
-     * Determines the hashCode of this SignedBinary
-     * @return the decimal representation of this SingedBinary
-     */
-    @Override
-    public int hashCode() {
-        Iterator<Boolean> iterator = ((LinkedList<Boolean>) this.digits).descendingIterator();
-        int hashCode = 0;
-        while(iterator.hasNext()) {
-            boolean nextDigit = iterator.next();
-            hashCode <<= 1;
-            if(nextDigit) {
-                hashCode++;
-            }
-        }
-        return hashCode;
-    }
-
     /**
      * Converts this SignedBinary to a printable format
      * @return this SignedBinary as a String
      */
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-        ListIterator<Boolean> iterator = this.digits.listIterator();
-        for(int i = 0; i < this.capacity; i++) {
-            builder.insert(0, (iterator.hasNext() && iterator.next()) ? 1 : 0);
+        StringBuilder builder = new StringBuilder(this.capacity);
+        for(int i = this.capacity - 1; i >= 0; i--) {
+            builder.append(getDigit(i) ? 1 : 0);
         }
         return builder.toString();
     }
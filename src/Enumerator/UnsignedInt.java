@@ -1,8 +1,8 @@
 package Enumerator;
 
 import Algebra.BooleanOperable;
-import DataSet.BST;
 import Exception.*;
+import Theory.Factorization;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -24,7 +24,7 @@ import java.util.List;
 public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<UnsignedInt> {
     private final boolean[] bits;
     private final int hashCode;
-    private final List<UnsignedInt> factors;
+    private List<UnsignedInt> primeFactors, factors;
 
     /**
      * Creates a new {@code UnsignedInt} equal to zero and with a specified bit maximum.
@@ -35,7 +35,6 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
         verifyBitLegality(bits);
         this.bits = new boolean[bits];
         this.hashCode = computeHashcode();
-        this.factors = new ArrayList<>();
     }
 
     /**
@@ -45,7 +44,6 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
     private UnsignedInt(boolean... bits) {
         this.bits = bits;
         this.hashCode = computeHashcode();
-        this.factors = new ArrayList<>();
     }
 
     /**
@@ -57,7 +55,6 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
         verifyBitLegality(bits);
         this.bits = toBinaryArray(bits, value);
         this.hashCode = value;
-        this.factors = new ArrayList<>();
     }
 
     /**
@@ -81,7 +78,6 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
             }
         }
         this.hashCode = computeHashcode();
-        this.factors = new ArrayList<>();
     }
 
     /**
@@ -229,19 +225,35 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
     }
 
     /**
-     * Finds all factors of this {@code UnsignedInt}.
-     * @return a list of all {@code n} such that {@code (n | this)}.
+     * Finds the prime factorization of this {@code UnsignedInt}. The result is computed once
+     * and cached, since {@code UnsignedInt} objects are immutable.
+     * @return an unmodifiable, ascending list of the primes {@code p} with {@code (p | this)},
+     * each repeated by its multiplicity.
+     */
+    public List<UnsignedInt> primeFactors() {
+        if(this.primeFactors == null) {
+            this.primeFactors = toUnsignedInts(Factorization.primeFactors(
+                    Magnitude.fromBits(this.bits), Magnitude.ARITHMETIC), this.bits.length);
+        }
+        return this.primeFactors;
+    }
+
+    /**
+     * Finds all factors of this {@code UnsignedInt}. The result is computed once and cached,
+     * since {@code UnsignedInt} objects are immutable.
+     * @return an unmodifiable, ascending list of all {@code n} such that {@code (n | this)}.
      */
     public List<UnsignedInt> factors() {
-        if(this.factors.size() == 0) {
-            final List<boolean[]> factors = factors(this.bits);
-            final List<UnsignedInt> proxyList = new ArrayList<>(factors.size());
-            for(boolean[] factor : factors) {
-                proxyList.add(new UnsignedInt(factor));
+        if(this.factors == null) {
+            final List<UnsignedInt> primes = primeFactors();
+            final List<int[]> primeFactors = new ArrayList<>(primes.size());
+            for(UnsignedInt primeFactor : primes) {
+                primeFactors.add(Magnitude.fromBits(primeFactor.bits));
             }
-            this.factors.addAll(new BST<>(proxyList).getOrderedList());
+            this.factors = toUnsignedInts(Factorization.divisors(primeFactors, Magnitude.ARITHMETIC),
+                    this.bits.length);
         }
-        return new ArrayList<>(this.factors);
+        return this.factors;
     }
 
     /**
@@ -566,161 +578,90 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
     }
 
     /**
-     * Computes the product of two numbers represented as arrays of binary digits.
+     * Computes the product of two numbers represented as arrays of binary digits. The
+     * multiplication itself is dispatched by size to a schoolbook, Karatsuba or Toom-3
+     * algorithm over 32-bit limbs; the product is then truncated to the bit capacity.
      * @param a the first multiplicand.
      * @param b the second multiplicand.
      * @return {@code a * b}
      */
     private static boolean[] multiply(boolean[] a, boolean[] b) {
-        final boolean[] nextBits = new boolean[a.length];
-        for(int i = 0; i < nextBits.length; i++) {
-            boolean carry = false;
-            final int limit = nextBits.length - i;
-            if(a[i]) {
-                for(int j = 0; j < limit; j++) {
-                    final int index = i + j;
-                    final boolean digit = nextBits[index] ^ b[j] ^ carry;
-                    carry = (((carry | nextBits[index]) & b[j]) | (carry & nextBits[index]));
-                    nextBits[i + j] = digit;
-                }
-            }
-        }
-        return nextBits;
+        return Magnitude.toBits(Magnitude.multiply(Magnitude.fromBits(a), Magnitude.fromBits(b)), a.length);
     }
 
     /**
      * Computes the square of a value represented as an array of binary (boolean) digits.
+     * @param bits the number.
      * @return the (truncated) square of the number.
      */
     private static boolean[] square(boolean... bits) {
-        final boolean[] nextBits = new boolean[bits.length];
-        final int lastIndex = nextBits.length - 1, digitMatchLimit = lastIndex >> 1;
-        for(int i = 0; i <= digitMatchLimit; i++) {
-            nextBits[i << 1] = bits[i];
-        }
-        for(int i = 0; i < nextBits.length; i++) {
-            boolean carry = false;
-            final int limit = lastIndex - i;
-            if(bits[i]) {
-                for(int j = i + 1; j < limit; j++) {
-                    final int index = i + j + 1;
-                    final boolean digit = nextBits[index] ^ bits[j] ^ carry;
-                    carry = (((carry | nextBits[index]) & bits[j]) | (carry & nextBits[index]));
-                    nextBits[index] = digit;
-                }
-            }
-        }
-        return nextBits;
+        return Magnitude.toBits(Magnitude.square(Magnitude.fromBits(bits)), bits.length);
     }
 
     /**
-     * Computes an integer power of a binary number represented by a bit array.
+     * Computes an integer power of a binary number represented by a bit array. Each
+     * intermediate product is truncated to the bit capacity.
      * @param bits the target number.
      * @param exp the integer power.
      * @return {@code (bits ^ exp)} as a bit array.
      */
     private static boolean[] pow(boolean[] bits, int exp) {
-        final boolean[] pow = new boolean[Integer.SIZE];
-        int index = 0;
-        while(exp != 0) {
-            pow[index++] = (exp & 1) == 1;
-            exp >>>= 1;
-        }
-        boolean[] nextBits = new boolean[bits.length];
-        if(index == 0) {
-            nextBits[0] = true;
-        } else {
-            index--;
-            System.arraycopy(bits, 0, nextBits, 0, nextBits.length);
-            while(index > 0) {
-                index--;
-                nextBits = square(nextBits);
-                if(pow[index]) {
-                    nextBits = multiply(bits, nextBits);
-                }
+        final int[] base = Magnitude.fromBits(bits);
+        int[] result = {1};
+        for(int index = Integer.SIZE - Integer.numberOfLeadingZeros(exp) - 1; index >= 0; index--) {
+            result = Magnitude.truncate(Magnitude.square(result), bits.length);
+            if(((exp >>> index) & 1) == 1) {
+                result = Magnitude.truncate(Magnitude.multiply(result, base), bits.length);
             }
         }
-        return nextBits;
+        return Magnitude.toBits(result, bits.length);
     }
 
     /**
-     * Computes the quotient and remainder of two numbers represented as bit arrays.
+     * Computes the quotient and remainder of two numbers represented as bit arrays. Short
+     * divisors use long division over 32-bit limbs; long ones multiply by a Newton-iterated
+     * reciprocal.
      * @param dividend the dividend value.
      * @param divisor the divisor value.
      * @return an array containing two bit arrays, that at index {@code 0} designating
      * a binary value equal to {@code dividend / divisor} and that at index {@code 1}
      * designating {@code dividend % divisor}.
+     * @throws ArithmeticException if the divisor is zero.
      */
-    private static boolean[][] divideAndRemainder(boolean[] dividend, boolean[] divisor) {
-        final int length = divisor.length, lastIndex = length - 1;
-        final boolean[] quotientBits = new boolean[length];
-        final boolean[] remainderBits = new boolean[length];
-        System.arraycopy(dividend, 0, remainderBits, 0, length);
-        int dividendIndex = lastIndex, divisorIndex = lastIndex;
-        while(divisorIndex >= 0 && ! divisor[divisorIndex]) {
-            divisorIndex--;
-        }
-        if(divisorIndex < 0) {
-            throw new ArithmeticException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
-        }
-        while(dividendIndex >= 0 && ! remainderBits[dividendIndex]) {
-            dividendIndex--;
-        }
-        while(dividendIndex >= divisorIndex) {
-            final int startIndex = dividendIndex - divisorIndex;
-            int digitCopyIndex = startIndex;
-            final boolean[] newRemainder = new boolean[divisorIndex + 1];
-            boolean carry = false;
-            for(int i = 0; i < newRemainder.length; i++) {
-                newRemainder[i] = remainderBits[digitCopyIndex] ^ divisor[i] ^ carry;
-                carry = ((carry || divisor[i]) && !remainderBits[digitCopyIndex]) ||
-                        (carry & remainderBits[digitCopyIndex] & divisor[i]);
-                digitCopyIndex++;
-            }
-            if((! carry) || (dividendIndex < lastIndex && remainderBits[dividendIndex + 1])) {
-                if(carry) {
-                    remainderBits[dividendIndex + 1] = false;
-                }
-                System.arraycopy(newRemainder, 0, remainderBits,
-                        startIndex, newRemainder.length);
-                quotientBits[startIndex] = true;
-            }
-            dividendIndex--;
-        }
-        return new boolean[][]{quotientBits, remainderBits};
+    private static boolean[][] divideAndRemainder(boolean[] dividend, boolean[] divisor) throws ArithmeticException {
+        final int[][] quotientRemainder = Magnitude.divideAndRemainder(
+                Magnitude.fromBits(dividend), Magnitude.fromBits(divisor));
+        return new boolean[][]{Magnitude.toBits(quotientRemainder[0], divisor.length),
+                Magnitude.toBits(quotientRemainder[1], divisor.length)};
     }
 
     /**
      * Finds the remainder when an integer power of a specified number is
      * divided by a particular modulus. Both the base and the modulus are
-     * binary values represented as bit arrays.
+     * binary values represented as bit arrays. As with {@code multiply}, each
+     * product is truncated to the bit capacity before it is reduced.
      * @param bits the base value.
      * @param mod the modulus.
      * @param exp the integer power.
      * @return {@code (bits ^ exp) % mod}
      */
     private static boolean[] modPow(boolean[] bits, boolean[] mod, int exp) {
-        final boolean[] pow = new boolean[Integer.SIZE];
-        int index = 0;
-        while(exp != 0) {
-            pow[index++] = (exp & 1) == 1;
-            exp >>>= 1;
-        }
-        boolean[] nextBits = new boolean[bits.length];
-        if(index == 0) {
-            nextBits[0] = true;
-            return divideAndRemainder(nextBits, mod)[1];
+        final int[] base = Magnitude.fromBits(bits), modulus = Magnitude.fromBits(mod);
+        int index = Integer.SIZE - Integer.numberOfLeadingZeros(exp) - 1;
+        if(index < 0) {
+            return Magnitude.toBits(Magnitude.divideAndRemainder(new int[]{1}, modulus)[1], bits.length);
         }
-        index--;
-        System.arraycopy(bits, 0, nextBits, 0, nextBits.length);
+        int[] result = base;
         while(index > 0) {
             index--;
-            nextBits = divideAndRemainder(square(nextBits), mod)[1];
-            if(pow[index]) {
-                nextBits = divideAndRemainder(multiply(nextBits, bits), mod)[1];
+            result = Magnitude.divideAndRemainder(
+                    Magnitude.truncate(Magnitude.square(result), bits.length), modulus)[1];
+            if(((exp >>> index) & 1) == 1) {
+                result = Magnitude.divideAndRemainder(
+                        Magnitude.truncate(Magnitude.multiply(result, base), bits.length), modulus)[1];
             }
         }
-        return nextBits;
+        return Magnitude.toBits(result, bits.length);
     }
 
     /**
@@ -743,91 +684,28 @@ public class UnsignedInt implements BooleanOperable<UnsignedInt>, Comparable<Uns
     }
 
     /**
-     * Computes the integral square root of a binary number represented as a bit array.
+     * Computes the integral square root of a binary number represented as a bit array,
+     * by Newton iteration from a floating-point estimate.
      * @param bits the target number.
      * @return a bit array of the unique {@code UnsignedInt i} such that {@code i^2 <= bits}
      * and {@code (i+1)^2 > bits}.
      */
     private static boolean[] sqrt(boolean... bits) {
-        boolean[] nextBits = new boolean[bits.length];
-        System.arraycopy(bits, 0, nextBits, 0, nextBits.length);
-        boolean[] prevBits = nextBits, prevPrevBits;
-        do {
-            prevPrevBits = prevBits;
-            prevBits = nextBits;
-            nextBits = shift(add(nextBits, divideAndRemainder(bits, nextBits)[0]), -1);
-        } while(! equals(prevPrevBits, nextBits));
-        return prevBits;
+        return Magnitude.toBits(Magnitude.sqrt(Magnitude.fromBits(bits)), bits.length);
     }
 
     /**
-     * Computes a list of prime factors for a number represented as a bit array.
-     * @param bits the target number.
-     * @return the list of all numbers {@code n} satisfying {@code (n | bits)}.
+     * Converts a list of magnitudes into {@code UnsignedInts} of a fixed bit capacity.
+     * @param magnitudes the magnitudes, each fitting in the bit capacity.
+     * @param bits the bit capacity.
+     * @return an unmodifiable list of the converted values, in the same order.
      */
-    private static List<boolean[]> primeFactors(boolean... bits) {
-        final List<boolean[]> primeFactors = new ArrayList<>();
-        int nonZeroIndex = 0;
-        while(nonZeroIndex < bits.length && ! bits[nonZeroIndex]) {
-            nonZeroIndex++;
-        }
-        if(nonZeroIndex != bits.length) {
-            for(int i = 0; i < nonZeroIndex; i++) {
-                primeFactors.add(toBinaryArray(bits.length, 2));
-            }
-            bits = shift(bits, -nonZeroIndex);
-            boolean[] sqrt = sqrt(bits), divisor = toBinaryArray(bits.length, 3);
-            final boolean[] TWO = toBinaryArray(bits.length, 2);
-            while (compareTo(divisor, sqrt) <= 0) {
-                boolean recompute = false;
-                boolean[][] quotientRemainder = divideAndRemainder(bits, divisor);
-                while(isZero(quotientRemainder[1])) {
-                    final boolean[] digits = new boolean[bits.length];
-                    System.arraycopy(divisor, 0, digits, 0, bits.length);
-                    primeFactors.add(digits);
-                    bits = quotientRemainder[0];
-                    quotientRemainder = divideAndRemainder(bits, divisor);
-                    recompute = true;
-                }
-                if(recompute) {
-                    sqrt = sqrt(bits);
-                }
-                divisor = add(divisor, TWO);
-            }
-            if(compareTo(bits, toBinaryArray(bits.length, 1)) > 0) {
-                primeFactors.add(bits);
-            }
-        }
-        return primeFactors;
-    }
-
-    /**
-     * Computes all factors of a number represented as a bit array.
-     * @param bits the target number.
-     * @return a list of bit arrays representing all numbers that evenly divide
-     * the target value.
-     */
-    private static List<boolean[]> factors(boolean... bits) {
-        final List<boolean[]> primes = primeFactors(bits), factors = new ArrayList<>();
-        List<boolean[]> test = new ArrayList<>();
-        boolean[] prev = toBinaryArray(bits.length, 1);
-        boolean[] product = toBinaryArray(bits.length, 1);
-        factors.add(toBinaryArray(bits.length, 1));
-        for(boolean[] primeFactor : primes) {
-            if(equals(primeFactor, prev)) {
-                product = multiply(product, primeFactor);
-            } else {
-                factors.addAll(test);
-                prev = primeFactor;
-                test = new ArrayList<>();
-                product = primeFactor;
-            }
-            for(boolean[] factor : factors) {
-                test.add(multiply(factor, product));
-            }
+    private static List<UnsignedInt> toUnsignedInts(List<int[]> magnitudes, int bits) {
+        final List<UnsignedInt> values = new ArrayList<>(magnitudes.size());
+        for(int[] magnitude : magnitudes) {
+            values.add(new UnsignedInt(Magnitude.toBits(magnitude, bits)));
         }
-        factors.addAll(test);
-        return factors;
+        return List.copyOf(values);
     }
 
     /**
@@ -0,0 +1,573 @@
+package Simulation;
+
+import DataKey.LongMultiKey;
+import Exception.ExceptionMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An unbounded plane of a Life-like {@link LifeRule}, stepped by Gosper's HashLife. The plane is a
+ * quadtree whose nodes are hash-consed, so equal squares anywhere in space or time are one node, and
+ * each node of level {@code k}, a square of side {@code 2^k}, memoizes its result: the center square
+ * of side {@code 2^(k-1)} after {@code 2^(k-2)} generations, or after fewer when a smaller power of two
+ * is asked for. Periodic patterns then reuse almost every result, so a step of {@code 2^j} generations
+ * costs far less than {@code 2^j} generations. Canonical nodes live in a chained hash table that is
+ * swept, in the middle of a step if need be, once it holds more than a cap of nodes, keeping the nodes
+ * reachable from the current plane and those the step in progress still holds. When the surviving nodes
+ * alone come near the cap, the next sweep waits until the table has doubled, and a cap below what a
+ * step needs costs time, since dropped results are computed again. Cells are addressed by row and
+ * column around the origin. This class is not synchronized.
+ */
+public class HashLife {
+    /**
+     * The default cap on the number of canonical nodes, about 80 bytes each.
+     */
+    public static final int DEFAULT_MAX_NODES = 1 << 20;
+    /**
+     * The largest power of two of generations in one step.
+     */
+    public static final int MAX_EXPONENT = 60;
+    private final LifeRule rule;
+    private final int maxNodes;
+    private final Node dead, alive;
+    private final List<Node> empty = new ArrayList<>(), pinned = new ArrayList<>();
+    private Node[] table = new Node[1 << 10];
+    private int count, ids = 2, epoch, limit;
+    private Node root;
+    private long generation;
+
+    /**
+     * A canonical square of cells of side {@code 2^level}, made of four squares of half the side, or a
+     * single cell at level {@code 0}.
+     */
+    private static final class Node {
+        private final Node nw, ne, sw, se;
+        private final int level, id, hash;
+        private final long population;
+        private Node next, result;
+        private int resultExponent, mark;
+
+        /**
+         * Creates a single cell.
+         * @param id the identity of the cell.
+         */
+        private Node(int id) {
+            this.nw = this.ne = this.sw = this.se = null;
+            this.level = 0;
+            this.id = id;
+            this.hash = id;
+            this.population = id;
+        }
+
+        /**
+         * Creates a square from its quadrants.
+         * @param nw the north-west quadrant.
+         * @param ne the north-east quadrant.
+         * @param sw the south-west quadrant.
+         * @param se the south-east quadrant.
+         * @param id the identity of the square.
+         * @param hash the hash of the quadrants.
+         */
+        private Node(Node nw, Node ne, Node sw, Node se, int id, int hash) {
+            this.nw = nw;
+            this.ne = ne;
+            this.sw = sw;
+            this.se = se;
+            this.level = nw.level + 1;
+            this.id = id;
+            this.hash = hash;
+            this.population = nw.population + ne.population + sw.population + se.population;
+        }
+    }
+
+    /**
+     * Creates an empty {@code HashLife} with the default cap on nodes.
+     * @param rule the {@code LifeRule}.
+     * @throws IllegalArgumentException if the rule brings cells with no neighbors to life.
+     */
+    public HashLife(LifeRule rule) throws IllegalArgumentException {
+        this(rule, DEFAULT_MAX_NODES);
+    }
+
+    /**
+     * Creates an empty {@code HashLife}.
+     * @param rule the {@code LifeRule}.
+     * @param maxNodes the number of canonical nodes above which unreachable nodes are collected, checked
+     *                 throughout each step.
+     * @throws IllegalArgumentException if the cap is not positive, or if the rule brings cells with no
+     * neighbors to life, which would fill the unbounded plane.
+     */
+    public HashLife(LifeRule rule, int maxNodes) throws IllegalArgumentException {
+        if(maxNodes < 1 || rule.born(0)) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.rule = rule;
+        this.maxNodes = maxNodes;
+        this.limit = maxNodes;
+        this.dead = new Node(0);
+        this.alive = new Node(1);
+        this.root = empty(3);
+    }
+
+    /**
+     * Advances the plane by {@code 2^exponent} generations.
+     * @param exponent the power of two, in {@code [0, MAX_EXPONENT]}.
+     * @throws IllegalArgumentException if the exponent is out of range.
+     */
+    public void step(int exponent) throws IllegalArgumentException {
+        if(exponent < 0 || exponent > MAX_EXPONENT) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        // The pattern must sit in the center half with a margin that it cannot cross in 2^exponent generations
+        while(this.root.level < Math.max(3, exponent + 2) || ! padded(this.root)) {
+            this.root = expand(this.root);
+        }
+        try {
+            this.root = result(pin(expand(this.root)), exponent);
+        } finally {
+            this.pinned.clear();
+        }
+        this.generation += 1L << exponent;
+        if(this.count > this.limit) {
+            collect();
+        }
+    }
+
+    /**
+     * Advances the plane by a number of generations, in steps of the powers of two that sum to it.
+     * @param generations the number of generations, below {@code 2^(MAX_EXPONENT + 1)}.
+     * @throws IllegalArgumentException if the number of generations is negative or too large.
+     */
+    public void advance(long generations) throws IllegalArgumentException {
+        if(generations < 0 || generations >>> (MAX_EXPONENT + 1) != 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        for(int exponent = MAX_EXPONENT; exponent >= 0; exponent--) {
+            if((generations >>> exponent & 1) != 0) {
+                step(exponent);
+            }
+        }
+    }
+
+    /**
+     * Finds the center of a square after {@code 2^exponent} generations, or after {@code 2^(level-2)}
+     * if that is fewer.
+     * @param node the square, of level at least {@code 2}.
+     * @param exponent the power of two of generations.
+     * @return the center square, of one level less.
+     */
+    private Node result(Node node, int exponent) {
+        final int effective = Math.min(exponent, node.level - 2);
+        if(node.result != null && node.resultExponent == effective) {
+            return node.result;
+        }
+        final int depth = this.pinned.size();
+        pin(node);
+        if(this.count > this.limit) {
+            collect();
+        }
+        final Node result;
+        if(node.level == 2) {
+            result = base(node);
+        } else {
+            final Node n00 = node.nw, n01 = pin(join(node.nw.ne, node.ne.nw, node.nw.se, node.ne.sw)), n02 = node.ne,
+                    n10 = pin(join(node.nw.sw, node.nw.se, node.sw.nw, node.sw.ne)), n11 = pin(center(node)),
+                    n12 = pin(join(node.ne.sw, node.ne.se, node.se.nw, node.se.ne)), n20 = node.sw,
+                    n21 = pin(join(node.sw.ne, node.se.nw, node.sw.se, node.se.sw)), n22 = node.se;
+            final Node r00, r01, r02, r10, r11, r12, r20, r21, r22;
+            if(effective == node.level - 2) {
+                // Full speed: both halves of the time pass, one in each round
+                r00 = pin(result(n00, effective));
+                r01 = pin(result(n01, effective));
+                r02 = pin(result(n02, effective));
+                r10 = pin(result(n10, effective));
+                r11 = pin(result(n11, effective));
+                r12 = pin(result(n12, effective));
+                r20 = pin(result(n20, effective));
+                r21 = pin(result(n21, effective));
+                r22 = pin(result(n22, effective));
+            } else {
+                // Slower: the first round only crops, and all the time passes in the second
+                r00 = pin(center(n00));
+                r01 = pin(center(n01));
+                r02 = pin(center(n02));
+                r10 = pin(center(n10));
+                r11 = pin(center(n11));
+                r12 = pin(center(n12));
+                r20 = pin(center(n20));
+                r21 = pin(center(n21));
+                r22 = pin(center(n22));
+            }
+            final Node nw = pin(result(pin(join(r00, r01, r10, r11)), effective)),
+                    ne = pin(result(pin(join(r01, r02, r11, r12)), effective)),
+                    sw = pin(result(pin(join(r10, r11, r20, r21)), effective));
+            result = join(nw, ne, sw, result(pin(join(r11, r12, r21, r22)), effective));
+        }
+        node.result = result;
+        node.resultExponent = effective;
+        this.pinned.subList(depth, this.pinned.size()).clear();
+        return result;
+    }
+
+    /**
+     * Keeps a square that a step in progress still needs from being collected.
+     * @param node the square.
+     * @return the square.
+     */
+    private Node pin(Node node) {
+        this.pinned.add(node);
+        return node;
+    }
+
+    /**
+     * Applies the rule once to the center of a square of side {@code 4}.
+     * @param node the square, of level {@code 2}.
+     * @return the center square of side {@code 2}, one generation later.
+     */
+    private Node base(Node node) {
+        int cells = 0;
+        for(int row = 0; row < 4; row++) {
+            for(int column = 0; column < 4; column++) {
+                cells |= (int) cell(node, row - 2, column - 2) << (row * 4 + column);
+            }
+        }
+        final Node[] next = new Node[4];
+        for(int row = 1, i = 0; row <= 2; row++) {
+            for(int column = 1; column <= 2; column++, i++) {
+                int neighbors = 0;
+                for(int r = row - 1; r <= row + 1; r++) {
+                    for(int c = column - 1; c <= column + 1; c++) {
+                        neighbors += cells >>> (r * 4 + c) & 1;
+                    }
+                }
+                final boolean on = (cells >>> (row * 4 + column) & 1) != 0;
+                neighbors -= on ? 1 : 0;
+                next[i] = (on ? this.rule.survives(neighbors) : this.rule.born(neighbors)) ? this.alive : this.dead;
+            }
+        }
+        return join(next[0], next[1], next[2], next[3]);
+    }
+
+    /**
+     * Finds the center square of half the side.
+     * @param node the square, of level at least {@code 2}.
+     * @return the center.
+     */
+    private Node center(Node node) {
+        return join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+    }
+
+    /**
+     * Surrounds a square with empty space, keeping it at the center.
+     * @param node the square, of level at least {@code 1}.
+     * @return the square of twice the side.
+     */
+    private Node expand(Node node) {
+        final Node border = empty(node.level - 1);
+        return join(join(border, border, border, node.nw), join(border, border, node.ne, border),
+                join(border, node.sw, border, border), join(node.se, border, border, border));
+    }
+
+    /**
+     * Checks that every live cell of a square is in its center square of half the side.
+     * @param node the square, of level at least {@code 2}.
+     * @return {@code true} if the outer ring of the square is empty, else {@code false}.
+     */
+    private static boolean padded(Node node) {
+        return node.nw.population == node.nw.se.population && node.ne.population == node.ne.sw.population
+                && node.sw.population == node.sw.ne.population && node.se.population == node.se.nw.population;
+    }
+
+    /**
+     * Gets the canonical empty square of a level.
+     * @param level the level.
+     * @return the empty square.
+     */
+    private Node empty(int level) {
+        if(this.empty.isEmpty()) {
+            this.empty.add(this.dead);
+        }
+        while(this.empty.size() <= level) {
+            final Node below = this.empty.get(this.empty.size() - 1);
+            this.empty.add(join(below, below, below, below));
+        }
+        return this.empty.get(level);
+    }
+
+    /**
+     * Finds or creates the canonical square made of four quadrants.
+     * @param nw the north-west quadrant.
+     * @param ne the north-east quadrant.
+     * @param sw the south-west quadrant.
+     * @param se the south-east quadrant.
+     * @return the canonical square.
+     */
+    private Node join(Node nw, Node ne, Node sw, Node se) {
+        final int hash = LongMultiKey.hash(LongMultiKey.pack(nw.id, ne.id), LongMultiKey.pack(sw.id, se.id));
+        final int bucket = hash & (this.table.length - 1);
+        for(Node node = this.table[bucket]; node != null; node = node.next) {
+            if(node.nw == nw && node.ne == ne && node.sw == sw && node.se == se) {
+                return node;
+            }
+        }
+        final Node node = new Node(nw, ne, sw, se, this.ids++, hash);
+        node.next = this.table[bucket];
+        this.table[bucket] = node;
+        if(++this.count > this.table.length - (this.table.length >>> 2)) {
+            rehash(this.table.length << 1);
+        }
+        return node;
+    }
+
+    /**
+     * Moves every canonical node into a table of another size.
+     * @param size the number of buckets, a power of two.
+     */
+    private void rehash(int size) {
+        final Node[] table = new Node[size];
+        for(Node head : this.table) {
+            for(Node node = head, next; node != null; node = next) {
+                next = node.next;
+                node.next = table[node.hash & (size - 1)];
+                table[node.hash & (size - 1)] = node;
+            }
+        }
+        this.table = table;
+    }
+
+    /**
+     * Drops every canonical node that is not part of the current plane, an empty square or a square that
+     * a step in progress still needs, and forgets the results that point to dropped nodes. Results are
+     * recomputed when they are needed again.
+     */
+    public void collect() {
+        this.epoch++;
+        mark(this.root);
+        for(Node node : this.pinned) {
+            mark(node);
+        }
+        for(Node node : this.empty) {
+            node.mark = this.epoch;
+        }
+        int count = 0;
+        for(int i = 0; i < this.table.length; i++) {
+            Node kept = null;
+            for(Node node = this.table[i], next; node != null; node = next) {
+                next = node.next;
+                if(node.mark == this.epoch) {
+                    if(node.result != null && node.result.mark != this.epoch) {
+                        node.result = null;
+                    }
+                    node.next = kept;
+                    kept = node;
+                    count++;
+                }
+            }
+            this.table[i] = kept;
+        }
+        this.count = count;
+        this.limit = Math.max(this.maxNodes, 2 * count);
+        int size = this.table.length;
+        while(size > 1 << 10 && count < size >>> 2) {
+            size >>>= 1;
+        }
+        if(size != this.table.length) {
+            rehash(size);
+        }
+    }
+
+    /**
+     * Marks a square and everything below it as reachable.
+     * @param node the square.
+     */
+    private void mark(Node node) {
+        if(node.mark != this.epoch) {
+            node.mark = this.epoch;
+            if(node.level > 0) {
+                mark(node.nw);
+                mark(node.ne);
+                mark(node.sw);
+                mark(node.se);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a cell is alive.
+     * @param row the row.
+     * @param column the column.
+     * @return {@code true} if the cell is alive, else {@code false}.
+     */
+    public boolean get(long row, long column) {
+        return contains(row, column) && cell(this.root, row, column) != 0;
+    }
+
+    /**
+     * Checks whether a cell is inside the root square.
+     * @param row the row.
+     * @param column the column.
+     * @return {@code true} if the root square covers the cell, else {@code false}.
+     */
+    private boolean contains(long row, long column) {
+        if(this.root.level >= 63) {
+            return true;
+        }
+        final long half = 1L << (this.root.level - 1);
+        return row >= -half && row < half && column >= -half && column < half;
+    }
+
+    /**
+     * Finds a cell of a square.
+     * @param node the square.
+     * @param row the row, relative to the center of the square.
+     * @param column the column, relative to the center of the square.
+     * @return {@code 1} if the cell is alive, else {@code 0}.
+     */
+    private static long cell(Node node, long row, long column) {
+        while(node.level > 0 && node.population != 0) {
+            final long quarter = quarter(node);
+            node = (row < 0) ? ((column < 0) ? node.nw : node.ne) : ((column < 0) ? node.sw : node.se);
+            row += (row < 0) ? quarter : -quarter;
+            column += (column < 0) ? quarter : -quarter;
+        }
+        return node.population;
+    }
+
+    /**
+     * Finds the distance from the center of a square to the centers of its quadrants.
+     * @param node the square, of level at least {@code 1}.
+     * @return {@code 2^(level-2)}, or {@code 0} for quadrants that are single cells.
+     */
+    private static long quarter(Node node) {
+        return (node.level == 1) ? 0 : 1L << (node.level - 2);
+    }
+
+    /**
+     * Sets the state of a cell, growing the plane as needed.
+     * @param row the row.
+     * @param column the column.
+     * @param alive {@code true} for a live cell, else {@code false}.
+     */
+    public void set(long row, long column, boolean alive) {
+        while(! contains(row, column)) {
+            this.root = expand(this.root);
+        }
+        this.root = set(this.root, row, column, alive);
+    }
+
+    /**
+     * Rebuilds a square with one cell changed.
+     * @param node the square.
+     * @param row the row, relative to the center of the square.
+     * @param column the column, relative to the center of the square.
+     * @param alive {@code true} for a live cell, else {@code false}.
+     * @return the canonical square.
+     */
+    private Node set(Node node, long row, long column, boolean alive) {
+        if(node.level == 0) {
+            return alive ? this.alive : this.dead;
+        }
+        final long quarter = quarter(node), north = row + quarter, south = row - quarter, west = column + quarter,
+                east = column - quarter;
+        if(row < 0) {
+            return (column < 0) ? join(set(node.nw, north, west, alive), node.ne, node.sw, node.se)
+                    : join(node.nw, set(node.ne, north, east, alive), node.sw, node.se);
+        }
+        return (column < 0) ? join(node.nw, node.ne, set(node.sw, south, west, alive), node.se)
+                : join(node.nw, node.ne, node.sw, set(node.se, south, east, alive));
+    }
+
+    /**
+     * Brings the live cells of a pattern to life.
+     * @param pattern the rows of the pattern, {@code 1} for a live cell, such as one from
+     *                {@link Life#parsePattern(String[])}.
+     * @param row the row of the top of the pattern.
+     * @param column the column of the left of the pattern.
+     */
+    public void insert(int[][] pattern, long row, long column) {
+        for(int i = 0; i < pattern.length; i++) {
+            for(int j = 0; j < pattern[i].length; j++) {
+                if(pattern[i][j] == 1) {
+                    set(row + i, column + j, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the live cells.
+     * @return the population.
+     */
+    public long population() {
+        return this.root.population;
+    }
+
+    /**
+     * Gets the number of generations stepped.
+     * @return the generation.
+     */
+    public long generation() {
+        return this.generation;
+    }
+
+    /**
+     * Gets the level of the root square, whose side is {@code 2^level}.
+     * @return the level.
+     */
+    public int level() {
+        return this.root.level;
+    }
+
+    /**
+     * Gets the number of canonical nodes held.
+     * @return the number of nodes.
+     */
+    public int nodes() {
+        return this.count;
+    }
+
+    /**
+     * Gets the rule of the plane.
+     * @return the {@code LifeRule}.
+     */
+    public LifeRule rule() {
+        return this.rule;
+    }
+
+    /**
+     * Converts a window of the plane to a printable format.
+     * @param row the top row.
+     * @param column the left column.
+     * @param height the number of rows.
+     * @param width the number of columns.
+     * @return the rows of the window, {@code 1} for a live cell.
+     */
+    public String toString(long row, long column, int height, int width) {
+        final StringBuilder builder = new StringBuilder((width + 1) * height);
+        for(int i = 0; i < height; i++) {
+            for(int j = 0; j < width; j++) {
+                builder.append(get(row + i, column + j) ? '1' : '0');
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Converts this {@code HashLife} to a printable format.
+     * @return the rule, generation, population and size of this {@code HashLife}.
+     */
+    @Override
+    public String toString() {
+        return this.rule + " generation=" + this.generation + ", population=" + population() + ", level="
+                + this.root.level + ", nodes=" + this.count;
+    }
+
+    /**
+     * Prints this {@code HashLife}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
@@ -1,7 +1,5 @@
 package Simulation;
 
-import javax.swing.*;
-import java.awt.image.BufferedImage;
 import java.util.Arrays;
 
 public class Life {
@@ -17,56 +15,40 @@ public class Life {
     private static final int[] REVIVE = {3};                            // Set of reviving neighbor counts
 
     public static void main(String[] args) {
-        int[][] prevBoard = newBoard(HEIGHT, WIDTH, NULL);
+        LifeEngine engine = new LifeEngine(HEIGHT, WIDTH, LifeRule.of(NEIGHBORHOOD, REVIVE, SUSTAIN));
 
         // board decals
 
 //        final int[][] GLIDER_GUN = parsePattern(SIMKIN_GLIDER_GUN);
-//        insertPattern(prevBoard, GLIDER_GUN, 300, 280, ACTIVATED);
-//        insertPattern(prevBoard, flipHorizontal(GLIDER_GUN), 304, 319, ACTIVATED);
+//        engine.insert(GLIDER_GUN, 300, 280);
+//        engine.insert(flipHorizontal(GLIDER_GUN), 304, 319);
 //        int kok_x = 339, kok_y = 302;
-//        insertPattern(prevBoard, parsePattern(KOKS_GALAXY), kok_x, kok_y, ACTIVATED);
-//        insertPattern(prevBoard, parsePattern(BOAT), kok_x + 4, kok_y + 13, ACTIVATED);
+//        engine.insert(KOKS_GALAXY, kok_x, kok_y);
+//        engine.insert(BOAT, kok_x + 4, kok_y + 13);
 
-        insertPattern(prevBoard, parsePattern(SIMKIN_GLIDER_GUN), WIDTH/2, HEIGHT/2, ACTIVATED);
-        //insertPattern(prevBoard, OSCILLATOR_PERIOD_60(), 300, 300, ACTIVATED);
+        engine.insert(SIMKIN_GLIDER_GUN, WIDTH/2, HEIGHT/2);
+        //engine.insert(OSCILLATOR_PERIOD_60(), 300, 300);
 
-        // permanent image code
+        // rendering is a separate consumer of the headless engine
 
-        JFrame frame = new JFrame();
-        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
-        updateBoardImage(image, prevBoard);
-        JLabel label = new JLabel(new ImageIcon(image));
-        JPanel panel = new JPanel();
-        panel.add(label);
-        frame.add(panel);
-        frame.pack();
-        frame.setVisible(true);
-        frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        LifeView view = new LifeView(engine);
 
         while(true) {
-//            long num = System.currentTimeMillis();
-//            while(System.currentTimeMillis() - num < 50) {
-//                // wait
-//            }
-
-            int[][] board = newBoard(HEIGHT, WIDTH, NULL);
-            for(int i = 0; i < board.length; i++) {
-                for(int j = 0; j < board[i].length; j++) {
-                    board[i][j] = getNewState(prevBoard, i, j);
-                }
-            }
-            updateBoardImage(image, board);
-            frame.remove(panel);
-            panel.remove(label);
-            label = new JLabel(new ImageIcon(image));
-            panel.add(label);
-            frame.add(panel);
-            frame.pack();
-            prevBoard = board;
+            engine.step(1, view);
         }
     }
 
+    /**
+     * Loads a pattern into an unbounded HashLife plane under the rule of this board, to jump far ahead
+     * @param pattern the pattern, as from parsePattern
+     * @return the plane, with the top left of the pattern at the origin
+     */
+    static HashLife hashLife(int[][] pattern) {
+        HashLife plane = new HashLife(LifeRule.of(NEIGHBORHOOD, REVIVE, SUSTAIN));
+        plane.insert(pattern, 0, 0);
+        return plane;
+    }
+
     /**
      * Creates a new board
      * @param height the height of the board
@@ -113,74 +95,12 @@ public class Life {
         }
     }
 
-    /**
-     * Gets the number of live neighbors of a cell on the board
-     * @param board the target board
-     * @param x the x-coordinate
-     * @param y the y-coordinate
-     * @return the number of live neighbors
-     */
-    private static int getNeighborCount(int[][] board, int x, int y) {
-        int count = 0;
-        for(int i = -NEIGHBORHOOD; i <= NEIGHBORHOOD; i++) {
-            for(int j = -NEIGHBORHOOD; j <= NEIGHBORHOOD; j++) {
-                int pixel_x = (x + i) % board.length;
-                if(pixel_x < 0) {
-                    pixel_x += board.length;
-                }
-                int pixel_y = (y + j) % board[pixel_x].length;
-                if(pixel_y < 0) {
-                    pixel_y += board[pixel_x].length;
-                }
-                count += (board[pixel_x][pixel_y] == ACTIVATED) ? 1 : 0;
-            }
-        }
-        return count - (board[x][y] == ACTIVATED ? 1 : 0);
-    }
-
-    /**
-     * Finds the new state of a cell
-     * @param board the target board
-     * @param x the x-coordinate
-     * @param y the y-coordinate
-     * @return the new state of the cell, as int ACTIVATED or int NULL
-     */
-    private static int getNewState(int[][] board, int x, int y) {
-        int count = getNeighborCount(board, x, y);
-        for(int state : REVIVE) {
-            if(count == state) {
-                return ACTIVATED;
-            }
-        }
-        if(board[x][y] == ACTIVATED) {
-            for(int state : SUSTAIN) {
-                if(count == state) {
-                    return ACTIVATED;
-                }
-            }
-        }
-        return NULL;
-    }
-
-    /**
-     * Updates a BufferedImage with the pixels on the board
-     * @param image the target image
-     * @param board the comparator board
-     */
-    private static void updateBoardImage(BufferedImage image, int[][] board) {
-        for(int i = 0; i < board.length; i++) {
-            for(int j = 0; j < board[i].length; j++) {
-                image.setRGB(j, i, (board[i][j] == ACTIVATED) ? 0 : 16777215);
-            }
-        }
-    }
-
     /**
      * Parses a String[] pattern into a board of integers
      * @param origin the original String[] containing the pattern
      * @return the board
      */
-    private static int[][] parsePattern(String[] origin) {
+    static int[][] parsePattern(String[] origin) {
         int[][] pattern = new int[origin.length][];
         for(int i = 0; i < pattern.length; i++) {
             pattern[i] = new int[origin[i].length()];
@@ -246,13 +166,13 @@ public class Life {
         }
     }
 
-    private static final String[] GLIDER = {
+    static final String[] GLIDER = {
             "010",
             "001",
             "111"
             };
 
-    private static final String[] GOSPER_GLIDER_GUN = {
+    static final String[] GOSPER_GLIDER_GUN = {
             "000000000000000000000000100000000000",
             "000000000000000000000010100000000000",
             "000000000000110000001100000000000011",
@@ -264,7 +184,7 @@ public class Life {
             "000000000000110000000000000000000000"
     };
 
-    private static final String[] SIMKIN_GLIDER_GUN = {
+    static final String[] SIMKIN_GLIDER_GUN = {
             "110000011000000000001000000000000",
             "110000011000000000111000000000000",
             "000000000000000000101000000000000",
@@ -280,7 +200,7 @@ public class Life {
             "000000000000000000000000110000011"
     };
 
-    private static final String[] SPACESHIP_HAMMERHEAD = {
+    static final String[] SPACESHIP_HAMMERHEAD = {
             "111110000000000000",
             "100001000000011000",
             "100000000000110111",
@@ -299,7 +219,7 @@ public class Life {
             "111110000000000000"
     };
 
-    private static final String[] SPACESHIP_COPPERHEAD = {
+    static final String[] SPACESHIP_COPPERHEAD = {
             "01100110",
             "00011000",
             "00011000",
@@ -314,7 +234,7 @@ public class Life {
             "00011000"
     };
 
-    private static final String[] SUMMERS_RAKE = {
+    static final String[] SUMMERS_RAKE = {
             "000001110000000000011100000",
             "000010001000000000100010000",
             "000110000100000001000011000",
@@ -335,7 +255,7 @@ public class Life {
             "000000000000101000000000000"
     };
 
-    private static final String[] SUMMERS_RAKE_SIMPLIFIED = {
+    static final String[] SUMMERS_RAKE_SIMPLIFIED = {
             "000001110000000000011100000",
             "000010001000000000100010000",
             "000110000100000001000011000",
@@ -351,14 +271,14 @@ public class Life {
             "000000000000000000001100000"
     };
 
-    private static final String[] SPACESHIP_SMALL = {
+    static final String[] SPACESHIP_SMALL = {
             "01111",
             "10001",
             "00001",
             "10010"
     };
 
-    private static final String[] SPACESHIP_MEDIUM = {
+    static final String[] SPACESHIP_MEDIUM = {
             "011111",
             "100001",
             "000001",
@@ -366,7 +286,7 @@ public class Life {
             "001000"
     };
 
-    private static final String[] SPACESHIP_LARGE = {
+    static final String[] SPACESHIP_LARGE = {
             "0111111",
             "1000001",
             "0000001",
@@ -374,14 +294,14 @@ public class Life {
             "0011000"
     };
 
-    private static final String[] HERSCHEL = {
+    static final String[] HERSCHEL = {
             "100",
             "101",
             "111",
             "001"
     };
 
-    private static final String[] HEPTOMINO_AGAR = {
+    static final String[] HEPTOMINO_AGAR = {
             "01110",
             "01001",
             "10001",
@@ -389,14 +309,14 @@ public class Life {
             "01000"
     };
 
-    private static final String[] EATER_1 = {
+    static final String[] EATER_1 = {
             "1100",
             "1010",
             "0010",
             "0011"
     };
 
-    private static final String[] EATER_2 = {
+    static final String[] EATER_2 = {
             "0001011",
             "0111011",
             "1000000",
@@ -406,7 +326,7 @@ public class Life {
             "0000100"
     };
 
-    private static final String[] EATER_3 = {
+    static final String[] EATER_3 = {
             "000000000110",
             "000011001001",
             "010010000101",
@@ -421,55 +341,55 @@ public class Life {
             "000000001000"
     };
 
-    private static final String[] PENTA_DECATHLON = {
+    static final String[] PENTA_DECATHLON = {
             "0010000100",
             "1101111011",
             "0010000100"
     };
 
-    private static final String[] BLOCK = {
+    static final String[] BLOCK = {
             "11",
             "11"
     };
 
-    private static final String[] TOAD = {
+    static final String[] TOAD = {
             "0111",
             "1110"
     };
 
-    private static final String[] TUB = {
+    static final String[] TUB = {
             "010",
             "101",
             "010"
     };
 
-    private static final String[] BOAT = {
+    static final String[] BOAT = {
             "010",
             "101",
             "110"
     };
 
-    private static final String[] BEEHIVE = {
+    static final String[] BEEHIVE = {
             "0110",
             "1001",
             "0110"
     };
 
-    private static final String[] LOAF = {
+    static final String[] LOAF = {
             "0110",
             "1001",
             "1010",
             "0100"
     };
 
-    private static final String[] WACKY_WAVING_INFLATABLE_ARM_FLAILING_TUBE_MAN = {
+    static final String[] WACKY_WAVING_INFLATABLE_ARM_FLAILING_TUBE_MAN = {
             "0010",
             "1100",
             "0011",
             "0100"
     };
 
-    private static final String[] CLOCK = {
+    static final String[] CLOCK = {
             "000000110000",
             "000000110000",
             "000000000000",
@@ -484,7 +404,7 @@ public class Life {
             "000011000000"
     };
 
-    private static final String[] KOKS_GALAXY = {
+    static final String[] KOKS_GALAXY = {
             "111111011",
             "111111011",
             "000000011",
@@ -496,7 +416,7 @@ public class Life {
             "110111111"
     };
 
-    private static final String[] FIGURE_EIGHT = {
+    static final String[] FIGURE_EIGHT = {
             "111000",
             "111000",
             "111000",
@@ -505,7 +425,7 @@ public class Life {
             "000111"
     };
 
-    private static final String[] MOLD = {
+    static final String[] MOLD = {
             "000110",
             "001001",
             "010101",
@@ -513,7 +433,7 @@ public class Life {
             "111000"
     };
 
-    private static final String[] QUEEN_BEE = {
+    static final String[] QUEEN_BEE = {
             "0001000",
             "0010100",
             "0100010",
@@ -521,14 +441,14 @@ public class Life {
             "1100011"
     };
 
-    private static final String[] BLOCKER = {
+    static final String[] BLOCKER = {
             "0000010000",
             "1110110011",
             "1111000011",
             "0000110000"
     };
 
-    private static int[][] OSCILLATOR_PERIOD_60() {
+    static int[][] OSCILLATOR_PERIOD_60() {
         int[][] oscillator = newBoard(8, 35, NULL);
         int[][] pentadecathlon = parsePattern(PENTA_DECATHLON);
         insertPattern(oscillator, pentadecathlon, 1, 0, ACTIVATED);
@@ -537,7 +457,7 @@ public class Life {
         return oscillator;
     }
 
-    private static int[][] QUEEN_BEE_LOOP() {
+    static int[][] QUEEN_BEE_LOOP() {
         int[][] loop = newBoard(24, 24, NULL);
         int[][] left_bee = parsePattern(QUEEN_BEE);
         insertPattern(loop, left_bee, 7, 0, ACTIVATED);
@@ -550,7 +470,7 @@ public class Life {
         return loop;
     }
 
-    private static int[][] QUEEN_BEE_QUAD_LOOP() {
+    static int[][] QUEEN_BEE_QUAD_LOOP() {
         int[][] loop = newBoard(41, 41, NULL);
         int[][] image = flipVertical(QUEEN_BEE_LOOP());
         insertPattern(loop, QUEEN_BEE_LOOP(), 0, 0, ACTIVATED);
@@ -560,7 +480,7 @@ public class Life {
         return loop;
     }
 
-    private static int[][] QUEEN_BEE_SHUTTLE() {
+    static int[][] QUEEN_BEE_SHUTTLE() {
         int[][] shuttle = newBoard(7, 22, NULL);
         int[][] block = parsePattern(BLOCK);
         insertPattern(shuttle, block, 3, 0, ACTIVATED);
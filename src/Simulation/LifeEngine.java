@@ -0,0 +1,359 @@
+package Simulation;
+
+import Exception.ExceptionMessage;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * A headless, toroidal board of a Life-like {@link LifeRule}. Each row is packed 64 cells to a
+ * {@code long}, column {@code 64w + j} being bit {@code j} of word {@code w}, so one generation works
+ * on 64 cells at a time: the live cells of every 3x3 block are summed into four bit-planes by full
+ * adders, and the rule, shifted to count the center cell, is applied to the bit-planes and the word
+ * itself. The board is double buffered, so a generation allocates nothing, and rows are split into
+ * bands that are stepped in parallel on the common {@code ForkJoinPool} when the board is large. This
+ * class is not synchronized.
+ */
+public class LifeEngine {
+    /**
+     * The number of words below which a generation is stepped on the calling thread.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private final int height, width, words, tail;
+    private final long lastMask;
+    private final LifeRule rule;
+    private final long[][] sums;
+    private final long[] flip0, flip1, flip2, flip3, born, kept;
+    private long[] cells, next;
+    private long generation;
+
+    /**
+     * Creates an empty {@code LifeEngine} that steps large boards in parallel.
+     * @param height the number of rows.
+     * @param width the number of columns.
+     * @param rule the {@code LifeRule}.
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    public LifeEngine(int height, int width, LifeRule rule) throws IllegalArgumentException {
+        this(height, width, rule, true);
+    }
+
+    /**
+     * Creates an empty {@code LifeEngine}.
+     * @param height the number of rows.
+     * @param width the number of columns.
+     * @param rule the {@code LifeRule}.
+     * @param parallel {@code true} to step large boards in parallel bands of rows, else {@code false}.
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    public LifeEngine(int height, int width, LifeRule rule, boolean parallel) throws IllegalArgumentException {
+        if(height < 1 || width < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.height = height;
+        this.width = width;
+        this.words = (width + 63) >>> 6;
+        this.tail = (width - 1) & 63;
+        this.lastMask = -1L >>> (63 - this.tail);
+        this.rule = rule;
+        this.sums = new long[parallel ? Math.min(height, Runtime.getRuntime().availableProcessors() << 2) : 1]
+                [6 * this.words];
+        this.cells = new long[height * this.words];
+        this.next = new long[this.cells.length];
+        final int counts = Integer.bitCount(rule.birth() | rule.survival() << 1);
+        this.flip0 = new long[counts];
+        this.flip1 = new long[counts];
+        this.flip2 = new long[counts];
+        this.flip3 = new long[counts];
+        this.born = new long[counts];
+        this.kept = new long[counts];
+        for(int count = 0, i = 0; count <= 9; count++) {
+            final boolean born = count <= 8 && rule.born(count), kept = count >= 1 && rule.survives(count - 1);
+            if(born || kept) {
+                this.flip0[i] = ((count & 1) != 0) ? 0 : -1L;
+                this.flip1[i] = ((count & 2) != 0) ? 0 : -1L;
+                this.flip2[i] = ((count & 4) != 0) ? 0 : -1L;
+                this.flip3[i] = ((count & 8) != 0) ? 0 : -1L;
+                this.born[i] = born ? -1L : 0;
+                this.kept[i] = kept ? -1L : 0;
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Advances the board by one generation.
+     */
+    public void step() {
+        final int bands = this.sums.length;
+        if(bands > 1 && this.cells.length >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, bands).parallel().forEach(band -> stepRows((int) ((long) band * this.height / bands),
+                    (int) ((long) (band + 1) * this.height / bands), this.sums[band]));
+        } else {
+            stepRows(0, this.height, this.sums[0]);
+        }
+        final long[] swap = this.cells;
+        this.cells = this.next;
+        this.next = swap;
+        this.generation++;
+    }
+
+    /**
+     * Advances the board by a number of generations, handing the board to a renderer after each one.
+     * @param generations the number of generations.
+     * @param render the renderer, or {@code null} to render nothing.
+     */
+    public void step(int generations, Consumer<LifeEngine> render) {
+        for(int i = 0; i < generations; i++) {
+            step();
+            if(render != null) {
+                render.accept(this);
+            }
+        }
+    }
+
+    /**
+     * Computes the next generation of a band of rows into the back buffer. Each row is summed across once,
+     * into two bit-planes of the number of live cells among a cell and its west and east neighbors; the
+     * sums of three consecutive rows then add into four bit-planes of the live cells in each 3x3 block,
+     * to which the rule is applied. Bands only read the front buffer and write their own rows, so they may
+     * run concurrently.
+     * @param from the first row.
+     * @param to the row after the last.
+     * @param sums the scratch space of the band, holding the sums of three rows.
+     */
+    private void stepRows(int from, int to, long[] sums) {
+        final long[] cells = this.cells, next = this.next;
+        final long[] flip0 = this.flip0, flip1 = this.flip1, flip2 = this.flip2, flip3 = this.flip3,
+                born = this.born, kept = this.kept;
+        final int words = this.words, last = words - 1;
+        int above = 0, middle = words << 1, below = words << 2;
+        sumRow((from == 0) ? this.height - 1 : from - 1, sums, above);
+        sumRow(from, sums, middle);
+        for(int row = from; row < to; row++) {
+            sumRow((row == this.height - 1) ? 0 : row + 1, sums, below);
+            for(int w = 0, cell = row * words; w < words; w++, cell++) {
+                final long alive = cells[cell], above0 = sums[above + w], above1 = sums[above + words + w],
+                        middle0 = sums[middle + w], middle1 = sums[middle + words + w], below0 = sums[below + w],
+                        below1 = sums[below + words + w];
+                final long ones = above0 ^ below0, sum0 = ones ^ middle0, carry = above0 & below0 | middle0 & ones;
+                final long twos = above1 ^ below1, fours = above1 & below1, twosCarry = middle1 ^ carry,
+                        foursCarry = middle1 & carry, sum1 = twos ^ twosCarry, foursSum = twos & twosCarry;
+                final long sum2 = fours ^ foursCarry ^ foursSum,
+                        sum3 = fours & foursCarry | foursSum & (fours ^ foursCarry);
+                long result = 0;
+                for(int i = 0; i < born.length; i++) {
+                    final long equal = (sum0 ^ flip0[i]) & (sum1 ^ flip1[i]) & (sum2 ^ flip2[i]) & (sum3 ^ flip3[i]);
+                    result |= equal & (born[i] & ~alive | kept[i] & alive);
+                }
+                next[cell] = (w == last) ? result & this.lastMask : result;
+            }
+            final int rolled = above;
+            above = middle;
+            middle = below;
+            below = rolled;
+        }
+    }
+
+    /**
+     * Sums each cell of a row with its west and east neighbors, wrapping around the edges.
+     * @param row the row.
+     * @param sums the scratch space, receiving the low bit-plane at {@code offset} and the high one
+     *             right after it.
+     * @param offset the index of the sums in the scratch space.
+     */
+    private void sumRow(int row, long[] sums, int offset) {
+        final long[] cells = this.cells;
+        final int words = this.words, last = words - 1, start = row * words;
+        long previous = cells[start + last] >>> this.tail & 1, word = cells[start];
+        for(int w = 0; w < words; w++) {
+            final long following = (w == last) ? (cells[start] & 1) << this.tail : cells[start + w + 1] << 63;
+            final long west = word << 1 | previous, east = word >>> 1 | following, both = west ^ word;
+            sums[offset + w] = both ^ east;
+            sums[offset + words + w] = west & word | east & both;
+            previous = word >>> 63;
+            word = (w == last) ? 0 : cells[start + w + 1];
+        }
+    }
+
+    /**
+     * Checks whether a cell is alive.
+     * @param row the row.
+     * @param column the column.
+     * @return {@code true} if the cell is alive, else {@code false}.
+     * @throws IllegalArgumentException if the cell is outside the board.
+     */
+    public boolean get(int row, int column) throws IllegalArgumentException {
+        return (this.cells[index(row, column)] >>> column & 1) != 0;
+    }
+
+    /**
+     * Sets the state of a cell.
+     * @param row the row.
+     * @param column the column.
+     * @param alive {@code true} for a live cell, else {@code false}.
+     * @throws IllegalArgumentException if the cell is outside the board.
+     */
+    public void set(int row, int column, boolean alive) throws IllegalArgumentException {
+        final int index = index(row, column);
+        if(alive) {
+            this.cells[index] |= 1L << column;
+        } else {
+            this.cells[index] &= ~(1L << column);
+        }
+    }
+
+    /**
+     * Finds the word holding a cell.
+     * @param row the row.
+     * @param column the column.
+     * @return the index of the word in the board.
+     * @throws IllegalArgumentException if the cell is outside the board.
+     */
+    private int index(int row, int column) throws IllegalArgumentException {
+        if(row < 0 || row >= this.height || column < 0 || column >= this.width) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return row * this.words + (column >>> 6);
+    }
+
+    /**
+     * Brings the live cells of a pattern to life, wrapping around the edges of the board.
+     * @param pattern the rows of the pattern, {@code '1'} for a live cell.
+     * @param row the row of the top of the pattern.
+     * @param column the column of the left of the pattern.
+     */
+    public void insert(String[] pattern, int row, int column) {
+        for(int i = 0; i < pattern.length; i++) {
+            for(int j = 0; j < pattern[i].length(); j++) {
+                if(pattern[i].charAt(j) == '1') {
+                    set(Math.floorMod(row + i, this.height), Math.floorMod(column + j, this.width), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Brings the live cells of a pattern to life, wrapping around the edges of the board.
+     * @param pattern the rows of the pattern, {@code 1} for a live cell.
+     * @param row the row of the top of the pattern.
+     * @param column the column of the left of the pattern.
+     */
+    public void insert(int[][] pattern, int row, int column) {
+        for(int i = 0; i < pattern.length; i++) {
+            for(int j = 0; j < pattern[i].length; j++) {
+                if(pattern[i][j] == 1) {
+                    set(Math.floorMod(row + i, this.height), Math.floorMod(column + j, this.width), true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Brings each cell to life with probability one half.
+     * @param random the source of randomness.
+     */
+    public void randomize(Random random) {
+        for(int i = 0; i < this.cells.length; i++) {
+            this.cells[i] = random.nextLong();
+            if(i % this.words == this.words - 1) {
+                this.cells[i] &= this.lastMask;
+            }
+        }
+    }
+
+    /**
+     * Kills every cell and resets the generation.
+     */
+    public void clear() {
+        Arrays.fill(this.cells, 0);
+        this.generation = 0;
+    }
+
+    /**
+     * Counts the live cells.
+     * @return the population.
+     */
+    public long population() {
+        long population = 0;
+        for(long word : this.cells) {
+            population += Long.bitCount(word);
+        }
+        return population;
+    }
+
+    /**
+     * Gets a word of packed cells, for renderers.
+     * @param row the row.
+     * @param word the index of the word in the row, covering columns {@code 64 * word} onward.
+     * @return the word, with bits beyond the width clear.
+     */
+    public long word(int row, int word) {
+        return this.cells[row * this.words + word];
+    }
+
+    /**
+     * Gets the number of words per row.
+     * @return {@code ceil(width / 64)}
+     */
+    public int words() {
+        return this.words;
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return the height.
+     */
+    public int height() {
+        return this.height;
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return the width.
+     */
+    public int width() {
+        return this.width;
+    }
+
+    /**
+     * Gets the rule of the board.
+     * @return the {@code LifeRule}.
+     */
+    public LifeRule rule() {
+        return this.rule;
+    }
+
+    /**
+     * Gets the number of generations stepped since creation or the last {@link #clear()}.
+     * @return the generation.
+     */
+    public long generation() {
+        return this.generation;
+    }
+
+    /**
+     * Converts this {@code LifeEngine} to a printable format.
+     * @return the rows of the board, {@code 1} for a live cell.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder((this.width + 1) * this.height);
+        for(int row = 0; row < this.height; row++) {
+            for(int column = 0; column < this.width; column++) {
+                builder.append(get(row, column) ? '1' : '0');
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code LifeEngine}.
+     */
+    public void print() {
+        System.out.print(this);
+    }
+}
@@ -0,0 +1,147 @@
+package Simulation;
+
+import Exception.ExceptionMessage;
+
+/**
+ * A Life-like rule in B/S notation over the eight cells of the Moore neighborhood: a dead cell is born
+ * when its number of live neighbors is in the birth set, and a live cell survives when it is in the
+ * survival set. Each set is a bitmask over the counts {@code 0} through {@code 8}.
+ * @param birth the counts that bring a dead cell to life, bit {@code k} standing for {@code k} neighbors.
+ * @param survival the counts that keep a live cell alive.
+ */
+public record LifeRule(int birth, int survival) {
+    /**
+     * The mask of every count from {@code 0} to {@code 8}.
+     */
+    private static final int COUNTS = (1 << 9) - 1;
+
+    /**
+     * Conway's Game of Life, {@code B3/S23}.
+     */
+    public static final LifeRule CONWAY = new LifeRule(1 << 3, 1 << 2 | 1 << 3);
+
+    /**
+     * Creates a {@code LifeRule}.
+     * @param birth the counts that bring a dead cell to life.
+     * @param survival the counts that keep a live cell alive.
+     * @throws IllegalArgumentException if either mask has a count above {@code 8}.
+     */
+    public LifeRule {
+        if((birth & ~COUNTS) != 0 || (survival & ~COUNTS) != 0) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+    }
+
+    /**
+     * Creates a {@code LifeRule} from lists of counts. Only the neighborhood of distance {@code 1} is
+     * supported, which is what the neighbor counts of {@link LifeEngine} are built for.
+     * @param neighborhood the distance of the furthest neighbors, which must be {@code 1}.
+     * @param revive the counts that bring a dead cell to life.
+     * @param sustain the counts that keep a live cell alive, besides those that revive it.
+     * @return the {@code LifeRule}.
+     * @throws IllegalArgumentException if the neighborhood is not {@code 1} or a count is outside
+     * {@code [0, 8]}.
+     */
+    public static LifeRule of(int neighborhood, int[] revive, int[] sustain) throws IllegalArgumentException {
+        if(neighborhood != 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final int birth = mask(revive);
+        return new LifeRule(birth, birth | mask(sustain));
+    }
+
+    /**
+     * Parses a rule in B/S notation, such as {@code B3/S23} or {@code B36/S23}.
+     * @param rule the rule, case insensitive.
+     * @return the {@code LifeRule}.
+     * @throws IllegalArgumentException if the rule is malformed.
+     */
+    public static LifeRule parse(String rule) throws IllegalArgumentException {
+        final String[] parts = rule.trim().toUpperCase().split("/");
+        if(parts.length != 2 || ! parts[0].startsWith("B") || ! parts[1].startsWith("S")) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        return new LifeRule(digits(parts[0].substring(1)), digits(parts[1].substring(1)));
+    }
+
+    /**
+     * Converts counts to a bitmask.
+     * @param counts the counts.
+     * @return the bitmask.
+     * @throws IllegalArgumentException if a count is outside {@code [0, 8]}.
+     */
+    private static int mask(int[] counts) throws IllegalArgumentException {
+        int mask = 0;
+        for(int count : counts) {
+            if(count < 0 || count > 8) {
+                throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+            mask |= 1 << count;
+        }
+        return mask;
+    }
+
+    /**
+     * Converts a run of digits to a bitmask.
+     * @param digits the digits, each in {@code [0, 8]}.
+     * @return the bitmask.
+     * @throws IllegalArgumentException if a character is not such a digit.
+     */
+    private static int digits(String digits) throws IllegalArgumentException {
+        int mask = 0;
+        for(int i = 0; i < digits.length(); i++) {
+            final int count = digits.charAt(i) - '0';
+            if(count < 0 || count > 8) {
+                throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+            mask |= 1 << count;
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether a dead cell is born.
+     * @param count the number of live neighbors.
+     * @return {@code true} if the cell comes to life, else {@code false}.
+     */
+    public boolean born(int count) {
+        return (this.birth >>> count & 1) != 0;
+    }
+
+    /**
+     * Checks whether a live cell survives.
+     * @param count the number of live neighbors.
+     * @return {@code true} if the cell stays alive, else {@code false}.
+     */
+    public boolean survives(int count) {
+        return (this.survival >>> count & 1) != 0;
+    }
+
+    /**
+     * Converts this {@code LifeRule} to B/S notation.
+     * @return this {@code LifeRule} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("B");
+        for(int count = 0; count <= 8; count++) {
+            if(born(count)) {
+                builder.append(count);
+            }
+        }
+        builder.append("/S");
+        for(int count = 0; count <= 8; count++) {
+            if(survives(count)) {
+                builder.append(count);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code LifeRule}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
@@ -0,0 +1,62 @@
+package Simulation;
+
+import Exception.ExceptionMessage;
+
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.function.Consumer;
+
+/**
+ * A window that shows a {@link LifeEngine}, to be passed as its renderer. The frame, label and image are
+ * created once, and each rendering writes the packed cells straight into the pixels of the image and
+ * repaints the label.
+ */
+public class LifeView implements Consumer<LifeEngine> {
+    private static final int ALIVE = 0x000000, DEAD = 0xFFFFFF;
+    private final int height, width;
+    private final int[] pixels;
+    private final JLabel label;
+
+    /**
+     * Creates and shows a {@code LifeView} sized to a board.
+     * @param engine the {@code LifeEngine}, which is drawn once.
+     */
+    public LifeView(LifeEngine engine) {
+        this.height = engine.height();
+        this.width = engine.width();
+        final BufferedImage image = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.label = new JLabel(new ImageIcon(image));
+        accept(engine);
+        final JFrame frame = new JFrame(engine.rule().toString());
+        final JPanel panel = new JPanel();
+        panel.add(this.label);
+        frame.add(panel);
+        frame.pack();
+        frame.setVisible(true);
+        frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+    }
+
+    /**
+     * Draws the current generation of a board.
+     * @param engine the {@code LifeEngine}.
+     * @throws IllegalArgumentException if the board is not the size of this {@code LifeView}.
+     */
+    @Override
+    public void accept(LifeEngine engine) throws IllegalArgumentException {
+        if(engine.height() != this.height || engine.width() != this.width) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        for(int row = 0; row < this.height; row++) {
+            for(int w = 0, pixel = row * this.width; w < engine.words(); w++) {
+                final long word = engine.word(row, w);
+                final int end = Math.min(64, this.width - (w << 6));
+                for(int bit = 0; bit < end; bit++) {
+                    this.pixels[pixel++] = ((word >>> bit & 1) != 0) ? ALIVE : DEAD;
+                }
+            }
+        }
+        this.label.repaint();
+    }
+}
@@ -3,6 +3,8 @@ import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.*;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.swing.*;
 
 public class Mandelbrot {
@@ -14,6 +16,8 @@ public class Mandelbrot {
     public static final FractalRange frame = new FractalRange();
     public static final JPanel panel = new JPanel(), buttonPanel = new JPanel(), mainPanel = new JPanel();														//previewWindow may be moved to label?
     public static final BufferedImage image = new BufferedImage(LENGTH, LENGTH, BufferedImage.TYPE_INT_RGB);
+    public static final MandelbrotPyramid pyramid = new MandelbrotPyramid(1 << 10);
+    public static final ExecutorService painter = Executors.newSingleThreadExecutor();
     public static JLabel label;
     public static final JButton forward = new JButton("»"), reverse = new JButton("«");
 
@@ -52,18 +56,22 @@ public class Mandelbrot {
     }
 
     /**
-     * Coordinates the pixel settings and reloads the image
+     * Coordinates the pixel settings and reloads the image. The view is snapped onto the pyramid so that
+     * clicks map onto the pixels drawn, and is rendered on the painter thread so that the coarse pass is
+     * shown while the event thread stays free
      */
     public static void mainHelperMethod() {
-        for(int i = 0; i < LENGTH; i++) {
-            for(int j = 0; j < LENGTH; j++) {
-                image.setRGB(i, j, getColorRGB(iterations(toComp(i, j))));
-            }
-        }
+        final MandelbrotView view = MandelbrotPyramid.snap(MandelbrotView.of(shift[0], shift[1],
+                4 * dilate[0] / (LENGTH - 1.0), LENGTH, LENGTH, ITERATIONS));
+        dilate = toComp(view.spacing() * (LENGTH - 1.0) / 4);
+        shift = toComp(view.real().doubleValue(), view.imaginary().doubleValue());
         System.out.println(toString(dilate) + ", " + toString(shift));
-        label = new JLabel(new ImageIcon(image));
-        panel.add(label);
+        final JLabel shown = new JLabel(new ImageIcon(image));
+        label = shown;
+        panel.add(shown);
         frame.pack();
+        painter.execute(() -> pyramid.render(view, ((DataBufferInt) image.getRaster().getDataBuffer()).getData(),
+                Mandelbrot::getColorRGB, raster -> SwingUtilities.invokeLater(shown::repaint)));
     }
 
     /**
@@ -0,0 +1,349 @@
+package Simulation;
+
+import DataSet.FixedCacheStack;
+import Exception.ExceptionMessage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Renders {@link MandelbrotView MandelbrotViews} from a pyramid of cached tiles, so that views seen before,
+ * such as those of a zoom history, are drawn again without iterating. Level {@code L} of the pyramid
+ * samples the plane at a spacing of {@code 2^-L}, and is cut into square tiles on a grid anchored at the
+ * origin; a view is drawn from the finest level no coarser than itself, each pixel taking its nearest
+ * sample. Tiles live in an LRU {@link FixedCacheStack} and, optionally, in files of a directory that
+ * outlive the cache.
+ * <p>
+ * A tile remembers the iteration cap it was rendered under. A lower cap is answered from it without
+ * iterating, since a count below the cap stands and any other point stays, and a higher cap only iterates
+ * again the points that stayed. Missing pixels of a level are rendered together by one
+ * {@link MandelbrotRenderer#fill(MandelbrotView, int[])} around one reference orbit. Rendering is
+ * progressive: a coarse level is drawn and shown first, then the level of the view. This class is not
+ * synchronized.
+ * <p>
+ * The first visit costs more than rendering the view directly: every tile the view touches is rendered
+ * whole, and a view between two levels is sampled up to twice as finely on each axis and resampled, so
+ * that its pixels may differ from a direct rendering. Views passed through {@link #snap(MandelbrotView)}
+ * sit on the grid of a level, so their pixels are samples and only the margins of the edge tiles are
+ * extra work.
+ */
+public class MandelbrotPyramid {
+    /**
+     * The side of a tile, in samples.
+     */
+    public static final int TILE = 128;
+    /**
+     * The number of levels between the coarse pass and the level of a view.
+     */
+    public static final int COARSE_LEVELS = 3;
+    private static final int MAGIC = 0x4D425431;
+    private static final BigInteger SIDE = BigInteger.valueOf(TILE);
+    private final MandelbrotRenderer renderer;
+    private final FixedCacheStack<TileKey, Tile> cache;
+    private final Path directory;
+    private long rendered, reused;
+
+    /**
+     * The position of a tile in the pyramid.
+     * @param level the level, whose spacing is {@code 2^-level}.
+     * @param x the column of the tile, covering samples {@code TILE * x} onward.
+     * @param y the row of the tile.
+     */
+    private record TileKey(int level, BigInteger x, BigInteger y) {}
+
+    /**
+     * The samples of a tile.
+     * @param maxIterations the iteration cap the samples were rendered under.
+     * @param counts the iteration counts, {@code TILE * TILE} in row-major order.
+     */
+    private record Tile(int maxIterations, int[] counts) {}
+
+    /**
+     * Creates a {@code MandelbrotPyramid} in memory only.
+     * @param capacity the number of tiles kept in memory.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public MandelbrotPyramid(int capacity) throws IllegalArgumentException {
+        this(new MandelbrotRenderer(), capacity, null);
+    }
+
+    /**
+     * Creates a {@code MandelbrotPyramid}.
+     * @param renderer the {@code MandelbrotRenderer} of missing samples.
+     * @param capacity the number of tiles kept in memory.
+     * @param directory the directory that keeps every tile rendered, or {@code null} to keep tiles in
+     *                  memory only.
+     * @throws IllegalArgumentException if the capacity is not positive.
+     */
+    public MandelbrotPyramid(MandelbrotRenderer renderer, int capacity, Path directory) throws IllegalArgumentException {
+        this.renderer = renderer;
+        this.cache = new FixedCacheStack<>(capacity, FixedCacheStack.Policy.LRU);
+        this.directory = directory;
+    }
+
+    /**
+     * Moves a view onto the grid of the nearest level, so that each pixel is a sample of the pyramid.
+     * @param view the {@code MandelbrotView}.
+     * @return the {@code MandelbrotView} with the spacing rounded to the nearest power of two and the
+     * center moved to the nearest point that puts every pixel on a sample.
+     * @throws IllegalArgumentException if the rounded spacing is out of range.
+     */
+    public static MandelbrotView snap(MandelbrotView view) throws IllegalArgumentException {
+        final int level = -Math.getExponent(view.spacing() * Math.sqrt(2));
+        return new MandelbrotView(snap(view.real(), level, view.width()), snap(view.imaginary(), level, view.height()),
+                Math.scalb(1.0, -level), view.width(), view.height(), view.maxIterations());
+    }
+
+    /**
+     * Renders a view into a raster, drawing a coarse level first if anyone is watching.
+     * @param view the {@code MandelbrotView}.
+     * @param raster the raster, of at least {@code width * height} entries in row-major order.
+     * @param palette the mapping from iteration counts to raster entries.
+     * @param progress called with the raster after each pass, or {@code null} to draw only the level of
+     *                 the view.
+     * @throws IllegalArgumentException if the raster is too small.
+     * @throws UncheckedIOException if a tile cannot be read from or written to the directory.
+     */
+    public void render(MandelbrotView view, int[] raster, IntUnaryOperator palette, Consumer<int[]> progress)
+            throws IllegalArgumentException, UncheckedIOException {
+        if(raster.length < view.width() * view.height()) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final int level = -Math.getExponent(view.spacing());
+        if(progress != null) {
+            pass(view, level - COARSE_LEVELS, raster, palette);
+            progress.accept(raster);
+        }
+        pass(view, level, raster, palette);
+        if(progress != null) {
+            progress.accept(raster);
+        }
+    }
+
+    /**
+     * Draws a view from one level, rendering the samples that no cached tile can answer.
+     * @param view the {@code MandelbrotView}.
+     * @param level the level.
+     * @param raster the raster.
+     * @param palette the mapping from iteration counts to raster entries.
+     * @throws UncheckedIOException if a tile cannot be read or written.
+     */
+    private void pass(MandelbrotView view, int level, int[] raster, IntUnaryOperator palette)
+            throws UncheckedIOException {
+        final double spacing = Math.scalb(1.0, -level);
+        final BigDecimal scale = new BigDecimal(Math.scalb(1.0, level));
+        final BigDecimal scaledX = view.real().multiply(scale), scaledY = view.imaginary().multiply(scale);
+        final BigInteger centerX = scaledX.setScale(0, RoundingMode.FLOOR).toBigInteger(),
+                centerY = scaledY.setScale(0, RoundingMode.FLOOR).toBigInteger();
+        final double fractionX = scaledX.subtract(new BigDecimal(centerX)).doubleValue(),
+                fractionY = scaledY.subtract(new BigDecimal(centerY)).doubleValue();
+        final long[] columns = new long[view.width()], rows = new long[view.height()];
+        for(int x = 0; x < columns.length; x++) {
+            columns[x] = Math.round(fractionX + view.offsetX(x) / spacing);
+        }
+        for(int y = 0; y < rows.length; y++) {
+            rows[y] = Math.round(fractionY + view.offsetY(y) / spacing);
+        }
+        final BigInteger left = floorDiv(centerX.add(BigInteger.valueOf(columns[0]))),
+                top = floorDiv(centerY.add(BigInteger.valueOf(rows[0])));
+        final int across = floorDiv(centerX.add(BigInteger.valueOf(columns[columns.length - 1]))).subtract(left)
+                .intValueExact() + 1, down = floorDiv(centerY.add(BigInteger.valueOf(rows[rows.length - 1])))
+                .subtract(top).intValueExact() + 1;
+        final int width = across * TILE, height = down * TILE;
+        final int[] box = new int[width * height];
+        final boolean[] stale = new boolean[across * down];
+        boolean missing = false;
+        for(int ty = 0; ty < down; ty++) {
+            for(int tx = 0; tx < across; tx++) {
+                final TileKey key = new TileKey(level, left.add(BigInteger.valueOf(tx)), top.add(BigInteger.valueOf(ty)));
+                final Tile tile = load(key);
+                final int origin = ty * TILE * width + tx * TILE;
+                if(tile == null) {
+                    for(int row = 0; row < TILE; row++) {
+                        Arrays.fill(box, origin + row * width, origin + row * width + TILE, -1);
+                    }
+                } else {
+                    for(int row = 0; row < TILE; row++) {
+                        for(int column = 0; column < TILE; column++) {
+                            final int count = tile.counts[row * TILE + column];
+                            box[origin + row * width + column] = (tile.maxIterations >= view.maxIterations())
+                                    ? ((count < view.maxIterations()) ? count : 0)
+                                    : ((count == 0) ? -1 : count);
+                        }
+                    }
+                }
+                stale[ty * across + tx] = tile == null || tile.maxIterations < view.maxIterations();
+                missing |= stale[ty * across + tx];
+                this.reused += stale[ty * across + tx] ? 0 : 1;
+            }
+        }
+        if(missing) {
+            final BigInteger startX = left.multiply(SIDE), startY = top.multiply(SIDE);
+            final BigDecimal half = new BigDecimal(Math.scalb(1.0, -level - 1));
+            this.renderer.fill(new MandelbrotView(new BigDecimal(startX.shiftLeft(1).add(BigInteger.valueOf(width - 1)))
+                    .multiply(half), new BigDecimal(startY.shiftLeft(1).add(BigInteger.valueOf(height - 1))).multiply(half),
+                    spacing, width, height, view.maxIterations()), box);
+            for(int ty = 0; ty < down; ty++) {
+                for(int tx = 0; tx < across; tx++) {
+                    if(stale[ty * across + tx]) {
+                        final int[] counts = new int[TILE * TILE];
+                        for(int row = 0; row < TILE; row++) {
+                            System.arraycopy(box, (ty * TILE + row) * width + tx * TILE, counts, row * TILE, TILE);
+                        }
+                        store(new TileKey(level, left.add(BigInteger.valueOf(tx)), top.add(BigInteger.valueOf(ty))),
+                                new Tile(view.maxIterations(), counts));
+                        this.rendered++;
+                    }
+                }
+            }
+        }
+        final int offsetX = centerX.subtract(left.multiply(SIDE)).intValueExact(),
+                offsetY = centerY.subtract(top.multiply(SIDE)).intValueExact();
+        for(int y = 0; y < rows.length; y++) {
+            final int row = (int) (offsetY + rows[y]) * width;
+            for(int x = 0; x < columns.length; x++) {
+                raster[y * view.width() + x] = palette.applyAsInt(box[row + (int) (offsetX + columns[x])]);
+            }
+        }
+    }
+
+    /**
+     * Moves a coordinate of a center onto the grid of a level, or halfway between two samples for an even
+     * number of pixels.
+     * @param center the coordinate.
+     * @param level the level.
+     * @param pixels the number of pixels along the axis.
+     * @return the nearest such coordinate.
+     */
+    private static BigDecimal snap(BigDecimal center, int level, int pixels) {
+        final BigDecimal scale = new BigDecimal(Math.scalb(1.0, level)), half = new BigDecimal(Math.scalb(1.0, -level - 1));
+        if(pixels % 2 == 1) {
+            return new BigDecimal(center.multiply(scale).setScale(0, RoundingMode.HALF_EVEN).toBigInteger().shiftLeft(1))
+                    .multiply(half);
+        }
+        return new BigDecimal(center.multiply(scale).setScale(0, RoundingMode.FLOOR).toBigInteger().shiftLeft(1)
+                .add(BigInteger.ONE)).multiply(half);
+    }
+
+    /**
+     * Finds the tile of a sample.
+     * @param sample the column or row of the sample.
+     * @return the column or row of the tile, rounding toward negative infinity.
+     */
+    private static BigInteger floorDiv(BigInteger sample) {
+        final BigInteger[] division = sample.divideAndRemainder(SIDE);
+        return (division[1].signum() < 0) ? division[0].subtract(BigInteger.ONE) : division[0];
+    }
+
+    /**
+     * Finds a tile in memory or, failing that, in the directory.
+     * @param key the {@code TileKey}.
+     * @return the {@code Tile}, or {@code null} if it was never rendered.
+     * @throws UncheckedIOException if the file of the tile cannot be read.
+     */
+    private Tile load(TileKey key) throws UncheckedIOException {
+        Tile tile = this.cache.get(key);
+        if(tile != null || this.directory == null) {
+            return tile;
+        }
+        final Path file = file(key);
+        if(! Files.exists(file)) {
+            return null;
+        }
+        try(DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if(stream.readInt() != MAGIC || stream.readInt() != TILE) {
+                return null;
+            }
+            final int maxIterations = stream.readInt();
+            final int[] counts = new int[TILE * TILE];
+            for(int i = 0; i < counts.length; i++) {
+                counts[i] = stream.readInt();
+            }
+            tile = new Tile(maxIterations, counts);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.cache.put(key, tile);
+        return tile;
+    }
+
+    /**
+     * Keeps a tile in memory and in the directory.
+     * @param key the {@code TileKey}.
+     * @param tile the {@code Tile}.
+     * @throws UncheckedIOException if the file of the tile cannot be written.
+     */
+    private void store(TileKey key, Tile tile) throws UncheckedIOException {
+        this.cache.put(key, tile);
+        if(this.directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(this.directory);
+            try(DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file(key))))) {
+                stream.writeInt(MAGIC);
+                stream.writeInt(TILE);
+                stream.writeInt(tile.maxIterations);
+                for(int count : tile.counts) {
+                    stream.writeInt(count);
+                }
+            }
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Finds the file of a tile in the directory.
+     * @param key the {@code TileKey}.
+     * @return the path of the file.
+     */
+    private Path file(TileKey key) {
+        return this.directory.resolve(key.level() + "_" + key.x() + "_" + key.y() + ".tile");
+    }
+
+    /**
+     * Gets the number of tiles rendered or iterated again so far.
+     * @return the number of tiles rendered.
+     */
+    public long rendered() {
+        return this.rendered;
+    }
+
+    /**
+     * Gets the number of tiles answered from memory or the directory so far.
+     * @return the number of tiles reused.
+     */
+    public long reused() {
+        return this.reused;
+    }
+
+    /**
+     * Converts this {@code MandelbrotPyramid} to a printable format.
+     * @return the numbers of tiles cached, rendered and reused.
+     */
+    @Override
+    public String toString() {
+        return "cached=" + this.cache.size() + ", rendered=" + this.rendered + ", reused=" + this.reused
+                + ((this.directory == null) ? "" : ", directory=" + this.directory);
+    }
+
+    /**
+     * Prints this {@code MandelbrotPyramid}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
@@ -0,0 +1,364 @@
+package Simulation;
+
+import Exception.ExceptionMessage;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Renders {@link MandelbrotView MandelbrotViews} into {@code int} rasters, one entry per pixel in row-major
+ * order. Each pixel gets the number of iterations before its orbit leaves the disk of radius {@code 2},
+ * or {@code 0} if it stays for the whole iteration cap, as in {@link Mandelbrot#iterations(double[])},
+ * optionally mapped through a palette. The raster is split into square tiles that are rendered on a
+ * {@code ForkJoinPool}, and the inner loops iterate on primitive {@code double}s without allocation.
+ * Points in the main cardioid and the period-2 bulb are found without iterating, and orbits that fall
+ * into a cycle are caught by comparing them with a point saved at doubling intervals.
+ * <p>
+ * Once the pixel spacing is too fine for {@code double} coordinates, pixels are iterated as perturbations
+ * of a single reference orbit through the center, computed in {@code BigDecimal} to the precision of the
+ * view and kept for later views with the same center. The first iterations of every pixel are skipped
+ * with a cubic series in the offset of the pixel, and a pixel whose orbit comes closer to {@code 0} than
+ * to the reference, or outlives it, is rebased onto the start of the reference, which avoids glitches.
+ * Offsets must still be normal {@code double}s, which bounds the depth of a zoom.
+ */
+public class MandelbrotRenderer {
+    /**
+     * The default pixel spacing below which pixels are iterated by perturbation.
+     */
+    public static final double DIRECT_LIMIT = 1e-8;
+    private static final int TILE = 32;
+    private static final double SERIES_TOLERANCE = 1e-9;
+    private final ForkJoinPool pool;
+    private final double directLimit;
+    private Orbit orbit;
+
+    /**
+     * An orbit of the center of a view, iterated exactly and rounded to {@code double}s.
+     */
+    private static final class Orbit {
+        private final BigDecimal real, imaginary;
+        private final int precision, maxIterations, length;
+        private final double[] zr, zi;
+
+        /**
+         * Iterates the orbit of a point until it escapes or reaches the iteration cap.
+         * @param real the real part of the point.
+         * @param imaginary the imaginary part of the point.
+         * @param precision the number of significant digits.
+         * @param maxIterations the iteration cap.
+         */
+        private Orbit(BigDecimal real, BigDecimal imaginary, int precision, int maxIterations) {
+            this.real = real;
+            this.imaginary = imaginary;
+            this.precision = precision;
+            this.maxIterations = maxIterations;
+            this.zr = new double[maxIterations + 1];
+            this.zi = new double[maxIterations + 1];
+            final MathContext context = new MathContext(precision);
+            final BigDecimal two = BigDecimal.valueOf(2);
+            BigDecimal x = BigDecimal.ZERO, y = BigDecimal.ZERO;
+            int n = 0;
+            while(n < maxIterations) {
+                final double xd = x.doubleValue(), yd = y.doubleValue();
+                if(xd * xd + yd * yd > 4) {
+                    break;
+                }
+                final BigDecimal next = x.multiply(x, context).subtract(y.multiply(y, context), context).add(real, context);
+                y = two.multiply(x, context).multiply(y, context).add(imaginary, context);
+                x = next;
+                n++;
+                this.zr[n] = x.doubleValue();
+                this.zi[n] = y.doubleValue();
+            }
+            this.length = n;
+        }
+    }
+
+    /**
+     * The shared state of one rendering.
+     * @param view the view.
+     * @param raster the raster.
+     * @param palette the mapping from iterations to raster entries.
+     * @param real the real part of the center, rounded.
+     * @param imaginary the imaginary part of the center, rounded.
+     * @param orbit the reference orbit, or {@code null} to iterate directly.
+     * @param skip the number of iterations skipped by the series.
+     * @param series the coefficients of the series, real and imaginary parts of the linear, quadratic
+     *               and cubic terms.
+     * @param tolerance the distance under which an orbit is taken to have returned to a saved point.
+     * @param missing {@code true} to render only the pixels whose entries are negative, else {@code false}.
+     */
+    private record Frame(MandelbrotView view, int[] raster, IntUnaryOperator palette, double real,
+                         double imaginary, Orbit orbit, int skip, double[] series, double tolerance,
+                         boolean missing) {}
+
+    /**
+     * Renders a range of tiles, splitting it in half until one tile remains.
+     */
+    private static final class Tiles extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final Frame frame;
+        private final int from, to;
+
+        /**
+         * Creates a {@code Tiles} task.
+         * @param frame the rendering.
+         * @param from the first tile.
+         * @param to the tile after the last.
+         */
+        private Tiles(Frame frame, int from, int to) {
+            this.frame = frame;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Renders the tiles.
+         */
+        @Override
+        protected void compute() {
+            if(this.to - this.from > 1) {
+                final int mid = (this.from + this.to) >>> 1;
+                invokeAll(new Tiles(this.frame, this.from, mid), new Tiles(this.frame, mid, this.to));
+                return;
+            }
+            final MandelbrotView view = this.frame.view;
+            final int across = (view.width() + TILE - 1) / TILE, left = this.from % across * TILE,
+                    top = this.from / across * TILE;
+            for(int y = top; y < Math.min(top + TILE, view.height()); y++) {
+                final double dy = view.offsetY(y);
+                for(int x = left; x < Math.min(left + TILE, view.width()); x++) {
+                    if(this.frame.missing && this.frame.raster[y * view.width() + x] >= 0) {
+                        continue;
+                    }
+                    final double dx = view.offsetX(x);
+                    final int iterations = (this.frame.orbit == null)
+                            ? direct(this.frame.real + dx, this.frame.imaginary + dy, view.maxIterations(), this.frame.tolerance)
+                            : perturbed(this.frame, dx, dy);
+                    this.frame.raster[y * view.width() + x] = this.frame.palette.applyAsInt(iterations);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a {@code MandelbrotRenderer} on the common {@code ForkJoinPool}.
+     */
+    public MandelbrotRenderer() {
+        this(ForkJoinPool.commonPool(), DIRECT_LIMIT);
+    }
+
+    /**
+     * Creates a {@code MandelbrotRenderer}.
+     * @param pool the pool that renders the tiles.
+     * @param directLimit the pixel spacing below which pixels are iterated by perturbation.
+     */
+    public MandelbrotRenderer(ForkJoinPool pool, double directLimit) {
+        this.pool = pool;
+        this.directLimit = directLimit;
+    }
+
+    /**
+     * Renders the iteration counts of a view into a new raster.
+     * @param view the {@code MandelbrotView}.
+     * @return the raster, {@code width * height} entries in row-major order.
+     */
+    public int[] render(MandelbrotView view) {
+        final int[] raster = new int[view.width() * view.height()];
+        render(view, raster, IntUnaryOperator.identity());
+        return raster;
+    }
+
+    /**
+     * Renders a view into a raster, such as the data of a {@code TYPE_INT_RGB} image.
+     * @param view the {@code MandelbrotView}.
+     * @param raster the raster, of at least {@code width * height} entries in row-major order.
+     * @param palette the mapping from iteration counts to raster entries, such as
+     *                {@link Mandelbrot#getColorRGB(int)}; it is called concurrently.
+     * @throws IllegalArgumentException if the raster is too small.
+     */
+    public void render(MandelbrotView view, int[] raster, IntUnaryOperator palette) throws IllegalArgumentException {
+        render(view, raster, palette, false);
+    }
+
+    /**
+     * Renders the iteration counts of only the pixels of a view whose raster entries are negative, leaving
+     * the others, so that work saved elsewhere is not redone.
+     * @param view the {@code MandelbrotView}.
+     * @param raster the raster, of at least {@code width * height} entries in row-major order.
+     * @throws IllegalArgumentException if the raster is too small.
+     */
+    public void fill(MandelbrotView view, int[] raster) throws IllegalArgumentException {
+        render(view, raster, IntUnaryOperator.identity(), true);
+    }
+
+    /**
+     * Renders a view into a raster.
+     * @param view the {@code MandelbrotView}.
+     * @param raster the raster.
+     * @param palette the mapping from iteration counts to raster entries.
+     * @param missing {@code true} to render only the pixels whose entries are negative, else {@code false}.
+     * @throws IllegalArgumentException if the raster is too small.
+     */
+    private void render(MandelbrotView view, int[] raster, IntUnaryOperator palette, boolean missing)
+            throws IllegalArgumentException {
+        if(raster.length < view.width() * view.height()) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        final double real = view.real().doubleValue(), imaginary = view.imaginary().doubleValue();
+        final double tolerance = Math.min(1e-15, view.spacing() * 1e-4);
+        final Frame frame;
+        if(view.spacing() >= this.directLimit) {
+            frame = new Frame(view, raster, palette, real, imaginary, null, 0, null, tolerance, missing);
+        } else {
+            final Orbit orbit = orbit(view);
+            final double[] series = new double[6];
+            final int skip = series(orbit, view.radius(), series);
+            frame = new Frame(view, raster, palette, real, imaginary, orbit, skip, series, tolerance, missing);
+        }
+        final int tiles = ((view.width() + TILE - 1) / TILE) * ((view.height() + TILE - 1) / TILE);
+        this.pool.invoke(new Tiles(frame, 0, tiles));
+    }
+
+    /**
+     * Gets the reference orbit of the center of a view, reusing the last one if it is precise and long
+     * enough.
+     * @param view the {@code MandelbrotView}.
+     * @return the {@code Orbit}.
+     */
+    private synchronized Orbit orbit(MandelbrotView view) {
+        final int precision = 20 + (int) Math.ceil(Math.max(0, -Math.log10(view.spacing())));
+        final Orbit orbit = this.orbit;
+        if(orbit == null || orbit.real.compareTo(view.real()) != 0 || orbit.imaginary.compareTo(view.imaginary()) != 0
+                || orbit.precision < precision || orbit.maxIterations < view.maxIterations()) {
+            this.orbit = new Orbit(view.real(), view.imaginary(), precision, view.maxIterations());
+        }
+        return this.orbit;
+    }
+
+    /**
+     * Finds how many iterations the cubic series in the pixel offset stays accurate over a disk of
+     * offsets, stopping when its cubic term stops being negligible next to its linear term.
+     * @param orbit the reference orbit.
+     * @param radius the radius of the disk.
+     * @param series receives the real and imaginary parts of the coefficients at that iteration.
+     * @return the number of iterations to skip.
+     */
+    private static int series(Orbit orbit, double radius, double[] series) {
+        double ar = 0, ai = 0, br = 0, bi = 0, cr = 0, ci = 0;
+        int skip = 0;
+        for(int n = 0; n < orbit.length - 1; n++) {
+            final double zr = 2 * orbit.zr[n], zi = 2 * orbit.zi[n];
+            final double nar = zr * ar - zi * ai + 1, nai = zr * ai + zi * ar,
+                    nbr = zr * br - zi * bi + ar * ar - ai * ai, nbi = zr * bi + zi * br + 2 * ar * ai,
+                    ncr = zr * cr - zi * ci + 2 * (ar * br - ai * bi), nci = zr * ci + zi * cr + 2 * (ar * bi + ai * br);
+            final double linear = Math.hypot(nar, nai) * radius, cubic = Math.hypot(ncr, nci) * radius * radius * radius;
+            if(! Double.isFinite(cubic) || ! Double.isFinite(linear) || cubic > SERIES_TOLERANCE * linear) {
+                break;
+            }
+            ar = nar;
+            ai = nai;
+            br = nbr;
+            bi = nbi;
+            cr = ncr;
+            ci = nci;
+            skip = n + 1;
+        }
+        series[0] = ar;
+        series[1] = ai;
+        series[2] = br;
+        series[3] = bi;
+        series[4] = cr;
+        series[5] = ci;
+        return skip;
+    }
+
+    /**
+     * Iterates a point in {@code double}s.
+     * @param cr the real part of the point.
+     * @param ci the imaginary part of the point.
+     * @param maxIterations the iteration cap.
+     * @param tolerance the distance under which the orbit is taken to have returned to a saved point.
+     * @return the number of iterations before escaping, or {@code 0} if the point stays.
+     */
+    private static int direct(double cr, double ci, int maxIterations, double tolerance) {
+        final double qr = cr - 0.25, q = qr * qr + ci * ci;
+        if(q * (q + qr) <= 0.25 * ci * ci || (cr + 1) * (cr + 1) + ci * ci <= 0.0625) {
+            return 0;
+        }
+        double zr = 0, zi = 0, savedR = 0, savedI = 0;
+        int period = 0, interval = 8;
+        for(int n = 0; n < maxIterations; n++) {
+            final double zr2 = zr * zr, zi2 = zi * zi;
+            if(zr2 + zi2 >= 4) {
+                return n;
+            }
+            zi = 2 * zr * zi + ci;
+            zr = zr2 - zi2 + cr;
+            if(Math.abs(zr - savedR) < tolerance && Math.abs(zi - savedI) < tolerance) {
+                return 0;
+            }
+            if(++period == interval) {
+                period = 0;
+                interval <<= 1;
+                savedR = zr;
+                savedI = zi;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Iterates a pixel as a perturbation of the reference orbit, starting from the series.
+     * @param frame the rendering.
+     * @param dcr the real offset of the pixel from the center.
+     * @param dci the imaginary offset of the pixel from the center.
+     * @return the number of iterations before escaping, or {@code 0} if the point stays.
+     */
+    private static int perturbed(Frame frame, double dcr, double dci) {
+        final Orbit orbit = frame.orbit;
+        final double[] s = frame.series, zrs = orbit.zr, zis = orbit.zi;
+        final double d2r = dcr * dcr - dci * dci, d2i = 2 * dcr * dci, d3r = d2r * dcr - d2i * dci,
+                d3i = d2r * dci + d2i * dcr;
+        double dr = s[0] * dcr - s[1] * dci + s[2] * d2r - s[3] * d2i + s[4] * d3r - s[5] * d3i,
+                di = s[0] * dci + s[1] * dcr + s[2] * d2i + s[3] * d2r + s[4] * d3i + s[5] * d3r;
+        double savedR = Double.NaN, savedI = Double.NaN;
+        int m = frame.skip, period = 0, interval = 8;
+        final int maxIterations = frame.view.maxIterations();
+        for(int n = frame.skip; n < maxIterations; n++) {
+            double zr = zrs[m] + dr, zi = zis[m] + di;
+            final double magnitude = zr * zr + zi * zi;
+            if(magnitude >= 4) {
+                return n;
+            }
+            if(m == orbit.length || magnitude < dr * dr + di * di) {
+                // Rebase onto the start of the reference, whose first point is 0
+                dr = zr;
+                di = zi;
+                m = 0;
+            }
+            final double r = zrs[m], i = zis[m];
+            final double nextR = 2 * (r * dr - i * di) + dr * dr - di * di + dcr;
+            di = 2 * (r * di + i * dr) + 2 * dr * di + dci;
+            dr = nextR;
+            m++;
+            zr = zrs[m] + dr;
+            zi = zis[m] + di;
+            if(Math.abs(zr - savedR) < frame.tolerance && Math.abs(zi - savedI) < frame.tolerance) {
+                return 0;
+            }
+            if(++period == interval) {
+                period = 0;
+                interval <<= 1;
+                savedR = zr;
+                savedI = zi;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,109 @@
+package Simulation;
+
+import Exception.ExceptionMessage;
+
+import java.math.BigDecimal;
+
+/**
+ * A rectangle of pixels over the complex plane to be rendered by {@link MandelbrotRenderer}. The center
+ * is exact, so views may zoom past the precision of {@code double}; pixel {@code (x, y)} lies at
+ * {@code center + ((x - (width - 1) / 2) + (y - (height - 1) / 2) i) * spacing}, with the imaginary
+ * axis pointing down as in {@link Mandelbrot}.
+ * @param real the real part of the center.
+ * @param imaginary the imaginary part of the center.
+ * @param spacing the distance between neighboring pixels.
+ * @param width the number of columns.
+ * @param height the number of rows.
+ * @param maxIterations the number of iterations after which a point is taken to be in the set.
+ */
+public record MandelbrotView(BigDecimal real, BigDecimal imaginary, double spacing, int width, int height,
+                             int maxIterations) {
+    /**
+     * Creates a {@code MandelbrotView}.
+     * @param real the real part of the center.
+     * @param imaginary the imaginary part of the center.
+     * @param spacing the distance between neighboring pixels.
+     * @param width the number of columns.
+     * @param height the number of rows.
+     * @param maxIterations the number of iterations after which a point is taken to be in the set.
+     * @throws IllegalArgumentException if the spacing is not positive and normal, or if a size or the
+     * iteration cap is not positive.
+     */
+    public MandelbrotView {
+        if(! (spacing >= Double.MIN_NORMAL) || Double.isInfinite(spacing) || width < 1 || height < 1
+                || maxIterations < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+    }
+
+    /**
+     * Creates a {@code MandelbrotView} centered on a point given in {@code double}s.
+     * @param real the real part of the center.
+     * @param imaginary the imaginary part of the center.
+     * @param spacing the distance between neighboring pixels.
+     * @param width the number of columns.
+     * @param height the number of rows.
+     * @param maxIterations the number of iterations after which a point is taken to be in the set.
+     * @return the {@code MandelbrotView}.
+     * @throws IllegalArgumentException if an argument is out of range.
+     */
+    public static MandelbrotView of(double real, double imaginary, double spacing, int width, int height,
+                                    int maxIterations) throws IllegalArgumentException {
+        return new MandelbrotView(new BigDecimal(real), new BigDecimal(imaginary), spacing, width, height,
+                maxIterations);
+    }
+
+    /**
+     * Zooms about the center.
+     * @param factor the magnification, above {@code 1} to zoom in.
+     * @return the {@code MandelbrotView} with the spacing divided by the factor.
+     * @throws IllegalArgumentException if the new spacing is out of range.
+     */
+    public MandelbrotView zoom(double factor) throws IllegalArgumentException {
+        return new MandelbrotView(this.real, this.imaginary, this.spacing / factor, this.width, this.height,
+                this.maxIterations);
+    }
+
+    /**
+     * Finds the offset of a column from the center.
+     * @param x the column.
+     * @return the real offset of the column.
+     */
+    public double offsetX(int x) {
+        return (x - (this.width - 1) / 2.0) * this.spacing;
+    }
+
+    /**
+     * Finds the offset of a row from the center.
+     * @param y the row.
+     * @return the imaginary offset of the row.
+     */
+    public double offsetY(int y) {
+        return (y - (this.height - 1) / 2.0) * this.spacing;
+    }
+
+    /**
+     * Finds the distance from the center to the furthest corner.
+     * @return the radius of the view.
+     */
+    public double radius() {
+        return Math.hypot(offsetX(0), offsetY(0));
+    }
+
+    /**
+     * Converts this {@code MandelbrotView} to a printable format.
+     * @return this {@code MandelbrotView} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return this.real.toString() + (this.imaginary.signum() < 0 ? "" : "+") + this.imaginary + "i, spacing="
+                + this.spacing + ", " + this.width + "x" + this.height + ", maxIterations=" + this.maxIterations;
+    }
+
+    /**
+     * Prints this {@code MandelbrotView}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
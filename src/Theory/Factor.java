@@ -1,5 +1,8 @@
 package Theory;
 
+import DataSet.ConcurrentCache;
+import DataSet.FixedCacheStack;
+
 import java.math.BigInteger;
 import java.util.Collections;
 import java.util.Iterator;
@@ -7,6 +10,11 @@ import java.util.LinkedList;
 import java.util.List;
 
 public class Factor {
+    private static final int CACHE_CAPACITY = 1 << 12;
+    private static final ConcurrentCache<BigInteger, List<BigInteger>>
+            PRIME_FACTORS = new ConcurrentCache<>(CACHE_CAPACITY, FixedCacheStack.Policy.TINY_LFU),
+            FACTORS = new ConcurrentCache<>(CACHE_CAPACITY, FixedCacheStack.Policy.TINY_LFU);
+
     /**
      * Finds the greatest common factor of two ints
      * @param a the first int
@@ -103,12 +111,20 @@ public class Factor {
     }
 
     /**
-     * Finds all prime factors of a BigInteger
+     * Finds all prime factors of a BigInteger, memoized in a cache shared by all threads
      * @param n the target BigInteger
      * @return a List of the prime factors of the BigInteger
      */
     public static List<BigInteger> primeFactors(BigInteger n) {
-        n = n.abs();
+        return new LinkedList<>(PRIME_FACTORS.computeIfAbsent(n.abs(), m -> List.copyOf(computePrimeFactors(m))));
+    }
+
+    /**
+     * Finds all prime factors of a non-negative BigInteger by trial division
+     * @param n the target BigInteger
+     * @return a List of the prime factors of the BigInteger
+     */
+    private static List<BigInteger> computePrimeFactors(BigInteger n) {
         final BigInteger INCREMENT = BigInteger.valueOf(2);
         List<BigInteger> primeFactors = new LinkedList<>();
         while(n.mod(INCREMENT).equals(BigInteger.ZERO) && (! n.equals(BigInteger.ZERO))) {
@@ -161,12 +177,20 @@ public class Factor {
     } //TODO: rewrite to eliminate "product" variable in favor of multiple factor lists (and compare times)
 
     /**
-     * Finds all factors of a BigInteger
+     * Finds all factors of a BigInteger, memoized in a cache shared by all threads
      * @param n the target multiple
      * @return a List of all numbers D such that D|n
      */
     public static List<BigInteger> factors(BigInteger n) {
-        n = n.abs();
+        return new LinkedList<>(FACTORS.computeIfAbsent(n.abs(), m -> List.copyOf(computeFactors(m))));
+    }
+
+    /**
+     * Finds all factors of a non-negative BigInteger from its prime factors
+     * @param n the target multiple
+     * @return a List of all numbers D such that D|n
+     */
+    private static List<BigInteger> computeFactors(BigInteger n) {
         BigInteger prev = BigInteger.ONE, product = BigInteger.ONE;
         List<BigInteger> factors = new LinkedList<>(), test = new LinkedList<>();
         factors.add(BigInteger.ONE);
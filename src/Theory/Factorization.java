@@ -0,0 +1,235 @@
+package Theory;
+
+import Algebra.IntegerArithmetic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factors non-negative integers of any representation through an {@link IntegerArithmetic}.
+ * Small prime factors are removed by trial division against a cached table of primes, using
+ * only allocation-free remainders; whatever remains is tested with Miller-Rabin and split with
+ * Brent's variant of Pollard's rho algorithm. Number types should memoize the results, since
+ * the work depends only on the value.
+ * @see Factor
+ */
+public class Factorization {
+    private static final int TRIAL_DIVISION_LIMIT = 1 << 13, RHO_BATCH = 128;
+    private static final int[] SMALL_PRIMES = Prime.listLesserPrimes(TRIAL_DIVISION_LIMIT)
+            .stream().mapToInt(Integer::intValue).toArray();
+    private static final int[] WITNESSES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53};
+
+    /**
+     * Finds all prime factors of an integer, with multiplicity.
+     * @param n the target integer.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return the prime factors in ascending order; empty if {@code n < 2}.
+     */
+    public static <N> List<N> primeFactors(N n, IntegerArithmetic<N> arithmetic) {
+        final List<N> primeFactors = new ArrayList<>();
+        final N one = arithmetic.valueOf(1);
+        if(arithmetic.compare(n, one) <= 0) {
+            return primeFactors;
+        }
+        final N trialLimit = arithmetic.valueOf(TRIAL_DIVISION_LIMIT * TRIAL_DIVISION_LIMIT);
+        boolean small = arithmetic.compare(n, trialLimit) < 0;
+        for(int p : SMALL_PRIMES) {
+            if(arithmetic.remainder(n, p) == 0) {
+                final N prime = arithmetic.valueOf(p);
+                do {
+                    primeFactors.add(prime);
+                    n = arithmetic.divide(n, p);
+                } while(arithmetic.remainder(n, p) == 0);
+                small = arithmetic.compare(n, trialLimit) < 0;
+            }
+            if(small && arithmetic.compare(n, arithmetic.valueOf(p * p)) < 0) {
+                // no prime factor of n is at most p, so n is 1 or prime
+                if(arithmetic.compare(n, one) > 0) {
+                    primeFactors.add(n);
+                }
+                return primeFactors;
+            }
+        }
+        split(n, arithmetic, primeFactors);
+        primeFactors.sort(arithmetic::compare);
+        return primeFactors;
+    }
+
+    /**
+     * Finds all divisors of an integer from its prime factorization.
+     * @param primeFactors the prime factors, in ascending order with multiplicity.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return every divisor of the product of the prime factors, in ascending order.
+     */
+    public static <N> List<N> divisors(List<N> primeFactors, IntegerArithmetic<N> arithmetic) {
+        final List<N> divisors = new ArrayList<>();
+        divisors.add(arithmetic.valueOf(1));
+        int index = 0;
+        while(index < primeFactors.size()) {
+            final N prime = primeFactors.get(index);
+            final int size = divisors.size();
+            N power = prime;
+            while(index < primeFactors.size() && arithmetic.compare(primeFactors.get(index), prime) == 0) {
+                for(int i = 0; i < size; i++) {
+                    divisors.add(arithmetic.multiply(divisors.get(i), power));
+                }
+                power = arithmetic.multiply(power, prime);
+                index++;
+            }
+        }
+        divisors.sort(arithmetic::compare);
+        return divisors;
+    }
+
+    /**
+     * Determines whether an integer is prime. The test is deterministic below {@code 3.3 * 10^24}
+     * and a strong probable-prime test with sixteen bases above that.
+     * @param n the target integer.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return {@code true} if {@code n} is (probably) prime, else {@code false}.
+     */
+    public static <N> boolean isProbablePrime(N n, IntegerArithmetic<N> arithmetic) {
+        final N one = arithmetic.valueOf(1);
+        if(arithmetic.compare(n, one) <= 0) {
+            return false;
+        }
+        for(int p : WITNESSES) {
+            if(arithmetic.remainder(n, p) == 0) {
+                return arithmetic.compare(n, arithmetic.valueOf(p)) == 0;
+            }
+        }
+        final N nMinusOne = arithmetic.subtract(n, one);
+        N d = nMinusOne;
+        int s = 0;
+        while(arithmetic.remainder(d, 2) == 0) {
+            d = arithmetic.divide(d, 2);
+            s++;
+        }
+        for(int witness : WITNESSES) {
+            N x = modPow(arithmetic.valueOf(witness), d, n, arithmetic);
+            if(arithmetic.compare(x, one) == 0 || arithmetic.compare(x, nMinusOne) == 0) {
+                continue;
+            }
+            boolean composite = true;
+            for(int i = 1; i < s && composite; i++) {
+                x = arithmetic.mod(arithmetic.multiply(x, x), n);
+                composite = arithmetic.compare(x, nMinusOne) != 0;
+            }
+            if(composite) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits an integer free of small prime factors into primes, appending them to a list.
+     * @param n the integer, greater than {@code 1}.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param primeFactors the list receiving the prime factors.
+     * @param <N> the integer representation.
+     */
+    private static <N> void split(N n, IntegerArithmetic<N> arithmetic, List<N> primeFactors) {
+        if(isProbablePrime(n, arithmetic)) {
+            primeFactors.add(n);
+            return;
+        }
+        final N divisor = pollardRho(n, arithmetic);
+        split(divisor, arithmetic, primeFactors);
+        split(arithmetic.divideAndRemainder(n, divisor)[0], arithmetic, primeFactors);
+    }
+
+    /**
+     * Finds a nontrivial divisor of a composite integer with Brent's variant of Pollard's rho,
+     * accumulating the differences into batched products to amortize the {@code gcd} calls.
+     * @param n the composite integer.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return a divisor {@code d} with {@code 1 < d < n}.
+     */
+    private static <N> N pollardRho(N n, IntegerArithmetic<N> arithmetic) {
+        final N one = arithmetic.valueOf(1);
+        for(int c = 1; ; c++) {
+            final N increment = arithmetic.valueOf(c);
+            N x = arithmetic.valueOf(2), y = x, saved = x, product = one, g = one;
+            for(int r = 1; arithmetic.compare(g, one) == 0; r <<= 1) {
+                x = y;
+                for(int i = 0; i < r; i++) {
+                    y = step(y, increment, n, arithmetic);
+                }
+                for(int k = 0; k < r && arithmetic.compare(g, one) == 0; k += RHO_BATCH) {
+                    saved = y;
+                    for(int i = 0; i < Math.min(RHO_BATCH, r - k); i++) {
+                        y = step(y, increment, n, arithmetic);
+                        product = arithmetic.mod(arithmetic.multiply(product, difference(x, y, arithmetic)), n);
+                    }
+                    g = arithmetic.gcd(product, n);
+                }
+            }
+            if(arithmetic.compare(g, n) == 0) {
+                // the batch overshot; retrace it one step at a time
+                do {
+                    saved = step(saved, increment, n, arithmetic);
+                    g = arithmetic.gcd(difference(x, saved, arithmetic), n);
+                } while(arithmetic.compare(g, one) == 0);
+            }
+            if(arithmetic.compare(g, n) != 0) {
+                return g;
+            }
+        }
+    }
+
+    /**
+     * Applies the pseudorandom map {@code x -> x^2 + c (mod n)}.
+     * @param x the current value.
+     * @param c the increment.
+     * @param n the modulus.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return the next value.
+     */
+    private static <N> N step(N x, N c, N n, IntegerArithmetic<N> arithmetic) {
+        return arithmetic.mod(arithmetic.add(arithmetic.multiply(x, x), c), n);
+    }
+
+    /**
+     * Finds the absolute difference of two integers.
+     * @param a the first integer.
+     * @param b the second integer.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return {@code |a - b|}
+     */
+    private static <N> N difference(N a, N b, IntegerArithmetic<N> arithmetic) {
+        return arithmetic.compare(a, b) >= 0 ? arithmetic.subtract(a, b) : arithmetic.subtract(b, a);
+    }
+
+    /**
+     * Raises an integer to a power modulo another integer, scanning the exponent from its
+     * low end so that only small-divisor operations are needed on it.
+     * @param base the base.
+     * @param exp the exponent.
+     * @param mod the modulus.
+     * @param arithmetic the arithmetic on the integer representation.
+     * @param <N> the integer representation.
+     * @return {@code (base ^ exp) % mod}
+     */
+    private static <N> N modPow(N base, N exp, N mod, IntegerArithmetic<N> arithmetic) {
+        final N zero = arithmetic.valueOf(0);
+        N result = arithmetic.valueOf(1);
+        base = arithmetic.mod(base, mod);
+        while(arithmetic.compare(exp, zero) > 0) {
+            if(arithmetic.remainder(exp, 2) == 1) {
+                result = arithmetic.mod(arithmetic.multiply(result, base), mod);
+            }
+            exp = arithmetic.divide(exp, 2);
+            if(arithmetic.compare(exp, zero) > 0) {
+                base = arithmetic.mod(arithmetic.multiply(base, base), mod);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,475 @@
+package Turing;
+
+import DataKey.MultiKey;
+import DataSet.IntTape;
+import DataSet.LinkedChain;
+import Exception.ExceptionMessage;
+
+import java.util.*;
+
+/**
+ * A {@code Machine} compiled into dense integers. Every state label and cell symbol is interned to an
+ * index, and every {@code State} is flattened into one row of an {@code int} table indexed by the
+ * state and the symbols under the tape heads, read as the digits of a number in the base of the
+ * symbol count. Each entry holds the next state, followed by the symbol to write and the direction to
+ * move for every tape. The tapes are {@link IntTape IntTapes} of symbol indices, so {@link #run(long)}
+ * takes no locks, hashes nothing and allocates only when a tape grows.
+ * @param <Label> the data type for each state ID.
+ * @param <Cell> the data type stored in each tape.
+ * @see Machine#compile()
+ */
+public class CompiledMachine<Label, Cell> {
+    /**
+     * The next state of an entry with no {@code Transformation}, on which the machine stops.
+     */
+    public static final int NONE = -1;
+    private static final int MAX_TABLE_SIZE = 1 << 28;
+    private final List<Label> labels;
+    private final Map<Label, Integer> labelIndices;
+    private final List<Cell> symbols;
+    private final Map<Cell, Integer> symbolIndices;
+    private final int tapeCount, stride, halting, blank;
+    private final int[] table, powers, heads;
+    private final IntTape[] tapes;
+    private int state;
+    private long iterations;
+    private boolean isRunning;
+
+    /**
+     * Compiles the {@code States} of a {@code Machine}.
+     * @param states the {@code States} by ID.
+     * @param haltingState the halting {@code State} ID.
+     * @param defaultValue the value to fill in for new {@code Cells}.
+     * @param tapes the tapes the machine will start from, whose values are interned with those of the {@code States}.
+     * @throws IllegalArgumentException if the table would exceed {@code 2^28} entries.
+     */
+    CompiledMachine(Map<Label, State<Label, Cell>> states, Label haltingState, Cell defaultValue,
+                    List<LinkedChain<Cell>> tapes) throws IllegalArgumentException {
+        this.labels = new ArrayList<>();
+        this.labelIndices = new HashMap<>();
+        this.symbols = new ArrayList<>();
+        this.symbolIndices = new HashMap<>();
+        this.tapeCount = tapes.size();
+        this.blank = intern(this.symbolIndices, this.symbols, defaultValue);
+        for(Map.Entry<Label, State<Label, Cell>> state : states.entrySet()) {
+            intern(this.labelIndices, this.labels, state.getKey());
+            for(Map.Entry<MultiKey<Cell>, StateShift<Label, Cell>> shift : state.getValue().getTransformations().entrySet()) {
+                for(Cell cell : shift.getKey().getKeys()) {
+                    intern(this.symbolIndices, this.symbols, cell);
+                }
+                intern(this.labelIndices, this.labels, shift.getValue().nextState());
+                for(int i = 0; i < shift.getValue().size(); i++) {
+                    intern(this.symbolIndices, this.symbols, shift.getValue().getShift(i).tapeValue());
+                }
+            }
+        }
+        this.halting = intern(this.labelIndices, this.labels, haltingState);
+        for(LinkedChain<Cell> tape : tapes) {
+            for(Cell cell : tape) {
+                intern(this.symbolIndices, this.symbols, cell);
+            }
+        }
+        this.powers = new int[this.tapeCount + 1];
+        this.powers[0] = 1;
+        this.stride = 1 + 2 * this.tapeCount;
+        for(int i = 0; i < this.tapeCount; i++) {
+            if((long) this.powers[i] * this.symbols.size() * this.labels.size() * this.stride > MAX_TABLE_SIZE) {
+                throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+            this.powers[i + 1] = this.powers[i] * this.symbols.size();
+        }
+        this.table = new int[this.labels.size() * this.powers[this.tapeCount] * this.stride];
+        for(int entry = 0; entry < this.table.length; entry += this.stride) {
+            this.table[entry] = NONE;
+        }
+        for(Map.Entry<Label, State<Label, Cell>> state : states.entrySet()) {
+            final int row = this.labelIndices.get(state.getKey()) * this.powers[this.tapeCount];
+            for(Map.Entry<MultiKey<Cell>, StateShift<Label, Cell>> shift : state.getValue().getTransformations().entrySet()) {
+                final Cell[] key = shift.getKey().getKeys();
+                int column = 0;
+                for(int i = 0; i < key.length; i++) {
+                    column += this.symbolIndices.get(key[i]) * this.powers[i];
+                }
+                final int entry = (row + column) * this.stride;
+                this.table[entry] = this.labelIndices.get(shift.getValue().nextState());
+                for(int i = 0; i < this.tapeCount; i++) {
+                    final TapeShift<Cell> tapeShift = shift.getValue().getShift(i);
+                    this.table[entry + 1 + 2 * i] = this.symbolIndices.get(tapeShift.tapeValue());
+                    this.table[entry + 2 + 2 * i] = switch(tapeShift.movement()) {
+                        case LEFT -> -1;
+                        case RIGHT -> 1;
+                        case STOP -> 0;
+                    };
+                }
+            }
+        }
+        this.tapes = new IntTape[this.tapeCount];
+        this.heads = new int[this.tapeCount];
+        for(int i = 0; i < this.tapeCount; i++) {
+            this.tapes[i] = new IntTape();
+        }
+    }
+
+    /**
+     * Creates a single-tape {@code CompiledMachine} from a raw transition table, in which the states are
+     * labelled {@code 0} to {@code states - 1}, the halting state is {@code states}, the symbols are
+     * {@code 0} to {@code symbols - 1} and {@code 0} is blank. The machine starts in state {@code 0} on
+     * a blank tape.
+     * @param states the number of states, not counting the halting state.
+     * @param symbols the number of symbols.
+     * @param transitions the transitions indexed by {@code state * symbols + symbol}, each encoded as
+     *                    {@code (next * symbols + written) * 2 + (right ? 1 : 0)}, or negative if undefined.
+     * @throws IllegalArgumentException if the table does not have {@code states * symbols} entries.
+     */
+    @SuppressWarnings(ExceptionMessage.UNCHECKED)
+    CompiledMachine(int states, int symbols, int[] transitions) throws IllegalArgumentException {
+        if(transitions.length != states * symbols) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.labels = new ArrayList<>();
+        this.labelIndices = new HashMap<>();
+        this.symbols = new ArrayList<>();
+        this.symbolIndices = new HashMap<>();
+        for(int i = 0; i <= states; i++) {
+            intern(this.labelIndices, this.labels, (Label) (Integer) i);
+        }
+        for(int i = 0; i < symbols; i++) {
+            intern(this.symbolIndices, this.symbols, (Cell) (Integer) i);
+        }
+        this.tapeCount = 1;
+        this.stride = 3;
+        this.halting = states;
+        this.blank = 0;
+        this.powers = new int[] {1, symbols};
+        this.table = new int[(states + 1) * symbols * this.stride];
+        for(int entry = 0; entry < this.table.length; entry += this.stride) {
+            this.table[entry] = NONE;
+        }
+        for(int i = 0; i < transitions.length; i++) {
+            if(transitions[i] >= 0) {
+                this.table[i * this.stride] = transitions[i] / 2 / symbols;
+                this.table[i * this.stride + 1] = transitions[i] / 2 % symbols;
+                this.table[i * this.stride + 2] = (transitions[i] % 2 == 1) ? 1 : -1;
+            }
+        }
+        this.tapes = new IntTape[] {new IntTape()};
+        this.tapes[0].addToEnd(this.blank);
+        this.heads = new int[1];
+        this.isRunning = true;
+    }
+
+    /**
+     * Loads a configuration of the {@code Machine} onto the compiled tapes.
+     * @param currentState the current {@code State} ID.
+     * @param tapes the tapes, each with its cursor at the head.
+     * @param iterations the number of iterations already run.
+     * @param isRunning whether the {@code Machine} is still running.
+     * @throws IllegalArgumentException if the {@code State} or a tape value was unknown when this machine was compiled.
+     */
+    void load(Label currentState, List<LinkedChain<Cell>> tapes, long iterations, boolean isRunning)
+            throws IllegalArgumentException {
+        final Integer state = this.labelIndices.get(currentState);
+        if(state == null) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.state = state;
+        for(int i = 0; i < this.tapeCount; i++) {
+            this.tapes[i].clear();
+            for(Cell cell : tapes.get(i)) {
+                final Integer symbol = this.symbolIndices.get(cell);
+                if(symbol == null) {
+                    throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+                }
+                this.tapes[i].addToEnd(symbol);
+            }
+            this.heads[i] = tapes.get(i).getCursorIndex();
+        }
+        this.iterations = iterations;
+        this.isRunning = isRunning;
+    }
+
+    /**
+     * Copies the compiled tapes back into a list of tapes of values.
+     * @param tapes the list whose tapes are replaced, each with its cursor at the head.
+     */
+    void store(List<LinkedChain<Cell>> tapes) {
+        for(int i = 0; i < this.tapeCount; i++) {
+            final LinkedChain<Cell> tape = new LinkedChain<>();
+            for(int symbol : this.tapes[i]) {
+                tape.addToEnd(this.symbols.get(symbol));
+            }
+            for(int j = this.tapes[i].getStartIndex(); j < this.heads[i]; j++) {
+                tape.next(this.symbols.get(this.blank));
+            }
+            tapes.set(i, tape);
+        }
+    }
+
+    /**
+     * Runs this {@code CompiledMachine} until it halts or has taken a number of steps. Each step has
+     * the same effect as {@link Machine#step()}; in particular, a step that finds no
+     * {@code Transformation} stops the machine and still counts as an iteration.
+     * @param maxSteps the most steps to take.
+     * @return the number of steps taken.
+     */
+    public long run(long maxSteps) {
+        if(this.tapeCount == 1) {
+            return runSingleTape(maxSteps);
+        }
+        final int[] table = this.table, powers = this.powers, heads = this.heads;
+        final IntTape[] tapes = this.tapes;
+        final int row = powers[this.tapeCount], stride = this.stride;
+        int state = this.state;
+        long steps = 0;
+        while(this.isRunning && steps < maxSteps) {
+            int column = 0;
+            for(int i = 0; i < tapes.length; i++) {
+                column += tapes[i].get(heads[i]) * powers[i];
+            }
+            final int entry = (state * row + column) * stride, next = table[entry];
+            steps++;
+            if(next == NONE) {
+                this.isRunning = false;
+                break;
+            }
+            for(int i = 0; i < tapes.length; i++) {
+                final IntTape tape = tapes[i];
+                tape.set(heads[i], table[entry + 1 + 2 * i]);
+                final int head = heads[i] + table[entry + 2 + 2 * i];
+                if(head < tape.getStartIndex()) {
+                    tape.addToStart(this.blank);
+                } else if(head > tape.getEndIndex()) {
+                    tape.addToEnd(this.blank);
+                }
+                heads[i] = head;
+            }
+            state = next;
+            if(state == this.halting) {
+                this.isRunning = false;
+            }
+        }
+        this.state = state;
+        this.iterations += steps;
+        return steps;
+    }
+
+    /**
+     * Runs a {@code CompiledMachine} with one tape, keeping the state and head in locals.
+     * @param maxSteps the most steps to take.
+     * @return the number of steps taken.
+     */
+    private long runSingleTape(long maxSteps) {
+        final int[] table = this.table;
+        final IntTape tape = this.tapes[0];
+        final int row = this.powers[1], halting = this.halting, blank = this.blank;
+        int state = this.state, head = this.heads[0];
+        long steps = 0;
+        boolean isRunning = this.isRunning;
+        while(isRunning && steps < maxSteps) {
+            final int entry = (state * row + tape.get(head)) * 3, next = table[entry];
+            steps++;
+            if(next == NONE) {
+                isRunning = false;
+                break;
+            }
+            tape.set(head, table[entry + 1]);
+            head += table[entry + 2];
+            if(head < tape.getStartIndex()) {
+                tape.addToStart(blank);
+            } else if(head > tape.getEndIndex()) {
+                tape.addToEnd(blank);
+            }
+            state = next;
+            isRunning = state != halting;
+        }
+        this.state = state;
+        this.heads[0] = head;
+        this.isRunning = isRunning;
+        this.iterations += steps;
+        return steps;
+    }
+
+    /**
+     * Determines whether this {@code CompiledMachine} is still running, or if it has halted.
+     * @return {@code this.isRunning}
+     */
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+    /**
+     * Gets the number of iterations for which this {@code CompiledMachine} has been running.
+     * @return {@code this.iterations}
+     */
+    public long iterations() {
+        return this.iterations;
+    }
+
+    /**
+     * Gets the current {@code State} ID.
+     * @return the label of the current state.
+     */
+    public Label currentState() {
+        return this.labels.get(this.state);
+    }
+
+    /**
+     * Gets the index of the current state.
+     * @return {@code this.state}
+     */
+    public int currentStateIndex() {
+        return this.state;
+    }
+
+    /**
+     * Gets a tape of symbol indices. Changing it changes the machine.
+     * @param index the tape index.
+     * @return the tape.
+     */
+    public IntTape tape(int index) {
+        return this.tapes[index];
+    }
+
+    /**
+     * Gets the position of the head of a tape.
+     * @param index the tape index.
+     * @return the index of the cell under the head.
+     */
+    public int head(int index) {
+        return this.heads[index];
+    }
+
+    /**
+     * Gets the value of a symbol index.
+     * @param symbol the symbol index.
+     * @return the {@code Cell} value.
+     */
+    public Cell symbol(int symbol) {
+        return this.symbols.get(symbol);
+    }
+
+    /**
+     * Gets the number of interned symbols.
+     * @return the base of the table columns.
+     */
+    public int symbolCount() {
+        return this.symbols.size();
+    }
+
+    /**
+     * Gets the number of interned states, including the halting state.
+     * @return the number of table rows.
+     */
+    public int stateCount() {
+        return this.labels.size();
+    }
+
+    /**
+     * Gets the number of tapes.
+     * @return {@code this.tapeCount}
+     */
+    public int tapeCount() {
+        return this.tapeCount;
+    }
+
+    /**
+     * Gets the label of a state index.
+     * @param state the state index.
+     * @return the {@code State} ID.
+     */
+    Label label(int state) {
+        return this.labels.get(state);
+    }
+
+    /**
+     * Gets the index of the halting state.
+     * @return {@code this.halting}
+     */
+    int haltingIndex() {
+        return this.halting;
+    }
+
+    /**
+     * Gets the symbol index of the default value.
+     * @return {@code this.blank}
+     */
+    int blankIndex() {
+        return this.blank;
+    }
+
+    /**
+     * Looks up the next state of a single-tape transition.
+     * @param state the state index.
+     * @param symbol the symbol index under the head.
+     * @return the next state index, or {@link #NONE} if there is no {@code Transformation}.
+     */
+    int nextState(int state, int symbol) {
+        return this.table[(state * this.powers[1] + symbol) * this.stride];
+    }
+
+    /**
+     * Looks up the symbol written by a single-tape transition.
+     * @param state the state index.
+     * @param symbol the symbol index under the head.
+     * @return the written symbol index.
+     */
+    int writtenSymbol(int state, int symbol) {
+        return this.table[(state * this.powers[1] + symbol) * this.stride + 1];
+    }
+
+    /**
+     * Looks up the head movement of a single-tape transition.
+     * @param state the state index.
+     * @param symbol the symbol index under the head.
+     * @return {@code -1} for left, {@code 1} for right or {@code 0} for no movement.
+     */
+    int movement(int state, int symbol) {
+        return this.table[(state * this.powers[1] + symbol) * this.stride + 2];
+    }
+
+    /**
+     * Converts this {@code CompiledMachine} to a printable format.
+     * @return the state and tapes of this {@code CompiledMachine} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("State: ").append(currentState()).append('\n');
+        String newLine = "[";
+        for(int i = 0; i < this.tapeCount; i++) {
+            builder.append(newLine);
+            newLine = "\n[";
+            for(int j = this.tapes[i].getStartIndex(); j <= this.tapes[i].getEndIndex(); j++) {
+                final char gap = (j == this.heads[i]) ? '|' : ' ';
+                builder.append('[').append(gap).append(this.symbols.get(this.tapes[i].get(j))).append(gap).append(']');
+            }
+            builder.append("] > ").append(i + 1);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Prints this {@code CompiledMachine}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Finds the index of a value, assigning the next index if the value is new.
+     * @param indices the indices by value.
+     * @param values the values by index.
+     * @param value the value.
+     * @return the index.
+     * @param <T> the type of the value.
+     */
+    private static <T> int intern(Map<T, Integer> indices, List<T> values, T value) {
+        Integer index = indices.get(value);
+        if(index == null) {
+            index = values.size();
+            indices.put(value, index);
+            values.add(value);
+        }
+        return index;
+    }
+}
@@ -21,6 +21,7 @@ public class Machine<Label, Cell> {
     private Cell defaultValue;
     private boolean isRunning, isInitialized;
     private long iterations;
+    private CompiledMachine<Label, Cell> compiled;
 
     /**
      * Creates a new {@code Machine}.
@@ -53,6 +54,7 @@ public class Machine<Label, Cell> {
         for(int i = 0; i < tapes; i++) {
             this.tapes.add(new LinkedChain<Cell>());
         }
+        this.compiled = null;
     }
 
     /**
@@ -75,6 +77,7 @@ public class Machine<Label, Cell> {
         this.isRunning = ! initialState.equals(haltingState);
         this.isInitialized = true;
         this.iterations = 0;
+        this.compiled = null;
     }
 
     /**
@@ -109,6 +112,45 @@ public class Machine<Label, Cell> {
         }
     }
 
+    /**
+     * Runs this {@code Machine} until it halts or has taken a number of steps, with the same effect as
+     * calling {@link #step()} that many times. The {@code States} are compiled into a transition table
+     * on the first call after they or the initial values are loaded, and the tapes are converted to
+     * and from the compiled form once per call, so the loop itself neither hashes nor allocates.
+     * @param maxSteps the most steps to take.
+     * @return the number of steps taken.
+     */
+    public long run(long maxSteps) {
+        if(! this.isInitialized || ! this.isRunning) {
+            return 0;
+        }
+        if(this.compiled == null) {
+            this.compiled = new CompiledMachine<>(this.states, this.haltingState, this.defaultValue, this.tapes);
+        }
+        this.compiled.load(this.currentState, this.tapes, this.iterations, this.isRunning);
+        final long steps = this.compiled.run(maxSteps);
+        this.compiled.store(this.tapes);
+        this.currentState = this.compiled.currentState();
+        this.isRunning = this.compiled.isRunning();
+        this.iterations = this.compiled.iterations();
+        return steps;
+    }
+
+    /**
+     * Compiles this {@code Machine} in its current configuration, to be run independently of it.
+     * @return the {@code CompiledMachine}.
+     * @throws IllegalStateException if the initial values have not been loaded.
+     */
+    public CompiledMachine<Label, Cell> compile() throws IllegalStateException {
+        if(! this.isInitialized) {
+            throw new IllegalStateException();
+        }
+        final CompiledMachine<Label, Cell> compiled =
+                new CompiledMachine<>(this.states, this.haltingState, this.defaultValue, this.tapes);
+        compiled.load(this.currentState, this.tapes, this.iterations, this.isRunning);
+        return compiled;
+    }
+
     /**
      * Determines whether this {@code Machine} is still running, or if it has halted.
      * @return {@code this.isRunning}
@@ -0,0 +1,272 @@
+package Turing;
+
+import DataSet.ConcurrentRingQueue;
+import Exception.ExceptionMessage;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates and screens every single-tape machine with a number of states and symbols in tree
+ * normal form. Enumeration starts from the machine with no transitions. Each machine is run by a
+ * {@link MacroMachine} within a step budget; a machine that halts does so on an undefined transition,
+ * and is reported as halted before that transition is filled in with every choice that keeps the
+ * machine canonical, each choice being screened in turn; the {@link Summary} counts such machines as
+ * expanded rather than halted, so that only the leaves of the tree are counted as halting. Machines that differ only by the naming of
+ * their states or symbols, or by mirroring the tape, are skipped: a new state or symbol may only be the
+ * next unused one, and the first move is to the right. Subtrees are screened in parallel on a
+ * {@link ForkJoinPool}, and results are handed to a single consumer through a
+ * {@link ConcurrentRingQueue}.
+ * @see ScreeningResult
+ */
+public class MachineEnumerator {
+    /**
+     * The counts of a completed enumeration.
+     * @param halted the number of halting machines whose only undefined transition is the one they halt on.
+     * @param expanded the number of partially defined machines that halted on an undefined transition and
+     *                 were replaced by their completions.
+     * @param nonHalting the number of machines proven never to halt.
+     * @param undecided the number of machines that exhausted the step budget.
+     * @param maxHaltingSteps the most steps taken by a halting machine.
+     */
+    public record Summary(long halted, long expanded, long nonHalting, long undecided, long maxHaltingSteps) {
+        /**
+         * Finds the number of machines screened.
+         * @return the sum of the counts.
+         */
+        public long total() {
+            return this.halted + this.expanded + this.nonHalting + this.undecided;
+        }
+    }
+
+    private static final int MAGIC = 0x544D4231;
+    private static final int QUEUE_CAPACITY = 1 << 12, DRAIN_BATCH = 256;
+    private final int states, symbols, blockSize, parallelism;
+    private final long stepBudget;
+
+    /**
+     * Creates a {@code MachineEnumerator} that runs machines by blocks of one cell on every processor.
+     * @param states the number of states, not counting the halting state.
+     * @param symbols the number of symbols.
+     * @param stepBudget the most steps run per machine.
+     * @throws IllegalArgumentException if the dimensions are out of range.
+     */
+    public MachineEnumerator(int states, int symbols, long stepBudget) throws IllegalArgumentException {
+        this(states, symbols, stepBudget, 1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a {@code MachineEnumerator}.
+     * @param states the number of states, not counting the halting state.
+     * @param symbols the number of symbols.
+     * @param stepBudget the most steps run per machine.
+     * @param blockSize the number of cells per block of the {@code MacroMachine}.
+     * @param parallelism the number of worker threads.
+     * @throws IllegalArgumentException if the dimensions are out of range, so that a transition would
+     * not fit in a byte, or if the budget, block size or parallelism is not positive.
+     */
+    public MachineEnumerator(int states, int symbols, long stepBudget, int blockSize, int parallelism)
+            throws IllegalArgumentException {
+        if(states < 1 || symbols < 2 || 2 * states * symbols > 255 || stepBudget < 1 || blockSize < 1
+                || parallelism < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.states = states;
+        this.symbols = symbols;
+        this.stepBudget = stepBudget;
+        this.blockSize = blockSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Enumerates and screens every machine, handing each result to a consumer on the calling thread.
+     * @param sink the consumer of the results, which need not be thread-safe.
+     * @return the {@code Summary}.
+     */
+    public Summary enumerate(Consumer<? super ScreeningResult> sink) {
+        final ConcurrentRingQueue<ScreeningResult> queue = new ConcurrentRingQueue<>(QUEUE_CAPACITY);
+        final long[] counts = new long[MacroMachine.Verdict.values().length];
+        final long[] expanded = new long[1], maxHaltingSteps = new long[1];
+        final Consumer<ScreeningResult> tally = result -> {
+            if(result.verdict() == MacroMachine.Verdict.HALTED) {
+                int undefined = 0;
+                for(byte entry : result.table()) {
+                    if(entry == 0) {
+                        undefined++;
+                    }
+                }
+                if(undefined > 1) {
+                    expanded[0]++;
+                } else {
+                    counts[result.verdict().ordinal()]++;
+                    maxHaltingSteps[0] = Math.max(maxHaltingSteps[0], result.steps());
+                }
+            } else {
+                counts[result.verdict().ordinal()]++;
+            }
+            sink.accept(result);
+        };
+        final int[] root = new int[this.states * this.symbols];
+        Arrays.fill(root, -1);
+        final ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            final ForkJoinTask<Void> task = pool.submit(new Screen(root, queue));
+            while(! task.isDone() || ! queue.isEmpty()) {
+                if(queue.drain(tally, DRAIN_BATCH) == 0) {
+                    final ScreeningResult result = queue.poll(1, TimeUnit.MILLISECONDS);
+                    if(result != null) {
+                        tally.accept(result);
+                    }
+                }
+            }
+            task.join();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Summary(counts[MacroMachine.Verdict.HALTED.ordinal()], expanded[0],
+                counts[MacroMachine.Verdict.CYCLER.ordinal()] + counts[MacroMachine.Verdict.TRANSLATED_CYCLER.ordinal()],
+                counts[MacroMachine.Verdict.UNDECIDED.ordinal()], maxHaltingSteps[0]);
+    }
+
+    /**
+     * Enumerates and screens every machine, writing the results to a binary file. The file starts with
+     * a header of a magic number, the number of states and symbols as bytes, and the step budget; each
+     * result then takes one byte per transition, one byte for the {@code Verdict} and eight for the
+     * number of steps.
+     * @param output the path of the file.
+     * @return the {@code Summary}.
+     * @throws IOException if the file cannot be written.
+     */
+    public Summary enumerate(Path output) throws IOException {
+        try(DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(output)))) {
+            stream.writeInt(MAGIC);
+            stream.writeByte(this.states);
+            stream.writeByte(this.symbols);
+            stream.writeLong(this.stepBudget);
+            return enumerate(result -> {
+                try {
+                    stream.write(result.table());
+                    stream.writeByte(result.verdict().ordinal());
+                    stream.writeLong(result.steps());
+                } catch(IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch(UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the results written by {@link #enumerate(Path)}.
+     * @param input the path of the file.
+     * @param sink the consumer of the results.
+     * @throws IOException if the file cannot be read or is not a file of results.
+     */
+    public static void read(Path input, Consumer<? super ScreeningResult> sink) throws IOException {
+        try(DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(input)))) {
+            if(stream.readInt() != MAGIC) {
+                throw new IOException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+            final int states = stream.readUnsignedByte(), symbols = stream.readUnsignedByte();
+            stream.readLong();
+            final MacroMachine.Verdict[] verdicts = MacroMachine.Verdict.values();
+            final byte[] table = new byte[states * symbols];
+            while(stream.read(table, 0, 1) == 1) {
+                stream.readFully(table, 1, table.length - 1);
+                final MacroMachine.Verdict verdict = verdicts[stream.readUnsignedByte()];
+                sink.accept(new ScreeningResult(states, symbols, table.clone(), verdict, stream.readLong()));
+            }
+        }
+    }
+
+    /**
+     * Screens a machine and, if it halts on an undefined transition, every canonical completion of that
+     * transition.
+     */
+    private final class Screen extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private final int[] transitions;
+        private final ConcurrentRingQueue<ScreeningResult> queue;
+
+        /**
+         * Creates a {@code Screen}.
+         * @param transitions the transitions in the encoding of {@link CompiledMachine}, negative if undefined.
+         * @param queue the queue of results.
+         */
+        private Screen(int[] transitions, ConcurrentRingQueue<ScreeningResult> queue) {
+            this.transitions = transitions;
+            this.queue = queue;
+        }
+
+        /**
+         * Runs the machine and forks its completions.
+         */
+        @Override
+        protected void compute() {
+            final MacroMachine<Integer, Integer> machine = new MacroMachine<>(
+                    new CompiledMachine<>(MachineEnumerator.this.states, MachineEnumerator.this.symbols, this.transitions),
+                    MachineEnumerator.this.blockSize);
+            final MacroMachine.Verdict verdict = machine.run(MachineEnumerator.this.stepBudget);
+            emit(verdict, machine.steps());
+            if(verdict != MacroMachine.Verdict.HALTED || machine.undefinedState() < 0) {
+                return;
+            }
+            int defined = 0, maxState = 0, maxSymbol = 0;
+            for(int transition : this.transitions) {
+                if(transition >= 0) {
+                    defined++;
+                    maxState = Math.max(maxState, transition / 2 / MachineEnumerator.this.symbols);
+                    maxSymbol = Math.max(maxSymbol, transition / 2 % MachineEnumerator.this.symbols);
+                }
+            }
+            if(defined == this.transitions.length - 1) {
+                return;
+            }
+            final int index = machine.undefinedState() * MachineEnumerator.this.symbols + machine.undefinedSymbol();
+            final List<Screen> completions = new ArrayList<>();
+            for(int next = 0; next <= Math.min(MachineEnumerator.this.states - 1, maxState + 1); next++) {
+                for(int written = 0; written <= Math.min(MachineEnumerator.this.symbols - 1, maxSymbol + 1); written++) {
+                    for(int right = (defined == 0) ? 1 : 0; right <= 1; right++) {
+                        final int[] transitions = this.transitions.clone();
+                        transitions[index] = (next * MachineEnumerator.this.symbols + written) * 2 + right;
+                        completions.add(new Screen(transitions, this.queue));
+                    }
+                }
+            }
+            invokeAll(completions);
+        }
+
+        /**
+         * Hands the result of this machine to the consumer, waiting while the queue is full.
+         * @param verdict the {@code Verdict}.
+         * @param steps the number of steps run.
+         */
+        private void emit(MacroMachine.Verdict verdict, long steps) {
+            final byte[] table = new byte[this.transitions.length];
+            for(int i = 0; i < table.length; i++) {
+                table[i] = (byte) (this.transitions[i] + 1);
+            }
+            try {
+                this.queue.put(new ScreeningResult(MachineEnumerator.this.states, MachineEnumerator.this.symbols,
+                        table, verdict, steps));
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,710 @@
+package Turing;
+
+import Exception.ExceptionMessage;
+import Exception.IllegalDimensionException;
+
+import java.util.Arrays;
+
+/**
+ * An accelerated runner for single-tape {@code Machines} that either reaches a verdict or exhausts a
+ * step budget. The tape is grouped into blocks of a fixed number of cells, and the blocks on each side
+ * of the head are kept as a stack of runs, each a block and a repeat count, with the blank cells past
+ * either end left implicit. Each macro step moves the head across one block by a macro transition,
+ * which is simulated once on the compiled {@code State} table and then cached. When a macro transition
+ * leaves the state and direction unchanged, the head sweeps the whole run in front of it in one step,
+ * so a machine that runs back and forth over long runs of equal blocks advances by the length of the
+ * run per step. Two detectors prove that a machine never halts:
+ * <ul>
+ *     <li>Cyclers repeat a configuration exactly, which Brent's algorithm finds by comparing the
+ *     configuration against one saved at every power of two macro steps, first by hash.</li>
+ *     <li>Translated cyclers repeat while drifting in one direction. Whenever the head faces blank tape,
+ *     the state and the runs behind the head are recorded. If a later record has the same state, and
+ *     the cells behind the head that were read since the earlier record are identical, the machine
+ *     will repeat that stretch forever. Only the cells of the lowest run that was read count, so that a
+ *     run that keeps growing by merging does not hide the cycle.</li>
+ * </ul>
+ * This class is not synchronized.
+ * @param <Label> the data type for each state ID.
+ * @param <Cell> the data type stored in the tape.
+ * @see CompiledMachine
+ */
+public class MacroMachine<Label, Cell> {
+    /**
+     * The outcome of a run.
+     */
+    public enum Verdict {
+        /** The machine halted. */
+        HALTED,
+        /** The machine repeats a configuration exactly, or loops within one block, and never halts. */
+        CYCLER,
+        /** The machine repeats a configuration shifted along the tape, and never halts. */
+        TRANSLATED_CYCLER,
+        /** The step budget ran out before a verdict was reached. */
+        UNDECIDED;
+
+        /**
+         * Determines whether this {@code Verdict} proves that the machine never halts.
+         * @return {@code true} for {@code CYCLER} and {@code TRANSLATED_CYCLER}, else {@code false}.
+         */
+        public boolean isProvenNonHalting() {
+            return this == CYCLER || this == TRANSLATED_CYCLER;
+        }
+    }
+
+    private static final int LEFT = 0, RIGHT = 1;
+    private static final int UNKNOWN = -1, HALT = -2, LOOP = -3;
+    private static final int MAX_TRANSITIONS = 1 << 22;
+    private static final int WINDOW = 64, HISTORY = 64;
+    private final CompiledMachine<Label, Cell> compiled;
+    private final int blockSize, symbolCount, blockCount, blankBlock;
+    private final int[] transitions, writtenBlocks, costs;
+    private final Runs[] stacks;
+    private final Record[][] records;
+    private final int[] recordCounts;
+    private int state, direction, undefinedState, undefinedSymbol;
+    private long steps, macroSteps, period;
+    private Verdict verdict;
+    private Runs[] saved;
+    private int savedState, savedDirection;
+    private long savedMacroSteps, savedSteps, brentPower;
+
+    /**
+     * Creates a {@code MacroMachine} with blocks of one cell, in which only the runs of equal cells are
+     * compressed.
+     * @param machine the {@code Machine}, whose current configuration is the starting point.
+     * @throws IllegalDimensionException if the {@code Machine} does not have exactly one tape.
+     */
+    public MacroMachine(Machine<Label, Cell> machine) throws IllegalDimensionException {
+        this(machine, 1);
+    }
+
+    /**
+     * Creates a {@code MacroMachine}.
+     * @param machine the {@code Machine}, whose current configuration is the starting point.
+     * @param blockSize the number of cells per block.
+     * @throws IllegalDimensionException if the {@code Machine} does not have exactly one tape.
+     * @throws IllegalArgumentException if the block size is not positive, or if the blocks are too
+     * many to tabulate a macro transition for every state, direction and block.
+     */
+    public MacroMachine(Machine<Label, Cell> machine, int blockSize)
+            throws IllegalDimensionException, IllegalArgumentException {
+        this(machine.compile(), blockSize);
+    }
+
+    /**
+     * Creates a {@code MacroMachine} that starts from the configuration of a {@code CompiledMachine}.
+     * @param compiled the {@code CompiledMachine}, which is not changed.
+     * @param blockSize the number of cells per block.
+     * @throws IllegalDimensionException if the {@code CompiledMachine} does not have exactly one tape.
+     * @throws IllegalArgumentException if the block size is not positive, or if the blocks are too
+     * many to tabulate a macro transition for every state, direction and block.
+     */
+    MacroMachine(CompiledMachine<Label, Cell> compiled, int blockSize)
+            throws IllegalDimensionException, IllegalArgumentException {
+        this.compiled = compiled;
+        if(this.compiled.tapeCount() != 1) {
+            throw new IllegalDimensionException(ExceptionMessage.INCORRECT_NUMBER_OF_ARGUMENTS(1));
+        }
+        if(blockSize < 1) {
+            throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+        }
+        this.symbolCount = this.compiled.symbolCount();
+        long blockCount = 1;
+        for(int i = 0; i < blockSize; i++) {
+            blockCount *= this.symbolCount;
+            if(blockCount * 2 * this.compiled.stateCount() > MAX_TRANSITIONS) {
+                throw new IllegalArgumentException(ExceptionMessage.ARGUMENT_EXCEEDS_REQUIRED_DOMAIN());
+            }
+        }
+        this.blockSize = blockSize;
+        this.blockCount = (int) blockCount;
+        final int[] cells = new int[blockSize];
+        Arrays.fill(cells, this.compiled.blankIndex());
+        this.blankBlock = encode(cells);
+        final int size = this.blockCount * 2 * this.compiled.stateCount();
+        this.transitions = new int[size];
+        this.writtenBlocks = new int[size];
+        this.costs = new int[size];
+        Arrays.fill(this.transitions, UNKNOWN);
+        this.stacks = new Runs[] {new Runs(), new Runs()};
+        this.records = new Record[2][HISTORY];
+        this.recordCounts = new int[2];
+        this.state = this.compiled.currentStateIndex();
+        this.direction = RIGHT;
+        this.undefinedState = -1;
+        this.undefinedSymbol = -1;
+        this.steps = this.compiled.iterations();
+        this.brentPower = 1;
+        loadTape();
+        if(! this.compiled.isRunning()) {
+            this.verdict = Verdict.HALTED;
+        }
+        save();
+    }
+
+    /**
+     * Runs this {@code MacroMachine} until it reaches a verdict or has taken at least a number of steps
+     * of the underlying machine. Once a verdict other than {@code UNDECIDED} is reached, it is final.
+     * @param maxSteps the step budget of this call.
+     * @return the {@code Verdict}.
+     */
+    public Verdict run(long maxSteps) {
+        if(this.verdict != null) {
+            return this.verdict;
+        }
+        final long budget = (Long.MAX_VALUE - this.steps < maxSteps) ? Long.MAX_VALUE : this.steps + maxSteps;
+        while(this.steps < budget) {
+            final Runs front = this.stacks[this.direction], behind = this.stacks[1 - this.direction];
+            if(front.size == 0 && record()) {
+                return this.verdict = Verdict.TRANSLATED_CYCLER;
+            }
+            if(front.size == 0) {
+                touch(this.direction, -1, 0);
+            }
+            final int block = (front.size == 0) ? this.blankBlock : front.topBlock();
+            final int index = transition(this.state, this.direction, block), next = this.transitions[index];
+            if(next == HALT) {
+                locateUndefined(this.state, this.direction, block);
+                if(front.size > 0) {
+                    pop(this.direction, 1);
+                }
+                behind.push(this.writtenBlocks[index], 1, this.blankBlock);
+                this.steps += this.costs[index];
+                return this.verdict = Verdict.HALTED;
+            } else if(next == LOOP) {
+                return this.verdict = Verdict.CYCLER;
+            }
+            final int nextState = next >> 1, nextDirection = next & 1, cost = this.costs[index];
+            if(nextState == this.state && nextDirection == this.direction) {
+                if(front.size == 0) {
+                    this.period = cost;
+                    return this.verdict = Verdict.TRANSLATED_CYCLER;
+                }
+                final long repetitions = Math.max(1, Math.min(front.topCount(), (budget - this.steps) / cost));
+                pop(this.direction, repetitions);
+                behind.push(this.writtenBlocks[index], repetitions, this.blankBlock);
+                this.steps += repetitions * cost;
+            } else {
+                if(front.size > 0) {
+                    pop(this.direction, 1);
+                }
+                this.stacks[1 - nextDirection].push(this.writtenBlocks[index], 1, this.blankBlock);
+                this.state = nextState;
+                this.direction = nextDirection;
+                this.steps += cost;
+            }
+            this.macroSteps++;
+            if(repeatsSaved()) {
+                this.period = this.steps - this.savedSteps;
+                return this.verdict = Verdict.CYCLER;
+            }
+            if(this.macroSteps - this.savedMacroSteps == this.brentPower) {
+                save();
+                this.brentPower <<= 1;
+            }
+        }
+        return Verdict.UNDECIDED;
+    }
+
+    /**
+     * Gets the verdict reached so far.
+     * @return the final {@code Verdict}, or {@code UNDECIDED} if there is none yet.
+     */
+    public Verdict verdict() {
+        return (this.verdict == null) ? Verdict.UNDECIDED : this.verdict;
+    }
+
+    /**
+     * Gets the number of steps of the underlying machine simulated so far, including those run before
+     * this {@code MacroMachine} was created. For a halted machine, this equals {@link Machine#iterations()}
+     * at the halt.
+     * @return {@code this.steps}
+     */
+    public long steps() {
+        return this.steps;
+    }
+
+    /**
+     * Gets the state in which a halted machine found no {@code Transformation}.
+     * @return the state index, or {@code -1} if the machine has not halted or entered the halting state.
+     */
+    int undefinedState() {
+        return this.undefinedState;
+    }
+
+    /**
+     * Gets the symbol for which a halted machine found no {@code Transformation}.
+     * @return the symbol index, or {@code -1} if the machine has not halted or entered the halting state.
+     */
+    int undefinedSymbol() {
+        return this.undefinedSymbol;
+    }
+
+    /**
+     * Gets the number of macro steps taken so far.
+     * @return {@code this.macroSteps}
+     */
+    public long macroSteps() {
+        return this.macroSteps;
+    }
+
+    /**
+     * Gets the period of a proven non-halting machine.
+     * @return the number of steps after which the configuration repeats, exactly for a {@code CYCLER}
+     * or shifted for a {@code TRANSLATED_CYCLER}, or {@code 0} if no cycle is proven or the machine
+     * loops within one block.
+     */
+    public long period() {
+        return this.period;
+    }
+
+    /**
+     * Gets the current {@code State} ID.
+     * @return the label of the current state.
+     */
+    public Label currentState() {
+        return this.compiled.label(this.state);
+    }
+
+    /**
+     * Gets the number of cells per block.
+     * @return {@code this.blockSize}
+     */
+    public int blockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Counts the cells that do not hold the default value, as a busy beaver is scored.
+     * @return the number of non-blank cells.
+     */
+    public long nonBlankCells() {
+        long count = 0;
+        for(Runs runs : this.stacks) {
+            for(int i = 0; i < runs.size; i++) {
+                int block = runs.blocks[i];
+                int nonBlank = 0;
+                for(int j = 0; j < this.blockSize; j++) {
+                    nonBlank += (block % this.symbolCount == this.compiled.blankIndex()) ? 0 : 1;
+                    block /= this.symbolCount;
+                }
+                count += nonBlank * runs.counts[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Converts this {@code MacroMachine} to a printable format.
+     * @return the state, verdict and run-length tape of this {@code MacroMachine} as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("State: ").append(currentState()).append(", steps: ").append(this.steps)
+                .append(", verdict: ").append(verdict()).append("\n[");
+        final Runs left = this.stacks[LEFT], right = this.stacks[RIGHT];
+        for(int i = 0; i < left.size; i++) {
+            appendRun(builder, left.blocks[i], left.counts[i]);
+        }
+        builder.append(this.direction == RIGHT ? " |> " : " <| ");
+        for(int i = right.size - 1; i >= 0; i--) {
+            appendRun(builder, right.blocks[i], right.counts[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Prints this {@code MacroMachine}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+
+    /**
+     * Finds the macro transition for a state, direction and block, simulating it on the first request.
+     * The head enters the block at the edge it faces and the machine runs until the head leaves the
+     * block, the machine halts, or a configuration inside the block must have repeated.
+     * @param state the state index.
+     * @param direction the direction in which the head enters the block.
+     * @param block the block.
+     * @return the index of the macro transition.
+     */
+    private int transition(int state, int direction, int block) {
+        final int index = (state * 2 + direction) * this.blockCount + block;
+        if(this.transitions[index] != UNKNOWN) {
+            return index;
+        }
+        final int[] cells = decode(block);
+        final long limit = (long) this.compiled.stateCount() * this.blockSize * this.blockCount;
+        int position = (direction == RIGHT) ? 0 : this.blockSize - 1, current = state;
+        long cost = 0;
+        while(true) {
+            if(cost > limit) {
+                this.transitions[index] = LOOP;
+                break;
+            }
+            final int symbol = cells[position], next = this.compiled.nextState(current, symbol);
+            cost++;
+            if(next == CompiledMachine.NONE) {
+                this.transitions[index] = HALT;
+                break;
+            }
+            cells[position] = this.compiled.writtenSymbol(current, symbol);
+            position += this.compiled.movement(current, symbol);
+            current = next;
+            if(current == this.compiled.haltingIndex()) {
+                this.transitions[index] = HALT;
+                break;
+            } else if(position < 0) {
+                this.transitions[index] = current * 2 + LEFT;
+                break;
+            } else if(position >= this.blockSize) {
+                this.transitions[index] = current * 2 + RIGHT;
+                break;
+            }
+        }
+        this.writtenBlocks[index] = encode(cells);
+        this.costs[index] = (int) Math.min(cost, Integer.MAX_VALUE);
+        return index;
+    }
+
+    /**
+     * Replays a macro transition that halts to find the state and symbol that have no
+     * {@code Transformation}, if that is why it halts.
+     * @param state the state index.
+     * @param direction the direction in which the head enters the block.
+     * @param block the block.
+     */
+    private void locateUndefined(int state, int direction, int block) {
+        final int[] cells = decode(block);
+        int position = (direction == RIGHT) ? 0 : this.blockSize - 1, current = state;
+        while(current != this.compiled.haltingIndex()) {
+            final int symbol = cells[position], next = this.compiled.nextState(current, symbol);
+            if(next == CompiledMachine.NONE) {
+                this.undefinedState = current;
+                this.undefinedSymbol = symbol;
+                return;
+            }
+            cells[position] = this.compiled.writtenSymbol(current, symbol);
+            position += this.compiled.movement(current, symbol);
+            current = next;
+        }
+    }
+
+    /**
+     * Removes blocks from the top run of a stack, marking the level as read.
+     * @param side the stack.
+     * @param count the number of blocks, at most the count of the top run.
+     */
+    private void pop(int side, long count) {
+        final Runs stack = this.stacks[side];
+        final int level = stack.size - 1;
+        stack.pop(count);
+        touch(side, level, (stack.size > level) ? stack.counts[level] : 0);
+    }
+
+    /**
+     * Lowers the marks of the records at the edge opposite a stack to a level of the stack that was read.
+     * @param side the stack.
+     * @param level the level read, or {@code -1} for the blank tape past the bottom of an empty stack,
+     * which no later record can match.
+     * @param remaining the count left in the run at that level, which were not read.
+     */
+    private void touch(int side, int level, long remaining) {
+        final int edge = 1 - side;
+        for(int i = 0; i < Math.min(this.recordCounts[edge], HISTORY); i++) {
+            final Record record = this.records[edge][(this.recordCounts[edge] - 1 - i) % HISTORY];
+            if(record.touched < level) {
+                break;
+            }
+            record.remaining = (record.touched > level) ? remaining : Math.min(record.remaining, remaining);
+            record.touched = level;
+        }
+    }
+
+    /**
+     * Records the head facing blank tape, after comparing the record with earlier ones of the same
+     * state at the same edge.
+     * @return {@code true} if an earlier record proves a translated cycle, else {@code false}.
+     */
+    private boolean record() {
+        final int edge = this.direction;
+        final Runs behind = this.stacks[1 - edge];
+        for(int i = 0; i < Math.min(this.recordCounts[edge], HISTORY); i++) {
+            final Record earlier = this.records[edge][(this.recordCounts[edge] - 1 - i) % HISTORY];
+            if(earlier.state == this.state && earlier.touched >= earlier.windowStart && earlier.matches(behind)) {
+                this.period = this.steps - earlier.steps;
+                return true;
+            }
+        }
+        Record record = this.records[edge][this.recordCounts[edge] % HISTORY];
+        if(record == null) {
+            record = new Record();
+            this.records[edge][this.recordCounts[edge] % HISTORY] = record;
+        }
+        record.capture(this.state, this.steps, behind);
+        this.recordCounts[edge]++;
+        return false;
+    }
+
+    /**
+     * Saves the current configuration for Brent's cycle detection.
+     */
+    private void save() {
+        this.saved = new Runs[] {this.stacks[LEFT].copy(), this.stacks[RIGHT].copy()};
+        this.savedState = this.state;
+        this.savedDirection = this.direction;
+        this.savedMacroSteps = this.macroSteps;
+        this.savedSteps = this.steps;
+    }
+
+    /**
+     * Determines whether the current configuration equals the saved one.
+     * @return {@code true} if the state, direction and both stacks are equal, else {@code false}.
+     */
+    private boolean repeatsSaved() {
+        return this.state == this.savedState && this.direction == this.savedDirection
+                && this.stacks[LEFT].hash() == this.saved[LEFT].hash() && this.stacks[RIGHT].hash() == this.saved[RIGHT].hash()
+                && this.stacks[LEFT].equals(this.saved[LEFT]) && this.stacks[RIGHT].equals(this.saved[RIGHT]);
+    }
+
+    /**
+     * Splits the tape of the compiled machine into blocks on either side of the head.
+     */
+    private void loadTape() {
+        final int head = this.compiled.head(0), start = this.compiled.tape(0).getStartIndex(),
+                end = this.compiled.tape(0).getEndIndex();
+        final int leftBlocks = (head - start + this.blockSize - 1) / this.blockSize,
+                rightBlocks = (end - head + this.blockSize) / this.blockSize;
+        for(int i = leftBlocks - 1; i >= 0; i--) {
+            this.stacks[LEFT].push(readBlock(head - (i + 1) * this.blockSize), 1, this.blankBlock);
+        }
+        for(int i = rightBlocks - 1; i >= 0; i--) {
+            this.stacks[RIGHT].push(readBlock(head + i * this.blockSize), 1, this.blankBlock);
+        }
+    }
+
+    /**
+     * Reads a block from the tape of the compiled machine, reading blank cells past its ends.
+     * @param from the index of the leftmost cell.
+     * @return the block.
+     */
+    private int readBlock(int from) {
+        final int[] cells = new int[this.blockSize];
+        for(int i = 0; i < this.blockSize; i++) {
+            cells[i] = this.compiled.tape(0).contains(from + i) ? this.compiled.tape(0).get(from + i)
+                    : this.compiled.blankIndex();
+        }
+        return encode(cells);
+    }
+
+    /**
+     * Encodes the cells of a block as the digits of a number, the leftmost cell least significant.
+     * @param cells the symbol indices.
+     * @return the block.
+     */
+    private int encode(int[] cells) {
+        int block = 0;
+        for(int i = cells.length - 1; i >= 0; i--) {
+            block = block * this.symbolCount + cells[i];
+        }
+        return block;
+    }
+
+    /**
+     * Decodes a block into its cells.
+     * @param block the block.
+     * @return the symbol indices, leftmost first.
+     */
+    private int[] decode(int block) {
+        final int[] cells = new int[this.blockSize];
+        for(int i = 0; i < this.blockSize; i++) {
+            cells[i] = block % this.symbolCount;
+            block /= this.symbolCount;
+        }
+        return cells;
+    }
+
+    /**
+     * Appends a run in the form {@code cells^count}.
+     * @param builder the target.
+     * @param block the block of the run.
+     * @param count the count of the run.
+     */
+    private void appendRun(StringBuilder builder, int block, long count) {
+        builder.append(' ');
+        for(int cell : decode(block)) {
+            builder.append(this.compiled.symbol(cell));
+        }
+        if(count > 1) {
+            builder.append('^').append(count);
+        }
+    }
+
+    /**
+     * The runs on one side of the head, nearest on top, with a hash of every prefix so that the
+     * hash of the whole stack is maintained in constant time.
+     */
+    private static final class Runs {
+        private int[] blocks;
+        private long[] counts, hashes;
+        private int size;
+
+        /**
+         * Creates an empty stack.
+         */
+        private Runs() {
+            this.blocks = new int[16];
+            this.counts = new long[16];
+            this.hashes = new long[16];
+        }
+
+        /**
+         * Gets the block of the top run.
+         * @return the block.
+         */
+        private int topBlock() {
+            return this.blocks[this.size - 1];
+        }
+
+        /**
+         * Gets the count of the top run.
+         * @return the count.
+         */
+        private long topCount() {
+            return this.counts[this.size - 1];
+        }
+
+        /**
+         * Hashes the stack.
+         * @return the hash of every run.
+         */
+        private long hash() {
+            return (this.size == 0) ? 0 : this.hashes[this.size - 1];
+        }
+
+        /**
+         * Pushes blocks, merging them into the top run if it has the same block, and dropping blank
+         * blocks pushed onto an empty stack, since the tape beyond is blank already.
+         * @param block the block.
+         * @param count the number of blocks.
+         * @param blank the blank block.
+         */
+        private void push(int block, long count, int blank) {
+            if(this.size > 0 && this.blocks[this.size - 1] == block) {
+                this.counts[this.size - 1] += count;
+            } else if(this.size > 0 || block != blank) {
+                if(this.size == this.blocks.length) {
+                    this.blocks = Arrays.copyOf(this.blocks, this.size * 2);
+                    this.counts = Arrays.copyOf(this.counts, this.size * 2);
+                    this.hashes = Arrays.copyOf(this.hashes, this.size * 2);
+                }
+                this.blocks[this.size] = block;
+                this.counts[this.size++] = count;
+            } else {
+                return;
+            }
+            rehashTop();
+        }
+
+        /**
+         * Removes blocks from the top run, removing the run once it is empty.
+         * @param count the number of blocks.
+         */
+        private void pop(long count) {
+            this.counts[this.size - 1] -= count;
+            if(this.counts[this.size - 1] == 0) {
+                this.size--;
+            } else {
+                rehashTop();
+            }
+        }
+
+        /**
+         * Recomputes the hash of the top run from the one below.
+         */
+        private void rehashTop() {
+            final int top = this.size - 1;
+            long hash = (top == 0) ? 0x632BE59BD9B4E019L : this.hashes[top - 1];
+            hash = (hash ^ (this.blocks[top] * 0x9E3779B97F4A7C15L + this.counts[top])) * 0xBF58476D1CE4E5B9L;
+            this.hashes[top] = hash ^ (hash >>> 31);
+        }
+
+        /**
+         * Copies the stack.
+         * @return the copy.
+         */
+        private Runs copy() {
+            final Runs copy = new Runs();
+            copy.blocks = Arrays.copyOf(this.blocks, Math.max(16, this.size));
+            copy.counts = Arrays.copyOf(this.counts, Math.max(16, this.size));
+            copy.hashes = Arrays.copyOf(this.hashes, Math.max(16, this.size));
+            copy.size = this.size;
+            return copy;
+        }
+
+        /**
+         * Determines whether another stack holds the same runs.
+         * @param runs the other stack.
+         * @return {@code true} if the runs are equal, else {@code false}.
+         */
+        private boolean equals(Runs runs) {
+            return this.size == runs.size && Arrays.equals(this.blocks, 0, this.size, runs.blocks, 0, runs.size)
+                    && Arrays.equals(this.counts, 0, this.size, runs.counts, 0, runs.size);
+        }
+    }
+
+    /**
+     * The head facing blank tape at one edge: the state, and the top runs of the stack behind the head,
+     * with the lowest level of that stack read since and the count of that run never read.
+     */
+    private static final class Record {
+        private int state, size, windowStart, touched;
+        private long steps, remaining;
+        private final int[] blocks = new int[WINDOW];
+        private final long[] counts = new long[WINDOW];
+
+        /**
+         * Captures a record.
+         * @param state the state index.
+         * @param steps the number of steps taken.
+         * @param behind the stack behind the head.
+         */
+        private void capture(int state, long steps, Runs behind) {
+            this.state = state;
+            this.steps = steps;
+            this.size = behind.size;
+            this.touched = behind.size;
+            this.remaining = 0;
+            this.windowStart = Math.max(0, behind.size - WINDOW);
+            System.arraycopy(behind.blocks, this.windowStart, this.blocks, 0, this.size - this.windowStart);
+            System.arraycopy(behind.counts, this.windowStart, this.counts, 0, this.size - this.windowStart);
+        }
+
+        /**
+         * Determines whether the cells read since this record equal the top cells of a stack. All but
+         * the lowest of the runs read must be equal, and the lowest may continue further down the stack.
+         * @param behind the stack behind the head at a later record.
+         * @return {@code true} if the cells are equal, else {@code false}.
+         */
+        private boolean matches(Runs behind) {
+            int from = this.touched;
+            if(from < this.size && this.counts[from - this.windowStart] == this.remaining) {
+                from++;
+            }
+            final int length = this.size - from, offset = behind.size - length;
+            if(length == 0) {
+                return true;
+            } else if(offset < 0) {
+                return false;
+            }
+            final long lowest = this.counts[from - this.windowStart] - ((from == this.touched) ? this.remaining : 0);
+            return Arrays.equals(this.blocks, from - this.windowStart, this.size - this.windowStart,
+                    behind.blocks, offset, behind.size)
+                    && Arrays.equals(this.counts, from + 1 - this.windowStart, this.size - this.windowStart,
+                    behind.counts, offset + 1, behind.size)
+                    && behind.counts[offset] >= lowest;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package Turing;
+
+import java.util.Arrays;
+
+/**
+ * The outcome of screening one enumerated {@code Machine}.
+ * @param states the number of states, not counting the halting state.
+ * @param symbols the number of symbols.
+ * @param table the transitions indexed by {@code state * symbols + symbol}, each an unsigned byte of
+ *              {@code 0} if undefined, else {@code 1 + (next * symbols + written) * 2 + (right ? 1 : 0)}.
+ *              A halted machine halts on an undefined transition.
+ * @param verdict the {@code Verdict} of the run.
+ * @param steps the number of steps run, including the halting step of a halted machine.
+ */
+public record ScreeningResult(int states, int symbols, byte[] table, MacroMachine.Verdict verdict, long steps) {
+    /**
+     * Converts the table to the standard text format of busy beaver research, such as
+     * {@code 1RB1LC_1RC1RB_1RD0LE_1LA1LD_---0LA}, with {@code ---} for undefined transitions.
+     * @return the table as a {@code String}.
+     */
+    public String standardFormat() {
+        final StringBuilder builder = new StringBuilder();
+        for(int state = 0; state < this.states; state++) {
+            if(state > 0) {
+                builder.append('_');
+            }
+            for(int symbol = 0; symbol < this.symbols; symbol++) {
+                final int entry = Byte.toUnsignedInt(this.table[state * this.symbols + symbol]) - 1;
+                if(entry < 0) {
+                    builder.append("---");
+                } else {
+                    builder.append(entry / 2 % this.symbols).append(entry % 2 == 1 ? 'R' : 'L')
+                            .append((char) ('A' + entry / 2 / this.symbols));
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Determines whether this {@code ScreeningResult} is equal to a specified {@code Object}.
+     * @param o the comparator {@code Object}.
+     * @return {@code true} if {@code o} is a {@code ScreeningResult} with the same table, verdict and
+     * step count, else {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ScreeningResult result && this.states == result.states && this.symbols == result.symbols
+                && Arrays.equals(this.table, result.table) && this.verdict == result.verdict && this.steps == result.steps;
+    }
+
+    /**
+     * Hashes this {@code ScreeningResult} consistently with {@link #equals(Object)}.
+     * @return the hash of the table, verdict and step count.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(this.table) + this.verdict.hashCode()) + Long.hashCode(this.steps);
+    }
+
+    /**
+     * Converts this {@code ScreeningResult} to a printable format.
+     * @return the table, verdict and step count as a {@code String}.
+     */
+    @Override
+    public String toString() {
+        return standardFormat() + ' ' + this.verdict + ' ' + this.steps;
+    }
+
+    /**
+     * Prints this {@code ScreeningResult}.
+     */
+    public void print() {
+        System.out.println(this);
+    }
+}
@@ -3,6 +3,7 @@ package Turing;
 import DataKey.MultiKey;
 import Exception.*;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -58,6 +59,14 @@ public class State<Label, Cell> {
         return this.map.get(key);
     }
 
+    /**
+     * Gets every {@code Transformation} of this {@code State}.
+     * @return an unmodifiable view of the mappings from tape value combinations to {@code StateShifts}.
+     */
+    public Map<MultiKey<Cell>, StateShift<Label, Cell>> getTransformations() {
+        return Collections.unmodifiableMap(this.map);
+    }
+
     /**
      * Gets the ID of this {@code State}.
      * @return {@code this.ID}